@@ -26,6 +26,7 @@ import org.gradoop.common.model.api.entities.EPGMIdentifiable;
 import edu.umd.cs.findbugs.annotations.SuppressWarnings;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Primary key for an EPGM element.
@@ -110,21 +111,47 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
   /**
    * Returns the Gradoop ID represented by a specified hexadecimal string.
    *
-   * Note: Implementation taken from {@link ObjectId#ObjectId(String)} to avoid object
-   * instantiation.
-   *
    * @param string hexadecimal GradoopId representation
    * @return GradoopId
    */
   public static GradoopId fromString(String string) {
-    if (!ObjectId.isValid(string)) {
-      throw new IllegalArgumentException(
-        "invalid hexadecimal representation of a GradoopId: [" + string + "]");
+    if (string == null || string.length() != 2 * ID_SIZE) {
+      throw invalidHexRepresentation(string);
+    }
+
+    byte[] b = new byte[ID_SIZE];
+    for (int i = 0; i < b.length; i++) {
+      int high = hexValue(string.charAt(2 * i));
+      int low = hexValue(string.charAt(2 * i + 1));
+      if ((high | low) < 0) {
+        throw invalidHexRepresentation(string);
+      }
+      b[i] = (byte) (high << 4 | low);
+    }
+    return new GradoopId(b);
+  }
+
+  /**
+   * Returns the Gradoop ID represented by the 24 hexadecimal ASCII characters starting at the
+   * given offset of a byte array, e.g. a line read from a text file.
+   *
+   * @param chars ASCII encoded characters
+   * @param offset position of the first character
+   * @return GradoopId
+   */
+  public static GradoopId fromHexBytes(byte[] chars, int offset) {
+    if (offset < 0 || chars.length - offset < 2 * ID_SIZE) {
+      throw invalidHexRepresentation(chars, offset);
     }
 
-    byte[] b = new byte[12];
+    byte[] b = new byte[ID_SIZE];
     for (int i = 0; i < b.length; i++) {
-      b[i] = (byte) Integer.parseInt(string.substring(i * 2, i * 2 + 2), 16);
+      int high = hexValue(chars[offset + 2 * i]);
+      int low = hexValue(chars[offset + 2 * i + 1]);
+      if ((high | low) < 0) {
+        throw invalidHexRepresentation(chars, offset);
+      }
+      b[i] = (byte) (high << 4 | low);
     }
     return new GradoopId(b);
   }
@@ -265,6 +292,49 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
   // private little helpers
   //------------------------------------------------------------------------------------------------
 
+  /**
+   * Returns the value of a hexadecimal digit.
+   *
+   * @param c character
+   * @return value of the digit or -1, if the character is not a hexadecimal digit
+   */
+  private static int hexValue(int c) {
+    if (c >= '0' && c <= '9') {
+      return c - '0';
+    } else if (c >= 'a' && c <= 'f') {
+      return c - 'a' + 10;
+    } else if (c >= 'A' && c <= 'F') {
+      return c - 'A' + 10;
+    } else {
+      return -1;
+    }
+  }
+
+  /**
+   * Creates the exception thrown for invalid hexadecimal id representations.
+   *
+   * @param string invalid representation
+   * @return exception
+   */
+  private static IllegalArgumentException invalidHexRepresentation(String string) {
+    return new IllegalArgumentException(
+      "invalid hexadecimal representation of a GradoopId: [" + string + "]");
+  }
+
+  /**
+   * Creates the exception thrown for invalid hexadecimal id representations.
+   *
+   * @param chars ASCII encoded characters
+   * @param offset position of the first character
+   * @return exception
+   */
+  private static IllegalArgumentException invalidHexRepresentation(byte[] chars, int offset) {
+    int from = Math.max(0, Math.min(offset, chars.length));
+    int length = Math.min(2 * ID_SIZE, chars.length - from);
+    return invalidHexRepresentation(
+      new String(chars, from, length, StandardCharsets.US_ASCII));
+  }
+
   /**
    * Returns the timestamp component of the id.
    *
@@ -19,6 +19,7 @@ import org.bson.types.ObjectId;
 import org.junit.Test;
 
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.*;
@@ -66,6 +67,29 @@ public class GradoopIdTest {
       originalId.equals(fromStringId)
     );
   }
+
+  @Test
+  public void testFromUpperCaseString() {
+    GradoopId originalId = GradoopId.get();
+    assertEquals(originalId, GradoopId.fromString(originalId.toString().toUpperCase()));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testFromInvalidString() {
+    GradoopId.fromString("598349bcda43031d1ea62d3x");
+  }
+
+  @Test
+  public void testFromHexBytes() {
+    GradoopId originalId = GradoopId.get();
+    byte[] line = ("1;" + originalId + ";foo").getBytes(StandardCharsets.US_ASCII);
+    assertEquals(originalId, GradoopId.fromHexBytes(line, 2));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testFromTruncatedHexBytes() {
+    GradoopId.fromHexBytes("598349bcda43031d1ea62d3b".getBytes(StandardCharsets.US_ASCII), 1);
+  }
   
   @Test
   public void testGetRawBytes() {
@@ -0,0 +1,172 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmark.io;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.io.FileUtils;
+import org.apache.flink.api.java.io.DiscardingOutputFormat;
+import org.gradoop.examples.AbstractRunner;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the write and read throughput of the csv, json and columnar formats.
+ * <p>
+ * For each format, the input graph is first written to [outputDir]/[format] and then read back
+ * completely. The write runtime includes reading the input graph, which is the same for all
+ * formats. The read runtime covers parsing all graph heads, vertices and edges.
+ */
+public class IOBenchmark extends AbstractRunner {
+  /**
+   * Option to declare path to input graph
+   */
+  private static final String OPTION_INPUT_PATH = "i";
+  /**
+   * Option to declare the format of the input graph
+   */
+  private static final String OPTION_INPUT_FORMAT = "f";
+  /**
+   * Option to declare the output directory
+   */
+  private static final String OPTION_OUTPUT_PATH = "o";
+  /**
+   * Option to declare the benchmarked formats
+   */
+  private static final String OPTION_FORMATS = "b";
+  /**
+   * Option to declare path to CSV log file
+   */
+  private static final String OPTION_CSV_PATH = "csv";
+  /**
+   * Formats benchmarked by default
+   */
+  private static final String DEFAULT_FORMATS = "csv,json,columnar";
+
+  static {
+    OPTIONS.addOption(OPTION_INPUT_PATH, "input", true, "Graph directory");
+    OPTIONS.addOption(OPTION_INPUT_FORMAT, "format", true,
+      "Input graph format (csv, json, columnar), default json");
+    OPTIONS.addOption(OPTION_OUTPUT_PATH, "output", true, "Output directory");
+    OPTIONS.addOption(OPTION_FORMATS, "benchmark-formats", true,
+      "Comma separated list of benchmarked formats, default " + DEFAULT_FORMATS);
+    OPTIONS.addOption(OPTION_CSV_PATH, "csv-path", true, "Path of the generated CSV-File");
+  }
+
+  /**
+   * Writes and reads the input graph in each of the given formats and logs the runtimes.
+   * <p>
+   * usage: org.gradoop.benchmark.io.IOBenchmark
+   * [-i <arg>] [-f <arg>] [-o <arg>] [-b <arg>] [-csv <arg>]
+   * -i,--input <arg>              Graph directory
+   * -f,--format <arg>             Input graph format (csv, json, columnar)
+   * -o,--output <arg>             Output directory
+   * -b,--benchmark-formats <arg>  Comma separated list of benchmarked formats
+   * -csv,--csv-path <arg>         Path of the generated CSV-File
+   *
+   * @param args program arguments
+   */
+  public static void main(String[] args) throws Exception {
+    CommandLine cmd = parseArguments(args, IOBenchmark.class.getName());
+    if (cmd == null) {
+      return;
+    }
+    performSanityCheck(cmd);
+
+    String inputPath = cmd.getOptionValue(OPTION_INPUT_PATH);
+    String inputFormat = cmd.getOptionValue(OPTION_INPUT_FORMAT, "json");
+    String outputPath = appendSeparator(cmd.getOptionValue(OPTION_OUTPUT_PATH));
+    String csvPath = cmd.getOptionValue(OPTION_CSV_PATH);
+
+    for (String format : cmd.getOptionValue(OPTION_FORMATS, DEFAULT_FORMATS).split(",")) {
+      format = format.trim();
+      String formatPath = outputPath + format;
+
+      writeLogicalGraph(readLogicalGraph(inputPath, inputFormat), formatPath, format);
+      long writeRuntime = getNetRuntime();
+
+      LogicalGraph graph = readLogicalGraph(formatPath, format);
+      graph.getGraphHead().output(new DiscardingOutputFormat<>());
+      graph.getVertices().output(new DiscardingOutputFormat<>());
+      graph.getEdges().output(new DiscardingOutputFormat<>());
+      getExecutionEnvironment().execute();
+      long readRuntime = getNetRuntime();
+
+      writeCSV(csvPath, inputPath, format, writeRuntime, readRuntime);
+    }
+  }
+
+  /**
+   * Checks if the minimum of arguments is provided
+   *
+   * @param cmd command line
+   */
+  private static void performSanityCheck(final CommandLine cmd) {
+    if (!cmd.hasOption(OPTION_INPUT_PATH)) {
+      throw new IllegalArgumentException("Define a graph input directory.");
+    }
+    if (!cmd.hasOption(OPTION_OUTPUT_PATH)) {
+      throw new IllegalArgumentException("Define a graph output directory.");
+    }
+    if (!cmd.hasOption(OPTION_CSV_PATH)) {
+      throw new IllegalArgumentException("Path to CSV-File need to be set");
+    }
+  }
+
+  /**
+   * Returns the net runtime of the last executed job in milliseconds.
+   *
+   * @return net runtime [ms]
+   */
+  private static long getNetRuntime() {
+    return getExecutionEnvironment().getLastJobExecutionResult()
+      .getNetRuntime(TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Method to create and add lines to a csv-file
+   *
+   * @param csvPath       path to the csv-file
+   * @param inputPath     benchmarked input graph
+   * @param format        benchmarked format
+   * @param writeRuntime  write runtime [ms]
+   * @param readRuntime   read runtime [ms]
+   * @throws IOException
+   */
+  private static void writeCSV(String csvPath, String inputPath, String format,
+    long writeRuntime, long readRuntime) throws IOException {
+
+    String head = String.format("%s|%s|%s|%s|%s%n",
+      "Parallelism", "dataset", "format", "Write-Runtime(ms)", "Read-Runtime(ms)");
+
+    String tail = String.format("%s|%s|%s|%s|%s%n",
+      getExecutionEnvironment().getParallelism(), inputPath, format,
+      writeRuntime, readRuntime);
+
+    File f = new File(csvPath);
+    if (f.exists() && !f.isDirectory()) {
+      FileUtils.writeStringToFile(f, tail, true);
+    } else {
+      PrintWriter writer = new PrintWriter(csvPath, "UTF-8");
+      writer.print(head);
+      writer.print(tail);
+      writer.close();
+    }
+  }
+}
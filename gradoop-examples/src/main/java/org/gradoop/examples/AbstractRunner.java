@@ -21,6 +21,8 @@ import org.apache.commons.cli.HelpFormatter;
 import org.apache.commons.cli.Options;
 import org.apache.commons.cli.ParseException;
 import org.apache.flink.api.java.ExecutionEnvironment;
+import org.gradoop.flink.io.impl.columnar.ColumnarDataSink;
+import org.gradoop.flink.io.impl.columnar.ColumnarDataSource;
 import org.gradoop.flink.io.impl.csv.CSVDataSink;
 import org.gradoop.flink.io.impl.csv.CSVDataSource;
 import org.gradoop.flink.io.impl.json.JSONDataSink;
@@ -68,9 +70,10 @@ public abstract class AbstractRunner {
    *
    * @param directory path to EPGM database
    * @return EPGM logical graph
+   * @throws IOException if the graph can not be read
    */
   @SuppressWarnings("unchecked")
-  protected static LogicalGraph readLogicalGraph(String directory) {
+  protected static LogicalGraph readLogicalGraph(String directory) throws IOException {
     return readLogicalGraph(directory, "json");
   }
 
@@ -78,11 +81,13 @@ public abstract class AbstractRunner {
    * Reads an EPGM database from a given directory.
    *
    * @param directory path to EPGM database
-   * @param format    format in which the graph is stored (csv, json)
+   * @param format    format in which the graph is stored (csv, json, columnar)
    * @return EPGM logical graph
+   * @throws IOException if the graph can not be read
    */
   @SuppressWarnings("unchecked")
-  protected static LogicalGraph readLogicalGraph(String directory, String format) {
+  protected static LogicalGraph readLogicalGraph(String directory, String format)
+    throws IOException {
     directory = appendSeparator(directory);
 
     GradoopFlinkConfig config = GradoopFlinkConfig.createConfig(getExecutionEnvironment());
@@ -92,6 +97,8 @@ public abstract class AbstractRunner {
       return new JSONDataSource(directory, config).getLogicalGraph();
     } else if (format.equals("csv")) {
       return new CSVDataSource(directory, config).getLogicalGraph();
+    } else if (format.equals("columnar")) {
+      return new ColumnarDataSource(directory, config).getLogicalGraph();
     } else {
       throw new IllegalArgumentException("Unsupported format: " + format);
     }
@@ -113,7 +120,7 @@ public abstract class AbstractRunner {
    *
    * @param graph     logical graph
    * @param directory output path
-   * @param format output format (json, csv)
+   * @param format output format (json, csv, columnar)
    * @throws Exception
    */
   protected static void writeLogicalGraph(LogicalGraph graph, String directory, String format)
@@ -124,6 +131,8 @@ public abstract class AbstractRunner {
       graph.writeTo(new JSONDataSink(appendSeparator(directory), graph.getConfig()));
     } else if (format.equals("csv")) {
       graph.writeTo(new CSVDataSink(appendSeparator(directory), graph.getConfig()));
+    } else if (format.equals("columnar")) {
+      graph.writeTo(new ColumnarDataSink(appendSeparator(directory), graph.getConfig()));
     }
     getExecutionEnvironment().execute();
   }
@@ -17,16 +17,15 @@ package org.gradoop.examples.dimspan.data_source;
 
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.ExecutionEnvironment;
-import org.apache.hadoop.io.LongWritable;
-import org.apache.hadoop.io.Text;
 import org.gradoop.flink.algorithms.fsm.dimspan.tuples.LabeledGraphStringString;
-import org.gradoop.flink.io.impl.tlf.inputformats.TLFInputFormat;
+import org.gradoop.flink.io.impl.tlf.inputformats.TLFLabeledGraphInputFormat;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 
 import java.io.IOException;
 
 /**
- * Lightweight data source for TLF formatted string-labeled graphs.
+ * Lightweight data source for TLF formatted string-labeled graphs. Graphs are parsed directly
+ * from splits of the input file by {@link TLFLabeledGraphInputFormat}.
  * NOTE, no consistency check, inconsistent data will cause errors!
  */
 public class DIMSpanTLFSource {
@@ -64,9 +63,7 @@ public class DIMSpanTLFSource {
    */
   public DataSet<LabeledGraphStringString> getGraphs() throws IOException {
     ExecutionEnvironment env = getConfig().getExecutionEnvironment();
-    return env
-      .readHadoopFile(new TLFInputFormat(), LongWritable.class, Text.class, getFilePath())
-      .map(new DIMSpanGraphFromText());
+    return env.createInput(new TLFLabeledGraphInputFormat(getFilePath()));
   }
 
   // GETTERS AND SETTERS
@@ -0,0 +1,38 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.api;
+
+/**
+ * A data source that is able to apply a {@link ReadSpecification} while reading, e.g. by skipping
+ * files, rows or property columns that are not required by subsequent operators.
+ */
+public interface FilterableDataSource extends DataSource {
+
+  /**
+   * Sets the specification which is applied by subsequent calls of
+   * {@link DataSource#getLogicalGraph()} and {@link DataSource#getGraphCollection()}.
+   *
+   * @param readSpecification read specification
+   */
+  void setReadSpecification(ReadSpecification readSpecification);
+
+  /**
+   * Returns the specification applied while reading.
+   *
+   * @return read specification
+   */
+  ReadSpecification getReadSpecification();
+}
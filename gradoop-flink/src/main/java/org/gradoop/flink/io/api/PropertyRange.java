@@ -0,0 +1,166 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.api;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A predicate which accepts elements whose property value lies within a closed range.
+ *
+ * Ranges are part of a {@link ReadSpecification} and evaluated by data sources while reading,
+ * e.g. against the block statistics of a columnar graph in order to skip blocks which cannot
+ * contain a matching element. Elements without the property or with a value that is not
+ * comparable to the range bounds are rejected.
+ */
+public class PropertyRange implements Serializable {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * Property key
+   */
+  private final String key;
+  /**
+   * Inclusive lower bound, {@code null} if unbounded
+   */
+  private final PropertyValue min;
+  /**
+   * Inclusive upper bound, {@code null} if unbounded
+   */
+  private final PropertyValue max;
+
+  /**
+   * Creates a new range predicate.
+   *
+   * @param key property key
+   * @param min inclusive lower bound, {@code null} if unbounded
+   * @param max inclusive upper bound, {@code null} if unbounded
+   */
+  public PropertyRange(String key, PropertyValue min, PropertyValue max) {
+    this.key = Objects.requireNonNull(key);
+    this.min = min;
+    this.max = max;
+  }
+
+  /**
+   * Returns the property key.
+   *
+   * @return property key
+   */
+  public String getKey() {
+    return key;
+  }
+
+  /**
+   * Returns the lower bound.
+   *
+   * @return inclusive lower bound, {@code null} if unbounded
+   */
+  public PropertyValue getMin() {
+    return min;
+  }
+
+  /**
+   * Returns the upper bound.
+   *
+   * @return inclusive upper bound, {@code null} if unbounded
+   */
+  public PropertyValue getMax() {
+    return max;
+  }
+
+  /**
+   * Checks if the given value lies within the range.
+   *
+   * @param value property value or {@code null} if the property is not set
+   * @return true, iff the value lies within the range
+   */
+  public boolean contains(PropertyValue value) {
+    if (value == null || value.isNull()) {
+      return false;
+    }
+    try {
+      return (min == null || min.compareTo(value) <= 0) &&
+        (max == null || max.compareTo(value) >= 0);
+    } catch (IllegalArgumentException | UnsupportedOperationException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Checks if any value between the given minimum and maximum may lie within the range. If the
+   * bounds are not comparable, an overlap is assumed.
+   *
+   * @param blockMin smallest value of a block
+   * @param blockMax largest value of a block
+   * @return false, iff no value of the block can lie within the range
+   */
+  public boolean overlaps(PropertyValue blockMin, PropertyValue blockMax) {
+    try {
+      return (min == null || min.compareTo(blockMax) <= 0) &&
+        (max == null || max.compareTo(blockMin) >= 0);
+    } catch (IllegalArgumentException | UnsupportedOperationException e) {
+      return true;
+    }
+  }
+
+  /**
+   * Returns the smallest range that contains this and the given range.
+   *
+   * @param other range on the same property key
+   * @return range containing both ranges or {@code null} if the bounds are not comparable
+   */
+  public PropertyRange hull(PropertyRange other) {
+    if (!key.equals(other.key)) {
+      return null;
+    }
+    try {
+      PropertyValue hullMin = min == null || other.min == null ? null :
+        min.compareTo(other.min) <= 0 ? min : other.min;
+      PropertyValue hullMax = max == null || other.max == null ? null :
+        max.compareTo(other.max) >= 0 ? max : other.max;
+      return new PropertyRange(key, hullMin, hullMax);
+    } catch (IllegalArgumentException | UnsupportedOperationException e) {
+      return null;
+    }
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    PropertyRange that = (PropertyRange) o;
+    return key.equals(that.key) && Objects.equals(min, that.min) && Objects.equals(max, that.max);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(key, min, max);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s IN [%s, %s]", key, min, max);
+  }
+}
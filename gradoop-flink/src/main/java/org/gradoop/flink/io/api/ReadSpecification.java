@@ -0,0 +1,334 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.api;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Describes which vertices and edges, and which of their properties, are required by the
+ * operators consuming a {@link FilterableDataSource}.
+ *
+ * For vertices and edges, the specification consists of
+ *
+ * 1) a set of labels, {@code null} if all labels are required,
+ * 2) a set of property keys, {@code null} if all properties are required and
+ * 3) a conjunction of {@link PropertyRange}s each required element satisfies.
+ *
+ * The specification is a hint: a data source returns at least all elements satisfying it with at
+ * least the requested properties, but it may return more. Consumers still have to evaluate their
+ * own predicates, e.g. filter edges whose source or target vertex was skipped.
+ */
+public class ReadSpecification implements Serializable {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * Required vertex labels, {@code null} for all labels
+   */
+  private Set<String> vertexLabels;
+  /**
+   * Required edge labels, {@code null} for all labels
+   */
+  private Set<String> edgeLabels;
+  /**
+   * Required vertex property keys, {@code null} for all properties
+   */
+  private Set<String> vertexPropertyKeys;
+  /**
+   * Required edge property keys, {@code null} for all properties
+   */
+  private Set<String> edgePropertyKeys;
+  /**
+   * Ranges satisfied by all required vertices
+   */
+  private final List<PropertyRange> vertexRanges = new ArrayList<>();
+  /**
+   * Ranges satisfied by all required edges
+   */
+  private final List<PropertyRange> edgeRanges = new ArrayList<>();
+
+  /**
+   * Creates a specification which requires all vertices and edges with all their properties.
+   */
+  public ReadSpecification() {
+  }
+
+  /**
+   * Creates a specification which requires neither vertices nor edges. It is used as neutral
+   * element when specifications are combined via {@link #union(ReadSpecification)}.
+   *
+   * @return empty specification
+   */
+  public static ReadSpecification none() {
+    return new ReadSpecification()
+      .setVertexLabels(new HashSet<>()).setVertexPropertyKeys(new HashSet<>())
+      .setEdgeLabels(new HashSet<>()).setEdgePropertyKeys(new HashSet<>());
+  }
+
+  /**
+   * Returns the required vertex labels.
+   *
+   * @return vertex labels, {@code null} if all labels are required
+   */
+  public Set<String> getVertexLabels() {
+    return vertexLabels;
+  }
+
+  /**
+   * Sets the required vertex labels.
+   *
+   * @param vertexLabels vertex labels, {@code null} if all labels are required
+   * @return this specification
+   */
+  public ReadSpecification setVertexLabels(Set<String> vertexLabels) {
+    this.vertexLabels = vertexLabels;
+    return this;
+  }
+
+  /**
+   * Returns the required edge labels.
+   *
+   * @return edge labels, {@code null} if all labels are required
+   */
+  public Set<String> getEdgeLabels() {
+    return edgeLabels;
+  }
+
+  /**
+   * Sets the required edge labels.
+   *
+   * @param edgeLabels edge labels, {@code null} if all labels are required
+   * @return this specification
+   */
+  public ReadSpecification setEdgeLabels(Set<String> edgeLabels) {
+    this.edgeLabels = edgeLabels;
+    return this;
+  }
+
+  /**
+   * Returns the required vertex property keys.
+   *
+   * @return property keys, {@code null} if all properties are required
+   */
+  public Set<String> getVertexPropertyKeys() {
+    return vertexPropertyKeys;
+  }
+
+  /**
+   * Sets the required vertex property keys.
+   *
+   * @param vertexPropertyKeys property keys, {@code null} if all properties are required
+   * @return this specification
+   */
+  public ReadSpecification setVertexPropertyKeys(Set<String> vertexPropertyKeys) {
+    this.vertexPropertyKeys = vertexPropertyKeys;
+    return this;
+  }
+
+  /**
+   * Returns the required edge property keys.
+   *
+   * @return property keys, {@code null} if all properties are required
+   */
+  public Set<String> getEdgePropertyKeys() {
+    return edgePropertyKeys;
+  }
+
+  /**
+   * Sets the required edge property keys.
+   *
+   * @param edgePropertyKeys property keys, {@code null} if all properties are required
+   * @return this specification
+   */
+  public ReadSpecification setEdgePropertyKeys(Set<String> edgePropertyKeys) {
+    this.edgePropertyKeys = edgePropertyKeys;
+    return this;
+  }
+
+  /**
+   * Returns the ranges satisfied by all required vertices.
+   *
+   * @return vertex ranges
+   */
+  public List<PropertyRange> getVertexRanges() {
+    return Collections.unmodifiableList(vertexRanges);
+  }
+
+  /**
+   * Adds a range that is satisfied by all required vertices.
+   *
+   * @param range vertex range
+   * @return this specification
+   */
+  public ReadSpecification addVertexRange(PropertyRange range) {
+    vertexRanges.add(Objects.requireNonNull(range));
+    return this;
+  }
+
+  /**
+   * Returns the ranges satisfied by all required edges.
+   *
+   * @return edge ranges
+   */
+  public List<PropertyRange> getEdgeRanges() {
+    return Collections.unmodifiableList(edgeRanges);
+  }
+
+  /**
+   * Adds a range that is satisfied by all required edges.
+   *
+   * @param range edge range
+   * @return this specification
+   */
+  public ReadSpecification addEdgeRange(PropertyRange range) {
+    edgeRanges.add(Objects.requireNonNull(range));
+    return this;
+  }
+
+  /**
+   * Checks if vertices with the given label may be required.
+   *
+   * @param label vertex label
+   * @return false, iff no vertex with the label is required
+   */
+  public boolean isVertexLabelRequired(String label) {
+    return vertexLabels == null || vertexLabels.contains(label);
+  }
+
+  /**
+   * Checks if edges with the given label may be required.
+   *
+   * @param label edge label
+   * @return false, iff no edge with the label is required
+   */
+  public boolean isEdgeLabelRequired(String label) {
+    return edgeLabels == null || edgeLabels.contains(label);
+  }
+
+  /**
+   * Returns a new specification requiring all elements and properties required by this or the
+   * given specification. Ranges are kept if both specifications restrict the same property key.
+   *
+   * @param other read specification
+   * @return combined specification
+   */
+  public ReadSpecification union(ReadSpecification other) {
+    ReadSpecification result = new ReadSpecification();
+
+    if (isEmpty(vertexLabels)) {
+      result.setVertexLabels(copy(other.vertexLabels));
+      result.setVertexPropertyKeys(copy(other.vertexPropertyKeys));
+      other.vertexRanges.forEach(result::addVertexRange);
+    } else if (isEmpty(other.vertexLabels)) {
+      result.setVertexLabels(copy(vertexLabels));
+      result.setVertexPropertyKeys(copy(vertexPropertyKeys));
+      vertexRanges.forEach(result::addVertexRange);
+    } else {
+      result.setVertexLabels(union(vertexLabels, other.vertexLabels));
+      result.setVertexPropertyKeys(union(vertexPropertyKeys, other.vertexPropertyKeys));
+      union(vertexRanges, other.vertexRanges).forEach(result::addVertexRange);
+    }
+
+    if (isEmpty(edgeLabels)) {
+      result.setEdgeLabels(copy(other.edgeLabels));
+      result.setEdgePropertyKeys(copy(other.edgePropertyKeys));
+      other.edgeRanges.forEach(result::addEdgeRange);
+    } else if (isEmpty(other.edgeLabels)) {
+      result.setEdgeLabels(copy(edgeLabels));
+      result.setEdgePropertyKeys(copy(edgePropertyKeys));
+      edgeRanges.forEach(result::addEdgeRange);
+    } else {
+      result.setEdgeLabels(union(edgeLabels, other.edgeLabels));
+      result.setEdgePropertyKeys(union(edgePropertyKeys, other.edgePropertyKeys));
+      union(edgeRanges, other.edgeRanges).forEach(result::addEdgeRange);
+    }
+
+    return result;
+  }
+
+  /**
+   * Checks if the given label set requires no elements at all.
+   *
+   * @param labels label set
+   * @return true, iff the set is empty
+   */
+  private static boolean isEmpty(Set<String> labels) {
+    return labels != null && labels.isEmpty();
+  }
+
+  /**
+   * Copies the given set.
+   *
+   * @param set set or {@code null}
+   * @return copy or {@code null}
+   */
+  private static Set<String> copy(Set<String> set) {
+    return set == null ? null : new HashSet<>(set);
+  }
+
+  /**
+   * Returns the union of the given sets where {@code null} represents the set of all values.
+   *
+   * @param first first set
+   * @param second second set
+   * @return union
+   */
+  private static Set<String> union(Set<String> first, Set<String> second) {
+    if (first == null || second == null) {
+      return null;
+    }
+    Set<String> result = new HashSet<>(first);
+    result.addAll(second);
+    return result;
+  }
+
+  /**
+   * Returns ranges which are implied by both of the given conjunctions of ranges, i.e. the hulls
+   * of all pairs of ranges on the same property key.
+   *
+   * @param first first conjunction
+   * @param second second conjunction
+   * @return ranges implied by both conjunctions
+   */
+  private static List<PropertyRange> union(List<PropertyRange> first,
+    List<PropertyRange> second) {
+    List<PropertyRange> result = new ArrayList<>();
+    for (PropertyRange firstRange : first) {
+      for (PropertyRange secondRange : second) {
+        PropertyRange hull = firstRange.hull(secondRange);
+        if (hull != null && !result.contains(hull)) {
+          result.add(hull);
+        }
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("vertices(labels=%s, keys=%s, ranges=%s), " +
+        "edges(labels=%s, keys=%s, ranges=%s)",
+      vertexLabels, vertexPropertyKeys, vertexRanges,
+      edgeLabels, edgePropertyKeys, edgeRanges);
+  }
+}
@@ -0,0 +1,141 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar;
+
+import org.apache.flink.core.fs.Path;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.io.File;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Base class for columnar data source and data sink.
+ *
+ * The graph is stored in the following directory structure:
+ *
+ * root
+ *   |- graphs
+ *   |    |- label=Community   # one directory per graph head label
+ *   |- vertices
+ *   |    |- label=Person      # one directory per vertex label
+ *   |    |    |- part-0      # one file per writing task
+ *   |    |- label=Tag
+ *   |- edges
+ *        |- label=knows       # one directory per edge label
+ *
+ * Labels are URL encoded in directory names. The content of each file is documented in
+ * {@link org.gradoop.flink.io.impl.columnar.format.ColumnarBlockWriter}.
+ */
+public abstract class ColumnarBase {
+  /**
+   * Number of elements stored in a single block.
+   */
+  public static final int BLOCK_SIZE = 4096;
+  /**
+   * Prefix of label directories.
+   */
+  public static final String LABEL_DIRECTORY_PREFIX = "label=";
+  /**
+   * Prefix of data files.
+   */
+  public static final String FILE_PREFIX = "part-";
+  /**
+   * Directory containing graph heads.
+   */
+  private static final String GRAPH_HEAD_DIRECTORY = "graphs";
+  /**
+   * Directory containing vertices.
+   */
+  private static final String VERTEX_DIRECTORY = "vertices";
+  /**
+   * Directory containing edges.
+   */
+  private static final String EDGE_DIRECTORY = "edges";
+  /**
+   * Root directory containing the graph.
+   */
+  private final String root;
+  /**
+   * Gradoop Flink configuration
+   */
+  private final GradoopFlinkConfig config;
+
+  /**
+   * Constructor.
+   *
+   * @param path root directory of the graph
+   * @param config Gradoop Flink configuration
+   */
+  protected ColumnarBase(String path, GradoopFlinkConfig config) {
+    Objects.requireNonNull(path);
+    Objects.requireNonNull(config);
+    this.root = path.endsWith(File.separator) ? path : path + File.separator;
+    this.config = config;
+  }
+
+  /**
+   * Returns the name of the directory containing the elements with the given label.
+   *
+   * @param label element label
+   * @return directory name
+   */
+  public static String getLabelDirectory(String label) {
+    try {
+      return LABEL_DIRECTORY_PREFIX + URLEncoder.encode(label, StandardCharsets.UTF_8.name());
+    } catch (UnsupportedEncodingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Returns the label of the elements stored in the given directory.
+   *
+   * @param directory label directory
+   * @return element label or {@code null} if the path is no label directory
+   */
+  public static String getLabel(Path directory) {
+    String name = directory.getName();
+    if (!name.startsWith(LABEL_DIRECTORY_PREFIX)) {
+      return null;
+    }
+    try {
+      return URLDecoder.decode(name.substring(LABEL_DIRECTORY_PREFIX.length()),
+        StandardCharsets.UTF_8.name());
+    } catch (UnsupportedEncodingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  protected String getGraphHeadPath() {
+    return root + GRAPH_HEAD_DIRECTORY;
+  }
+
+  protected String getVertexPath() {
+    return root + VERTEX_DIRECTORY;
+  }
+
+  protected String getEdgePath() {
+    return root + EDGE_DIRECTORY;
+  }
+
+  protected GradoopFlinkConfig getConfig() {
+    return config;
+  }
+}
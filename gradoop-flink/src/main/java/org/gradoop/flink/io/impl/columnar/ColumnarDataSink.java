@@ -0,0 +1,77 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar;
+
+import org.apache.flink.core.fs.FileSystem;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.io.api.DataSink;
+import org.gradoop.flink.io.impl.columnar.format.ColumnarOutputFormat;
+import org.gradoop.flink.model.api.epgm.GraphCollection;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.io.IOException;
+
+/**
+ * A graph data sink writing a binary columnar format.
+ *
+ * Graph heads, vertices and edges are split by label (see {@link ColumnarBase}). Within each
+ * file, elements are stored in compressed blocks which contain ids as raw bytes, dictionary
+ * encoded labels and one column per property key including min/max statistics (see
+ * {@link org.gradoop.flink.io.impl.columnar.format.ColumnarBlockWriter}).
+ */
+public class ColumnarDataSink extends ColumnarBase implements DataSink {
+
+  /**
+   * Creates a new columnar data sink.
+   *
+   * @param path directory to write to
+   * @param config Gradoop Flink configuration
+   */
+  public ColumnarDataSink(String path, GradoopFlinkConfig config) {
+    super(path, config);
+  }
+
+  @Override
+  public void write(LogicalGraph logicalGraph) throws IOException {
+    write(logicalGraph, false);
+  }
+
+  @Override
+  public void write(GraphCollection graphCollection) throws IOException {
+    write(graphCollection, false);
+  }
+
+  @Override
+  public void write(LogicalGraph logicalGraph, boolean overwrite) throws IOException {
+    write(getConfig().getGraphCollectionFactory().fromGraph(logicalGraph), overwrite);
+  }
+
+  @Override
+  public void write(GraphCollection graphCollection, boolean overWrite) throws IOException {
+    FileSystem.WriteMode writeMode = overWrite ?
+      FileSystem.WriteMode.OVERWRITE : FileSystem.WriteMode.NO_OVERWRITE;
+
+    graphCollection.getGraphHeads()
+      .output(new ColumnarOutputFormat<GraphHead>(getGraphHeadPath(), writeMode));
+    graphCollection.getVertices()
+      .output(new ColumnarOutputFormat<Vertex>(getVertexPath(), writeMode));
+    graphCollection.getEdges()
+      .output(new ColumnarOutputFormat<Edge>(getEdgePath(), writeMode));
+  }
+}
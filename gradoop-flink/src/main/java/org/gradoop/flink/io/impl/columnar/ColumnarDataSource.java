@@ -0,0 +1,115 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar;
+
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.ExecutionEnvironment;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.io.api.FilterableDataSource;
+import org.gradoop.flink.io.api.ReadSpecification;
+import org.gradoop.flink.io.impl.columnar.format.EdgeInputFormat;
+import org.gradoop.flink.io.impl.columnar.format.GraphHeadInputFormat;
+import org.gradoop.flink.io.impl.columnar.format.VertexInputFormat;
+import org.gradoop.flink.model.api.epgm.GraphCollection;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.combination.ReduceCombination;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.util.Collections;
+import java.util.Objects;
+
+/**
+ * A graph data source reading the binary columnar format written by {@link ColumnarDataSink}.
+ *
+ * The source applies a {@link ReadSpecification}: files of labels which are not required are not
+ * read, property columns which are not required are not decoded and blocks whose min/max
+ * statistics show that they contain no element satisfying the property ranges are skipped. Note
+ * that restricting the vertex labels does not remove edges from or to vertices with other labels.
+ */
+public class ColumnarDataSource extends ColumnarBase implements FilterableDataSource {
+  /**
+   * Specifies the vertices, edges and properties to read
+   */
+  private ReadSpecification readSpecification;
+
+  /**
+   * Creates a new data source reading the whole graph.
+   *
+   * @param path root directory of the graph
+   * @param config Gradoop Flink configuration
+   */
+  public ColumnarDataSource(String path, GradoopFlinkConfig config) {
+    this(path, config, new ReadSpecification());
+  }
+
+  /**
+   * Creates a new data source reading only the specified parts of the graph.
+   *
+   * @param path root directory of the graph
+   * @param config Gradoop Flink configuration
+   * @param readSpecification vertices, edges and properties to read
+   */
+  public ColumnarDataSource(String path, GradoopFlinkConfig config,
+    ReadSpecification readSpecification) {
+    super(path, config);
+    this.readSpecification = Objects.requireNonNull(readSpecification);
+  }
+
+  @Override
+  public void setReadSpecification(ReadSpecification readSpecification) {
+    this.readSpecification = Objects.requireNonNull(readSpecification);
+  }
+
+  @Override
+  public ReadSpecification getReadSpecification() {
+    return readSpecification;
+  }
+
+  @Override
+  public LogicalGraph getLogicalGraph() {
+    return getGraphCollection().reduce(new ReduceCombination());
+  }
+
+  @Override
+  public GraphCollection getGraphCollection() {
+    ExecutionEnvironment env = getConfig().getExecutionEnvironment();
+
+    TypeInformation<GraphHead> graphHeadTypeInfo = TypeExtractor
+      .createTypeInfo(getConfig().getGraphHeadFactory().getType());
+    TypeInformation<Vertex> vertexTypeInfo = TypeExtractor
+      .createTypeInfo(getConfig().getVertexFactory().getType());
+    TypeInformation<Edge> edgeTypeInfo = TypeExtractor
+      .createTypeInfo(getConfig().getEdgeFactory().getType());
+
+    DataSet<GraphHead> graphHeads = env.createInput(new GraphHeadInputFormat(
+      getGraphHeadPath(), getConfig().getGraphHeadFactory(), null, null,
+      Collections.emptyList()), graphHeadTypeInfo);
+    DataSet<Vertex> vertices = env.createInput(new VertexInputFormat(
+      getVertexPath(), getConfig().getVertexFactory(), readSpecification.getVertexLabels(),
+      readSpecification.getVertexPropertyKeys(), readSpecification.getVertexRanges()),
+      vertexTypeInfo);
+    DataSet<Edge> edges = env.createInput(new EdgeInputFormat(
+      getEdgePath(), getConfig().getEdgeFactory(), readSpecification.getEdgeLabels(),
+      readSpecification.getEdgePropertyKeys(), readSpecification.getEdgeRanges()),
+      edgeTypeInfo);
+
+    return getConfig().getGraphCollectionFactory().fromDataSets(graphHeads, vertices, edges);
+  }
+}
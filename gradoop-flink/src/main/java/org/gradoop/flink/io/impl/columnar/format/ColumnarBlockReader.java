@@ -0,0 +1,400 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar.format;
+
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataInputViewStreamWrapper;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.io.api.PropertyRange;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Reads blocks written by {@link ColumnarBlockWriter}.
+ *
+ * Only the requested property columns are decoded. Blocks whose statistics show that none of
+ * their rows can satisfy the given property ranges are skipped without being decompressed.
+ * Rows of the remaining blocks are filtered exactly.
+ */
+public class ColumnarBlockReader {
+  /**
+   * Property keys to decode, {@code null} if all properties shall be decoded
+   */
+  private final Set<String> propertyKeys;
+  /**
+   * Ranges which have to be satisfied by all returned rows
+   */
+  private final List<PropertyRange> ranges;
+  /**
+   * Decompresses the payload
+   */
+  private final Inflater inflater = new Inflater();
+  /**
+   * Buffer for the compressed payload
+   */
+  private byte[] compressed = new byte[0];
+  /**
+   * Buffer for the uncompressed payload
+   */
+  private byte[] payload = new byte[0];
+  /**
+   * Number of rows in the current block
+   */
+  private int rowCount;
+  /**
+   * Rows of the current block satisfying all ranges
+   */
+  private int[] selectedRows = new int[0];
+  /**
+   * Number of selected rows in the current block
+   */
+  private int selectedCount;
+  /**
+   * Element ids of the current block
+   */
+  private GradoopId[] ids;
+  /**
+   * Element labels of the current block
+   */
+  private String[] labels;
+  /**
+   * Graph ids of the current block, {@code null} if not stored
+   */
+  private GradoopIdSet[] graphIds;
+  /**
+   * Source ids of the current block, {@code null} if not stored
+   */
+  private GradoopId[] sourceIds;
+  /**
+   * Target ids of the current block, {@code null} if not stored
+   */
+  private GradoopId[] targetIds;
+  /**
+   * Decoded property columns of the current block
+   */
+  private Map<String, PropertyValue[]> columns;
+
+  /**
+   * Creates a new reader.
+   *
+   * @param propertyKeys property keys to decode, {@code null} to decode all properties
+   * @param ranges ranges which have to be satisfied by all returned rows
+   */
+  public ColumnarBlockReader(Set<String> propertyKeys, List<PropertyRange> ranges) {
+    this.propertyKeys = propertyKeys;
+    this.ranges = ranges;
+  }
+
+  /**
+   * Reads the next block. If the block cannot contain a row satisfying all ranges, it is
+   * skipped and contains no selected rows.
+   *
+   * @param in input view
+   * @return false, iff the end of the file has been reached
+   * @throws IOException if reading fails
+   */
+  public boolean readBlock(DataInputView in) throws IOException {
+    rowCount = in.readInt();
+    selectedCount = 0;
+    if (rowCount == ColumnarBlockWriter.END_OF_FILE) {
+      return false;
+    }
+    byte flags = in.readByte();
+    int columnCount = in.readInt();
+
+    List<String> keys = new ArrayList<>(columnCount);
+    int[] columnLengths = new int[columnCount];
+    Map<String, PropertyValue[]> statistics = new HashMap<>();
+    for (int i = 0; i < columnCount; i++) {
+      keys.add(in.readUTF());
+      columnLengths[i] = in.readInt();
+      if (in.readBoolean()) {
+        PropertyValue min = new PropertyValue();
+        min.read(in);
+        PropertyValue max = new PropertyValue();
+        max.read(in);
+        statistics.put(keys.get(i), new PropertyValue[] {min, max});
+      }
+    }
+    int payloadLength = in.readInt();
+    int compressedLength = in.readInt();
+
+    if (!mayContainMatches(keys, statistics)) {
+      in.skipBytesToRead(compressedLength);
+      return true;
+    }
+    decompress(in, compressedLength, payloadLength);
+    decodePayload(flags, keys, columnLengths, payloadLength);
+    selectRows();
+    return true;
+  }
+
+  /**
+   * Returns the number of rows of the current block which satisfy all ranges.
+   *
+   * @return number of selected rows
+   */
+  public int getSelectedCount() {
+    return selectedCount;
+  }
+
+  /**
+   * Returns the id of a selected row.
+   *
+   * @param i index of the selected row
+   * @return element id
+   */
+  public GradoopId getId(int i) {
+    return ids[selectedRows[i]];
+  }
+
+  /**
+   * Returns the label of a selected row.
+   *
+   * @param i index of the selected row
+   * @return element label
+   */
+  public String getLabel(int i) {
+    return labels[selectedRows[i]];
+  }
+
+  /**
+   * Returns the graph ids of a selected row.
+   *
+   * @param i index of the selected row
+   * @return graph ids or {@code null} if not stored
+   */
+  public GradoopIdSet getGraphIds(int i) {
+    return graphIds != null ? graphIds[selectedRows[i]] : null;
+  }
+
+  /**
+   * Returns the source id of a selected row.
+   *
+   * @param i index of the selected row
+   * @return source id or {@code null} if not stored
+   */
+  public GradoopId getSourceId(int i) {
+    return sourceIds != null ? sourceIds[selectedRows[i]] : null;
+  }
+
+  /**
+   * Returns the target id of a selected row.
+   *
+   * @param i index of the selected row
+   * @return target id or {@code null} if not stored
+   */
+  public GradoopId getTargetId(int i) {
+    return targetIds != null ? targetIds[selectedRows[i]] : null;
+  }
+
+  /**
+   * Returns the requested properties of a selected row.
+   *
+   * @param i index of the selected row
+   * @return properties
+   */
+  public Properties getProperties(int i) {
+    int row = selectedRows[i];
+    Properties properties = Properties.createWithCapacity(columns.size());
+    for (Map.Entry<String, PropertyValue[]> column : columns.entrySet()) {
+      PropertyValue value = column.getValue()[row];
+      if (value != null && isRequested(column.getKey())) {
+        properties.set(column.getKey(), value);
+      }
+    }
+    return properties;
+  }
+
+  /**
+   * Checks the block statistics against all ranges.
+   *
+   * @param keys property keys of the block
+   * @param statistics min/max values of the block by property key
+   * @return false, iff no row of the block can satisfy all ranges
+   */
+  private boolean mayContainMatches(List<String> keys, Map<String, PropertyValue[]> statistics) {
+    for (PropertyRange range : ranges) {
+      if (!keys.contains(range.getKey())) {
+        return false;
+      }
+      PropertyValue[] minMax = statistics.get(range.getKey());
+      if (minMax != null && !range.overlaps(minMax[0], minMax[1])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Reads and decompresses the payload of the current block.
+   *
+   * @param in input view
+   * @param compressedLength length of the compressed payload
+   * @param payloadLength length of the uncompressed payload
+   * @throws IOException if reading fails
+   */
+  private void decompress(DataInputView in, int compressedLength, int payloadLength)
+    throws IOException {
+    if (compressed.length < compressedLength) {
+      compressed = new byte[compressedLength];
+    }
+    if (payload.length < payloadLength) {
+      payload = new byte[payloadLength];
+    }
+    in.readFully(compressed, 0, compressedLength);
+    inflater.reset();
+    inflater.setInput(compressed, 0, compressedLength);
+    try {
+      int length = 0;
+      while (length < payloadLength && !inflater.finished()) {
+        length += inflater.inflate(payload, length, payloadLength - length);
+      }
+    } catch (DataFormatException e) {
+      throw new IOException("Corrupt columnar block", e);
+    }
+  }
+
+  /**
+   * Decodes the columns of the uncompressed payload.
+   *
+   * @param flags block flags
+   * @param keys property keys of the block
+   * @param columnLengths byte length of each property column
+   * @param payloadLength length of the uncompressed payload
+   * @throws IOException if decoding fails
+   */
+  private void decodePayload(byte flags, List<String> keys, int[] columnLengths,
+    int payloadLength) throws IOException {
+    DataInputView view =
+      new DataInputViewStreamWrapper(new ByteArrayInputStream(payload, 0, payloadLength));
+
+    ids = readIds(view);
+
+    String[] dictionary = new String[view.readInt()];
+    for (int i = 0; i < dictionary.length; i++) {
+      dictionary[i] = view.readUTF();
+    }
+    labels = new String[rowCount];
+    for (int i = 0; i < rowCount; i++) {
+      labels[i] = dictionary[dictionary.length > 1 ? view.readInt() : 0];
+    }
+
+    graphIds = null;
+    if ((flags & ColumnarBlockWriter.FLAG_GRAPH_IDS) != 0) {
+      graphIds = new GradoopIdSet[rowCount];
+      for (int i = 0; i < rowCount; i++) {
+        graphIds[i] = new GradoopIdSet();
+        graphIds[i].read(view);
+      }
+    }
+    sourceIds = null;
+    targetIds = null;
+    if ((flags & ColumnarBlockWriter.FLAG_SOURCE_TARGET) != 0) {
+      sourceIds = readIds(view);
+      targetIds = readIds(view);
+    }
+
+    columns = new HashMap<>();
+    for (int c = 0; c < keys.size(); c++) {
+      String key = keys.get(c);
+      if (!isRequested(key) && !isRangeKey(key)) {
+        view.skipBytesToRead(columnLengths[c]);
+        continue;
+      }
+      byte[] bitmap = new byte[(rowCount + 7) / 8];
+      view.readFully(bitmap);
+      PropertyValue[] values = new PropertyValue[rowCount];
+      for (int i = 0; i < rowCount; i++) {
+        if ((bitmap[i >> 3] & (1 << (i & 7))) != 0) {
+          values[i] = new PropertyValue();
+          values[i].read(view);
+        }
+      }
+      columns.put(key, values);
+    }
+  }
+
+  /**
+   * Determines the rows of the current block which satisfy all ranges.
+   */
+  private void selectRows() {
+    if (selectedRows.length < rowCount) {
+      selectedRows = new int[rowCount];
+    }
+    for (int i = 0; i < rowCount; i++) {
+      boolean selected = true;
+      for (PropertyRange range : ranges) {
+        PropertyValue[] column = columns.get(range.getKey());
+        if (column == null || !range.contains(column[i])) {
+          selected = false;
+          break;
+        }
+      }
+      if (selected) {
+        selectedRows[selectedCount++] = i;
+      }
+    }
+  }
+
+  /**
+   * Reads a column of ids.
+   *
+   * @param view payload view
+   * @return one id per row
+   * @throws IOException if reading fails
+   */
+  private GradoopId[] readIds(DataInputView view) throws IOException {
+    GradoopId[] column = new GradoopId[rowCount];
+    for (int i = 0; i < rowCount; i++) {
+      byte[] bytes = new byte[GradoopId.ID_SIZE];
+      view.readFully(bytes);
+      column[i] = GradoopId.fromByteArray(bytes);
+    }
+    return column;
+  }
+
+  /**
+   * Checks if the given property has been requested.
+   *
+   * @param key property key
+   * @return true, iff the property shall be returned
+   */
+  private boolean isRequested(String key) {
+    return propertyKeys == null || propertyKeys.contains(key);
+  }
+
+  /**
+   * Checks if a range is defined on the given property.
+   *
+   * @param key property key
+   * @return true, iff the property is needed to evaluate a range
+   */
+  private boolean isRangeKey(String key) {
+    return ranges.stream().anyMatch(range -> range.getKey().equals(key));
+  }
+}
@@ -0,0 +1,345 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar.format;
+
+import org.apache.flink.core.memory.DataOutputView;
+import org.apache.flink.core.memory.DataOutputViewStreamWrapper;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.common.model.impl.pojo.GraphElement;
+import org.gradoop.common.model.impl.properties.Property;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.Deflater;
+
+/**
+ * Encodes EPGM elements into blocks of a binary columnar format.
+ *
+ * Elements are encoded column-wise as soon as they are added, i.e. the writer does not keep
+ * references to them. Once the block is complete, it is written using
+ * {@link ColumnarBlockWriter#writeBlock(DataOutputView)}.
+ *
+ * A file consists of a sequence of blocks followed by an {@code int 0}. Each block consists of an
+ * uncompressed header and a deflate compressed payload:
+ *
+ * <pre>
+ * header:
+ *   int      number of rows (> 0)
+ *   byte     flags (FLAG_GRAPH_IDS, FLAG_SOURCE_TARGET)
+ *   int      number of property columns
+ *   per property column:
+ *     UTF    property key
+ *     int    column length in bytes
+ *     bool   true, iff min/max statistics follow
+ *     value  smallest property value (optional)
+ *     value  largest property value (optional)
+ *   int      payload length
+ *   int      compressed payload length
+ * payload:
+ *   ids      12 bytes per row
+ *   labels   dictionary size, dictionary (UTF), per row index (only if the size is > 1)
+ *   graphs   per row number of graph ids and 12 bytes per graph id (if FLAG_GRAPH_IDS)
+ *   sources  12 bytes per row (if FLAG_SOURCE_TARGET)
+ *   targets  12 bytes per row (if FLAG_SOURCE_TARGET)
+ *   per property column:
+ *     bitmap of rows containing the property, property values of these rows
+ * </pre>
+ *
+ * Statistics are only written if all (non-null) values of a column are comparable to each other.
+ */
+public class ColumnarBlockWriter {
+  /**
+   * Flag indicating a graph id column
+   */
+  static final byte FLAG_GRAPH_IDS = 0x01;
+  /**
+   * Flag indicating source and target id columns
+   */
+  static final byte FLAG_SOURCE_TARGET = 0x02;
+  /**
+   * Marks the end of a file
+   */
+  static final int END_OF_FILE = 0;
+  /**
+   * Number of rows in the current block
+   */
+  private int rowCount;
+  /**
+   * Flags of the current block
+   */
+  private byte flags;
+  /**
+   * Id column
+   */
+  private final Column ids = new Column();
+  /**
+   * Label dictionary of the current block
+   */
+  private final Map<String, Integer> labelDictionary = new LinkedHashMap<>();
+  /**
+   * Dictionary index of the label of each row
+   */
+  private int[] labelIndices = new int[16];
+  /**
+   * Graph id column
+   */
+  private final Column graphIds = new Column();
+  /**
+   * Source id column
+   */
+  private final Column sourceIds = new Column();
+  /**
+   * Target id column
+   */
+  private final Column targetIds = new Column();
+  /**
+   * Property columns by property key
+   */
+  private final Map<String, PropertyColumn> properties = new TreeMap<>();
+  /**
+   * Buffer for the uncompressed payload
+   */
+  private final Column payload = new Column();
+  /**
+   * Compresses the payload
+   */
+  private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+  /**
+   * Buffer for the compressed payload
+   */
+  private final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+  /**
+   * Buffer used during compression
+   */
+  private final byte[] buffer = new byte[64 * 1024];
+
+  /**
+   * Adds an element to the current block. All elements of a block must be of the same type.
+   *
+   * @param element EPGM element
+   * @throws IOException if encoding fails
+   */
+  public void add(Element element) throws IOException {
+    if (rowCount == 0) {
+      flags = 0;
+      if (element instanceof GraphElement) {
+        flags |= FLAG_GRAPH_IDS;
+      }
+      if (element instanceof Edge) {
+        flags |= FLAG_SOURCE_TARGET;
+      }
+    }
+
+    ids.view.write(element.getId().toByteArray());
+
+    Integer labelIndex = labelDictionary.get(element.getLabel());
+    if (labelIndex == null) {
+      labelIndex = labelDictionary.size();
+      labelDictionary.put(element.getLabel(), labelIndex);
+    }
+    if (rowCount == labelIndices.length) {
+      labelIndices = Arrays.copyOf(labelIndices, rowCount * 2);
+    }
+    labelIndices[rowCount] = labelIndex;
+
+    if ((flags & FLAG_GRAPH_IDS) != 0) {
+      GradoopIdSet elementGraphIds = ((GraphElement) element).getGraphIds();
+      (elementGraphIds != null ? elementGraphIds : new GradoopIdSet()).write(graphIds.view);
+    }
+    if ((flags & FLAG_SOURCE_TARGET) != 0) {
+      sourceIds.view.write(((Edge) element).getSourceId().toByteArray());
+      targetIds.view.write(((Edge) element).getTargetId().toByteArray());
+    }
+
+    if (element.getProperties() != null) {
+      for (Property property : element.getProperties()) {
+        properties.computeIfAbsent(property.getKey(), key -> new PropertyColumn())
+          .add(rowCount, property.getValue());
+      }
+    }
+    rowCount++;
+  }
+
+  /**
+   * Returns the number of elements in the current block.
+   *
+   * @return number of elements
+   */
+  public int getRowCount() {
+    return rowCount;
+  }
+
+  /**
+   * Writes the current block and starts a new one. Does nothing if the block is empty.
+   *
+   * @param out output view
+   * @throws IOException if writing fails
+   */
+  public void writeBlock(DataOutputView out) throws IOException {
+    if (rowCount == 0) {
+      return;
+    }
+    payload.reset();
+    ids.writeTo(payload);
+    payload.view.writeInt(labelDictionary.size());
+    for (String label : labelDictionary.keySet()) {
+      payload.view.writeUTF(label);
+    }
+    if (labelDictionary.size() > 1) {
+      for (int i = 0; i < rowCount; i++) {
+        payload.view.writeInt(labelIndices[i]);
+      }
+    }
+    graphIds.writeTo(payload);
+    sourceIds.writeTo(payload);
+    targetIds.writeTo(payload);
+
+    out.writeInt(rowCount);
+    out.writeByte(flags);
+    out.writeInt(properties.size());
+    byte[] bitmap = new byte[(rowCount + 7) / 8];
+    for (Map.Entry<String, PropertyColumn> entry : properties.entrySet()) {
+      PropertyColumn column = entry.getValue();
+      Arrays.fill(bitmap, (byte) 0);
+      byte[] rows = column.rows.toByteArray();
+      System.arraycopy(rows, 0, bitmap, 0, rows.length);
+
+      out.writeUTF(entry.getKey());
+      out.writeInt(bitmap.length + column.values.size());
+      boolean hasStatistics = column.comparable && column.min != null;
+      out.writeBoolean(hasStatistics);
+      if (hasStatistics) {
+        column.min.write(out);
+        column.max.write(out);
+      }
+      payload.view.write(bitmap);
+      column.values.writeTo(payload);
+    }
+
+    compress();
+    out.writeInt(payload.size());
+    out.writeInt(compressed.size());
+    out.write(compressed.toByteArray());
+
+    reset();
+  }
+
+  /**
+   * Writes the marker indicating the end of a file.
+   *
+   * @param out output view
+   * @throws IOException if writing fails
+   */
+  public static void writeEndOfFile(DataOutputView out) throws IOException {
+    out.writeInt(END_OF_FILE);
+  }
+
+  /**
+   * Clears all columns.
+   */
+  private void reset() {
+    rowCount = 0;
+    ids.reset();
+    labelDictionary.clear();
+    graphIds.reset();
+    sourceIds.reset();
+    targetIds.reset();
+    properties.clear();
+  }
+
+  /**
+   * Compresses the payload.
+   */
+  private void compress() {
+    compressed.reset();
+    deflater.reset();
+    deflater.setInput(payload.toByteArray());
+    deflater.finish();
+    while (!deflater.finished()) {
+      int length = deflater.deflate(buffer);
+      compressed.write(buffer, 0, length);
+    }
+  }
+
+  /**
+   * A growing byte buffer with a data output view.
+   */
+  private static class Column extends ByteArrayOutputStream {
+    /**
+     * Output view writing to this buffer
+     */
+    private final DataOutputView view = new DataOutputViewStreamWrapper(this);
+  }
+
+  /**
+   * The values of a single property key including their statistics.
+   */
+  private static class PropertyColumn {
+    /**
+     * Rows containing the property
+     */
+    private final BitSet rows = new BitSet();
+    /**
+     * Encoded property values
+     */
+    private final Column values = new Column();
+    /**
+     * Smallest (non-null) value
+     */
+    private PropertyValue min;
+    /**
+     * Largest (non-null) value
+     */
+    private PropertyValue max;
+    /**
+     * True, iff all values are comparable to each other
+     */
+    private boolean comparable = true;
+
+    /**
+     * Adds the value of a row.
+     *
+     * @param row row index
+     * @param value property value
+     * @throws IOException if encoding fails
+     */
+    private void add(int row, PropertyValue value) throws IOException {
+      rows.set(row);
+      value.write(values.view);
+      if (!comparable || value.isNull()) {
+        return;
+      }
+      try {
+        if (min == null || value.compareTo(min) < 0) {
+          min = PropertyValue.fromRawBytes(value.getRawBytes().clone());
+        }
+        if (max == null || value.compareTo(max) > 0) {
+          max = PropertyValue.fromRawBytes(value.getRawBytes().clone());
+        }
+      } catch (IllegalArgumentException | UnsupportedOperationException e) {
+        comparable = false;
+      }
+    }
+  }
+}
@@ -0,0 +1,149 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar.format;
+
+import org.apache.flink.api.common.io.FileInputFormat;
+import org.apache.flink.core.fs.FileInputSplit;
+import org.apache.flink.core.fs.FileStatus;
+import org.apache.flink.core.fs.Path;
+import org.apache.flink.core.memory.DataInputViewStreamWrapper;
+import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.flink.io.impl.columnar.ColumnarBase;
+import org.gradoop.flink.io.api.PropertyRange;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Reads EPGM elements written by {@link ColumnarOutputFormat}.
+ *
+ * Label directories which do not contain requested labels are not read at all. Only the requested
+ * property columns are decoded and blocks which cannot satisfy the given property ranges are
+ * skipped (see {@link ColumnarBlockReader}).
+ *
+ * @param <E> EPGM element type
+ */
+public abstract class ColumnarInputFormat<E extends Element> extends FileInputFormat<E> {
+  /**
+   * Labels to read, {@code null} if all labels shall be read
+   */
+  private final Set<String> labels;
+  /**
+   * Property keys to read, {@code null} if all properties shall be read
+   */
+  private final Set<String> propertyKeys;
+  /**
+   * Ranges which have to be satisfied by all returned elements
+   */
+  private final List<PropertyRange> ranges;
+  /**
+   * Decodes the blocks of the current file
+   */
+  private transient ColumnarBlockReader reader;
+  /**
+   * Buffered view on the current file
+   */
+  private transient DataInputViewStreamWrapper view;
+  /**
+   * Index of the next selected row of the current block
+   */
+  private transient int nextRow;
+  /**
+   * True, iff the end of the current file has been reached
+   */
+  private transient boolean end;
+
+  /**
+   * Creates a new input format.
+   *
+   * @param path directory containing the label directories
+   * @param labels labels to read, {@code null} to read all labels
+   * @param propertyKeys property keys to read, {@code null} to read all properties
+   * @param ranges ranges which have to be satisfied by all returned elements
+   */
+  protected ColumnarInputFormat(String path, Set<String> labels, Set<String> propertyKeys,
+    List<PropertyRange> ranges) {
+    super(new Path(path));
+    this.labels = labels != null ? new HashSet<>(labels) : null;
+    this.propertyKeys = propertyKeys != null ? new HashSet<>(propertyKeys) : null;
+    this.ranges = new ArrayList<>(ranges);
+    this.unsplittable = true;
+    setNestedFileEnumeration(true);
+  }
+
+  @Override
+  public boolean acceptFile(FileStatus fileStatus) {
+    if (!super.acceptFile(fileStatus)) {
+      return false;
+    }
+    if (fileStatus.isDir() && labels != null) {
+      String label = ColumnarBase.getLabel(fileStatus.getPath());
+      return label == null || labels.contains(label);
+    }
+    return true;
+  }
+
+  @Override
+  public void open(FileInputSplit split) throws IOException {
+    super.open(split);
+    reader = new ColumnarBlockReader(propertyKeys, ranges);
+    view = new DataInputViewStreamWrapper(new BufferedInputStream(stream));
+    end = false;
+    readNextBlock();
+  }
+
+  @Override
+  public boolean reachedEnd() {
+    return end;
+  }
+
+  @Override
+  public E nextRecord(E reuse) throws IOException {
+    E element = createElement(reader, nextRow++);
+    if (nextRow == reader.getSelectedCount()) {
+      readNextBlock();
+    }
+    return element;
+  }
+
+  /**
+   * Creates the element stored in a selected row of the current block.
+   *
+   * @param block current block
+   * @param row index of the selected row
+   * @return EPGM element
+   */
+  protected abstract E createElement(ColumnarBlockReader block, int row);
+
+  /**
+   * Reads blocks until a block with selected rows or the end of the file is reached.
+   *
+   * @throws IOException if reading fails
+   */
+  private void readNextBlock() throws IOException {
+    nextRow = 0;
+    do {
+      if (!reader.readBlock(view)) {
+        end = true;
+        return;
+      }
+    } while (reader.getSelectedCount() == 0);
+  }
+}
@@ -0,0 +1,163 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar.format;
+
+import org.apache.flink.api.common.io.InitializeOnMaster;
+import org.apache.flink.api.common.io.OutputFormat;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.core.fs.FSDataOutputStream;
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
+import org.apache.flink.core.memory.DataOutputViewStreamWrapper;
+import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.flink.io.impl.columnar.ColumnarBase;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writes EPGM elements in blocks of a binary columnar format (see {@link ColumnarBlockWriter}).
+ *
+ * Elements are split by label, i.e. each task writes the elements of a label to the file
+ * {@code <path>/label=<label>/part-<task>}.
+ *
+ * @param <E> EPGM element type
+ */
+public class ColumnarOutputFormat<E extends Element> implements OutputFormat<E>,
+  InitializeOnMaster {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * Directory to write to
+   */
+  private final String path;
+  /**
+   * Overwrite mode
+   */
+  private final FileSystem.WriteMode writeMode;
+  /**
+   * Number of the writing task
+   */
+  private transient int taskNumber;
+  /**
+   * Open files by label
+   */
+  private transient Map<String, LabelFile> files;
+
+  /**
+   * Creates a new output format.
+   *
+   * @param path directory to write to
+   * @param writeMode overwrite mode
+   */
+  public ColumnarOutputFormat(String path, FileSystem.WriteMode writeMode) {
+    this.path = path;
+    this.writeMode = writeMode;
+  }
+
+  /**
+   * Removes an existing directory if it may be overwritten and creates an empty one.
+   *
+   * @param parallelism parallelism of the sink
+   * @throws IOException if the directory exists but must not be overwritten
+   */
+  @Override
+  public void initializeGlobal(int parallelism) throws IOException {
+    Path directory = new Path(path);
+    FileSystem fs = directory.getFileSystem();
+    if (fs.exists(directory)) {
+      if (writeMode == FileSystem.WriteMode.NO_OVERWRITE) {
+        throw new IOException("Output path already exists: " + directory);
+      }
+      fs.delete(directory, true);
+    }
+    fs.mkdirs(directory);
+  }
+
+  @Override
+  public void configure(Configuration parameters) {
+  }
+
+  @Override
+  public void open(int taskNumber, int numTasks) {
+    this.taskNumber = taskNumber;
+    this.files = new HashMap<>();
+  }
+
+  @Override
+  public void writeRecord(E record) throws IOException {
+    LabelFile file = files.get(record.getLabel());
+    if (file == null) {
+      file = new LabelFile(record.getLabel());
+      files.put(record.getLabel(), file);
+    }
+    file.writer.add(record);
+    if (file.writer.getRowCount() == ColumnarBase.BLOCK_SIZE) {
+      file.writer.writeBlock(file.view);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (files == null) {
+      return;
+    }
+    for (LabelFile file : files.values()) {
+      file.writer.writeBlock(file.view);
+      ColumnarBlockWriter.writeEndOfFile(file.view);
+      file.view.flush();
+      file.stream.close();
+    }
+    files = null;
+  }
+
+  /**
+   * The file of a single label.
+   */
+  private class LabelFile {
+    /**
+     * Underlying file stream
+     */
+    private final FSDataOutputStream stream;
+    /**
+     * Buffered view on the file stream
+     */
+    private final DataOutputViewStreamWrapper view;
+    /**
+     * Encodes the current block
+     */
+    private final ColumnarBlockWriter writer = new ColumnarBlockWriter();
+
+    /**
+     * Creates the file of the given label.
+     *
+     * @param label element label
+     * @throws IOException if the file cannot be created
+     */
+    private LabelFile(String label) throws IOException {
+      Path directory = new Path(path, ColumnarBase.getLabelDirectory(label));
+      Path file = new Path(directory, ColumnarBase.FILE_PREFIX + taskNumber);
+      FileSystem fs = file.getFileSystem();
+      fs.mkdirs(directory);
+      this.stream = fs.create(file, writeMode);
+      this.view = new DataOutputViewStreamWrapper(new BufferedOutputStream(stream));
+    }
+  }
+}
@@ -0,0 +1,55 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar.format;
+
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.EdgeFactory;
+import org.gradoop.flink.io.api.PropertyRange;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Reads edges written by {@link ColumnarOutputFormat}.
+ */
+public class EdgeInputFormat extends ColumnarInputFormat<Edge> {
+  /**
+   * Creates edges
+   */
+  private final EdgeFactory edgeFactory;
+
+  /**
+   * Creates a new input format.
+   *
+   * @param path directory containing the label directories
+   * @param edgeFactory creates edges
+   * @param labels labels to read, {@code null} to read all labels
+   * @param propertyKeys property keys to read, {@code null} to read all properties
+   * @param ranges ranges which have to be satisfied by all returned edges
+   */
+  public EdgeInputFormat(String path, EdgeFactory edgeFactory, Set<String> labels,
+    Set<String> propertyKeys, List<PropertyRange> ranges) {
+    super(path, labels, propertyKeys, ranges);
+    this.edgeFactory = edgeFactory;
+  }
+
+  @Override
+  protected Edge createElement(ColumnarBlockReader block, int row) {
+    return edgeFactory.initEdge(block.getId(row), block.getLabel(row),
+      block.getSourceId(row), block.getTargetId(row), block.getProperties(row),
+      block.getGraphIds(row));
+  }
+}
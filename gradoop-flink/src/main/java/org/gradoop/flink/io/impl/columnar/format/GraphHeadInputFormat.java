@@ -0,0 +1,54 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar.format;
+
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.GraphHeadFactory;
+import org.gradoop.flink.io.api.PropertyRange;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Reads graph heads written by {@link ColumnarOutputFormat}.
+ */
+public class GraphHeadInputFormat extends ColumnarInputFormat<GraphHead> {
+  /**
+   * Creates graph heads
+   */
+  private final GraphHeadFactory graphHeadFactory;
+
+  /**
+   * Creates a new input format.
+   *
+   * @param path directory containing the label directories
+   * @param graphHeadFactory creates graph heads
+   * @param labels labels to read, {@code null} to read all labels
+   * @param propertyKeys property keys to read, {@code null} to read all properties
+   * @param ranges ranges which have to be satisfied by all returned graph heads
+   */
+  public GraphHeadInputFormat(String path, GraphHeadFactory graphHeadFactory, Set<String> labels,
+    Set<String> propertyKeys, List<PropertyRange> ranges) {
+    super(path, labels, propertyKeys, ranges);
+    this.graphHeadFactory = graphHeadFactory;
+  }
+
+  @Override
+  protected GraphHead createElement(ColumnarBlockReader block, int row) {
+    return graphHeadFactory.initGraphHead(block.getId(row), block.getLabel(row),
+      block.getProperties(row));
+  }
+}
@@ -31,4 +31,8 @@ public class CSVConstants {
    * Used to separate lines in the output CSV files.
    */
   public static final String ROW_DELIMITER = System.getProperty("line.separator");
+  /**
+   * Identifies the hash partitioning of partitioned vertex and edge files.
+   */
+  public static final String PARTITIONING_METHOD = "gradoop-csv-hash";
 }
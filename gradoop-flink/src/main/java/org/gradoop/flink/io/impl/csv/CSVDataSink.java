@@ -15,12 +15,17 @@
  */
 package org.gradoop.flink.io.impl.csv;
 
+import org.apache.flink.api.common.operators.Order;
 import org.apache.flink.api.common.typeinfo.BasicTypeInfo;
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.api.java.typeutils.TupleTypeInfo;
+import org.apache.flink.core.fs.FSDataInputStream;
 import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.flink.io.api.DataSink;
 import org.gradoop.flink.io.impl.csv.functions.EdgeToCSVEdge;
 import org.gradoop.flink.io.impl.csv.functions.ElementToPropertyMetaData;
@@ -28,22 +33,33 @@ import org.gradoop.flink.io.impl.csv.functions.ReducePropertyMetaData;
 import org.gradoop.flink.io.impl.csv.functions.VertexToCSVVertex;
 import org.gradoop.flink.io.impl.csv.metadata.MetaData;
 import org.gradoop.flink.io.impl.csv.metadata.MetaDataParser;
-import org.gradoop.flink.io.impl.csv.tuples.CSVEdge;
-import org.gradoop.flink.io.impl.csv.tuples.CSVVertex;
 import org.gradoop.flink.model.api.epgm.GraphCollection;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.functions.epgm.Id;
+import org.gradoop.flink.model.impl.functions.epgm.SourceId;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 
 import java.io.IOException;
 
 /**
  * A graph data sink for CSV files.
+ *
+ * Optionally, vertices and edges are written in a given number of partitions: vertices are
+ * hash-partitioned by id and edges by source id, i.e., each vertex is stored in the same partition
+ * as its outgoing edges. Within each partition, vertices are sorted by id and edges by source id.
+ * The number of partitions is recorded in the meta data file, so that {@link CSVDataSource} can
+ * declare the layout to Flink. To avoid a repartitioning, the number of partitions should equal
+ * the parallelism of the operators consuming the reloaded graph.
  */
 public class CSVDataSink extends CSVBase implements DataSink {
   /**
    * Path to meta data file that is used to write the output.
    */
   private final String metaDataPath;
+  /**
+   * Number of partitions to write, 0 if the output shall not be partitioned.
+   */
+  private final int partitionCount;
 
   /**
    * Creates a new CSV data sink. Computes the meta data based on the given graph.
@@ -52,8 +68,7 @@ public class CSVDataSink extends CSVBase implements DataSink {
    * @param config Gradoop Flink configuration
    */
   public CSVDataSink(String csvPath, GradoopFlinkConfig config) {
-    super(csvPath, config);
-    this.metaDataPath = null;
+    this(csvPath, null, 0, config);
   }
 
   /**
@@ -64,8 +79,26 @@ public class CSVDataSink extends CSVBase implements DataSink {
    * @param config Gradoop Flink configuration
    */
   public CSVDataSink(String csvPath, String metaDataPath, GradoopFlinkConfig config) {
+    this(csvPath, metaDataPath, 0, config);
+  }
+
+  /**
+   * Creates a new CSV data sink writing vertices and edges in the given number of partitions.
+   * Uses the specified meta data to write the CSV output, if the path is not {@code null}.
+   *
+   * @param csvPath directory to write CSV files to
+   * @param metaDataPath path to meta data CSV file (can be {@code null})
+   * @param partitionCount number of partitions, 0 to not partition the output
+   * @param config Gradoop Flink configuration
+   */
+  public CSVDataSink(String csvPath, String metaDataPath, int partitionCount,
+    GradoopFlinkConfig config) {
     super(csvPath, config);
+    if (partitionCount < 0) {
+      throw new IllegalArgumentException("partition count must not be negative");
+    }
     this.metaDataPath = metaDataPath;
+    this.partitionCount = partitionCount;
   }
 
   @Override
@@ -87,28 +120,52 @@ public class CSVDataSink extends CSVBase implements DataSink {
     if (!reuseMetadata()) {
       metaData = createMetaData(logicalGraph);
     } else {
-      metaData = MetaData.fromFile(metaDataPath, getConfig());
+      metaData = MetaData.fromFile(metaDataPath, getConfig())
+        .filter(tuple -> !tuple.f0.equals(MetaData.PARTITION_COUNT_ENTRY));
     }
 
-    DataSet<CSVVertex> csvVertices = logicalGraph.getVertices()
-      .map(new VertexToCSVVertex())
-      .withBroadcastSet(metaData, BC_METADATA);
-
-    DataSet<CSVEdge> csvEdges = logicalGraph.getEdges()
-      .map(new EdgeToCSVEdge())
-      .withBroadcastSet(metaData, BC_METADATA);
-
     // Write metadata only if the path is not the same or reuseMetadata is false.
     if (!getMetaDataPath().equals(metaDataPath) || !reuseMetadata()) {
-      metaData.writeAsCsv(getMetaDataPath(), CSVConstants.ROW_DELIMITER,
+      DataSet<Tuple2<String, String>> metaDataToWrite = metaData;
+      if (partitionCount > 0) {
+        metaDataToWrite = metaDataToWrite.union(getConfig().getExecutionEnvironment()
+          .fromElements(Tuple2.of(MetaData.PARTITION_COUNT_ENTRY, String.valueOf(partitionCount))));
+      }
+      metaDataToWrite.writeAsCsv(getMetaDataPath(), CSVConstants.ROW_DELIMITER,
         CSVConstants.TOKEN_DELIMITER, writeMode).setParallelism(1);
+    } else {
+      checkPartitionCount();
     }
 
-    csvVertices.writeAsCsv(getVertexCSVPath(), CSVConstants.ROW_DELIMITER,
-      CSVConstants.TOKEN_DELIMITER, writeMode);
-
-    csvEdges.writeAsCsv(getEdgeCSVPath(), CSVConstants.ROW_DELIMITER,
-      CSVConstants.TOKEN_DELIMITER, writeMode);
+    if (partitionCount == 0) {
+      logicalGraph.getVertices()
+        .map(new VertexToCSVVertex())
+        .withBroadcastSet(metaData, BC_METADATA)
+        .writeAsCsv(getVertexCSVPath(), CSVConstants.ROW_DELIMITER,
+          CSVConstants.TOKEN_DELIMITER, writeMode);
+
+      logicalGraph.getEdges()
+        .map(new EdgeToCSVEdge())
+        .withBroadcastSet(metaData, BC_METADATA)
+        .writeAsCsv(getEdgeCSVPath(), CSVConstants.ROW_DELIMITER,
+          CSVConstants.TOKEN_DELIMITER, writeMode);
+    } else {
+      logicalGraph.getVertices()
+        .partitionByHash(new Id<>()).setParallelism(partitionCount)
+        .sortPartition(new Id<Vertex>(), Order.ASCENDING).setParallelism(partitionCount)
+        .map(new VertexToCSVVertex()).setParallelism(partitionCount)
+        .withBroadcastSet(metaData, BC_METADATA)
+        .writeAsCsv(getVertexCSVPath(), CSVConstants.ROW_DELIMITER,
+          CSVConstants.TOKEN_DELIMITER, writeMode).setParallelism(partitionCount);
+
+      logicalGraph.getEdges()
+        .partitionByHash(new SourceId<>()).setParallelism(partitionCount)
+        .sortPartition(new SourceId<Edge>(), Order.ASCENDING).setParallelism(partitionCount)
+        .map(new EdgeToCSVEdge()).setParallelism(partitionCount)
+        .withBroadcastSet(metaData, BC_METADATA)
+        .writeAsCsv(getEdgeCSVPath(), CSVConstants.ROW_DELIMITER,
+          CSVConstants.TOKEN_DELIMITER, writeMode).setParallelism(partitionCount);
+    }
   }
 
   @Override
@@ -117,6 +174,22 @@ public class CSVDataSink extends CSVBase implements DataSink {
       "Writing a graph collection is currently not supported by this data sink");
   }
 
+  /**
+   * Checks that the meta data file, which is reused in place, describes the partitioning of the
+   * output. The file can not be rewritten while it is read.
+   *
+   * @throws IOException if the meta data file can not be read
+   */
+  private void checkPartitionCount() throws IOException {
+    Path path = new Path(metaDataPath);
+    try (FSDataInputStream in = path.getFileSystem().open(path)) {
+      if (MetaData.fromInputStream(in).getPartitionCount() != partitionCount) {
+        throw new IllegalArgumentException("The partitioning of the output differs from the one " +
+          "recorded in the reused meta data file " + metaDataPath);
+      }
+    }
+  }
+
   /**
    * Returns true, if the meta data shall be reused.
    *
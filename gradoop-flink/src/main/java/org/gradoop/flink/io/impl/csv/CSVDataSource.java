@@ -15,18 +15,28 @@
  */
 package org.gradoop.flink.io.impl.csv;
 
+import org.apache.flink.api.common.operators.Order;
 import org.apache.flink.api.java.DataSet;
-import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.ExecutionEnvironment;
+import org.apache.flink.api.java.operators.DataSource;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
+import org.apache.flink.core.fs.FSDataInputStream;
+import org.apache.flink.core.fs.Path;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.Vertex;
-import org.gradoop.flink.io.api.DataSource;
-import org.gradoop.flink.io.impl.csv.functions.CSVLineToEdge;
-import org.gradoop.flink.io.impl.csv.functions.CSVLineToVertex;
+import org.gradoop.flink.io.api.FilterableDataSource;
+import org.gradoop.flink.io.api.ReadSpecification;
+import org.gradoop.flink.io.impl.csv.inputformats.CSVEdgeInputFormat;
+import org.gradoop.flink.io.impl.csv.inputformats.CSVVertexInputFormat;
+import org.gradoop.flink.io.impl.csv.inputformats.PartitionedFileInputFormat;
 import org.gradoop.flink.io.impl.csv.metadata.MetaData;
 import org.gradoop.flink.model.api.epgm.GraphCollection;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 
+import java.io.IOException;
+import java.util.Objects;
+
 /**
  * A graph data source for CSV files.
  *
@@ -37,8 +47,20 @@ import org.gradoop.flink.util.GradoopFlinkConfig;
  *   |- vertices.csv # all vertex data
  *   |- edges.csv    # all edge data
  *   |- metadata.csv # Meta data for all data contained in the graph
+ *
+ * The source applies a {@link ReadSpecification}: rows with labels which are not required or
+ * property values outside of the ranges are skipped and property values which are not required
+ * are not parsed.
+ *
+ * If the files have been written in partitions (see {@link MetaData#getPartitionCount()}), each
+ * partition is read by its own task and the partitioning and order of vertices by id and edges by
+ * source id is declared to Flink, so that it does not need to be established again.
  */
-public class CSVDataSource extends CSVBase implements DataSource {
+public class CSVDataSource extends CSVBase implements FilterableDataSource {
+  /**
+   * Specifies the vertices, edges and properties to read
+   */
+  private ReadSpecification readSpecification = new ReadSpecification();
 
   /**
    * Creates a new CSV data source.
@@ -51,24 +73,72 @@ public class CSVDataSource extends CSVBase implements DataSource {
   }
 
   @Override
-  public LogicalGraph getLogicalGraph() {
-    DataSet<Tuple2<String, String>> metaData = MetaData.fromFile(getMetaDataPath(), getConfig());
+  public void setReadSpecification(ReadSpecification readSpecification) {
+    this.readSpecification = Objects.requireNonNull(readSpecification);
+  }
 
-    DataSet<Vertex> vertices = getConfig().getExecutionEnvironment()
-      .readTextFile(getVertexCSVPath())
-      .map(new CSVLineToVertex(getConfig().getVertexFactory()))
-      .withBroadcastSet(metaData, BC_METADATA);
+  @Override
+  public ReadSpecification getReadSpecification() {
+    return readSpecification;
+  }
+
+  @Override
+  public LogicalGraph getLogicalGraph() throws IOException {
+    ExecutionEnvironment env = getConfig().getExecutionEnvironment();
 
-    DataSet<Edge> edges = getConfig().getExecutionEnvironment()
-      .readTextFile(getEdgeCSVPath())
-      .map(new CSVLineToEdge(getConfig().getEdgeFactory()))
-      .withBroadcastSet(metaData, BC_METADATA);
+    CSVVertexInputFormat vertexFormat = new CSVVertexInputFormat(getVertexCSVPath(),
+      getMetaDataPath(), getConfig().getVertexFactory(), readSpecification);
+    CSVEdgeInputFormat edgeFormat = new CSVEdgeInputFormat(getEdgeCSVPath(),
+      getMetaDataPath(), getConfig().getEdgeFactory(), readSpecification);
+
+    DataSet<Vertex> vertices;
+    DataSet<Edge> edges;
+
+    int partitionCount = readPartitionCount();
+    if (partitionCount == 0) {
+      vertices = env.createInput(vertexFormat,
+        TypeExtractor.createTypeInfo(getConfig().getVertexFactory().getType()));
+      edges = env.createInput(edgeFormat,
+        TypeExtractor.createTypeInfo(getConfig().getEdgeFactory().getType()));
+    } else {
+      DataSource<Vertex> vertexSource = env.createInput(
+        new PartitionedFileInputFormat<>(vertexFormat, partitionCount),
+        TypeExtractor.createTypeInfo(getConfig().getVertexFactory().getType()))
+        .setParallelism(partitionCount);
+      vertexSource.getSplitDataProperties()
+        .splitsPartitionedBy(CSVConstants.PARTITIONING_METHOD, "id")
+        .splitsOrderedBy("id", new Order[] {Order.ASCENDING});
+
+      DataSource<Edge> edgeSource = env.createInput(
+        new PartitionedFileInputFormat<>(edgeFormat, partitionCount),
+        TypeExtractor.createTypeInfo(getConfig().getEdgeFactory().getType()))
+        .setParallelism(partitionCount);
+      edgeSource.getSplitDataProperties()
+        .splitsPartitionedBy(CSVConstants.PARTITIONING_METHOD, "sourceId")
+        .splitsOrderedBy("sourceId", new Order[] {Order.ASCENDING});
+
+      vertices = vertexSource;
+      edges = edgeSource;
+    }
 
     return getConfig().getLogicalGraphFactory().fromDataSets(vertices, edges);
   }
 
   @Override
-  public GraphCollection getGraphCollection() {
+  public GraphCollection getGraphCollection() throws IOException {
     return getConfig().getGraphCollectionFactory().fromGraph(getLogicalGraph());
   }
+
+  /**
+   * Reads the number of partitions from the meta data file.
+   *
+   * @return number of partitions, 0 if the files are not partitioned
+   * @throws IOException if the meta data file can not be read
+   */
+  private int readPartitionCount() throws IOException {
+    Path path = new Path(getMetaDataPath());
+    try (FSDataInputStream in = path.getFileSystem().open(path)) {
+      return MetaData.fromInputStream(in).getPartitionCount();
+    }
+  }
 }
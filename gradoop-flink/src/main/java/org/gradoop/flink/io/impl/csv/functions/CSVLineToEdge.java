@@ -27,7 +27,10 @@ import org.gradoop.flink.io.impl.csv.metadata.MetaData;
  * The string needs to be encoded in the following format:
  *
  * edge-id;source-id;target-id;edge-label;value_1|value_2|...|value_n
+ *
+ * @deprecated use {@link org.gradoop.flink.io.impl.csv.inputformats.CSVEdgeInputFormat}
  */
+@Deprecated
 public class CSVLineToEdge extends CSVLineToElement<Edge> {
   /**
    * Used to instantiate the edge.
@@ -24,7 +24,10 @@ import org.gradoop.flink.io.impl.csv.CSVDataSource;
 import org.gradoop.flink.io.impl.csv.metadata.MetaData;
 import org.gradoop.flink.io.impl.csv.metadata.MetaDataParser;
 import org.gradoop.flink.io.impl.csv.metadata.PropertyMetaData;
+import org.gradoop.flink.io.impl.csv.metadata.PropertyValueCodec;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.regex.Pattern;
 
@@ -33,16 +36,19 @@ import java.util.regex.Pattern;
  * required to parse the property values.
  *
  * @param <E> EPGM element type
+ * @deprecated {@link CSVDataSource} parses elements directly from the input split bytes, see
+ * {@link org.gradoop.flink.io.impl.csv.inputformats.CSVElementInputFormat}
  */
+@Deprecated
 abstract class CSVLineToElement<E extends Element> extends RichMapFunction<String, E> {
   /**
-   * Stores the properties for the {@link Element} to be parsed.
+   * Property value delimiter as byte
    */
-  private final Properties properties;
+  private static final byte VALUE_DELIMITER = (byte) CSVConstants.VALUE_DELIMITER.charAt(0);
   /**
-   * Needed for splitting the input.
+   * Stores the properties for the {@link Element} to be parsed.
    */
-  private final String valueDelimiter = Pattern.quote(CSVConstants.VALUE_DELIMITER);
+  private final Properties properties;
   /**
    * Meta data that provides parsers for a specific {@link Element}.
    */
@@ -69,16 +75,23 @@ abstract class CSVLineToElement<E extends Element> extends RichMapFunction<Strin
    * @param label element label
    * @param propertyValueString string representation of elements' property values
    * @return parsed properties
+   * @throws IOException if the property values do not match the meta data
    */
-  Properties parseProperties(String label, String propertyValueString) {
-    String[] propertyValues = propertyValueString.split(valueDelimiter);
+  Properties parseProperties(String label, String propertyValueString) throws IOException {
+    byte[] bytes = propertyValueString.getBytes(StandardCharsets.UTF_8);
     List<PropertyMetaData> metaDataList = metaData.getPropertyMetaData(label);
     properties.clear();
-    for (int i = 0; i < propertyValues.length; i++) {
-      if (propertyValues[i].length() > 0) {
+    int valueStart = 0;
+    for (int i = 0; valueStart <= bytes.length; i++) {
+      // only list and map values may contain unescaped delimiters
+      int valueEnd = i < metaDataList.size() ?
+        metaDataList.get(i).getCodec().valueEnd(bytes, valueStart, bytes.length, VALUE_DELIMITER) :
+        PropertyValueCodec.nextDelimiter(bytes, valueStart, bytes.length, VALUE_DELIMITER, false);
+      if (valueEnd > valueStart) {
         properties.set(metaDataList.get(i).getKey(),
-          metaDataList.get(i).getValueParser().apply(propertyValues[i]));
+          metaDataList.get(i).getCodec().parse(bytes, valueStart, valueEnd));
       }
+      valueStart = valueEnd + 1;
     }
     return properties;
   }
@@ -28,7 +28,10 @@ import org.gradoop.flink.io.impl.csv.metadata.MetaData;
  * The string needs to be encoded in the following format:
  *
  * vertex-id;vertex-label;value_1|value_2|...|value_n
+ *
+ * @deprecated use {@link org.gradoop.flink.io.impl.csv.inputformats.CSVVertexInputFormat}
  */
+@Deprecated
 public class CSVLineToVertex extends CSVLineToElement<Vertex> {
   /**
    * Used to instantiate the vertex.
@@ -19,12 +19,12 @@ import org.apache.flink.api.common.functions.RichMapFunction;
 import org.apache.flink.api.java.tuple.Tuple;
 import org.apache.flink.configuration.Configuration;
 import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.io.impl.csv.CSVConstants;
 import org.gradoop.flink.io.impl.csv.CSVDataSource;
 import org.gradoop.flink.io.impl.csv.metadata.MetaData;
 import org.gradoop.flink.io.impl.csv.metadata.MetaDataParser;
-
-import java.util.stream.Collectors;
+import org.gradoop.flink.io.impl.csv.metadata.PropertyMetaData;
 
 /**
  * Base class to convert an EPGM element into a CSV representation.
@@ -34,13 +34,13 @@ import java.util.stream.Collectors;
  */
 public abstract class ElementToCSV<E extends Element, T extends Tuple> extends RichMapFunction<E , T> {
   /**
-   * Constant for an empty string.
+   * Meta data that provides the property value codecs for a specific {@link Element}.
    */
-  private static final String EMPTY_STRING = "";
+  private MetaData metaData;
   /**
-   * Meta data that provides parsers for a specific {@link Element}.
+   * Reused to build the property value string.
    */
-  private MetaData metaData;
+  private final StringBuilder builder = new StringBuilder();
 
   @Override
   public void open(Configuration parameters) throws Exception {
@@ -51,14 +51,24 @@ public abstract class ElementToCSV<E extends Element, T extends Tuple> extends R
 
   /**
    * Returns the concatenated property values of the specified element according to the meta data.
+   * Each value is formatted by the codec of its column, unset properties are left empty.
    *
    * @param element EPGM element
    * @return property value string
    */
   String getPropertyString(E element) {
-    return metaData.getPropertyMetaData(element.getLabel()).stream()
-      .map(metaData -> element.getPropertyValue(metaData.getKey()))
-      .map(value -> value == null ? EMPTY_STRING : value.toString())
-      .collect(Collectors.joining(CSVConstants.VALUE_DELIMITER));
+    builder.setLength(0);
+    boolean first = true;
+    for (PropertyMetaData propertyMetaData : metaData.getPropertyMetaData(element.getLabel())) {
+      if (!first) {
+        builder.append(CSVConstants.VALUE_DELIMITER);
+      }
+      PropertyValue value = element.getPropertyValue(propertyMetaData.getKey());
+      if (value != null) {
+        propertyMetaData.getCodec().format(value, builder);
+      }
+      first = false;
+    }
+    return builder.toString();
   }
 }
@@ -15,26 +15,34 @@
  */
 package org.gradoop.flink.io.impl.csv.indexed;
 
+import org.apache.flink.api.common.typeinfo.TypeInformation;
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.ExecutionEnvironment;
 import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
 import org.apache.hadoop.conf.Configuration;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.EdgeFactory;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.common.model.impl.pojo.VertexFactory;
-import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.api.FilterableDataSource;
+import org.gradoop.flink.io.api.PropertyRange;
+import org.gradoop.flink.io.api.ReadSpecification;
 import org.gradoop.flink.io.impl.csv.CSVBase;
-import org.gradoop.flink.io.impl.csv.functions.CSVLineToEdge;
-import org.gradoop.flink.io.impl.csv.functions.CSVLineToVertex;
+import org.gradoop.flink.io.impl.csv.inputformats.CSVEdgeInputFormat;
+import org.gradoop.flink.io.impl.csv.inputformats.CSVVertexInputFormat;
 import org.gradoop.flink.io.impl.csv.metadata.MetaData;
+import org.gradoop.flink.io.impl.csv.metadata.PropertyMetaData;
 import org.gradoop.flink.model.api.epgm.GraphCollection;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -48,12 +56,20 @@ import java.util.stream.Collectors;
  *   |- knows.csv      # contains all edges with label 'knows'
  *   |- studyAy.csv    # contains all edges with label 'studyAt'
  *   |- metadata.csv   # Meta data for all data contained in the graph
+ *
+ * The source applies a {@link ReadSpecification}: files of labels which are not required or which
+ * lack a property restricted by a range are not read at all, the remaining files are filtered
+ * like in {@link org.gradoop.flink.io.impl.csv.CSVDataSource}.
  */
-public class IndexedCSVDataSource extends CSVBase implements DataSource {
+public class IndexedCSVDataSource extends CSVBase implements FilterableDataSource {
   /**
    * HDFS Configuration
    */
   private final Configuration hdfsConfig;
+  /**
+   * Specifies the vertices, edges and properties to read
+   */
+  private ReadSpecification readSpecification = new ReadSpecification();
 
   /**
    * Creates a new data source. The constructor creates a default HDFS configuration.
@@ -81,6 +97,16 @@ public class IndexedCSVDataSource extends CSVBase implements DataSource {
     this.hdfsConfig = hdfsConf;
   }
 
+  @Override
+  public void setReadSpecification(ReadSpecification readSpecification) {
+    this.readSpecification = Objects.requireNonNull(readSpecification);
+  }
+
+  @Override
+  public ReadSpecification getReadSpecification() {
+    return readSpecification;
+  }
+
   @Override
   public LogicalGraph getLogicalGraph() throws IOException {
     MetaData metaData = MetaData.fromFile(getMetaDataPath(), hdfsConfig);
@@ -89,21 +115,50 @@ public class IndexedCSVDataSource extends CSVBase implements DataSource {
     VertexFactory vertexFactory = getConfig().getVertexFactory();
     EdgeFactory edgeFactory = getConfig().getEdgeFactory();
 
+    TypeInformation<Vertex> vertexTypeInfo = TypeExtractor.createTypeInfo(vertexFactory.getType());
+    TypeInformation<Edge> edgeTypeInfo = TypeExtractor.createTypeInfo(edgeFactory.getType());
+
+    // files of labels which are not required are replaced by empty data sets
     Map<String, DataSet<Vertex>> vertices = metaData.getVertexLabels().stream()
-      .map(l -> Tuple2.of(l, env.readTextFile(getVertexCSVPath(l))
-        .map(new CSVLineToVertex(vertexFactory))
-        .withBroadcastSet(MetaData.fromFile(getMetaDataPath(), getConfig()), BC_METADATA)))
+      .map(l -> Tuple2.of(l, isRequired(metaData, l, readSpecification.isVertexLabelRequired(l),
+        readSpecification.getVertexRanges()) ?
+        env.createInput(new CSVVertexInputFormat(getVertexCSVPath(l), getMetaDataPath(),
+          vertexFactory, readSpecification), vertexTypeInfo) :
+        env.fromCollection(Collections.<Vertex>emptyList(), vertexTypeInfo)))
       .collect(Collectors.toMap(t -> t.f0, t -> t.f1));
 
     Map<String, DataSet<Edge>> edges = metaData.getEdgeLabels().stream()
-      .map(l -> Tuple2.of(l, env.readTextFile(getEdgeCSVPath(l))
-        .map(new CSVLineToEdge(edgeFactory))
-        .withBroadcastSet(MetaData.fromFile(getMetaDataPath(), getConfig()), BC_METADATA)))
+      .map(l -> Tuple2.of(l, isRequired(metaData, l, readSpecification.isEdgeLabelRequired(l),
+        readSpecification.getEdgeRanges()) ?
+        env.createInput(new CSVEdgeInputFormat(getEdgeCSVPath(l), getMetaDataPath(),
+          edgeFactory, readSpecification), edgeTypeInfo) :
+        env.fromCollection(Collections.<Edge>emptyList(), edgeTypeInfo)))
       .collect(Collectors.toMap(t -> t.f0, t -> t.f1));
 
     return getConfig().getLogicalGraphFactory().fromIndexedDataSets(vertices, edges);
   }
 
+  /**
+   * Checks if the file of the given label needs to be read, i.e. the label is required and the
+   * label has all properties restricted by the ranges.
+   *
+   * @param metaData meta data of the graph
+   * @param label element label
+   * @param labelRequired true, iff the label is required by the read specification
+   * @param ranges property ranges of the read specification
+   * @return true, iff the file of the label needs to be read
+   */
+  private static boolean isRequired(MetaData metaData, String label, boolean labelRequired,
+    List<PropertyRange> ranges) {
+    if (!labelRequired) {
+      return false;
+    }
+    Set<String> keys = metaData.getPropertyMetaData(label).stream()
+      .map(PropertyMetaData::getKey)
+      .collect(Collectors.toSet());
+    return ranges.stream().map(PropertyRange::getKey).allMatch(keys::contains);
+  }
+
   @Override
   public GraphCollection getGraphCollection() throws IOException {
     return getConfig().getGraphCollectionFactory().fromGraph(getLogicalGraph());
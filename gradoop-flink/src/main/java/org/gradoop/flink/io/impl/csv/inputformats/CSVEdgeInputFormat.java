@@ -0,0 +1,101 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.inputformats;
+
+import org.gradoop.common.model.api.entities.EPGMEdgeFactory;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.flink.io.api.ReadSpecification;
+
+import java.io.IOException;
+
+/**
+ * Reads {@link Edge}s from a CSV file.
+ *
+ * The lines need to be encoded in the following format:
+ *
+ * edge-id;source-id;target-id;edge-label;value_1|value_2|...|value_n
+ */
+public class CSVEdgeInputFormat extends CSVElementInputFormat<Edge> {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * Used to instantiate the edge.
+   */
+  private final EPGMEdgeFactory<Edge> edgeFactory;
+
+  /**
+   * Creates a new input format.
+   *
+   * @param filePath path to the edge CSV file
+   * @param metaDataPath path to the meta data file
+   * @param edgeFactory EPGM edge factory
+   */
+  public CSVEdgeInputFormat(String filePath, String metaDataPath,
+    EPGMEdgeFactory<Edge> edgeFactory) {
+    this(filePath, metaDataPath, edgeFactory, new ReadSpecification());
+  }
+
+  /**
+   * Creates a new input format which only reads the edges matching the given read specification.
+   *
+   * @param filePath path to the edge CSV file
+   * @param metaDataPath path to the meta data file
+   * @param edgeFactory EPGM edge factory
+   * @param readSpecification read specification
+   */
+  public CSVEdgeInputFormat(String filePath, String metaDataPath,
+    EPGMEdgeFactory<Edge> edgeFactory, ReadSpecification readSpecification) {
+    super(filePath, metaDataPath, readSpecification.getEdgeLabels(),
+      readSpecification.getEdgePropertyKeys(), readSpecification.getEdgeRanges());
+    this.edgeFactory = edgeFactory;
+  }
+
+  @Override
+  Edge readElement(Edge reuse, byte[] bytes, int offset, int end) throws IOException {
+    int idEnd = nextToken(bytes, offset, end);
+    int sourceEnd = nextToken(bytes, idEnd + 1, end);
+    int targetEnd = nextToken(bytes, sourceEnd + 1, end);
+    int labelEnd = nextToken(bytes, targetEnd + 1, end);
+
+    String label = parseLabel(bytes, targetEnd + 1, labelEnd);
+    if (!isLabelRequired()) {
+      return null;
+    }
+    Properties properties = parseProperties(
+      reuse == null ? null : reuse.getProperties(), bytes, labelEnd + 1, end);
+    if (properties == null) {
+      return null;
+    }
+    GradoopId id = parseId(bytes, offset, idEnd);
+    GradoopId sourceId = parseId(bytes, idEnd + 1, sourceEnd);
+    GradoopId targetId = parseId(bytes, sourceEnd + 1, targetEnd);
+
+    if (reuse == null) {
+      return edgeFactory.initEdge(id, label, sourceId, targetId, properties);
+    }
+    reuse.setId(id);
+    reuse.setLabel(label);
+    reuse.setSourceId(sourceId);
+    reuse.setTargetId(targetId);
+    reuse.setProperties(properties);
+    reuse.setGraphIds(null);
+    return reuse;
+  }
+}
@@ -0,0 +1,392 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.inputformats;
+
+import org.apache.flink.api.common.io.DelimitedInputFormat;
+import org.apache.flink.core.fs.FSDataInputStream;
+import org.apache.flink.core.fs.FileInputSplit;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.io.api.PropertyRange;
+import org.gradoop.flink.io.impl.csv.CSVConstants;
+import org.gradoop.flink.io.impl.csv.metadata.MetaData;
+import org.gradoop.flink.io.impl.csv.metadata.PropertyMetaData;
+import org.gradoop.flink.io.impl.csv.metadata.PropertyValueCodec;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Base class for reading {@link Element}s from CSV files. In contrast to a text input format
+ * followed by a map function, lines are parsed directly from the bytes of the input split:
+ * tokens are located by scanning for the delimiter bytes, identifiers are decoded from their
+ * hexadecimal representation in place and property values are converted into their binary
+ * representation by the {@link PropertyValueCodec}s resolved per label from the
+ * {@link MetaData}, mostly without creating intermediate strings.
+ *
+ * Only elements which may satisfy the given labels and property ranges are returned and only the
+ * requested properties are parsed (see {@link org.gradoop.flink.io.api.ReadSpecification}).
+ *
+ * If object reuse is enabled, the properties of the reused element are reused as well.
+ *
+ * @param <E> EPGM element type
+ */
+public abstract class CSVElementInputFormat<E extends Element> extends DelimitedInputFormat<E> {
+  /**
+   * Token delimiter as byte
+   */
+  private static final byte TOKEN_DELIMITER = (byte) CSVConstants.TOKEN_DELIMITER.charAt(0);
+  /**
+   * Property value delimiter as byte
+   */
+  private static final byte VALUE_DELIMITER = (byte) CSVConstants.VALUE_DELIMITER.charAt(0);
+  /**
+   * Number of characters of a hexadecimal {@link GradoopId} representation
+   */
+  private static final int ID_LENGTH = 2 * GradoopId.ID_SIZE;
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * Path to the meta data file
+   */
+  private final String metaDataPath;
+  /**
+   * Labels to read, {@code null} if all labels shall be read
+   */
+  private final Set<String> labels;
+  /**
+   * Property keys to read, {@code null} if all properties shall be read
+   */
+  private final Set<String> propertyKeys;
+  /**
+   * Ranges which have to be satisfied by all returned elements
+   */
+  private final List<PropertyRange> ranges;
+  /**
+   * Meta data that describes the property values of each label
+   */
+  private transient MetaData metaData;
+  /**
+   * Columns of the labels parsed so far
+   */
+  private transient Map<String, LabelColumns> labelColumns;
+  /**
+   * Bytes of the label parsed last
+   */
+  private transient byte[] lastLabelBytes;
+  /**
+   * Columns of the label parsed last
+   */
+  private transient LabelColumns lastColumns;
+
+  /**
+   * Creates a new input format.
+   *
+   * @param filePath path to the CSV file or directory
+   * @param metaDataPath path to the meta data file
+   * @param labels labels to read, {@code null} to read all labels
+   * @param propertyKeys property keys to read, {@code null} to read all properties
+   * @param ranges ranges which have to be satisfied by all returned elements
+   */
+  CSVElementInputFormat(String filePath, String metaDataPath, Set<String> labels,
+    Set<String> propertyKeys, List<PropertyRange> ranges) {
+    super(new Path(filePath), null);
+    this.metaDataPath = metaDataPath;
+    this.labels = labels == null ? null : new HashSet<>(labels);
+    this.propertyKeys = propertyKeys == null ? null : new HashSet<>(propertyKeys);
+    this.ranges = new ArrayList<>(ranges);
+  }
+
+  @Override
+  public void open(FileInputSplit split) throws IOException {
+    super.open(split);
+    if (metaData == null) {
+      Path path = new Path(metaDataPath);
+      try (FSDataInputStream in = path.getFileSystem().open(path)) {
+        metaData = MetaData.fromInputStream(in);
+      }
+      labelColumns = new HashMap<>();
+    }
+  }
+
+  @Override
+  public E readRecord(E reuse, byte[] bytes, int offset, int numBytes) throws IOException {
+    int end = offset + numBytes;
+    // remove a trailing carriage return written on windows systems
+    if (end > offset && bytes[end - 1] == '\r') {
+      end--;
+    }
+    // skip empty lines
+    if (end == offset) {
+      return null;
+    }
+    return readElement(reuse, bytes, offset, end);
+  }
+
+  /**
+   * Parses an element from the given line.
+   *
+   * @param reuse element that may be reused, might be {@code null}
+   * @param bytes buffer containing the line
+   * @param offset position of the first byte of the line
+   * @param end position after the last byte of the line
+   * @return parsed element or {@code null} if the element is not required
+   * @throws IOException if the line is malformed
+   */
+  abstract E readElement(E reuse, byte[] bytes, int offset, int end) throws IOException;
+
+  /**
+   * Returns the position of the next token delimiter.
+   *
+   * @param bytes buffer
+   * @param offset position to start scanning at
+   * @param end position after the last byte of the line
+   * @return position of the delimiter
+   * @throws IOException if the line contains no further delimiter
+   */
+  static int nextToken(byte[] bytes, int offset, int end) throws IOException {
+    for (int i = offset; i < end; i++) {
+      if (bytes[i] == TOKEN_DELIMITER) {
+        return i;
+      }
+    }
+    throw new IOException("Missing token in line: " + new String(bytes, offset, end - offset,
+      StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decodes the identifier ranging from {@code offset} to {@code end}.
+   *
+   * @param bytes buffer
+   * @param offset position of the first character
+   * @param end position after the last character
+   * @return identifier
+   * @throws IOException if the token is no valid identifier
+   */
+  static GradoopId parseId(byte[] bytes, int offset, int end) throws IOException {
+    if (end - offset != ID_LENGTH) {
+      throw new IOException("Invalid identifier: " + new String(bytes, offset, end - offset,
+        StandardCharsets.UTF_8));
+    }
+    try {
+      return GradoopId.fromHexBytes(bytes, offset);
+    } catch (IllegalArgumentException e) {
+      throw new IOException(e);
+    }
+  }
+
+  /**
+   * Decodes the label ranging from {@code offset} to {@code end}. As files usually contain many
+   * elements with the same label, the label of the previous call is returned if the bytes are
+   * equal.
+   *
+   * @param bytes buffer
+   * @param offset position of the first byte
+   * @param end position after the last byte
+   * @return label
+   */
+  String parseLabel(byte[] bytes, int offset, int end) {
+    int length = end - offset;
+    if (lastLabelBytes != null && lastLabelBytes.length == length &&
+      equalBytes(lastLabelBytes, bytes, offset)) {
+      return lastColumns.label;
+    }
+    lastLabelBytes = Arrays.copyOfRange(bytes, offset, end);
+    String label = new String(lastLabelBytes, StandardCharsets.UTF_8);
+    lastColumns = labelColumns.computeIfAbsent(label, this::createLabelColumns);
+    return label;
+  }
+
+  /**
+   * Checks if elements with the label parsed last may satisfy the read specification, i.e. the
+   * label is required and the label has all properties restricted by ranges.
+   *
+   * @return true, iff elements with the label may be required
+   */
+  boolean isLabelRequired() {
+    return lastColumns.required;
+  }
+
+  /**
+   * Parses the property values ranging from {@code offset} to {@code end} according to the meta
+   * data of the label parsed last. Only the required properties are parsed and the element is
+   * rejected if a property value lies outside of its ranges.
+   *
+   * @param reuse properties that can be reused, might be {@code null}
+   * @param bytes buffer
+   * @param offset position of the first byte
+   * @param end position after the last byte
+   * @return properties or {@code null} if the element does not satisfy the ranges
+   * @throws IOException if the property values do not match the meta data
+   */
+  Properties parseProperties(Properties reuse, byte[] bytes, int offset, int end)
+    throws IOException {
+    LabelColumns columns = lastColumns;
+    if (columns.keys == null) {
+      throw new IOException("No meta data available for label: " + columns.label);
+    }
+
+    Properties properties;
+    if (reuse != null) {
+      properties = reuse;
+      properties.clear();
+    } else {
+      properties = Properties.createWithCapacity(columns.keys.length);
+    }
+
+    int satisfiedRanges = 0;
+    int valueStart = offset;
+    int index = 0;
+    while (valueStart <= end) {
+      // only list and map values may contain unescaped delimiters, i.e. each column's codec
+      // finds the end of its value
+      int valueEnd = index < columns.codecs.length ?
+        columns.codecs[index].valueEnd(bytes, valueStart, end, VALUE_DELIMITER) :
+        PropertyValueCodec.nextDelimiter(bytes, valueStart, end, VALUE_DELIMITER, false);
+      if (valueEnd > valueStart) {
+        if (index >= columns.keys.length) {
+          throw new IOException("Too many property values for label: " + columns.label);
+        }
+        if (columns.projected[index] || columns.ranges[index] != null) {
+          PropertyValue value = columns.codecs[index].parse(bytes, valueStart, valueEnd);
+          if (columns.ranges[index] != null) {
+            for (PropertyRange range : columns.ranges[index]) {
+              if (!range.contains(value)) {
+                return null;
+              }
+              satisfiedRanges++;
+            }
+          }
+          if (columns.projected[index]) {
+            properties.set(columns.keys[index], value);
+          }
+        }
+      }
+      valueStart = valueEnd + 1;
+      index++;
+    }
+    // an unset property does not satisfy its ranges
+    return satisfiedRanges == ranges.size() ? properties : null;
+  }
+
+  /**
+   * Derives the columns to parse for the given label from the meta data and the read
+   * specification.
+   *
+   * @param label element label
+   * @return label columns
+   */
+  private LabelColumns createLabelColumns(String label) {
+    LabelColumns columns = new LabelColumns(label);
+    List<PropertyMetaData> propertyMetaData = metaData.getPropertyMetaData(label);
+    if (propertyMetaData == null) {
+      columns.required = false;
+      return columns;
+    }
+
+    int size = propertyMetaData.size();
+    columns.keys = new String[size];
+    columns.codecs = new PropertyValueCodec[size];
+    columns.projected = new boolean[size];
+    columns.ranges = new PropertyRange[size][];
+
+    int rangeColumns = 0;
+    for (int i = 0; i < size; i++) {
+      String key = propertyMetaData.get(i).getKey();
+      columns.keys[i] = key;
+      columns.codecs[i] = propertyMetaData.get(i).getCodec();
+      columns.projected[i] = propertyKeys == null || propertyKeys.contains(key);
+      PropertyRange[] keyRanges = ranges.stream()
+        .filter(range -> range.getKey().equals(key))
+        .toArray(PropertyRange[]::new);
+      if (keyRanges.length > 0) {
+        columns.ranges[i] = keyRanges;
+        rangeColumns += keyRanges.length;
+      }
+    }
+    columns.required = (labels == null || labels.contains(label)) &&
+      rangeColumns == ranges.size();
+    return columns;
+  }
+
+  /**
+   * Describes how the property values of a label are parsed.
+   */
+  private static class LabelColumns {
+    /**
+     * Element label
+     */
+    private final String label;
+    /**
+     * True, if elements with this label may be required
+     */
+    private boolean required = true;
+    /**
+     * Property key of each column, {@code null} if the label has no meta data
+     */
+    private String[] keys;
+    /**
+     * Codec of each column, resolved once from the property type
+     */
+    private PropertyValueCodec[] codecs;
+    /**
+     * True, if the column is contained in the returned properties
+     */
+    private boolean[] projected;
+    /**
+     * Ranges on each column, {@code null} if the column is not restricted
+     */
+    private PropertyRange[][] ranges;
+
+    /**
+     * Creates the columns of a label.
+     *
+     * @param label element label
+     */
+    LabelColumns(String label) {
+      this.label = label;
+    }
+  }
+
+  /**
+   * Checks if the given array equals the bytes at the given offset of the buffer.
+   *
+   * @param expected expected bytes
+   * @param bytes buffer
+   * @param offset position of the first byte
+   * @return true, if the bytes are equal
+   */
+  private static boolean equalBytes(byte[] expected, byte[] bytes, int offset) {
+    for (int i = 0; i < expected.length; i++) {
+      if (expected[i] != bytes[offset + i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
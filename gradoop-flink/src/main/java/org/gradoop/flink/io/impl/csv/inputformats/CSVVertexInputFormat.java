@@ -0,0 +1,95 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.inputformats;
+
+import org.gradoop.common.model.api.entities.EPGMVertexFactory;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.flink.io.api.ReadSpecification;
+
+import java.io.IOException;
+
+/**
+ * Reads {@link Vertex}s from a CSV file.
+ *
+ * The lines need to be encoded in the following format:
+ *
+ * vertex-id;vertex-label;value_1|value_2|...|value_n
+ */
+public class CSVVertexInputFormat extends CSVElementInputFormat<Vertex> {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * Used to instantiate the vertex.
+   */
+  private final EPGMVertexFactory<Vertex> vertexFactory;
+
+  /**
+   * Creates a new input format.
+   *
+   * @param filePath path to the vertex CSV file
+   * @param metaDataPath path to the meta data file
+   * @param vertexFactory EPGM vertex factory
+   */
+  public CSVVertexInputFormat(String filePath, String metaDataPath,
+    EPGMVertexFactory<Vertex> vertexFactory) {
+    this(filePath, metaDataPath, vertexFactory, new ReadSpecification());
+  }
+
+  /**
+   * Creates a new input format which only reads the vertexs matching the given read specification.
+   *
+   * @param filePath path to the vertex CSV file
+   * @param metaDataPath path to the meta data file
+   * @param vertexFactory EPGM vertex factory
+   * @param readSpecification read specification
+   */
+  public CSVVertexInputFormat(String filePath, String metaDataPath,
+    EPGMVertexFactory<Vertex> vertexFactory, ReadSpecification readSpecification) {
+    super(filePath, metaDataPath, readSpecification.getVertexLabels(),
+      readSpecification.getVertexPropertyKeys(), readSpecification.getVertexRanges());
+    this.vertexFactory = vertexFactory;
+  }
+
+  @Override
+  Vertex readElement(Vertex reuse, byte[] bytes, int offset, int end) throws IOException {
+    int idEnd = nextToken(bytes, offset, end);
+    int labelEnd = nextToken(bytes, idEnd + 1, end);
+
+    String label = parseLabel(bytes, idEnd + 1, labelEnd);
+    if (!isLabelRequired()) {
+      return null;
+    }
+    Properties properties = parseProperties(
+      reuse == null ? null : reuse.getProperties(), bytes, labelEnd + 1, end);
+    if (properties == null) {
+      return null;
+    }
+    GradoopId id = parseId(bytes, offset, idEnd);
+
+    if (reuse == null) {
+      return vertexFactory.initVertex(id, label, properties);
+    }
+    reuse.setId(id);
+    reuse.setLabel(label);
+    reuse.setProperties(properties);
+    reuse.setGraphIds(null);
+    return reuse;
+  }
+}
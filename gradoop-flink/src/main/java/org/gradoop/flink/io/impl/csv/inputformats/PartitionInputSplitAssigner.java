@@ -0,0 +1,49 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.inputformats;
+
+import org.apache.flink.core.io.InputSplit;
+import org.apache.flink.core.io.InputSplitAssigner;
+
+/**
+ * Assigns the input split with number {@code i} to the parallel task with index {@code i}. Each
+ * split is assigned exactly once.
+ */
+class PartitionInputSplitAssigner implements InputSplitAssigner {
+  /**
+   * Splits which have not been assigned yet, indexed by split number
+   */
+  private final InputSplit[] splits;
+
+  /**
+   * Creates a new assigner.
+   *
+   * @param splits input splits, the split number needs to equal the array index
+   */
+  PartitionInputSplitAssigner(InputSplit[] splits) {
+    this.splits = splits.clone();
+  }
+
+  @Override
+  public synchronized InputSplit getNextInputSplit(String host, int taskId) {
+    if (taskId < 0 || taskId >= splits.length) {
+      return null;
+    }
+    InputSplit split = splits[taskId];
+    splits[taskId] = null;
+    return split;
+  }
+}
@@ -0,0 +1,170 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.inputformats;
+
+import org.apache.flink.api.common.io.FileInputFormat;
+import org.apache.flink.api.common.io.InputFormat;
+import org.apache.flink.api.common.io.statistics.BaseStatistics;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.core.fs.BlockLocation;
+import org.apache.flink.core.fs.FileInputSplit;
+import org.apache.flink.core.fs.FileStatus;
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
+import org.apache.flink.core.io.InputSplitAssigner;
+
+import java.io.IOException;
+
+/**
+ * Reads a file which has been written in partitions, i.e., a directory containing the files
+ * {@code 1} to {@code n} as created by a data sink with parallelism {@code n}. Each file is read
+ * as a whole by the parallel task with index {@code i - 1}, hence the partitioning of the written
+ * data is retained and can be declared to Flink via
+ * {@link org.apache.flink.api.java.io.SplitDataProperties}. A single file is treated as one
+ * partition. The data source needs to have a parallelism of {@code n}.
+ *
+ * Records are read by the given file input format.
+ *
+ * @param <T> record type
+ */
+public class PartitionedFileInputFormat<T> implements InputFormat<T, FileInputSplit> {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * Format used to read the records of each partition
+   */
+  private final FileInputFormat<T> format;
+  /**
+   * Number of partitions
+   */
+  private final int partitionCount;
+
+  /**
+   * Creates a new input format.
+   *
+   * @param format format used to read the records of each partition
+   * @param partitionCount number of partitions
+   */
+  public PartitionedFileInputFormat(FileInputFormat<T> format, int partitionCount) {
+    if (partitionCount < 1) {
+      throw new IllegalArgumentException("partition count must be positive");
+    }
+    this.format = format;
+    this.partitionCount = partitionCount;
+  }
+
+  @Override
+  public void configure(Configuration parameters) {
+    format.configure(parameters);
+  }
+
+  @Override
+  public BaseStatistics getStatistics(BaseStatistics cachedStatistics) throws IOException {
+    return format.getStatistics(cachedStatistics);
+  }
+
+  /**
+   * Creates one split per partition file, independent of the given minimum number of splits. The
+   * split number equals the partition index.
+   *
+   * @param minNumSplits minimum number of splits (ignored)
+   * @return input splits
+   * @throws IOException if the number of files does not match the number of partitions
+   */
+  @Override
+  public FileInputSplit[] createInputSplits(int minNumSplits) throws IOException {
+    Path path = format.getFilePath();
+    FileSystem fs = path.getFileSystem();
+    FileStatus status = fs.getFileStatus(path);
+
+    FileInputSplit[] splits = new FileInputSplit[partitionCount];
+    if (!status.isDir()) {
+      splits[0] = createSplit(fs, status, 0);
+    } else {
+      for (FileStatus file : fs.listStatus(path)) {
+        String name = file.getPath().getName();
+        if (file.isDir() || name.startsWith(".") || name.startsWith("_")) {
+          continue;
+        }
+        int partition;
+        try {
+          partition = Integer.parseInt(name) - 1;
+        } catch (NumberFormatException e) {
+          throw new IOException("Unexpected file in partitioned input: " + file.getPath());
+        }
+        if (partition < 0 || partition >= partitionCount || splits[partition] != null) {
+          throw new IOException("Unexpected file in partitioned input: " + file.getPath());
+        }
+        splits[partition] = createSplit(fs, file, partition);
+      }
+    }
+
+    for (int i = 0; i < partitionCount; i++) {
+      if (splits[i] == null) {
+        throw new IOException("Missing partition " + (i + 1) + " of " + path);
+      }
+    }
+    return splits;
+  }
+
+  @Override
+  public InputSplitAssigner getInputSplitAssigner(FileInputSplit[] inputSplits) {
+    return new PartitionInputSplitAssigner(inputSplits);
+  }
+
+  @Override
+  public void open(FileInputSplit split) throws IOException {
+    format.open(split);
+  }
+
+  @Override
+  public boolean reachedEnd() throws IOException {
+    return format.reachedEnd();
+  }
+
+  @Override
+  public T nextRecord(T reuse) throws IOException {
+    return format.nextRecord(reuse);
+  }
+
+  @Override
+  public void close() throws IOException {
+    format.close();
+  }
+
+  /**
+   * Creates a split covering the whole given file.
+   *
+   * @param fs file system
+   * @param file partition file
+   * @param partition partition index
+   * @return input split
+   * @throws IOException if the block locations can not be determined
+   */
+  private FileInputSplit createSplit(FileSystem fs, FileStatus file, int partition)
+    throws IOException {
+    String[] hosts = new String[0];
+    if (file.getLen() > 0) {
+      BlockLocation[] blocks = fs.getFileBlockLocations(file, 0, file.getLen());
+      if (blocks.length > 0) {
+        hosts = blocks[0].getHosts();
+      }
+    }
+    return new FileInputSplit(partition, file.getPath(), 0, file.getLen(), hosts);
+  }
+}
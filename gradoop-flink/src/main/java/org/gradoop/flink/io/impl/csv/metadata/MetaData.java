@@ -26,6 +26,7 @@ import org.gradoop.flink.util.GradoopFlinkConfig;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.Charset;
 import java.util.List;
@@ -37,18 +38,29 @@ import java.util.stream.Collectors;
  * Describes the data stored in the vertex and edge CSV files.
  */
 public class MetaData {
+  /**
+   * Label of the meta data entry storing the number of partitions the vertex and edge files are
+   * split into. Vertices are hash-partitioned and sorted by id, edges by source id.
+   */
+  public static final String PARTITION_COUNT_ENTRY = "_partitions";
   /**
    * Mapping between an element label and its associated property meta data.
    */
   private Map<String, List<PropertyMetaData>> metaData;
+  /**
+   * Number of partitions of the vertex and edge files, 0 if they are not partitioned.
+   */
+  private int partitionCount;
 
   /**
    * Constructor
    *
    * @param metaData meta data
+   * @param partitionCount number of partitions, 0 if the files are not partitioned
    */
-  MetaData(Map<String, List<PropertyMetaData>> metaData) {
+  MetaData(Map<String, List<PropertyMetaData>> metaData, int partitionCount) {
     this.metaData = metaData;
+    this.partitionCount = partitionCount;
   }
 
   /**
@@ -81,16 +93,27 @@ public class MetaData {
   public static MetaData fromFile(String path, Configuration hdfsConfig) throws IOException {
     FileSystem fs = FileSystem.get(hdfsConfig);
     Path file = new Path(path);
-    Charset charset = Charset.forName("UTF-8");
 
-    try (BufferedReader br = new BufferedReader(new InputStreamReader(fs.open(file), charset))) {
-      return MetaDataParser.create(br.lines()
-        .map(line -> line.split(CSVConstants.TOKEN_DELIMITER, 2))
-        .map(tokens -> Tuple2.of(tokens[0], tokens[1]))
-        .collect(Collectors.toList()));
+    try (InputStream in = fs.open(file)) {
+      return fromInputStream(in);
     }
   }
 
+  /**
+   * Reads the meta data from the given stream. The stream is not closed.
+   *
+   * @param in input stream providing the content of a metadata csv file
+   * @return meta data
+   */
+  public static MetaData fromInputStream(InputStream in) {
+    Charset charset = Charset.forName("UTF-8");
+    BufferedReader br = new BufferedReader(new InputStreamReader(in, charset));
+    return MetaDataParser.create(br.lines()
+      .map(line -> line.split(CSVConstants.TOKEN_DELIMITER, 2))
+      .map(tokens -> Tuple2.of(tokens[0], tokens[1]))
+      .collect(Collectors.toList()));
+  }
+
   /**
    * Returns the vertex labels available in the meta data.
    *
@@ -113,6 +136,17 @@ public class MetaData {
       .collect(Collectors.toSet());
   }
 
+  /**
+   * Returns the number of partitions the vertex and edge files are split into. If the files are
+   * partitioned, file {@code i} contains the vertices with {@code hash(id) % n == i - 1} sorted by
+   * id and the edges with {@code hash(sourceId) % n == i - 1} sorted by source id.
+   *
+   * @return number of partitions, 0 if the files are not partitioned
+   */
+  public int getPartitionCount() {
+    return partitionCount;
+  }
+
   /**
    * Returns the property meta data associated with the specified label.
    *
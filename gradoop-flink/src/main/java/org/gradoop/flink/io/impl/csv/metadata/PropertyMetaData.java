@@ -15,10 +15,10 @@
  */
 package org.gradoop.flink.io.impl.csv.metadata;
 
-import java.util.function.Function;
+import org.gradoop.common.model.impl.properties.PropertyValue;
 
 /**
- * Stores the meta data for a property which is the property key and a property value parser.
+ * Stores the meta data for a property which is the property key and the codec for its type.
  */
 public class PropertyMetaData {
   /**
@@ -26,19 +26,19 @@ public class PropertyMetaData {
    */
   private String key;
   /**
-   * A function that parses a string to the typed property value
+   * Parses and formats the property values
    */
-  private Function<String, Object> valueParser;
+  private PropertyValueCodec codec;
 
   /**
    * Constructor.
    *
    * @param key property key
-   * @param valueParser property value parser
+   * @param codec property value codec
    */
-  public PropertyMetaData(String key, Function<String, Object> valueParser) {
+  public PropertyMetaData(String key, PropertyValueCodec codec) {
     this.key = key;
-    this.valueParser = valueParser;
+    this.codec = codec;
   }
 
   /**
@@ -51,11 +51,20 @@ public class PropertyMetaData {
   }
 
   /**
-   * Returns a parser for the property value.
+   * Returns the property value type, i.e. one of the {@link PropertyValue} type bytes.
    *
-   * @return value parser
+   * @return property value type
    */
-  public Function<String, Object> getValueParser() {
-    return valueParser;
+  public byte getType() {
+    return codec.getType();
+  }
+
+  /**
+   * Returns the codec which parses and formats the property values.
+   *
+   * @return value codec
+   */
+  public PropertyValueCodec getCodec() {
+    return codec;
   }
 }
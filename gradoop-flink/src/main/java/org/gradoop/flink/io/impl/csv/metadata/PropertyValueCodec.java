@@ -0,0 +1,1037 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.metadata;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converts property values of a single type from and into their CSV representation. A codec is
+ * resolved once per property column from its type string, so values are parsed and formatted
+ * without dispatching on their type.
+ *
+ * Type strings of lists and maps contain the types of their elements, e.g. {@code list:string}
+ * or {@code map:string:list:int}. Lists are written as {@code [a,b]} and maps as
+ * {@code {k=v,k=v}}. Characters with a structural meaning are escaped by a backslash within
+ * strings, line breaks are written as {@code \n} and {@code \r}. {@code \N} denotes a
+ * {@code null} value and {@code \E} the empty string, which would otherwise not be
+ * distinguishable from an unset property or an empty collection.
+ */
+public abstract class PropertyValueCodec {
+  /**
+   * Escapes the following character
+   */
+  private static final byte ESCAPE = '\\';
+  /**
+   * Escaped representation of a {@code null} value
+   */
+  private static final byte NULL = 'N';
+  /**
+   * Escaped representation of the empty string
+   */
+  private static final byte EMPTY = 'E';
+  /**
+   * Starts a list
+   */
+  private static final byte LIST_START = '[';
+  /**
+   * Ends a list
+   */
+  private static final byte LIST_END = ']';
+  /**
+   * Starts a map
+   */
+  private static final byte MAP_START = '{';
+  /**
+   * Ends a map
+   */
+  private static final byte MAP_END = '}';
+  /**
+   * Separates list elements and map entries
+   */
+  private static final byte ELEMENT_DELIMITER = ',';
+  /**
+   * Separates the key and the value of a map entry
+   */
+  private static final byte KEY_VALUE_DELIMITER = '=';
+  /**
+   * Separates the tokens of a type string
+   */
+  private static final String TYPE_DELIMITER = ":";
+  /**
+   * Codec for {@code null} values
+   */
+  private static final PropertyValueCodec NULL_CODEC = new NullCodec();
+  /**
+   * Codec for {@code boolean} values
+   */
+  private static final PropertyValueCodec BOOLEAN_CODEC = new BooleanCodec();
+  /**
+   * Codec for {@code int} values
+   */
+  private static final PropertyValueCodec INTEGER_CODEC = new IntegerCodec();
+  /**
+   * Codec for {@code long} values
+   */
+  private static final PropertyValueCodec LONG_CODEC = new LongCodec();
+  /**
+   * Codec for {@code float} values
+   */
+  private static final PropertyValueCodec FLOAT_CODEC = new FloatCodec();
+  /**
+   * Codec for {@code double} values
+   */
+  private static final PropertyValueCodec DOUBLE_CODEC = new DoubleCodec();
+  /**
+   * Codec for {@code String} values
+   */
+  private static final PropertyValueCodec STRING_CODEC = new StringCodec();
+  /**
+   * Codec for {@code BigDecimal} values
+   */
+  private static final PropertyValueCodec BIG_DECIMAL_CODEC = new BigDecimalCodec();
+  /**
+   * Codec for {@code GradoopId} values
+   */
+  private static final PropertyValueCodec GRADOOP_ID_CODEC = new GradoopIdCodec();
+  /**
+   * Codec for {@code LocalDate} values
+   */
+  private static final PropertyValueCodec DATE_CODEC = new DateCodec();
+  /**
+   * Codec for {@code LocalTime} values
+   */
+  private static final PropertyValueCodec TIME_CODEC = new TimeCodec();
+  /**
+   * Codec for {@code LocalDateTime} values
+   */
+  private static final PropertyValueCodec DATETIME_CODEC = new DateTimeCodec();
+
+  /**
+   * Returns the {@link PropertyValue} type byte of the values handled by this codec.
+   *
+   * @return property value type
+   */
+  public abstract byte getType();
+
+  /**
+   * Returns the type string written to the meta data, e.g. "int" or "list:string".
+   *
+   * @return type string
+   */
+  public abstract String getTypeString();
+
+  /**
+   * Parses the value ranging from {@code offset} to {@code end}.
+   *
+   * @param bytes buffer
+   * @param offset position of the first byte
+   * @param end position after the last byte
+   * @return property value
+   * @throws IOException if the bytes do not represent a value of this type
+   */
+  public PropertyValue parse(byte[] bytes, int offset, int end) throws IOException {
+    if (end - offset == 2 && bytes[offset] == ESCAPE && bytes[offset + 1] == NULL) {
+      return PropertyValue.NULL_VALUE;
+    }
+    return parseValue(bytes, offset, end);
+  }
+
+  /**
+   * Parses the given string.
+   *
+   * @param s string representation of the value
+   * @return property value
+   * @throws IOException if the string does not represent a value of this type
+   */
+  public PropertyValue parse(String s) throws IOException {
+    byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+    return parse(bytes, 0, bytes.length);
+  }
+
+  /**
+   * Appends the CSV representation of the given value.
+   *
+   * @param value property value of this type or {@code null} value
+   * @param builder builder to append to
+   */
+  public void format(PropertyValue value, StringBuilder builder) {
+    if (value.isNull()) {
+      builder.append((char) ESCAPE).append((char) NULL);
+    } else {
+      formatValue(value, builder);
+    }
+  }
+
+  /**
+   * Parses the non-null value ranging from {@code offset} to {@code end}.
+   *
+   * @param bytes buffer
+   * @param offset position of the first byte
+   * @param end position after the last byte
+   * @return property value
+   * @throws IOException if the bytes do not represent a value of this type
+   */
+  abstract PropertyValue parseValue(byte[] bytes, int offset, int end) throws IOException;
+
+  /**
+   * Appends the CSV representation of the given non-null value.
+   *
+   * @param value property value of this type
+   * @param builder builder to append to
+   */
+  abstract void formatValue(PropertyValue value, StringBuilder builder);
+
+  /**
+   * Returns the codec for the given type string. Type strings are case insensitive.
+   *
+   * @param typeString type string, e.g. "int" or "map:string:list:double"
+   * @return codec
+   */
+  public static PropertyValueCodec forTypeString(String typeString) {
+    String[] tokens = typeString.toLowerCase().split(TYPE_DELIMITER);
+    int[] position = {0};
+    PropertyValueCodec codec = forTypeTokens(tokens, position, typeString);
+    if (position[0] != tokens.length) {
+      throw new IllegalArgumentException("Type " + typeString + " is not supported");
+    }
+    return codec;
+  }
+
+  /**
+   * Returns the codec for the given property value. The element types of a list or map are
+   * derived from its non-null elements.
+   *
+   * @param value property value
+   * @return codec
+   * @throws IllegalArgumentException if a list or map contains elements of different types
+   */
+  public static PropertyValueCodec forValue(PropertyValue value) {
+    switch (value.getRawBytes()[0]) {
+    case PropertyValue.TYPE_NULL:
+      return NULL_CODEC;
+    case PropertyValue.TYPE_BOOLEAN:
+      return BOOLEAN_CODEC;
+    case PropertyValue.TYPE_INTEGER:
+      return INTEGER_CODEC;
+    case PropertyValue.TYPE_LONG:
+      return LONG_CODEC;
+    case PropertyValue.TYPE_FLOAT:
+      return FLOAT_CODEC;
+    case PropertyValue.TYPE_DOUBLE:
+      return DOUBLE_CODEC;
+    case PropertyValue.TYPE_STRING:
+      return STRING_CODEC;
+    case PropertyValue.TYPE_BIG_DECIMAL:
+      return BIG_DECIMAL_CODEC;
+    case PropertyValue.TYPE_GRADOOP_ID:
+      return GRADOOP_ID_CODEC;
+    case PropertyValue.TYPE_DATE:
+      return DATE_CODEC;
+    case PropertyValue.TYPE_TIME:
+      return TIME_CODEC;
+    case PropertyValue.TYPE_DATETIME:
+      return DATETIME_CODEC;
+    case PropertyValue.TYPE_LIST:
+      PropertyValueCodec elementCodec = NULL_CODEC;
+      for (PropertyValue element : value.getList()) {
+        elementCodec = unifyElements(elementCodec, forValue(element), value);
+      }
+      return new ListCodec(elementCodec);
+    case PropertyValue.TYPE_MAP:
+      PropertyValueCodec keyCodec = NULL_CODEC;
+      PropertyValueCodec valueCodec = NULL_CODEC;
+      for (Map.Entry<PropertyValue, PropertyValue> entry : value.getMap().entrySet()) {
+        keyCodec = unifyElements(keyCodec, forValue(entry.getKey()), value);
+        valueCodec = unifyElements(valueCodec, forValue(entry.getValue()), value);
+      }
+      return new MapCodec(keyCodec, valueCodec);
+    default:
+      throw new IllegalArgumentException("Type " + value.getType() + " is not supported");
+    }
+  }
+
+  /**
+   * Returns a codec that handles the values of both given codecs, i.e. the codecs are equal
+   * except for {@code null} types which are replaced by the type of the other codec.
+   *
+   * @param first first codec
+   * @param second second codec
+   * @return unified codec or {@code null} if the types are not compatible
+   */
+  public static PropertyValueCodec unify(PropertyValueCodec first, PropertyValueCodec second) {
+    if (first.getType() == PropertyValue.TYPE_NULL) {
+      return second;
+    }
+    if (second.getType() == PropertyValue.TYPE_NULL) {
+      return first;
+    }
+    if (first.getType() != second.getType()) {
+      return null;
+    }
+    if (first.getType() == PropertyValue.TYPE_LIST) {
+      PropertyValueCodec elementCodec = unify(
+        ((ListCodec) first).elementCodec, ((ListCodec) second).elementCodec);
+      return elementCodec == null ? null : new ListCodec(elementCodec);
+    }
+    if (first.getType() == PropertyValue.TYPE_MAP) {
+      PropertyValueCodec keyCodec = unify(
+        ((MapCodec) first).keyCodec, ((MapCodec) second).keyCodec);
+      PropertyValueCodec valueCodec = unify(
+        ((MapCodec) first).valueCodec, ((MapCodec) second).valueCodec);
+      return keyCodec == null || valueCodec == null ? null : new MapCodec(keyCodec, valueCodec);
+    }
+    return first;
+  }
+
+  /**
+   * Returns the position of the next unescaped occurrence of the given delimiter after a value of
+   * this codec's type starting at the given offset. Only lists and maps track the nesting of
+   * brackets, so brackets in unescaped values of other types do not affect the split.
+   *
+   * @param bytes buffer
+   * @param offset position of the first byte of the value
+   * @param end position after the last byte
+   * @param delimiter delimiter byte
+   * @return position of the delimiter or {@code end} if there is none
+   * @throws IOException if the value ends with an escape character
+   */
+  public int valueEnd(byte[] bytes, int offset, int end, byte delimiter) throws IOException {
+    return nextDelimiter(bytes, offset, end, delimiter, false);
+  }
+
+  /**
+   * Returns the position of the next unescaped occurrence of the given delimiter.
+   *
+   * @param bytes buffer
+   * @param offset position to start scanning at
+   * @param end position after the last byte
+   * @param delimiter delimiter byte
+   * @param nested true, iff delimiters enclosed by a list or a map shall be skipped
+   * @return position of the delimiter or {@code end} if there is none
+   * @throws IOException if the value ends with an escape character
+   */
+  public static int nextDelimiter(byte[] bytes, int offset, int end, byte delimiter,
+    boolean nested) throws IOException {
+    int depth = 0;
+    for (int i = offset; i < end; i++) {
+      byte b = bytes[i];
+      if (b == ESCAPE) {
+        if (++i == end) {
+          throw invalidValue("escape sequence", bytes, offset, end);
+        }
+      } else if (b == delimiter && depth == 0) {
+        return i;
+      } else if (nested && (b == LIST_START || b == MAP_START)) {
+        depth++;
+      } else if (nested && (b == LIST_END || b == MAP_END)) {
+        depth--;
+      }
+    }
+    return end;
+  }
+
+  /**
+   * Parses a signed decimal long value.
+   *
+   * @param bytes buffer
+   * @param offset position of the first byte
+   * @param end position after the last byte
+   * @return long value
+   * @throws IOException if the bytes do not represent a long value
+   */
+  static long parseLong(byte[] bytes, int offset, int end) throws IOException {
+    int i = offset;
+    boolean negative = false;
+    if (i < end && (bytes[i] == '-' || bytes[i] == '+')) {
+      negative = bytes[i] == '-';
+      i++;
+    }
+    if (i == end) {
+      throw invalidValue("long", bytes, offset, end);
+    }
+    // accumulate negatively to be able to represent Long.MIN_VALUE
+    long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+    long multiplicationLimit = limit / 10;
+    long result = 0;
+    for (; i < end; i++) {
+      int digit = bytes[i] - '0';
+      if (digit < 0 || digit > 9 || result < multiplicationLimit) {
+        throw invalidValue("long", bytes, offset, end);
+      }
+      result *= 10;
+      if (result < limit + digit) {
+        throw invalidValue("long", bytes, offset, end);
+      }
+      result -= digit;
+    }
+    return negative ? result : -result;
+  }
+
+  /**
+   * Reads the codec described by the type tokens starting at the given position.
+   *
+   * @param tokens type tokens
+   * @param position position of the next token, advanced by the consumed tokens
+   * @param typeString complete type string
+   * @return codec
+   */
+  private static PropertyValueCodec forTypeTokens(String[] tokens, int[] position,
+    String typeString) {
+    if (position[0] >= tokens.length) {
+      throw new IllegalArgumentException("Type " + typeString + " is not supported");
+    }
+    String token = tokens[position[0]++];
+    switch (token) {
+    case "null":
+      return NULL_CODEC;
+    case "boolean":
+      return BOOLEAN_CODEC;
+    case "int":
+      return INTEGER_CODEC;
+    case "long":
+      return LONG_CODEC;
+    case "float":
+      return FLOAT_CODEC;
+    case "double":
+      return DOUBLE_CODEC;
+    case "string":
+      return STRING_CODEC;
+    case "bigdecimal":
+      return BIG_DECIMAL_CODEC;
+    case "gradoopid":
+      return GRADOOP_ID_CODEC;
+    case "date":
+      return DATE_CODEC;
+    case "time":
+      return TIME_CODEC;
+    case "datetime":
+      return DATETIME_CODEC;
+    case "list":
+      return new ListCodec(forTypeTokens(tokens, position, typeString));
+    case "map":
+      PropertyValueCodec keyCodec = forTypeTokens(tokens, position, typeString);
+      return new MapCodec(keyCodec, forTypeTokens(tokens, position, typeString));
+    default:
+      throw new IllegalArgumentException("Type " + typeString + " is not supported");
+    }
+  }
+
+  /**
+   * Unifies the codecs of two elements of the same list or map.
+   *
+   * @param first codec of the previous elements
+   * @param second codec of the current element
+   * @param collection list or map containing the elements
+   * @return unified codec
+   */
+  private static PropertyValueCodec unifyElements(PropertyValueCodec first,
+    PropertyValueCodec second, PropertyValue collection) {
+    PropertyValueCodec codec = unify(first, second);
+    if (codec == null) {
+      throw new IllegalArgumentException("Elements of different types are not supported: " +
+        first.getTypeString() + ", " + second.getTypeString() + " in " + collection);
+    }
+    return codec;
+  }
+
+  /**
+   * Creates a string from the given ASCII encoded bytes.
+   *
+   * @param bytes buffer
+   * @param offset position of the first byte
+   * @param end position after the last byte
+   * @return string
+   */
+  private static String asciiString(byte[] bytes, int offset, int end) {
+    return new String(bytes, offset, end - offset, StandardCharsets.ISO_8859_1);
+  }
+
+  /**
+   * Creates the exception thrown for invalid property values.
+   *
+   * @param type expected type
+   * @param bytes buffer
+   * @param offset position of the first byte
+   * @param end position after the last byte
+   * @return exception
+   */
+  private static IOException invalidValue(String type, byte[] bytes, int offset, int end) {
+    return new IOException(String.format("Invalid %s value: %s", type,
+      new String(bytes, offset, end - offset, StandardCharsets.UTF_8)));
+  }
+
+  /**
+   * Checks if the value is enclosed by the given characters.
+   *
+   * @param bytes buffer
+   * @param offset position of the first byte
+   * @param end position after the last byte
+   * @param start expected first byte
+   * @param last expected last byte
+   * @param type type name used in the error message
+   * @throws IOException if the value is not enclosed by the given characters
+   */
+  private static void checkEnclosed(byte[] bytes, int offset, int end, byte start, byte last,
+    String type) throws IOException {
+    if (end - offset < 2 || bytes[offset] != start || bytes[end - 1] != last) {
+      throw invalidValue(type, bytes, offset, end);
+    }
+  }
+
+  /**
+   * Codec for {@code null} values, used for properties and collections without non-null values.
+   */
+  private static class NullCodec extends PropertyValueCodec {
+    @Override
+    public byte getType() {
+      return PropertyValue.TYPE_NULL;
+    }
+
+    @Override
+    public String getTypeString() {
+      return "null";
+    }
+
+    @Override
+    PropertyValue parseValue(byte[] bytes, int offset, int end) throws IOException {
+      throw invalidValue(getTypeString(), bytes, offset, end);
+    }
+
+    @Override
+    void formatValue(PropertyValue value, StringBuilder builder) {
+      throw new IllegalArgumentException("Not a null value: " + value);
+    }
+  }
+
+  /**
+   * Codec for {@code boolean} values.
+   */
+  private static class BooleanCodec extends PropertyValueCodec {
+    @Override
+    public byte getType() {
+      return PropertyValue.TYPE_BOOLEAN;
+    }
+
+    @Override
+    public String getTypeString() {
+      return "boolean";
+    }
+
+    @Override
+    PropertyValue parseValue(byte[] bytes, int offset, int end) {
+      return PropertyValue.create(end - offset == 4 &&
+        (bytes[offset] | 0x20) == 't' && (bytes[offset + 1] | 0x20) == 'r' &&
+        (bytes[offset + 2] | 0x20) == 'u' && (bytes[offset + 3] | 0x20) == 'e');
+    }
+
+    @Override
+    void formatValue(PropertyValue value, StringBuilder builder) {
+      builder.append(value.getBoolean());
+    }
+  }
+
+  /**
+   * Codec for {@code int} values.
+   */
+  private static class IntegerCodec extends PropertyValueCodec {
+    @Override
+    public byte getType() {
+      return PropertyValue.TYPE_INTEGER;
+    }
+
+    @Override
+    public String getTypeString() {
+      return "int";
+    }
+
+    @Override
+    PropertyValue parseValue(byte[] bytes, int offset, int end) throws IOException {
+      long value = parseLong(bytes, offset, end);
+      if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+        throw invalidValue(getTypeString(), bytes, offset, end);
+      }
+      return PropertyValue.create((int) value);
+    }
+
+    @Override
+    void formatValue(PropertyValue value, StringBuilder builder) {
+      builder.append(value.getInt());
+    }
+  }
+
+  /**
+   * Codec for {@code long} values.
+   */
+  private static class LongCodec extends PropertyValueCodec {
+    @Override
+    public byte getType() {
+      return PropertyValue.TYPE_LONG;
+    }
+
+    @Override
+    public String getTypeString() {
+      return "long";
+    }
+
+    @Override
+    PropertyValue parseValue(byte[] bytes, int offset, int end) throws IOException {
+      return PropertyValue.create(parseLong(bytes, offset, end));
+    }
+
+    @Override
+    void formatValue(PropertyValue value, StringBuilder builder) {
+      builder.append(value.getLong());
+    }
+  }
+
+  /**
+   * Codec for {@code float} values.
+   */
+  private static class FloatCodec extends PropertyValueCodec {
+    @Override
+    public byte getType() {
+      return PropertyValue.TYPE_FLOAT;
+    }
+
+    @Override
+    public String getTypeString() {
+      return "float";
+    }
+
+    @Override
+    PropertyValue parseValue(byte[] bytes, int offset, int end) throws IOException {
+      try {
+        return PropertyValue.create(Float.parseFloat(asciiString(bytes, offset, end)));
+      } catch (NumberFormatException e) {
+        throw invalidValue(getTypeString(), bytes, offset, end);
+      }
+    }
+
+    @Override
+    void formatValue(PropertyValue value, StringBuilder builder) {
+      builder.append(value.getFloat());
+    }
+  }
+
+  /**
+   * Codec for {@code double} values.
+   */
+  private static class DoubleCodec extends PropertyValueCodec {
+    @Override
+    public byte getType() {
+      return PropertyValue.TYPE_DOUBLE;
+    }
+
+    @Override
+    public String getTypeString() {
+      return "double";
+    }
+
+    @Override
+    PropertyValue parseValue(byte[] bytes, int offset, int end) throws IOException {
+      try {
+        return PropertyValue.create(Double.parseDouble(asciiString(bytes, offset, end)));
+      } catch (NumberFormatException e) {
+        throw invalidValue(getTypeString(), bytes, offset, end);
+      }
+    }
+
+    @Override
+    void formatValue(PropertyValue value, StringBuilder builder) {
+      builder.append(value.getDouble());
+    }
+  }
+
+  /**
+   * Codec for {@code String} values. Strings without escape sequences are copied directly into
+   * the binary representation of the property value.
+   */
+  private static class StringCodec extends PropertyValueCodec {
+    @Override
+    public byte getType() {
+      return PropertyValue.TYPE_STRING;
+    }
+
+    @Override
+    public String getTypeString() {
+      return "string";
+    }
+
+    @Override
+    PropertyValue parseValue(byte[] bytes, int offset, int end) throws IOException {
+      byte[] rawBytes = new byte[PropertyValue.OFFSET + end - offset];
+      rawBytes[0] = PropertyValue.TYPE_STRING;
+      int length = 0;
+      for (int i = offset; i < end; i++) {
+        byte b = bytes[i];
+        if (b == ESCAPE) {
+          if (++i == end) {
+            throw invalidValue(getTypeString(), bytes, offset, end);
+          }
+          b = bytes[i];
+          if (b == EMPTY) {
+            continue;
+          } else if (b == 'n') {
+            b = '\n';
+          } else if (b == 'r') {
+            b = '\r';
+          }
+        }
+        rawBytes[PropertyValue.OFFSET + length++] = b;
+      }
+      if (length < end - offset) {
+        byte[] unescaped = new byte[PropertyValue.OFFSET + length];
+        System.arraycopy(rawBytes, 0, unescaped, 0, unescaped.length);
+        rawBytes = unescaped;
+      }
+      PropertyValue value = new PropertyValue();
+      value.setBytes(rawBytes);
+      return value;
+    }
+
+    @Override
+    void formatValue(PropertyValue value, StringBuilder builder) {
+      String s = value.getString();
+      if (s.isEmpty()) {
+        builder.append((char) ESCAPE).append((char) EMPTY);
+        return;
+      }
+      for (int i = 0; i < s.length(); i++) {
+        char c = s.charAt(i);
+        switch (c) {
+        case '\n':
+          builder.append((char) ESCAPE).append('n');
+          break;
+        case '\r':
+          builder.append((char) ESCAPE).append('r');
+          break;
+        case '\\':
+        case '|':
+        case ';':
+        case ',':
+        case '=':
+        case '[':
+        case ']':
+        case '{':
+        case '}':
+          builder.append((char) ESCAPE).append(c);
+          break;
+        default:
+          builder.append(c);
+        }
+      }
+    }
+  }
+
+  /**
+   * Codec for {@code BigDecimal} values.
+   */
+  private static class BigDecimalCodec extends PropertyValueCodec {
+    @Override
+    public byte getType() {
+      return PropertyValue.TYPE_BIG_DECIMAL;
+    }
+
+    @Override
+    public String getTypeString() {
+      return "bigdecimal";
+    }
+
+    @Override
+    PropertyValue parseValue(byte[] bytes, int offset, int end) throws IOException {
+      try {
+        return PropertyValue.create(new BigDecimal(asciiString(bytes, offset, end)));
+      } catch (NumberFormatException e) {
+        throw invalidValue(getTypeString(), bytes, offset, end);
+      }
+    }
+
+    @Override
+    void formatValue(PropertyValue value, StringBuilder builder) {
+      builder.append(value.getBigDecimal());
+    }
+  }
+
+  /**
+   * Codec for {@code GradoopId} values.
+   */
+  private static class GradoopIdCodec extends PropertyValueCodec {
+    @Override
+    public byte getType() {
+      return PropertyValue.TYPE_GRADOOP_ID;
+    }
+
+    @Override
+    public String getTypeString() {
+      return "gradoopid";
+    }
+
+    @Override
+    PropertyValue parseValue(byte[] bytes, int offset, int end) throws IOException {
+      if (end - offset != 2 * GradoopId.ID_SIZE) {
+        throw invalidValue(getTypeString(), bytes, offset, end);
+      }
+      try {
+        return PropertyValue.create(GradoopId.fromHexBytes(bytes, offset));
+      } catch (IllegalArgumentException e) {
+        throw invalidValue(getTypeString(), bytes, offset, end);
+      }
+    }
+
+    @Override
+    void formatValue(PropertyValue value, StringBuilder builder) {
+      builder.append(value.getGradoopId());
+    }
+  }
+
+  /**
+   * Codec for {@code LocalDate} values in ISO-8601 format.
+   */
+  private static class DateCodec extends PropertyValueCodec {
+    @Override
+    public byte getType() {
+      return PropertyValue.TYPE_DATE;
+    }
+
+    @Override
+    public String getTypeString() {
+      return "date";
+    }
+
+    @Override
+    PropertyValue parseValue(byte[] bytes, int offset, int end) throws IOException {
+      try {
+        return PropertyValue.create(LocalDate.parse(asciiString(bytes, offset, end)));
+      } catch (DateTimeParseException e) {
+        throw invalidValue(getTypeString(), bytes, offset, end);
+      }
+    }
+
+    @Override
+    void formatValue(PropertyValue value, StringBuilder builder) {
+      builder.append(value.getDate());
+    }
+  }
+
+  /**
+   * Codec for {@code LocalTime} values in ISO-8601 format.
+   */
+  private static class TimeCodec extends PropertyValueCodec {
+    @Override
+    public byte getType() {
+      return PropertyValue.TYPE_TIME;
+    }
+
+    @Override
+    public String getTypeString() {
+      return "time";
+    }
+
+    @Override
+    PropertyValue parseValue(byte[] bytes, int offset, int end) throws IOException {
+      try {
+        return PropertyValue.create(LocalTime.parse(asciiString(bytes, offset, end)));
+      } catch (DateTimeParseException e) {
+        throw invalidValue(getTypeString(), bytes, offset, end);
+      }
+    }
+
+    @Override
+    void formatValue(PropertyValue value, StringBuilder builder) {
+      builder.append(value.getTime());
+    }
+  }
+
+  /**
+   * Codec for {@code LocalDateTime} values in ISO-8601 format.
+   */
+  private static class DateTimeCodec extends PropertyValueCodec {
+    @Override
+    public byte getType() {
+      return PropertyValue.TYPE_DATETIME;
+    }
+
+    @Override
+    public String getTypeString() {
+      return "datetime";
+    }
+
+    @Override
+    PropertyValue parseValue(byte[] bytes, int offset, int end) throws IOException {
+      try {
+        return PropertyValue.create(LocalDateTime.parse(asciiString(bytes, offset, end)));
+      } catch (DateTimeParseException e) {
+        throw invalidValue(getTypeString(), bytes, offset, end);
+      }
+    }
+
+    @Override
+    void formatValue(PropertyValue value, StringBuilder builder) {
+      builder.append(value.getDateTime());
+    }
+  }
+
+  /**
+   * Codec for lists whose elements are handled by a single element codec.
+   */
+  private static class ListCodec extends PropertyValueCodec {
+    /**
+     * Codec of the list elements
+     */
+    private final PropertyValueCodec elementCodec;
+
+    /**
+     * Creates a new list codec.
+     *
+     * @param elementCodec codec of the list elements
+     */
+    ListCodec(PropertyValueCodec elementCodec) {
+      this.elementCodec = elementCodec;
+    }
+
+    @Override
+    public byte getType() {
+      return PropertyValue.TYPE_LIST;
+    }
+
+    @Override
+    public String getTypeString() {
+      return "list" + TYPE_DELIMITER + elementCodec.getTypeString();
+    }
+
+    @Override
+    public int valueEnd(byte[] bytes, int offset, int end, byte delimiter) throws IOException {
+      return nextDelimiter(bytes, offset, end, delimiter, true);
+    }
+
+    @Override
+    PropertyValue parseValue(byte[] bytes, int offset, int end) throws IOException {
+      checkEnclosed(bytes, offset, end, LIST_START, LIST_END, getTypeString());
+      List<PropertyValue> list = new ArrayList<>();
+      int elementStart = offset + 1;
+      int listEnd = end - 1;
+      while (elementStart < listEnd) {
+        int elementEnd = nextDelimiter(bytes, elementStart, listEnd, ELEMENT_DELIMITER, true);
+        list.add(elementCodec.parse(bytes, elementStart, elementEnd));
+        elementStart = elementEnd + 1;
+      }
+      return PropertyValue.create(list);
+    }
+
+    @Override
+    void formatValue(PropertyValue value, StringBuilder builder) {
+      builder.append((char) LIST_START);
+      boolean first = true;
+      for (PropertyValue element : value.getList()) {
+        if (!first) {
+          builder.append((char) ELEMENT_DELIMITER);
+        }
+        elementCodec.format(element, builder);
+        first = false;
+      }
+      builder.append((char) LIST_END);
+    }
+  }
+
+  /**
+   * Codec for maps whose keys and values are each handled by a single codec.
+   */
+  private static class MapCodec extends PropertyValueCodec {
+    /**
+     * Codec of the map keys
+     */
+    private final PropertyValueCodec keyCodec;
+    /**
+     * Codec of the map values
+     */
+    private final PropertyValueCodec valueCodec;
+
+    /**
+     * Creates a new map codec.
+     *
+     * @param keyCodec codec of the map keys
+     * @param valueCodec codec of the map values
+     */
+    MapCodec(PropertyValueCodec keyCodec, PropertyValueCodec valueCodec) {
+      this.keyCodec = keyCodec;
+      this.valueCodec = valueCodec;
+    }
+
+    @Override
+    public byte getType() {
+      return PropertyValue.TYPE_MAP;
+    }
+
+    @Override
+    public String getTypeString() {
+      return "map" + TYPE_DELIMITER + keyCodec.getTypeString() + TYPE_DELIMITER +
+        valueCodec.getTypeString();
+    }
+
+    @Override
+    public int valueEnd(byte[] bytes, int offset, int end, byte delimiter) throws IOException {
+      return nextDelimiter(bytes, offset, end, delimiter, true);
+    }
+
+    @Override
+    PropertyValue parseValue(byte[] bytes, int offset, int end) throws IOException {
+      checkEnclosed(bytes, offset, end, MAP_START, MAP_END, getTypeString());
+      Map<PropertyValue, PropertyValue> map = new HashMap<>();
+      int entryStart = offset + 1;
+      int mapEnd = end - 1;
+      while (entryStart < mapEnd) {
+        int entryEnd = nextDelimiter(bytes, entryStart, mapEnd, ELEMENT_DELIMITER, true);
+        int keyEnd = nextDelimiter(bytes, entryStart, entryEnd, KEY_VALUE_DELIMITER, true);
+        if (keyEnd == entryEnd) {
+          throw invalidValue(getTypeString(), bytes, offset, end);
+        }
+        map.put(keyCodec.parse(bytes, entryStart, keyEnd),
+          valueCodec.parse(bytes, keyEnd + 1, entryEnd));
+        entryStart = entryEnd + 1;
+      }
+      return PropertyValue.create(map);
+    }
+
+    @Override
+    void formatValue(PropertyValue value, StringBuilder builder) {
+      builder.append((char) MAP_START);
+      boolean first = true;
+      for (Map.Entry<PropertyValue, PropertyValue> entry : value.getMap().entrySet()) {
+        if (!first) {
+          builder.append((char) ELEMENT_DELIMITER);
+        }
+        keyCodec.format(entry.getKey(), builder);
+        builder.append((char) KEY_VALUE_DELIMITER);
+        valueCodec.format(entry.getValue(), builder);
+        first = false;
+      }
+      builder.append((char) MAP_END);
+    }
+  }
+}
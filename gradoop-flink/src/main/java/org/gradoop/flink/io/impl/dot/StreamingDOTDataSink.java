@@ -0,0 +1,238 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.dot;
+
+import org.apache.flink.api.common.io.FileOutputFormat;
+import org.apache.flink.api.common.operators.Order;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.io.api.DataSink;
+import org.gradoop.flink.io.impl.dot.functions.DOTFileFormat;
+import org.gradoop.flink.io.impl.dot.functions.EdgeToDOTRecords;
+import org.gradoop.flink.io.impl.dot.functions.GraphHeadToDOTRecord;
+import org.gradoop.flink.io.impl.dot.functions.VertexToDOTRecords;
+import org.gradoop.flink.model.api.epgm.GraphCollection;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes an EPGM representation into one DOT file without collecting whole graphs in memory.
+ * The output matches the format documented at {@link DOTFileFormat}.
+ *
+ * Each vertex and edge is converted into one DOT line per graph it is contained in. The lines
+ * are sorted by graph id and kind (graph head, vertices, edges) and streamed into the file by a
+ * single task, which opens and closes the subgraph cluster of each graph when the graph id
+ * changes. Elements of graphs which are not contained in the collection are skipped.
+ *
+ * Huge graphs can be reduced by writing only a fraction of vertices, chosen by their id, and
+ * the edges between them, and by writing at most a given number of outgoing edges per vertex
+ * and graph.
+ *
+ * For more information see:
+ * https://en.wikipedia.org/wiki/DOT_(graph_description_language)
+ */
+public class StreamingDOTDataSink implements DataSink {
+  /**
+   * Record kind of graph heads
+   */
+  public static final byte GRAPH_HEAD = 0;
+  /**
+   * Record kind of vertices
+   */
+  public static final byte VERTEX = 1;
+  /**
+   * Record kind of edges
+   */
+  public static final byte EDGE = 2;
+  /**
+   * Destination path of the dot file
+   */
+  private final String path;
+  /**
+   * Flag to print graph head information
+   */
+  private final boolean graphInformation;
+  /**
+   * Fraction of vertices to write
+   */
+  private final double sampleRate;
+  /**
+   * Maximum number of outgoing edges written per vertex and graph
+   */
+  private final int maxDegree;
+
+  /**
+   * Creates a new data sink writing all elements. Path can be local (file://) or HDFS (hdfs://).
+   *
+   * @param path              dot data file
+   * @param graphInformation  flag to print graph head information
+   */
+  public StreamingDOTDataSink(String path, boolean graphInformation) {
+    this(path, graphInformation, 1d, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Creates a new data sink writing a sample of the elements. Path can be local (file://) or
+   * HDFS (hdfs://).
+   *
+   * @param path              dot data file
+   * @param graphInformation  flag to print graph head information
+   * @param sampleRate        fraction of vertices to write, in (0, 1]
+   * @param maxDegree         maximum number of outgoing edges written per vertex and graph
+   */
+  public StreamingDOTDataSink(String path, boolean graphInformation, double sampleRate,
+    int maxDegree) {
+    if (path == null) {
+      throw new IllegalArgumentException("path must not be null");
+    }
+    if (!(sampleRate > 0d && sampleRate <= 1d)) {
+      throw new IllegalArgumentException("sample rate must be in (0, 1]");
+    }
+    if (maxDegree < 1) {
+      throw new IllegalArgumentException("max degree must be positive");
+    }
+    this.path = path;
+    this.graphInformation = graphInformation;
+    this.sampleRate = sampleRate;
+    this.maxDegree = maxDegree;
+  }
+
+  @Override
+  public void write(LogicalGraph logicalGraph) throws IOException {
+    write(logicalGraph, false);
+  }
+
+  @Override
+  public void write(GraphCollection graphCollection) throws IOException {
+    write(graphCollection, false);
+  }
+
+  @Override
+  public void write(LogicalGraph graph, boolean overwrite) throws IOException {
+    write(graph.getConfig().getGraphCollectionFactory().fromGraph(graph), overwrite);
+  }
+
+  @Override
+  public void write(GraphCollection graphCollection, boolean overWrite) throws IOException {
+    FileSystem.WriteMode writeMode =
+      overWrite ? FileSystem.WriteMode.OVERWRITE :  FileSystem.WriteMode.NO_OVERWRITE;
+
+    DataSet<Tuple4<GradoopId, Byte, GradoopId, String>> edgeRecords = graphCollection
+      .getEdges()
+      .flatMap(new EdgeToDOTRecords(sampleRate));
+
+    if (maxDegree < Integer.MAX_VALUE) {
+      edgeRecords = edgeRecords
+        .groupBy(0, 2)
+        .first(maxDegree);
+    }
+
+    StreamingDOTWriter dotWriter = new StreamingDOTWriter(new Path(path));
+    dotWriter.setWriteMode(writeMode);
+
+    graphCollection
+      .getGraphHeads()
+      .map(new GraphHeadToDOTRecord(graphInformation))
+      .union(graphCollection.getVertices().flatMap(new VertexToDOTRecords(sampleRate)))
+      .union(edgeRecords)
+      .sortPartition(0, Order.ASCENDING).setParallelism(1)
+      .sortPartition(1, Order.ASCENDING).setParallelism(1)
+      .output(dotWriter)
+      .setParallelism(1);
+  }
+
+  /**
+   * Writes DOT records sorted by graph id and kind into one graphviz file and wraps the
+   * records of each graph into its subgraph cluster.
+   */
+  private static class StreamingDOTWriter
+    extends FileOutputFormat<Tuple4<GradoopId, Byte, GradoopId, String>> {
+
+    /**
+     * Default class version for serialization.
+     */
+    private static final long serialVersionUID = 1;
+    /**
+     * Id of the graph whose cluster is open, {@code null} before the first graph head
+     */
+    private GradoopId currentGraphId;
+
+    /**
+     * see super constructor.
+     * @param outputPath graphviz dot file name
+     */
+    StreamingDOTWriter(Path outputPath) {
+      super(outputPath);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void open(int taskNumber, int numTasks) throws IOException {
+      super.open(taskNumber, numTasks);
+      currentGraphId = null;
+      write("digraph {\n");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeRecord(Tuple4<GradoopId, Byte, GradoopId, String> record)
+      throws IOException {
+      if (record.f1 == GRAPH_HEAD) {
+        if (currentGraphId != null) {
+          write("}\n");
+        }
+        currentGraphId = record.f0.copy();
+        write(record.f3);
+      } else if (record.f0.equals(currentGraphId)) {
+        write(record.f3);
+      }
+      // else: element of a graph which is not part of the collection
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+      if (stream != null) {
+        if (currentGraphId != null) {
+          write("}\n");
+        }
+        write("}\n");
+      }
+      super.close();
+    }
+
+    /**
+     * Writes the specified string to the output stream.
+     *
+     * @param text string to write
+     * @throws IOException on failure
+     */
+    private void write(String text) throws IOException {
+      stream.write(text.getBytes(StandardCharsets.UTF_8));
+    }
+  }
+}
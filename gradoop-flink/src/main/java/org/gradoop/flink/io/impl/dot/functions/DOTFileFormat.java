@@ -81,21 +81,25 @@ public class DOTFileFormat implements TextOutputFormat.TextFormatter<GraphTransa
     // writes for each graph:
     // digraph graphHeadId
     // {
-    builder.append("subgraph cluster_g")
-      .append(id)
-      .append("{\n");
+    writeClusterStart(id, builder);
 
     //--------------------------------------------------------------------------
     // write DOT body
     //--------------------------------------------------------------------------
 
     if (printGraphHead) {
-      writeGraphHead(transaction, builder);
+      writeGraphHead(transaction.getGraphHead(), builder);
     }
 
-    writeVertices(transaction, builder, id.toString());
+    String suffix = id.toString();
 
-    writeEdges(transaction, builder, id.toString());
+    for (Vertex vertex : transaction.getVertices()) {
+      writeVertex(vertex, builder, suffix);
+    }
+
+    for (Edge edge : transaction.getEdges()) {
+      writeEdge(edge, builder, suffix);
+    }
 
     //--------------------------------------------------------------------------
     // close DOT block
@@ -106,16 +110,28 @@ public class DOTFileFormat implements TextOutputFormat.TextFormatter<GraphTransa
     return builder.toString();
   }
 
+  /**
+   * Opens the subgraph cluster of the graph with the specified id.
+   *
+   * Output: subgraph cluster_gGraphId{
+   *
+   * @param graphId graph id
+   * @param builder string builder to append
+   */
+  static void writeClusterStart(GradoopId graphId, StringBuilder builder) {
+    builder.append("subgraph cluster_g")
+      .append(graphId)
+      .append("{\n");
+  }
+
   /**
    * Adds graph head information to the specified builder.
    *
    * Output: label="label";
-   * @param transaction graph transaction
+   * @param graphHead graph head
    * @param builder string builder to append
    */
-  private void writeGraphHead(GraphTransaction transaction, StringBuilder builder) {
-    GraphHead graphHead = transaction.getGraphHead();
-
+  static void writeGraphHead(GraphHead graphHead, StringBuilder builder) {
     writeLabel(builder, graphHead, "#AAAAAA");
 
     builder.append(";\n");
@@ -126,25 +142,23 @@ public class DOTFileFormat implements TextOutputFormat.TextFormatter<GraphTransa
    *
    * vertexId [label="label", property1="value1", ...];
    *
-   * @param transaction graph transaction
+   * @param vertex vertex
    * @param builder string builder to append
-   * @param suffix id suffix specific for the current {@link GraphTransaction}
+   * @param suffix id suffix specific for the graph the vertex is written into
    */
-  private void writeVertices(GraphTransaction transaction, StringBuilder builder, String suffix) {
-    for (Vertex vertex: transaction.getVertices()) {
-      // writes for each vertex:
-      // "v1234",
-      builder.append(VERTEX_ID_PREFIX)
-        .append(vertex.getId())
-        .append(suffix)
-        .append(" [ shape=Mrecord, ");
-
-      writeLabel(builder, vertex, "#000000");
-
-      // writes:
-      // ";"
-      builder.append("];\n");
-    }
+  static void writeVertex(Vertex vertex, StringBuilder builder, String suffix) {
+    // writes for each vertex:
+    // "v1234",
+    builder.append(VERTEX_ID_PREFIX)
+      .append(vertex.getId())
+      .append(suffix)
+      .append(" [ shape=Mrecord, ");
+
+    writeLabel(builder, vertex, "#000000");
+
+    // writes:
+    // ";"
+    builder.append("];\n");
   }
 
   /**
@@ -152,25 +166,22 @@ public class DOTFileFormat implements TextOutputFormat.TextFormatter<GraphTransa
    *
    * sourceId->targetId [label="label", property1="value1", ...];
    *
-   * @param transaction graph transaction
+   * @param edge edge
    * @param builder string builder to append
-   * @param suffix id suffix specific for the current {@link GraphTransaction}
+   * @param suffix id suffix specific for the graph the edge is written into
    */
-  private void writeEdges(GraphTransaction transaction, StringBuilder builder, String suffix) {
-    for (Edge edge: transaction.getEdges()) {
-
-      builder.append(VERTEX_ID_PREFIX)
-        .append(edge.getSourceId())
-        .append(suffix)
-        .append("->")
-        .append(VERTEX_ID_PREFIX)
-        .append(edge.getTargetId())
-        .append(suffix)
-        .append(" [");
-      // write dot attributes if existent
-      writeLabel(builder, edge, "#666666");
-      builder.append("];\n");
-    }
+  static void writeEdge(Edge edge, StringBuilder builder, String suffix) {
+    builder.append(VERTEX_ID_PREFIX)
+      .append(edge.getSourceId())
+      .append(suffix)
+      .append("->")
+      .append(VERTEX_ID_PREFIX)
+      .append(edge.getTargetId())
+      .append(suffix)
+      .append(" [");
+    // write dot attributes if existent
+    writeLabel(builder, edge, "#666666");
+    builder.append("];\n");
   }
 
   /**
@@ -182,7 +193,7 @@ public class DOTFileFormat implements TextOutputFormat.TextFormatter<GraphTransa
    * @param elem graph element with id, label and properties
    * @param color color for header background and properties text
    */
-  private void writeLabel(StringBuilder builder, EPGMElement elem, String color) {
+  private static void writeLabel(StringBuilder builder, EPGMElement elem, String color) {
     String label = elem.getLabel();
     String id = elem.getId().toString();
     Properties properties = elem.getProperties();
@@ -0,0 +1,52 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.dot.functions;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.flink.io.impl.dot.StreamingDOTDataSink;
+
+/**
+ * Converts an edge between two sampled vertices into one DOT record per graph it is contained in.
+ *
+ * edge -> (graphId, EDGE, sourceId, "vSourceIdGraphId->vTargetIdGraphId [...];\n")*
+ */
+public class EdgeToDOTRecords extends ElementToDOTRecords<Edge> {
+
+  /**
+   * Constructor
+   *
+   * @param sampleRate fraction of vertices to write, in (0, 1]
+   */
+  public EdgeToDOTRecords(double sampleRate) {
+    super(StreamingDOTDataSink.EDGE, sampleRate);
+  }
+
+  @Override
+  protected boolean isSampled(Edge edge) {
+    return isSampledVertex(edge.getSourceId()) && isSampledVertex(edge.getTargetId());
+  }
+
+  @Override
+  protected GradoopId getKey(Edge edge) {
+    return edge.getSourceId();
+  }
+
+  @Override
+  protected void writeLine(Edge edge, StringBuilder builder, String suffix) {
+    DOTFileFormat.writeEdge(edge, builder, suffix);
+  }
+}
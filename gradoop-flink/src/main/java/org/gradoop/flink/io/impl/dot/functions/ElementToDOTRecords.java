@@ -0,0 +1,120 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.dot.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.GraphElement;
+
+/**
+ * Converts a graph element into one DOT record per graph it is contained in. The DOT line of the
+ * element is created once per graph, as element ids are suffixed by the graph id.
+ *
+ * Vertices are sampled by their id, i.e. the decision whether a vertex is written is the same for
+ * all graphs and can be repeated for the source and target vertex of an edge without a join.
+ *
+ * @param <E> graph element type
+ */
+public abstract class ElementToDOTRecords<E extends GraphElement>
+  implements FlatMapFunction<E, Tuple4<GradoopId, Byte, GradoopId, String>> {
+  /**
+   * Fraction of vertices to write
+   */
+  private final double sampleRate;
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple4<GradoopId, Byte, GradoopId, String> reuseTuple;
+  /**
+   * Reused builder for the DOT lines
+   */
+  private final StringBuilder builder;
+
+  /**
+   * Constructor
+   *
+   * @param kind record kind of the converted elements
+   * @param sampleRate fraction of vertices to write, in (0, 1]
+   */
+  ElementToDOTRecords(byte kind, double sampleRate) {
+    this.sampleRate = sampleRate;
+    this.reuseTuple = new Tuple4<>();
+    this.reuseTuple.f1 = kind;
+    this.builder = new StringBuilder();
+  }
+
+  @Override
+  public void flatMap(E element, Collector<Tuple4<GradoopId, Byte, GradoopId, String>> out) {
+    if (!isSampled(element) || element.getGraphIds() == null) {
+      return;
+    }
+    reuseTuple.f2 = getKey(element);
+    for (GradoopId graphId : element.getGraphIds()) {
+      builder.setLength(0);
+      writeLine(element, builder, graphId.toString());
+      reuseTuple.f0 = graphId;
+      reuseTuple.f3 = builder.toString();
+      out.collect(reuseTuple);
+    }
+  }
+
+  /**
+   * Decides if the specified vertex is part of the sample.
+   *
+   * @param vertexId vertex id
+   * @return true, iff the vertex shall be written
+   */
+  protected boolean isSampledVertex(GradoopId vertexId) {
+    if (sampleRate >= 1d) {
+      return true;
+    }
+    // spread the id hash (murmur3 finalizer) and map it onto [0, 1)
+    int hash = vertexId.hashCode();
+    hash ^= hash >>> 16;
+    hash *= 0x85ebca6b;
+    hash ^= hash >>> 13;
+    hash *= 0xc2b2ae35;
+    hash ^= hash >>> 16;
+    return (hash & 0xFFFFFFFFL) / 4294967296d < sampleRate;
+  }
+
+  /**
+   * Decides if the specified element is part of the sample.
+   *
+   * @param element graph element
+   * @return true, iff the element shall be written
+   */
+  protected abstract boolean isSampled(E element);
+
+  /**
+   * Returns the secondary key of the record, i.e. the id the element is sorted and grouped by.
+   *
+   * @param element graph element
+   * @return secondary record key
+   */
+  protected abstract GradoopId getKey(E element);
+
+  /**
+   * Appends the DOT line of the element in the specified graph.
+   *
+   * @param element graph element
+   * @param builder string builder to append
+   * @param suffix id suffix specific for the graph the element is written into
+   */
+  protected abstract void writeLine(E element, StringBuilder builder, String suffix);
+}
@@ -0,0 +1,65 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.dot.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.flink.io.impl.dot.StreamingDOTDataSink;
+
+/**
+ * Converts a graph head into the record opening its subgraph cluster.
+ *
+ * graphHead -> (graphId, GRAPH_HEAD, graphId, "subgraph cluster_gGraphId{\n...")
+ */
+@FunctionAnnotation.ForwardedFields("id->f0;id->f2")
+public class GraphHeadToDOTRecord
+  implements MapFunction<GraphHead, Tuple4<GradoopId, Byte, GradoopId, String>> {
+  /**
+   * Flag to print graph head information
+   */
+  private final boolean printGraphHead;
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple4<GradoopId, Byte, GradoopId, String> reuseTuple;
+
+  /**
+   * Constructor
+   *
+   * @param printGraphHead true, iff graph head data shall be attached to the output
+   */
+  public GraphHeadToDOTRecord(boolean printGraphHead) {
+    this.printGraphHead = printGraphHead;
+    this.reuseTuple = new Tuple4<>();
+    this.reuseTuple.f1 = StreamingDOTDataSink.GRAPH_HEAD;
+  }
+
+  @Override
+  public Tuple4<GradoopId, Byte, GradoopId, String> map(GraphHead graphHead) {
+    StringBuilder builder = new StringBuilder();
+    DOTFileFormat.writeClusterStart(graphHead.getId(), builder);
+    if (printGraphHead) {
+      DOTFileFormat.writeGraphHead(graphHead, builder);
+    }
+    reuseTuple.f0 = graphHead.getId();
+    reuseTuple.f2 = graphHead.getId();
+    reuseTuple.f3 = builder.toString();
+    return reuseTuple;
+  }
+}
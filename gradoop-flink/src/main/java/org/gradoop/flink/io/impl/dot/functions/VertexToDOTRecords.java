@@ -0,0 +1,52 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.dot.functions;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.io.impl.dot.StreamingDOTDataSink;
+
+/**
+ * Converts a sampled vertex into one DOT record per graph it is contained in.
+ *
+ * vertex -> (graphId, VERTEX, vertexId, "vVertexIdGraphId [...];\n")*
+ */
+public class VertexToDOTRecords extends ElementToDOTRecords<Vertex> {
+
+  /**
+   * Constructor
+   *
+   * @param sampleRate fraction of vertices to write, in (0, 1]
+   */
+  public VertexToDOTRecords(double sampleRate) {
+    super(StreamingDOTDataSink.VERTEX, sampleRate);
+  }
+
+  @Override
+  protected boolean isSampled(Vertex vertex) {
+    return isSampledVertex(vertex.getId());
+  }
+
+  @Override
+  protected GradoopId getKey(Vertex vertex) {
+    return vertex.getId();
+  }
+
+  @Override
+  protected void writeLine(Vertex vertex, StringBuilder builder, String suffix) {
+    DOTFileFormat.writeVertex(vertex, builder, suffix);
+  }
+}
@@ -0,0 +1,187 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.edgelist;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple1;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.core.fs.FileSystem;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.impl.edgelist.functions.CreateEdgeFromExternalIds;
+import org.gradoop.flink.io.impl.edgelist.functions.CreateVertexFromExternalId;
+import org.gradoop.flink.io.impl.edgelist.functions.ExternalIdEncoder;
+import org.gradoop.flink.io.impl.edgelist.functions.ExternalIdToGradoopId;
+import org.gradoop.flink.io.impl.edgelist.inputformats.EdgeListInputFormat;
+import org.gradoop.flink.model.api.epgm.GraphCollection;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Data source to create a {@link LogicalGraph} from a (possibly compressed) edge list like
+ * {@link EdgeListDataSource}, but without joining edges and vertices.
+ *
+ * Each external vertex id is mapped to a {@link GradoopId} by an {@link ExternalIdEncoder}, which
+ * stores a namespace and the external id in the bytes of the Gradoop id. Edges are therefore
+ * created in a single pass over the input, vertices are the distinct external ids. Lines are
+ * parsed by {@link EdgeListInputFormat}, which also handles comment lines and compressed files.
+ *
+ * The mapping from external to Gradoop ids can optionally be written to a CSV file containing
+ * {@code externalId,gradoopId} lines. Later imports using the same namespace (see
+ * {@link #getIdNamespace()}) assign the same ids to the same external vertices, so that
+ * incrementally loaded edges connect to previously loaded vertices.
+ */
+public class SinglePassEdgeListDataSource implements DataSource {
+  /**
+   * Path to edge list file
+   */
+  private final String edgeListPath;
+  /**
+   * Separator token of the edge list file
+   */
+  private final String tokenSeparator;
+  /**
+   * Maps external ids to Gradoop ids
+   */
+  private final ExternalIdEncoder encoder;
+  /**
+   * Path to write the id mapping to, might be {@code null}
+   */
+  private final String idMappingPath;
+  /**
+   * Gradoop Flink configuration
+   */
+  private final GradoopFlinkConfig config;
+
+  /**
+   * Creates a new data source using a random id namespace and without writing the id mapping.
+   * Paths can be local (file://) or HDFS (hdfs://).
+   *
+   * @param edgeListPath    Path to edge list file
+   * @param tokenSeparator  Id separator token
+   * @param config          Gradoop Flink configuration
+   */
+  public SinglePassEdgeListDataSource(String edgeListPath, String tokenSeparator,
+    GradoopFlinkConfig config) {
+    this(edgeListPath, tokenSeparator, ThreadLocalRandom.current().nextInt(), null, config);
+  }
+
+  /**
+   * Creates a new data source. Paths can be local (file://) or HDFS (hdfs://).
+   *
+   * @param edgeListPath    Path to edge list file
+   * @param tokenSeparator  Id separator token
+   * @param idNamespace     namespace of the created vertex ids
+   * @param idMappingPath   path to write the id mapping to (can be {@code null})
+   * @param config          Gradoop Flink configuration
+   */
+  public SinglePassEdgeListDataSource(String edgeListPath, String tokenSeparator, int idNamespace,
+    String idMappingPath, GradoopFlinkConfig config) {
+    if (edgeListPath == null) {
+      throw new IllegalArgumentException("edge list path must not be null");
+    }
+    if (tokenSeparator == null) {
+      throw new IllegalArgumentException("token separator must not be null");
+    }
+    if (config == null) {
+      throw new IllegalArgumentException("config must not be null");
+    }
+    this.edgeListPath = edgeListPath;
+    this.tokenSeparator = tokenSeparator;
+    this.encoder = new ExternalIdEncoder(idNamespace);
+    this.idMappingPath = idMappingPath;
+    this.config = config;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * If an id mapping path is set, the mapping is written on the next execution of the
+   * environment.
+   */
+  @Override
+  public LogicalGraph getLogicalGraph() throws IOException {
+    DataSet<Tuple2<Long, Long>> lineTuples = readLineTuples();
+
+    DataSet<Tuple1<Long>> externalIds = getExternalIds(lineTuples);
+
+    DataSet<Vertex> vertices = externalIds
+      .map(new CreateVertexFromExternalId(config.getVertexFactory(), encoder));
+
+    DataSet<Edge> edges = lineTuples
+      .map(new CreateEdgeFromExternalIds(config.getEdgeFactory(), encoder));
+
+    if (idMappingPath != null) {
+      externalIds
+        .map(new ExternalIdToGradoopId(encoder))
+        .writeAsCsv(idMappingPath, FileSystem.WriteMode.OVERWRITE);
+    }
+
+    return config.getLogicalGraphFactory().fromDataSets(vertices, edges);
+  }
+
+  @Override
+  public GraphCollection getGraphCollection() throws IOException {
+    return config.getGraphCollectionFactory().fromGraph(getLogicalGraph());
+  }
+
+  /**
+   * Returns the mapping from external vertex ids to Gradoop ids.
+   *
+   * @return (externalId, gradoopId) pairs
+   */
+  public DataSet<Tuple2<Long, GradoopId>> getIdMapping() {
+    return getExternalIds(readLineTuples()).map(new ExternalIdToGradoopId(encoder));
+  }
+
+  /**
+   * Returns the namespace of the created vertex ids, which can be used to create further data
+   * sources assigning the same ids to the same external vertices.
+   *
+   * @return id namespace
+   */
+  public int getIdNamespace() {
+    return encoder.getNamespace();
+  }
+
+  /**
+   * Reads the (sourceId, targetId) pairs from the edge list.
+   *
+   * @return external source and target ids
+   */
+  private DataSet<Tuple2<Long, Long>> readLineTuples() {
+    return config.getExecutionEnvironment()
+      .createInput(new EdgeListInputFormat(edgeListPath, tokenSeparator));
+  }
+
+  /**
+   * Returns the distinct external vertex ids of the given edges.
+   *
+   * @param lineTuples external source and target ids
+   * @return distinct external vertex ids
+   */
+  private DataSet<Tuple1<Long>> getExternalIds(DataSet<Tuple2<Long, Long>> lineTuples) {
+    return lineTuples
+      .<Tuple1<Long>>project(0)
+      .union(lineTuples.<Tuple1<Long>>project(1))
+      .distinct();
+  }
+}
@@ -0,0 +1,54 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.edgelist.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.api.entities.EPGMEdgeFactory;
+import org.gradoop.common.model.impl.pojo.Edge;
+
+/**
+ * (sourceId, targetId) => Edge
+ *
+ * Source and target vertex ids are derived from the external ids by an {@link ExternalIdEncoder},
+ * hence no join with the vertices is necessary.
+ */
+public class CreateEdgeFromExternalIds implements MapFunction<Tuple2<Long, Long>, Edge> {
+  /**
+   * Used to create new edges
+   */
+  private final EPGMEdgeFactory<Edge> edgeFactory;
+  /**
+   * Maps external ids to vertex ids
+   */
+  private final ExternalIdEncoder encoder;
+
+  /**
+   * Constructor
+   *
+   * @param edgeFactory edge factory
+   * @param encoder maps external ids to vertex ids
+   */
+  public CreateEdgeFromExternalIds(EPGMEdgeFactory<Edge> edgeFactory, ExternalIdEncoder encoder) {
+    this.edgeFactory = edgeFactory;
+    this.encoder = encoder;
+  }
+
+  @Override
+  public Edge map(Tuple2<Long, Long> externalIds) throws Exception {
+    return edgeFactory.createEdge(encoder.encode(externalIds.f0), encoder.encode(externalIds.f1));
+  }
+}
@@ -0,0 +1,54 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.edgelist.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.tuple.Tuple1;
+import org.gradoop.common.model.api.entities.EPGMVertexFactory;
+import org.gradoop.common.model.impl.pojo.Vertex;
+
+/**
+ * (externalId) => Vertex
+ *
+ * The vertex id is derived from the external id by an {@link ExternalIdEncoder}.
+ */
+public class CreateVertexFromExternalId implements MapFunction<Tuple1<Long>, Vertex> {
+  /**
+   * Used to create new vertices
+   */
+  private final EPGMVertexFactory<Vertex> vertexFactory;
+  /**
+   * Maps external ids to vertex ids
+   */
+  private final ExternalIdEncoder encoder;
+
+  /**
+   * Constructor
+   *
+   * @param vertexFactory vertex factory
+   * @param encoder maps external ids to vertex ids
+   */
+  public CreateVertexFromExternalId(EPGMVertexFactory<Vertex> vertexFactory,
+    ExternalIdEncoder encoder) {
+    this.vertexFactory = vertexFactory;
+    this.encoder = encoder;
+  }
+
+  @Override
+  public Vertex map(Tuple1<Long> externalId) throws Exception {
+    return vertexFactory.initVertex(encoder.encode(externalId.f0));
+  }
+}
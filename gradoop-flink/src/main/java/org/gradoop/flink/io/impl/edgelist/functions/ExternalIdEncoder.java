@@ -0,0 +1,69 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.edgelist.functions;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+
+import java.io.Serializable;
+
+/**
+ * Maps external long identifiers to {@link GradoopId}s without any lookup. The 12 bytes of the
+ * resulting id consist of a 4 byte namespace followed by the 8 byte external id, i.e., the
+ * mapping is bijective and deterministic for a fixed namespace. Using the same namespace for
+ * multiple imports thus yields the same ids for the same external vertices.
+ */
+public class ExternalIdEncoder implements Serializable {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * Namespace stored in the leading bytes of each id
+   */
+  private final int namespace;
+
+  /**
+   * Creates a new encoder.
+   *
+   * @param namespace namespace stored in the leading bytes of each id
+   */
+  public ExternalIdEncoder(int namespace) {
+    this.namespace = namespace;
+  }
+
+  /**
+   * Returns the id for the given external id.
+   *
+   * @param externalId external id
+   * @return Gradoop id
+   */
+  public GradoopId encode(long externalId) {
+    byte[] bytes = new byte[GradoopId.ID_SIZE];
+    bytes[0] = (byte) (namespace >>> 24);
+    bytes[1] = (byte) (namespace >>> 16);
+    bytes[2] = (byte) (namespace >>> 8);
+    bytes[3] = (byte) namespace;
+    for (int i = GradoopId.ID_SIZE - 1; i >= 4; i--) {
+      bytes[i] = (byte) externalId;
+      externalId >>>= 8;
+    }
+    return GradoopId.fromByteArray(bytes);
+  }
+
+  public int getNamespace() {
+    return namespace;
+  }
+}
@@ -0,0 +1,59 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.edgelist.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple1;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * (externalId) => (externalId, gradoopId)
+ *
+ * Forwarded fields:
+ *
+ * f0: externalId
+ */
+@FunctionAnnotation.ForwardedFields("f0")
+public class ExternalIdToGradoopId
+  implements MapFunction<Tuple1<Long>, Tuple2<Long, GradoopId>> {
+  /**
+   * Maps external ids to vertex ids
+   */
+  private final ExternalIdEncoder encoder;
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple2<Long, GradoopId> reuseTuple;
+
+  /**
+   * Constructor
+   *
+   * @param encoder maps external ids to vertex ids
+   */
+  public ExternalIdToGradoopId(ExternalIdEncoder encoder) {
+    this.encoder = encoder;
+    this.reuseTuple = new Tuple2<>();
+  }
+
+  @Override
+  public Tuple2<Long, GradoopId> map(Tuple1<Long> externalId) throws Exception {
+    reuseTuple.f0 = externalId.f0;
+    reuseTuple.f1 = encoder.encode(externalId.f0);
+    return reuseTuple;
+  }
+}
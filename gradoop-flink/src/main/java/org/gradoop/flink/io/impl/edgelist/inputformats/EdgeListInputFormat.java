@@ -0,0 +1,187 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.edgelist.inputformats;
+
+import org.apache.flink.api.common.io.DelimitedInputFormat;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.core.fs.Path;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Input format reading (sourceId, targetId) pairs from an edge list containing one edge per line,
+ * e.g. in the SNAP format:
+ *
+ * # comment
+ * 0 1
+ * 2 0
+ *
+ * Both ids are parsed as long values directly from the line bytes. Ids are separated by the
+ * given token separator and/or whitespace, additional columns are ignored. Empty lines and lines
+ * starting with {@code #} or {@code %} are skipped.
+ *
+ * Files ending with a compression suffix supported by Flink (e.g. {@code .gz}, {@code .deflate},
+ * {@code .bz2} or {@code .xz}) are decompressed while reading. Note that compressed files can not
+ * be split, i.e., each one is read by a single task.
+ */
+public class EdgeListInputFormat extends DelimitedInputFormat<Tuple2<Long, Long>> {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * Encoded token separator
+   */
+  private final byte[] separator;
+
+  /**
+   * Creates a new input format.
+   *
+   * @param filePath path to the edge list file or directory
+   * @param tokenSeparator separator of source and target id
+   */
+  public EdgeListInputFormat(String filePath, String tokenSeparator) {
+    super(new Path(filePath), null);
+    this.separator = tokenSeparator.getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Override
+  public Tuple2<Long, Long> readRecord(Tuple2<Long, Long> reuse, byte[] bytes, int offset,
+    int numBytes) throws IOException {
+    int end = offset + numBytes;
+    int position = skipSeparators(bytes, offset, end);
+
+    if (position == end || bytes[position] == '#' || bytes[position] == '%') {
+      return null;
+    }
+
+    Tuple2<Long, Long> edge = reuse != null ? reuse : new Tuple2<>();
+
+    int idEnd = findIdEnd(bytes, position, end);
+    edge.f0 = parseId(bytes, position, idEnd);
+
+    position = skipSeparators(bytes, idEnd, end);
+    if (position == idEnd) {
+      throw new IOException("Missing separator in line " +
+        new String(bytes, offset, numBytes, StandardCharsets.UTF_8));
+    }
+
+    idEnd = findIdEnd(bytes, position, end);
+    edge.f1 = parseId(bytes, position, idEnd);
+
+    if (idEnd < end && skipSeparators(bytes, idEnd, end) == idEnd) {
+      throw new IOException("Invalid target id in line " +
+        new String(bytes, offset, numBytes, StandardCharsets.UTF_8));
+    }
+
+    return edge;
+  }
+
+  /**
+   * Returns the first position at or after the given one which is neither whitespace nor part of
+   * the token separator.
+   *
+   * @param bytes line bytes
+   * @param position start position
+   * @param end end of the line
+   * @return position of the next token
+   */
+  private int skipSeparators(byte[] bytes, int position, int end) {
+    while (position < end) {
+      byte b = bytes[position];
+      if (b == ' ' || b == '\t' || b == '\r') {
+        position++;
+      } else if (matchesSeparator(bytes, position, end)) {
+        position += separator.length;
+      } else {
+        break;
+      }
+    }
+    return position;
+  }
+
+  /**
+   * Checks if the token separator starts at the given position.
+   *
+   * @param bytes line bytes
+   * @param position position to check
+   * @param end end of the line
+   * @return true, iff the token separator starts at the position
+   */
+  private boolean matchesSeparator(byte[] bytes, int position, int end) {
+    if (separator.length == 0 || end - position < separator.length) {
+      return false;
+    }
+    for (int i = 0; i < separator.length; i++) {
+      if (bytes[position + i] != separator[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the position after the last digit of the id starting at the given position.
+   *
+   * @param bytes line bytes
+   * @param position start of the id
+   * @param end end of the line
+   * @return end of the id
+   */
+  private int findIdEnd(byte[] bytes, int position, int end) {
+    if (position < end && bytes[position] == '-') {
+      position++;
+    }
+    while (position < end && bytes[position] >= '0' && bytes[position] <= '9') {
+      position++;
+    }
+    return position;
+  }
+
+  /**
+   * Parses a long id from the given bytes.
+   *
+   * @param bytes line bytes
+   * @param start start of the id
+   * @param end end of the id
+   * @return id
+   * @throws IOException if the bytes do not represent a long value
+   */
+  private long parseId(byte[] bytes, int start, int end) throws IOException {
+    boolean negative = start < end && bytes[start] == '-';
+    int position = negative ? start + 1 : start;
+    if (position == end) {
+      throw new IOException("Invalid id at line position " + start);
+    }
+    // accumulate negatively to cover Long.MIN_VALUE
+    long value = 0;
+    for (; position < end; position++) {
+      int digit = bytes[position] - '0';
+      if (value < (Long.MIN_VALUE + digit) / 10) {
+        throw new IOException("Id out of range at line position " + start);
+      }
+      value = value * 10 - digit;
+    }
+    if (!negative) {
+      if (value == Long.MIN_VALUE) {
+        throw new IOException("Id out of range at line position " + start);
+      }
+      value = -value;
+    }
+    return value;
+  }
+}
@@ -20,6 +20,9 @@ import org.gradoop.flink.io.api.DataSink;
 import org.gradoop.flink.io.impl.json.functions.EdgeToJSON;
 import org.gradoop.flink.io.impl.json.functions.GraphHeadToJSON;
 import org.gradoop.flink.io.impl.json.functions.VertexToJSON;
+import org.gradoop.flink.io.impl.json.outputformats.JSONEdgeOutputFormat;
+import org.gradoop.flink.io.impl.json.outputformats.JSONGraphHeadOutputFormat;
+import org.gradoop.flink.io.impl.json.outputformats.JSONVertexOutputFormat;
 import org.gradoop.flink.model.api.epgm.GraphCollection;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
 import org.gradoop.flink.util.GradoopFlinkConfig;
@@ -29,7 +32,8 @@ import java.io.IOException;
 /**
  * Write an EPGM representation into three separate JSON files. The format
  * is documented at {@link GraphHeadToJSON}, {@link VertexToJSON} and
- * {@link EdgeToJSON}.
+ * {@link EdgeToJSON}. The documents are encoded by streaming output formats, e.g.
+ * {@link JSONVertexOutputFormat}, without building a JSON object tree.
  */
 public class JSONDataSink extends JSONBase implements DataSink {
 
@@ -81,11 +85,11 @@ public class JSONDataSink extends JSONBase implements DataSink {
     FileSystem.WriteMode writeMode =
       overWrite ? FileSystem.WriteMode.OVERWRITE :  FileSystem.WriteMode.NO_OVERWRITE;
 
-    graphCollection.getGraphHeads().writeAsFormattedText(getGraphHeadPath(), writeMode,
-      new GraphHeadToJSON<>());
-    graphCollection.getVertices().writeAsFormattedText(getVertexPath(), writeMode,
-      new VertexToJSON<>());
-    graphCollection.getEdges().writeAsFormattedText(getEdgePath(), writeMode,
-      new EdgeToJSON<>());
+    graphCollection.getGraphHeads().output(
+      new JSONGraphHeadOutputFormat(getGraphHeadPath(), writeMode));
+    graphCollection.getVertices().output(
+      new JSONVertexOutputFormat(getVertexPath(), writeMode));
+    graphCollection.getEdges().output(
+      new JSONEdgeOutputFormat(getEdgePath(), writeMode));
   }
 }
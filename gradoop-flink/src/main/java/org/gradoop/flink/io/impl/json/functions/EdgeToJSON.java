@@ -16,9 +16,7 @@
 package org.gradoop.flink.io.impl.json.functions;
 
 import org.apache.flink.api.java.io.TextOutputFormat;
-import org.codehaus.jettison.json.JSONException;
-import org.codehaus.jettison.json.JSONObject;
-import org.gradoop.flink.io.impl.json.JSONConstants;
+import org.gradoop.flink.io.impl.json.outputformats.JSONWriter;
 import org.gradoop.common.model.impl.pojo.Edge;
 
 /**
@@ -46,16 +44,8 @@ public class EdgeToJSON<E extends Edge>
    */
   @Override
   public String format(E e) {
-    JSONObject json = new JSONObject();
-    try {
-      json.put(JSONConstants.IDENTIFIER, e.getId());
-      json.put(JSONConstants.EDGE_SOURCE, e.getSourceId());
-      json.put(JSONConstants.EDGE_TARGET, e.getTargetId());
-      json.put(JSONConstants.DATA, writeProperties(e));
-      json.put(JSONConstants.META, writeGraphElementMeta(e));
-    } catch (JSONException ex) {
-      ex.printStackTrace();
-    }
-    return json.toString();
+    JSONWriter writer = getWriter();
+    writer.writeEdge(e);
+    return writer.toString();
   }
 }
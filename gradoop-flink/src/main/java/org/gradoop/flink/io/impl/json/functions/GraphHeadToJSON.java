@@ -16,9 +16,7 @@
 package org.gradoop.flink.io.impl.json.functions;
 
 import org.apache.flink.api.java.io.TextOutputFormat;
-import org.codehaus.jettison.json.JSONException;
-import org.codehaus.jettison.json.JSONObject;
-import org.gradoop.flink.io.impl.json.JSONConstants;
+import org.gradoop.flink.io.impl.json.outputformats.JSONWriter;
 import org.gradoop.common.model.impl.pojo.GraphHead;
 
 /**
@@ -44,14 +42,8 @@ public class GraphHeadToJSON<G extends GraphHead>
    */
   @Override
   public String format(G g) {
-    JSONObject json = new JSONObject();
-    try {
-      json.put(JSONConstants.IDENTIFIER, g.getId());
-      json.put(JSONConstants.DATA, writeProperties(g));
-      json.put(JSONConstants.META, writeGraphMeta(g));
-    } catch (JSONException ex) {
-      ex.printStackTrace();
-    }
-    return json.toString();
+    JSONWriter writer = getWriter();
+    writer.writeGraphHead(g);
+    return writer.toString();
   }
 }
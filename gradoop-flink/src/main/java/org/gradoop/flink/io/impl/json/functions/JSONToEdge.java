@@ -16,14 +16,8 @@
 package org.gradoop.flink.io.impl.json.functions;
 
 import org.apache.flink.api.common.functions.MapFunction;
-import org.codehaus.jettison.json.JSONException;
-import org.codehaus.jettison.json.JSONObject;
 import org.gradoop.common.model.impl.pojo.Edge;
-import org.gradoop.flink.io.impl.json.JSONConstants;
 import org.gradoop.common.model.api.entities.EPGMEdgeFactory;
-import org.gradoop.common.model.impl.id.GradoopId;
-import org.gradoop.common.model.impl.id.GradoopIdSet;
-import org.gradoop.common.model.impl.properties.Properties;
 
 /**
  * Reads edge data from a json document. The document contains at least
@@ -66,38 +60,6 @@ public class JSONToEdge extends JSONToEntity
    */
   @Override
   public Edge map(String s) throws Exception {
-    JSONObject jsonEdge = new JSONObject(s);
-    GradoopId edgeID = getID(jsonEdge);
-    String edgeLabel = getLabel(jsonEdge);
-    GradoopId sourceID = getSourceId(jsonEdge);
-    GradoopId targetID = getTargetId(jsonEdge);
-    Properties properties = Properties.createFromMap(
-      getProperties(jsonEdge));
-    GradoopIdSet graphs = getGraphs(jsonEdge);
-
-    return edgeFactory.initEdge(edgeID, edgeLabel, sourceID, targetID,
-      properties, graphs);
-  }
-
-  /**
-   * Reads the source vertex identifier from the json object.
-   *
-   * @param jsonEdge json string representation
-   * @return source vertex identifier
-   * @throws JSONException
-   */
-  private GradoopId getSourceId(JSONObject jsonEdge) throws JSONException {
-    return GradoopId.fromString(jsonEdge.getString(JSONConstants.EDGE_SOURCE));
-  }
-
-  /**
-   * Reads the target vertex identifier from the json object.
-   *
-   * @param jsonEdge json string representation
-   * @return target vertex identifier
-   * @throws JSONException
-   */
-  private GradoopId getTargetId(JSONObject jsonEdge) throws JSONException {
-    return GradoopId.fromString(jsonEdge.getString(JSONConstants.EDGE_TARGET));
+    return getReader(s).readEdge(null, edgeFactory);
   }
 }
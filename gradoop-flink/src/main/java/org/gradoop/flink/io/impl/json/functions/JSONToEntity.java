@@ -15,101 +15,32 @@
  */
 package org.gradoop.flink.io.impl.json.functions;
 
-import com.google.common.collect.Maps;
-import org.codehaus.jettison.json.JSONArray;
-import org.codehaus.jettison.json.JSONException;
-import org.codehaus.jettison.json.JSONObject;
-import org.gradoop.flink.io.impl.json.JSONConstants;
-import org.gradoop.common.model.impl.id.GradoopId;
-import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.flink.io.impl.json.inputformats.JSONReader;
 
-import java.util.Iterator;
-import java.util.Map;
+import java.nio.charset.StandardCharsets;
 
 /**
- * Contains methods used by all entity readers (e.g. read label, properties).
+ * Contains methods used by all entity readers. The documents are parsed by a streaming
+ * {@link JSONReader} which is reused for all documents.
  */
 public class JSONToEntity {
-
-  /**
-   * Reads the entity identifier from the json object.
-   *
-   * @param object json object
-   * @return entity identifier
-   * @throws JSONException
-   */
-  protected GradoopId getID(JSONObject object) throws JSONException {
-    return GradoopId.fromString(object.getString(JSONConstants.IDENTIFIER));
-  }
-
-  /**
-   * Reads the entity label from the json object.
-   *
-   * @param object json object
-   * @return entity label
-   * @throws JSONException
-   */
-  protected String getLabel(JSONObject object) throws JSONException {
-    return object
-      .getJSONObject(JSONConstants.META)
-      .getString(JSONConstants.LABEL);
-  }
-
   /**
-   * Reads the key-value properties from the json object.
-   *
-   * @param object json object
-   * @return key-value properties
-   * @throws JSONException
+   * Reader used to parse the documents
    */
-  protected Map<String, Object> getProperties(JSONObject object) throws
-    JSONException {
-    Map<String, Object> props =
-      Maps.newHashMapWithExpectedSize(object.length() * 2);
-    object = object.getJSONObject(JSONConstants.DATA);
-    Iterator<?> keys = object.keys();
-    while (keys.hasNext()) {
-      String key = keys.next().toString();
-      Object o = object.get(key);
-      props.put(key, o);
-    }
-    return props;
-  }
+  private transient JSONReader reader;
 
   /**
-   * Reads a set of graph identifiers from the json object.
+   * Returns a reader positioned at the given document.
    *
-   * @param object json object
-   * @return graph identifiers
-   * @throws JSONException
+   * @param document json string
+   * @return reader
    */
-  protected GradoopIdSet getGraphs(JSONObject object) throws JSONException {
-    GradoopIdSet result;
-    if (!object.getJSONObject(JSONConstants.META).has(JSONConstants.GRAPHS)) {
-      result = new GradoopIdSet();
-    } else {
-      result = getArrayValues(object
-          .getJSONObject(JSONConstants.META)
-          .getJSONArray(JSONConstants.GRAPHS));
-    }
-    return result;
-  }
-
-  /**
-   * Reads a set of Long values from a given json array.
-   *
-   * @param array json array
-   * @return long values
-   * @throws JSONException
-   */
-  protected GradoopIdSet getArrayValues(JSONArray array) throws
-    JSONException {
-
-    GradoopIdSet result = new GradoopIdSet();
-
-    for (int i = 0; i < array.length(); i++) {
-      result.add(GradoopId.fromString(array.getString(i)));
+  protected JSONReader getReader(String document) {
+    if (reader == null) {
+      reader = new JSONReader();
     }
-    return result;
+    byte[] bytes = document.getBytes(StandardCharsets.UTF_8);
+    reader.reset(bytes, 0, bytes.length);
+    return reader;
   }
 }
@@ -16,11 +16,8 @@
 package org.gradoop.flink.io.impl.json.functions;
 
 import org.apache.flink.api.common.functions.MapFunction;
-import org.codehaus.jettison.json.JSONObject;
 import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.api.entities.EPGMGraphHeadFactory;
-import org.gradoop.common.model.impl.id.GradoopId;
-import org.gradoop.common.model.impl.properties.Properties;
 
 /**
  * Reads graph data from a json document. The document contains at least
@@ -63,12 +60,6 @@ public class JSONToGraphHead extends JSONToEntity
    */
   @Override
   public GraphHead map(String s) throws Exception {
-    JSONObject jsonGraph = new JSONObject(s);
-    GradoopId graphID = getID(jsonGraph);
-    String label = getLabel(jsonGraph);
-    Properties properties = Properties.createFromMap(
-      getProperties(jsonGraph));
-
-    return graphHeadFactory.initGraphHead(graphID, label, properties);
+    return getReader(s).readGraphHead(null, graphHeadFactory);
   }
 }
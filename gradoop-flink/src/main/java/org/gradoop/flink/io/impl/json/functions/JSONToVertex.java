@@ -16,12 +16,8 @@
 package org.gradoop.flink.io.impl.json.functions;
 
 import org.apache.flink.api.common.functions.MapFunction;
-import org.codehaus.jettison.json.JSONObject;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.common.model.api.entities.EPGMVertexFactory;
-import org.gradoop.common.model.impl.id.GradoopId;
-import org.gradoop.common.model.impl.id.GradoopIdSet;
-import org.gradoop.common.model.impl.properties.Properties;
 
 /**
  * Reads vertex data from a json document. The document contains at least
@@ -65,13 +61,6 @@ public class JSONToVertex extends JSONToEntity
    */
   @Override
   public Vertex map(String s) throws Exception {
-    JSONObject jsonVertex = new JSONObject(s);
-    GradoopId vertexID = getID(jsonVertex);
-    String label = getLabel(jsonVertex);
-    Properties properties = Properties.createFromMap(
-      getProperties(jsonVertex));
-    GradoopIdSet graphs = getGraphs(jsonVertex);
-
-    return vertexFactory.initVertex(vertexID, label, properties, graphs);
+    return getReader(s).readVertex(null, vertexFactory);
   }
 }
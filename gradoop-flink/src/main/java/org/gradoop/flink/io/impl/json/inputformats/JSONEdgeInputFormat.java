@@ -0,0 +1,52 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.json.inputformats;
+
+import org.gradoop.common.model.api.entities.EPGMEdgeFactory;
+import org.gradoop.common.model.impl.pojo.Edge;
+
+import java.io.IOException;
+
+/**
+ * Reads {@link Edge}s from a JSON file. The format is documented at
+ * {@link org.gradoop.flink.io.impl.json.functions.JSONToEdge}.
+ */
+public class JSONEdgeInputFormat extends JSONElementInputFormat<Edge> {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * Used to instantiate the edge.
+   */
+  private final EPGMEdgeFactory<Edge> edgeFactory;
+
+  /**
+   * Creates a new input format.
+   *
+   * @param filePath path to the edge JSON file
+   * @param edgeFactory EPGM edge factory
+   */
+  public JSONEdgeInputFormat(String filePath, EPGMEdgeFactory<Edge> edgeFactory) {
+    super(filePath);
+    this.edgeFactory = edgeFactory;
+  }
+
+  @Override
+  Edge readElement(Edge reuse, JSONReader reader) throws IOException {
+    return reader.readEdge(reuse, edgeFactory);
+  }
+}
@@ -0,0 +1,76 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.json.inputformats;
+
+import org.apache.flink.api.common.io.DelimitedInputFormat;
+import org.apache.flink.core.fs.FileInputSplit;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.common.model.impl.pojo.Element;
+
+import java.io.IOException;
+
+/**
+ * Base class for input formats reading EPGM elements from JSON files containing one document per
+ * line. The documents are parsed by a {@link JSONReader} which is reused for all lines of the
+ * task. Empty lines are skipped.
+ *
+ * @param <E> EPGM element type
+ */
+public abstract class JSONElementInputFormat<E extends Element> extends DelimitedInputFormat<E> {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * Reader used to parse the documents
+   */
+  private transient JSONReader reader;
+
+  /**
+   * Creates a new input format.
+   *
+   * @param filePath path to the JSON file or directory
+   */
+  JSONElementInputFormat(String filePath) {
+    super(new Path(filePath), null);
+  }
+
+  @Override
+  public void open(FileInputSplit split) throws IOException {
+    super.open(split);
+    if (reader == null) {
+      reader = new JSONReader();
+    }
+  }
+
+  @Override
+  public E readRecord(E reuse, byte[] bytes, int offset, int numBytes) throws IOException {
+    if (!reader.reset(bytes, offset, offset + numBytes)) {
+      return null;
+    }
+    return readElement(reuse, reader);
+  }
+
+  /**
+   * Reads an element from the document the given reader has been reset to.
+   *
+   * @param reuse element that may be reused, might be {@code null}
+   * @param reader reader positioned at the document
+   * @return parsed element
+   * @throws IOException if the document is malformed
+   */
+  abstract E readElement(E reuse, JSONReader reader) throws IOException;
+}
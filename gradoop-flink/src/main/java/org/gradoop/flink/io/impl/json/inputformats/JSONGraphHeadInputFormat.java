@@ -0,0 +1,53 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.json.inputformats;
+
+import org.gradoop.common.model.api.entities.EPGMGraphHeadFactory;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+
+import java.io.IOException;
+
+/**
+ * Reads {@link GraphHead}s from a JSON file. The format is documented at
+ * {@link org.gradoop.flink.io.impl.json.functions.JSONToGraphHead}.
+ */
+public class JSONGraphHeadInputFormat extends JSONElementInputFormat<GraphHead> {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * Used to instantiate the graph head.
+   */
+  private final EPGMGraphHeadFactory<GraphHead> graphHeadFactory;
+
+  /**
+   * Creates a new input format.
+   *
+   * @param filePath path to the graph head JSON file
+   * @param graphHeadFactory EPGM graph head factory
+   */
+  public JSONGraphHeadInputFormat(String filePath,
+    EPGMGraphHeadFactory<GraphHead> graphHeadFactory) {
+    super(filePath);
+    this.graphHeadFactory = graphHeadFactory;
+  }
+
+  @Override
+  GraphHead readElement(GraphHead reuse, JSONReader reader) throws IOException {
+    return reader.readGraphHead(reuse, graphHeadFactory);
+  }
+}
@@ -0,0 +1,868 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.json.inputformats;
+
+import edu.umd.cs.findbugs.annotations.SuppressWarnings;
+import org.gradoop.common.model.api.entities.EPGMEdgeFactory;
+import org.gradoop.common.model.api.entities.EPGMGraphHeadFactory;
+import org.gradoop.common.model.api.entities.EPGMVertexFactory;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphElement;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.io.impl.json.JSONConstants;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streaming reader for the documents of the Gradoop JSON format (see
+ * {@link org.gradoop.flink.io.impl.json.functions.JSONToVertex}). Instead of building a JSON
+ * object tree, identifiers, labels and property values are decoded directly from the bytes of a
+ * line. A reader is meant to be reused for all lines read by a task: labels and property keys are
+ * cached and the properties and graph identifiers of reused elements are overwritten.
+ *
+ * JSON values are mapped to property values as follows: strings to {@code String}, integral
+ * numbers to {@code int} or {@code long} (depending on their size), other numbers to
+ * {@code double}, booleans to {@code boolean}, {@code null} to the null value, arrays to lists
+ * and objects to maps with {@code String} keys.
+ */
+public class JSONReader {
+  /**
+   * Key of the element identifier
+   */
+  private static final byte[] ID = utf8(JSONConstants.IDENTIFIER);
+  /**
+   * Key of the source vertex identifier
+   */
+  private static final byte[] SOURCE = utf8(JSONConstants.EDGE_SOURCE);
+  /**
+   * Key of the target vertex identifier
+   */
+  private static final byte[] TARGET = utf8(JSONConstants.EDGE_TARGET);
+  /**
+   * Key of the properties
+   */
+  private static final byte[] DATA = utf8(JSONConstants.DATA);
+  /**
+   * Key of the meta document
+   */
+  private static final byte[] META = utf8(JSONConstants.META);
+  /**
+   * Key of the label
+   */
+  private static final byte[] LABEL = utf8(JSONConstants.LABEL);
+  /**
+   * Key of the graph identifiers
+   */
+  private static final byte[] GRAPHS = utf8(JSONConstants.GRAPHS);
+  /**
+   * Literal true
+   */
+  private static final byte[] TRUE = utf8("true");
+  /**
+   * Literal false
+   */
+  private static final byte[] FALSE = utf8("false");
+  /**
+   * Literal null
+   */
+  private static final byte[] NULL = utf8("null");
+  /**
+   * Number of characters of a hexadecimal {@link GradoopId} representation
+   */
+  private static final int ID_LENGTH = 2 * GradoopId.ID_SIZE;
+  /**
+   * Number of cached property keys, needs to be a power of two
+   */
+  private static final int KEY_CACHE_SIZE = 64;
+
+  /**
+   * Buffer containing the current document
+   */
+  private byte[] bytes;
+  /**
+   * Position of the first byte of the current document
+   */
+  private int start;
+  /**
+   * Position of the next byte to read
+   */
+  private int position;
+  /**
+   * Position after the last byte of the current document
+   */
+  private int end;
+  /**
+   * True, if the string scanned last contains escape sequences
+   */
+  private boolean escaped;
+  /**
+   * Position of the first byte of the key read last
+   */
+  private int keyStart;
+  /**
+   * Position after the last byte of the key read last
+   */
+  private int keyEnd;
+  /**
+   * True, if the key read last contains escape sequences
+   */
+  private boolean keyEscaped;
+  /**
+   * Bytes of the cached property keys
+   */
+  private final byte[][] keyBytesCache = new byte[KEY_CACHE_SIZE][];
+  /**
+   * Cached property keys
+   */
+  private final String[] keyCache = new String[KEY_CACHE_SIZE];
+  /**
+   * Bytes of the label read last
+   */
+  private byte[] lastLabelBytes;
+  /**
+   * Label read last
+   */
+  private String lastLabel;
+  /**
+   * Used to decode strings containing escape sequences
+   */
+  private final StringBuilder builder = new StringBuilder();
+  /**
+   * Identifier of the current document
+   */
+  private GradoopId id;
+  /**
+   * Source vertex identifier of the current document
+   */
+  private GradoopId sourceId;
+  /**
+   * Target vertex identifier of the current document
+   */
+  private GradoopId targetId;
+  /**
+   * Label of the current document
+   */
+  private String label;
+
+  /**
+   * Sets the document to read.
+   *
+   * @param bytes buffer containing the document
+   * @param offset position of the first byte of the document
+   * @param end position after the last byte of the document
+   * @return false, iff the document consists of whitespace only
+   */
+  @SuppressWarnings("EI_EXPOSE_REP2")
+  public boolean reset(byte[] bytes, int offset, int end) {
+    this.bytes = bytes;
+    this.start = offset;
+    this.position = offset;
+    this.end = end;
+    skipWhitespace();
+    return position < end;
+  }
+
+  /**
+   * Reads a graph head from the current document.
+   *
+   * @param reuse graph head that is reused, might be {@code null}
+   * @param factory used to create a graph head if none is reused
+   * @return graph head
+   * @throws IOException if the document is malformed
+   */
+  public GraphHead readGraphHead(GraphHead reuse,
+    EPGMGraphHeadFactory<GraphHead> factory) throws IOException {
+    Properties properties = reuseProperties(reuse == null ? null : reuse.getProperties());
+    readDocument(properties, null);
+    if (reuse == null) {
+      return factory.initGraphHead(id, label, properties);
+    }
+    reuse.setId(id);
+    reuse.setLabel(label);
+    reuse.setProperties(properties);
+    return reuse;
+  }
+
+  /**
+   * Reads a vertex from the current document.
+   *
+   * @param reuse vertex that is reused, might be {@code null}
+   * @param factory used to create a vertex if none is reused
+   * @return vertex
+   * @throws IOException if the document is malformed
+   */
+  public Vertex readVertex(Vertex reuse, EPGMVertexFactory<Vertex> factory) throws IOException {
+    Properties properties = reuseProperties(reuse == null ? null : reuse.getProperties());
+    GradoopIdSet graphIds = reuseGraphIds(reuse);
+    readDocument(properties, graphIds);
+    if (reuse == null) {
+      return factory.initVertex(id, label, properties, graphIds);
+    }
+    reuse.setId(id);
+    reuse.setLabel(label);
+    reuse.setProperties(properties);
+    reuse.setGraphIds(graphIds);
+    return reuse;
+  }
+
+  /**
+   * Reads an edge from the current document.
+   *
+   * @param reuse edge that is reused, might be {@code null}
+   * @param factory used to create an edge if none is reused
+   * @return edge
+   * @throws IOException if the document is malformed
+   */
+  public Edge readEdge(Edge reuse, EPGMEdgeFactory<Edge> factory) throws IOException {
+    Properties properties = reuseProperties(reuse == null ? null : reuse.getProperties());
+    GradoopIdSet graphIds = reuseGraphIds(reuse);
+    readDocument(properties, graphIds);
+    if (sourceId == null) {
+      throw missing(JSONConstants.EDGE_SOURCE);
+    }
+    if (targetId == null) {
+      throw missing(JSONConstants.EDGE_TARGET);
+    }
+    if (reuse == null) {
+      return factory.initEdge(id, label, sourceId, targetId, properties, graphIds);
+    }
+    reuse.setId(id);
+    reuse.setLabel(label);
+    reuse.setSourceId(sourceId);
+    reuse.setTargetId(targetId);
+    reuse.setProperties(properties);
+    reuse.setGraphIds(graphIds);
+    return reuse;
+  }
+
+  /**
+   * Returns empty properties, reusing the given instance if possible.
+   *
+   * @param reuse properties that may be reused, might be {@code null}
+   * @return empty properties
+   */
+  private static Properties reuseProperties(Properties reuse) {
+    if (reuse == null) {
+      return Properties.create();
+    }
+    reuse.clear();
+    return reuse;
+  }
+
+  /**
+   * Returns an empty identifier set, reusing the set of the given element if possible.
+   *
+   * @param reuse element that may be reused, might be {@code null}
+   * @return empty identifier set
+   */
+  private static GradoopIdSet reuseGraphIds(GraphElement reuse) {
+    if (reuse == null || reuse.getGraphIds() == null) {
+      return new GradoopIdSet();
+    }
+    GradoopIdSet graphIds = reuse.getGraphIds();
+    graphIds.clear();
+    return graphIds;
+  }
+
+  //------------------------------------------------------------------------------------------------
+  // Documents
+  //------------------------------------------------------------------------------------------------
+
+  /**
+   * Reads the current document. Identifiers and label are stored in the fields of the reader.
+   *
+   * @param properties properties to add the property values to
+   * @param graphIds set to add the graph identifiers to, {@code null} to skip them
+   * @throws IOException if the document is malformed
+   */
+  private void readDocument(Properties properties, GradoopIdSet graphIds) throws IOException {
+    id = null;
+    sourceId = null;
+    targetId = null;
+    label = null;
+
+    if (beginObject()) {
+      do {
+        readKey();
+        if (keyEquals(ID)) {
+          id = readId();
+        } else if (keyEquals(SOURCE)) {
+          sourceId = readId();
+        } else if (keyEquals(TARGET)) {
+          targetId = readId();
+        } else if (keyEquals(DATA)) {
+          readProperties(properties);
+        } else if (keyEquals(META)) {
+          readMeta(graphIds);
+        } else {
+          readValue();
+        }
+      } while (nextMember());
+    }
+    skipWhitespace();
+    if (position < end) {
+      throw unexpected();
+    }
+    if (id == null) {
+      throw missing(JSONConstants.IDENTIFIER);
+    }
+    if (label == null) {
+      throw missing(JSONConstants.LABEL);
+    }
+  }
+
+  /**
+   * Reads the meta document containing the label and the graph identifiers.
+   *
+   * @param graphIds set to add the graph identifiers to, {@code null} to skip them
+   * @throws IOException if the document is malformed
+   */
+  private void readMeta(GradoopIdSet graphIds) throws IOException {
+    if (beginObject()) {
+      do {
+        readKey();
+        if (keyEquals(LABEL)) {
+          label = readLabel();
+        } else if (keyEquals(GRAPHS) && graphIds != null) {
+          if (beginArray()) {
+            do {
+              graphIds.add(readId());
+            } while (nextElement());
+          }
+        } else {
+          readValue();
+        }
+      } while (nextMember());
+    }
+  }
+
+  /**
+   * Reads the properties document.
+   *
+   * @param properties properties to add the property values to
+   * @throws IOException if the document is malformed
+   */
+  private void readProperties(Properties properties) throws IOException {
+    if (beginObject()) {
+      do {
+        readKey();
+        String key = getKey();
+        properties.set(key, readValue());
+      } while (nextMember());
+    }
+  }
+
+  /**
+   * Reads a quoted hexadecimal {@link GradoopId}.
+   *
+   * @return identifier
+   * @throws IOException if the next value is no identifier
+   */
+  private GradoopId readId() throws IOException {
+    expect('"');
+    if (end - position <= ID_LENGTH || bytes[position + ID_LENGTH] != '"') {
+      throw new IOException("Invalid identifier: " + line());
+    }
+    GradoopId gradoopId = GradoopId.fromHexBytes(bytes, position);
+    position += ID_LENGTH + 1;
+    return gradoopId;
+  }
+
+  /**
+   * Reads a label. As files usually contain many elements with the same label, the label read
+   * last is returned if the bytes are equal.
+   *
+   * @return label
+   * @throws IOException if the next value is no string
+   */
+  private String readLabel() throws IOException {
+    expect('"');
+    int stringStart = position;
+    int stringEnd = scanString();
+    position = stringEnd + 1;
+    if (escaped) {
+      return decode(stringStart, stringEnd);
+    }
+    if (lastLabelBytes == null || !equalBytes(lastLabelBytes, stringStart, stringEnd)) {
+      lastLabelBytes = Arrays.copyOfRange(bytes, stringStart, stringEnd);
+      lastLabel = new String(lastLabelBytes, StandardCharsets.UTF_8);
+    }
+    return lastLabel;
+  }
+
+  //------------------------------------------------------------------------------------------------
+  // Values
+  //------------------------------------------------------------------------------------------------
+
+  /**
+   * Reads an arbitrary JSON value.
+   *
+   * @return property value
+   * @throws IOException if the next value is malformed
+   */
+  private PropertyValue readValue() throws IOException {
+    PropertyValue value = new PropertyValue();
+    switch (peek()) {
+    case '"':
+      readString(value);
+      break;
+    case '{':
+      Map<PropertyValue, PropertyValue> map = new HashMap<>();
+      if (beginObject()) {
+        do {
+          readKey();
+          map.put(PropertyValue.create(getKey()), readValue());
+        } while (nextMember());
+      }
+      value.setMap(map);
+      break;
+    case '[':
+      List<PropertyValue> list = new ArrayList<>();
+      if (beginArray()) {
+        do {
+          list.add(readValue());
+        } while (nextElement());
+      }
+      value.setList(list);
+      break;
+    case 't':
+      readLiteral(TRUE);
+      value.setBoolean(true);
+      break;
+    case 'f':
+      readLiteral(FALSE);
+      value.setBoolean(false);
+      break;
+    case 'n':
+      readLiteral(NULL);
+      value.setObject(null);
+      break;
+    default:
+      readNumber(value);
+    }
+    return value;
+  }
+
+  /**
+   * Reads a string value. Strings without escape sequences are copied into the property value
+   * without decoding them.
+   *
+   * @param value property value to set
+   * @throws IOException if the string is not terminated
+   */
+  private void readString(PropertyValue value) throws IOException {
+    expect('"');
+    int stringStart = position;
+    int stringEnd = scanString();
+    position = stringEnd + 1;
+    if (escaped) {
+      value.setString(decode(stringStart, stringEnd));
+    } else {
+      byte[] rawBytes = new byte[PropertyValue.OFFSET + stringEnd - stringStart];
+      rawBytes[0] = PropertyValue.TYPE_STRING;
+      System.arraycopy(bytes, stringStart, rawBytes, PropertyValue.OFFSET, stringEnd - stringStart);
+      value.setBytes(rawBytes);
+    }
+  }
+
+  /**
+   * Reads a number. Integral numbers are stored as {@code int} or {@code long} values if they fit,
+   * all other numbers as {@code double} values.
+   *
+   * @param value property value to set
+   * @throws IOException if the next value is no number
+   */
+  private void readNumber(PropertyValue value) throws IOException {
+    int numberStart = position;
+    boolean integral = true;
+    while (position < end) {
+      byte b = bytes[position];
+      if (b == '.' || b == 'e' || b == 'E') {
+        integral = false;
+      } else if ((b < '0' || b > '9') && b != '-' && b != '+') {
+        break;
+      }
+      position++;
+    }
+    if (position == numberStart) {
+      throw unexpected();
+    }
+
+    if (integral) {
+      int i = numberStart;
+      boolean negative = bytes[i] == '-';
+      if (negative || bytes[i] == '+') {
+        i++;
+      }
+      // accumulate negatively to cover Long.MIN_VALUE
+      long result = 0;
+      boolean overflow = i == position;
+      for (; i < position && !overflow; i++) {
+        int digit = bytes[i] - '0';
+        if (digit < 0 || digit > 9) {
+          throw invalidNumber(numberStart);
+        }
+        overflow = result < (Long.MIN_VALUE + digit) / 10;
+        result = result * 10 - digit;
+      }
+      overflow |= !negative && result == Long.MIN_VALUE;
+      if (!overflow) {
+        result = negative ? result : -result;
+        if (result >= Integer.MIN_VALUE && result <= Integer.MAX_VALUE) {
+          value.setInt((int) result);
+        } else {
+          value.setLong(result);
+        }
+        return;
+      }
+    }
+    try {
+      value.setDouble(Double.parseDouble(
+        new String(bytes, numberStart, position - numberStart, StandardCharsets.US_ASCII)));
+    } catch (NumberFormatException e) {
+      throw invalidNumber(numberStart);
+    }
+  }
+
+  /**
+   * Reads the given literal.
+   *
+   * @param literal expected literal
+   * @throws IOException if the next bytes do not match the literal
+   */
+  private void readLiteral(byte[] literal) throws IOException {
+    if (!equalBytes(literal, position, Math.min(end, position + literal.length))) {
+      throw unexpected();
+    }
+    position += literal.length;
+  }
+
+  //------------------------------------------------------------------------------------------------
+  // Structure
+  //------------------------------------------------------------------------------------------------
+
+  /**
+   * Reads the start of an object.
+   *
+   * @return false, iff the object is empty
+   * @throws IOException if the next value is no object
+   */
+  private boolean beginObject() throws IOException {
+    expect('{');
+    if (peek() == '}') {
+      position++;
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Reads the delimiter after an object member.
+   *
+   * @return true, iff another member follows
+   * @throws IOException if the next character is neither a delimiter nor the end of the object
+   */
+  private boolean nextMember() throws IOException {
+    byte b = peek();
+    position++;
+    if (b == ',') {
+      return true;
+    } else if (b == '}') {
+      return false;
+    }
+    position--;
+    throw unexpected();
+  }
+
+  /**
+   * Reads the start of an array.
+   *
+   * @return false, iff the array is empty
+   * @throws IOException if the next value is no array
+   */
+  private boolean beginArray() throws IOException {
+    expect('[');
+    if (peek() == ']') {
+      position++;
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Reads the delimiter after an array element.
+   *
+   * @return true, iff another element follows
+   * @throws IOException if the next character is neither a delimiter nor the end of the array
+   */
+  private boolean nextElement() throws IOException {
+    byte b = peek();
+    position++;
+    if (b == ',') {
+      return true;
+    } else if (b == ']') {
+      return false;
+    }
+    position--;
+    throw unexpected();
+  }
+
+  /**
+   * Reads a member key including the following colon. The key is decoded lazily.
+   *
+   * @throws IOException if the next value is no string
+   */
+  private void readKey() throws IOException {
+    expect('"');
+    keyStart = position;
+    keyEnd = scanString();
+    keyEscaped = escaped;
+    position = keyEnd + 1;
+    expect(':');
+  }
+
+  /**
+   * Checks if the key read last equals the given bytes.
+   *
+   * @param key expected key
+   * @return true, iff the keys are equal
+   */
+  private boolean keyEquals(byte[] key) {
+    return !keyEscaped && keyEnd - keyStart == key.length && equalBytes(key, keyStart, keyEnd);
+  }
+
+  /**
+   * Decodes the key read last. Keys without escape sequences are cached.
+   *
+   * @return key
+   * @throws IOException if the key contains invalid escape sequences
+   */
+  private String getKey() throws IOException {
+    if (keyEscaped) {
+      return decode(keyStart, keyEnd);
+    }
+    int hash = 1;
+    for (int i = keyStart; i < keyEnd; i++) {
+      hash = 31 * hash + bytes[i];
+    }
+    int index = hash & (KEY_CACHE_SIZE - 1);
+    byte[] cached = keyBytesCache[index];
+    if (cached == null || cached.length != keyEnd - keyStart ||
+      !equalBytes(cached, keyStart, keyEnd)) {
+      cached = Arrays.copyOfRange(bytes, keyStart, keyEnd);
+      keyBytesCache[index] = cached;
+      keyCache[index] = new String(cached, StandardCharsets.UTF_8);
+    }
+    return keyCache[index];
+  }
+
+  //------------------------------------------------------------------------------------------------
+  // Bytes
+  //------------------------------------------------------------------------------------------------
+
+  /**
+   * Returns the position of the quote terminating the string starting at the current position and
+   * sets {@link #escaped} if the string contains escape sequences.
+   *
+   * @return position of the closing quote
+   * @throws IOException if the string is not terminated
+   */
+  private int scanString() throws IOException {
+    escaped = false;
+    for (int i = position; i < end; i++) {
+      if (bytes[i] == '"') {
+        return i;
+      } else if (bytes[i] == '\\') {
+        escaped = true;
+        i++;
+      }
+    }
+    throw new IOException("Unterminated string: " + line());
+  }
+
+  /**
+   * Decodes a string containing escape sequences.
+   *
+   * @param stringStart position of the first byte of the string
+   * @param stringEnd position of the closing quote
+   * @return decoded string
+   * @throws IOException if the string contains invalid escape sequences
+   */
+  private String decode(int stringStart, int stringEnd) throws IOException {
+    builder.setLength(0);
+    int segmentStart = stringStart;
+    for (int i = stringStart; i < stringEnd; i++) {
+      if (bytes[i] != '\\') {
+        continue;
+      }
+      builder.append(new String(bytes, segmentStart, i - segmentStart, StandardCharsets.UTF_8));
+      i++;
+      switch (bytes[i]) {
+      case 'b':
+        builder.append('\b');
+        break;
+      case 'f':
+        builder.append('\f');
+        break;
+      case 'n':
+        builder.append('\n');
+        break;
+      case 'r':
+        builder.append('\r');
+        break;
+      case 't':
+        builder.append('\t');
+        break;
+      case 'u':
+        int c = 0;
+        for (int j = i + 1; j <= i + 4; j++) {
+          int digit = j < stringEnd ? Character.digit(bytes[j], 16) : -1;
+          if (digit < 0) {
+            throw new IOException("Invalid unicode escape sequence: " + line());
+          }
+          c = c << 4 | digit;
+        }
+        builder.append((char) c);
+        i += 4;
+        break;
+      default:
+        builder.append((char) bytes[i]);
+      }
+      segmentStart = i + 1;
+    }
+    builder.append(new String(bytes, segmentStart, stringEnd - segmentStart,
+      StandardCharsets.UTF_8));
+    return builder.toString();
+  }
+
+  /**
+   * Skips whitespace and returns the next byte without consuming it.
+   *
+   * @return next byte
+   * @throws IOException if the document ends
+   */
+  private byte peek() throws IOException {
+    skipWhitespace();
+    if (position >= end) {
+      throw new IOException("Unexpected end of document: " + line());
+    }
+    return bytes[position];
+  }
+
+  /**
+   * Skips whitespace and consumes the given character.
+   *
+   * @param c expected character
+   * @throws IOException if the next character does not match
+   */
+  private void expect(char c) throws IOException {
+    if (peek() != c) {
+      throw unexpected();
+    }
+    position++;
+  }
+
+  /**
+   * Skips whitespace.
+   */
+  private void skipWhitespace() {
+    while (position < end && (bytes[position] == ' ' || bytes[position] == '\t' ||
+      bytes[position] == '\n' || bytes[position] == '\r')) {
+      position++;
+    }
+  }
+
+  /**
+   * Checks if the given array equals the bytes ranging from {@code from} to {@code to}.
+   *
+   * @param array array to compare with
+   * @param from position of the first byte
+   * @param to position after the last byte
+   * @return true, iff the bytes are equal
+   */
+  private boolean equalBytes(byte[] array, int from, int to) {
+    if (array.length != to - from) {
+      return false;
+    }
+    for (int i = 0; i < array.length; i++) {
+      if (array[i] != bytes[from + i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the current document as string.
+   *
+   * @return document
+   */
+  private String line() {
+    return new String(bytes, start, end - start, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Creates an exception for an unexpected character at the current position.
+   *
+   * @return exception
+   */
+  private IOException unexpected() {
+    return new IOException(String.format("Unexpected character '%c' at position %d: %s",
+      (char) bytes[position], position - start, line()));
+  }
+
+  /**
+   * Creates an exception for an invalid number.
+   *
+   * @param numberStart position of the first byte of the number
+   * @return exception
+   */
+  private IOException invalidNumber(int numberStart) {
+    return new IOException(String.format("Invalid number '%s': %s",
+      new String(bytes, numberStart, position - numberStart, StandardCharsets.US_ASCII), line()));
+  }
+
+  /**
+   * Creates an exception for a missing member.
+   *
+   * @param key key of the missing member
+   * @return exception
+   */
+  private IOException missing(String key) {
+    return new IOException(String.format("Missing '%s': %s", key, line()));
+  }
+
+  /**
+   * Encodes the given string as UTF-8.
+   *
+   * @param string string
+   * @return UTF-8 bytes
+   */
+  private static byte[] utf8(String string) {
+    return string.getBytes(StandardCharsets.UTF_8);
+  }
+}
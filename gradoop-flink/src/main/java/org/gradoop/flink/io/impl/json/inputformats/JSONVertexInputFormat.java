@@ -0,0 +1,52 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.json.inputformats;
+
+import org.gradoop.common.model.api.entities.EPGMVertexFactory;
+import org.gradoop.common.model.impl.pojo.Vertex;
+
+import java.io.IOException;
+
+/**
+ * Reads {@link Vertex}s from a JSON file. The format is documented at
+ * {@link org.gradoop.flink.io.impl.json.functions.JSONToVertex}.
+ */
+public class JSONVertexInputFormat extends JSONElementInputFormat<Vertex> {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * Used to instantiate the vertex.
+   */
+  private final EPGMVertexFactory<Vertex> vertexFactory;
+
+  /**
+   * Creates a new input format.
+   *
+   * @param filePath path to the vertex JSON file
+   * @param vertexFactory EPGM vertex factory
+   */
+  public JSONVertexInputFormat(String filePath, EPGMVertexFactory<Vertex> vertexFactory) {
+    super(filePath);
+    this.vertexFactory = vertexFactory;
+  }
+
+  @Override
+  Vertex readElement(Vertex reuse, JSONReader reader) throws IOException {
+    return reader.readVertex(reuse, vertexFactory);
+  }
+}
@@ -0,0 +1,45 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.json.outputformats;
+
+import org.apache.flink.core.fs.FileSystem;
+import org.gradoop.common.model.impl.pojo.Edge;
+
+/**
+ * Writes {@link Edge}s to a JSON file. The format is documented at
+ * {@link org.gradoop.flink.io.impl.json.functions.EdgeToJSON}.
+ */
+public class JSONEdgeOutputFormat extends JSONElementOutputFormat<Edge> {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * Creates a new output format.
+   *
+   * @param filePath path to the edge JSON file
+   * @param writeMode overwrite mode
+   */
+  public JSONEdgeOutputFormat(String filePath, FileSystem.WriteMode writeMode) {
+    super(filePath, writeMode);
+  }
+
+  @Override
+  void writeElement(Edge element, JSONWriter writer) {
+    writer.writeEdge(element);
+  }
+}
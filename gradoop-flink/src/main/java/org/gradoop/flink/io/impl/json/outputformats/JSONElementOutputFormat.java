@@ -0,0 +1,97 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.json.outputformats;
+
+import org.apache.flink.api.common.io.FileOutputFormat;
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.common.model.impl.pojo.Element;
+
+import java.io.IOException;
+
+/**
+ * Base class for output formats writing EPGM elements to JSON files containing one document per
+ * line. The documents are encoded by a {@link JSONWriter} and written to the file whenever the
+ * buffer of the writer exceeds {@link #FLUSH_THRESHOLD} bytes.
+ *
+ * @param <E> EPGM element type
+ */
+public abstract class JSONElementOutputFormat<E extends Element> extends FileOutputFormat<E> {
+  /**
+   * Number of buffered bytes that causes the buffer to be written to the file
+   */
+  public static final int FLUSH_THRESHOLD = 64 * 1024;
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * Writer used to encode the documents
+   */
+  private transient JSONWriter writer;
+
+  /**
+   * Creates a new output format.
+   *
+   * @param filePath path to the JSON file or directory
+   * @param writeMode overwrite mode
+   */
+  JSONElementOutputFormat(String filePath, FileSystem.WriteMode writeMode) {
+    super(new Path(filePath));
+    setWriteMode(writeMode);
+  }
+
+  @Override
+  public void open(int taskNumber, int numTasks) throws IOException {
+    super.open(taskNumber, numTasks);
+    writer = new JSONWriter();
+  }
+
+  @Override
+  public void writeRecord(E record) throws IOException {
+    writeElement(record, writer);
+    writer.writeLineBreak();
+    if (writer.size() >= FLUSH_THRESHOLD) {
+      flush();
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (writer != null && stream != null) {
+      flush();
+    }
+    super.close();
+  }
+
+  /**
+   * Writes the buffered documents to the file.
+   *
+   * @throws IOException if the file cannot be written
+   */
+  private void flush() throws IOException {
+    stream.write(writer.getBuffer(), 0, writer.size());
+    writer.reset();
+  }
+
+  /**
+   * Writes the document of the given element.
+   *
+   * @param element element
+   * @param writer writer to encode the document with
+   */
+  abstract void writeElement(E element, JSONWriter writer);
+}
@@ -0,0 +1,480 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.json.outputformats;
+
+import edu.umd.cs.findbugs.annotations.SuppressWarnings;
+import org.gradoop.common.model.api.entities.EPGMAttributed;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphElement;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.Property;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.io.impl.json.JSONConstants;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streaming writer for the documents of the Gradoop JSON format (see
+ * {@link org.gradoop.flink.io.impl.json.functions.VertexToJSON}). Documents are encoded as
+ * UTF-8 directly into a growing byte buffer without building a JSON object tree. A writer is
+ * meant to be reused for all elements written by a task.
+ *
+ * Lists are written as arrays and maps as objects. Numbers and booleans are written as JSON
+ * literals, all other values (e.g. identifiers and dates) as strings.
+ */
+public class JSONWriter {
+  /**
+   * Initial size of the buffer
+   */
+  private static final int INITIAL_CAPACITY = 4096;
+  /**
+   * Lower case hexadecimal digits
+   */
+  private static final byte[] HEX_DIGITS = utf8("0123456789abcdef");
+  /**
+   * Start of the identifier member
+   */
+  private static final byte[] ID = member("{", JSONConstants.IDENTIFIER);
+  /**
+   * Start of the source vertex member
+   */
+  private static final byte[] SOURCE = member(",", JSONConstants.EDGE_SOURCE);
+  /**
+   * Start of the target vertex member
+   */
+  private static final byte[] TARGET = member(",", JSONConstants.EDGE_TARGET);
+  /**
+   * Start of the properties member
+   */
+  private static final byte[] DATA = member(",", JSONConstants.DATA);
+  /**
+   * Start of the meta document including the label member
+   */
+  private static final byte[] META_LABEL = utf8(String.format(",\"%s\":{\"%s\":",
+    JSONConstants.META, JSONConstants.LABEL));
+  /**
+   * Start of the graph identifiers member
+   */
+  private static final byte[] GRAPHS = member(",", JSONConstants.GRAPHS);
+  /**
+   * Literal true
+   */
+  private static final byte[] TRUE = utf8("true");
+  /**
+   * Literal false
+   */
+  private static final byte[] FALSE = utf8("false");
+  /**
+   * Literal null
+   */
+  private static final byte[] NULL = utf8("null");
+
+  /**
+   * Buffer containing the written documents
+   */
+  private byte[] buffer = new byte[INITIAL_CAPACITY];
+  /**
+   * Number of bytes written to the buffer
+   */
+  private int size;
+
+  /**
+   * Discards all written bytes.
+   */
+  public void reset() {
+    size = 0;
+  }
+
+  /**
+   * Returns the buffer containing the written bytes. Only the first {@link #size()} bytes are
+   * valid.
+   *
+   * @return buffer
+   */
+  @SuppressWarnings("EI_EXPOSE_REP")
+  public byte[] getBuffer() {
+    return buffer;
+  }
+
+  /**
+   * Returns the number of bytes written to the buffer.
+   *
+   * @return number of written bytes
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Writes a graph head document.
+   *
+   * @param graphHead graph head
+   */
+  public void writeGraphHead(GraphHead graphHead) {
+    write(ID);
+    writeId(graphHead.getId());
+    write(DATA);
+    writeProperties(graphHead);
+    write(META_LABEL);
+    writeString(graphHead.getLabel());
+    write('}');
+    write('}');
+  }
+
+  /**
+   * Writes a vertex document.
+   *
+   * @param vertex vertex
+   */
+  public void writeVertex(Vertex vertex) {
+    write(ID);
+    writeId(vertex.getId());
+    write(DATA);
+    writeProperties(vertex);
+    writeGraphElementMeta(vertex);
+    write('}');
+  }
+
+  /**
+   * Writes an edge document.
+   *
+   * @param edge edge
+   */
+  public void writeEdge(Edge edge) {
+    write(ID);
+    writeId(edge.getId());
+    write(SOURCE);
+    writeId(edge.getSourceId());
+    write(TARGET);
+    writeId(edge.getTargetId());
+    write(DATA);
+    writeProperties(edge);
+    writeGraphElementMeta(edge);
+    write('}');
+  }
+
+  /**
+   * Writes a line break.
+   */
+  public void writeLineBreak() {
+    write('\n');
+  }
+
+  @Override
+  public String toString() {
+    return new String(buffer, 0, size, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Writes the meta document of a graph element containing the label and, if the element is
+   * contained in any graph, the graph identifiers.
+   *
+   * @param element graph element
+   */
+  private void writeGraphElementMeta(GraphElement element) {
+    write(META_LABEL);
+    writeString(element.getLabel());
+    if (element.getGraphCount() > 0) {
+      write(GRAPHS);
+      write('[');
+      GradoopIdSet graphIds = element.getGraphIds();
+      boolean first = true;
+      for (GradoopId graphId : graphIds) {
+        if (!first) {
+          write(',');
+        }
+        writeId(graphId);
+        first = false;
+      }
+      write(']');
+    }
+    write('}');
+  }
+
+  /**
+   * Writes the properties of the given element as object.
+   *
+   * @param element element
+   */
+  private void writeProperties(EPGMAttributed element) {
+    write('{');
+    if (element.getProperties() != null) {
+      Iterator<Property> properties = element.getProperties().iterator();
+      while (properties.hasNext()) {
+        Property property = properties.next();
+        writeString(property.getKey());
+        write(':');
+        writeValue(property.getValue());
+        if (properties.hasNext()) {
+          write(',');
+        }
+      }
+    }
+    write('}');
+  }
+
+  /**
+   * Writes a property value.
+   *
+   * @param value property value
+   */
+  private void writeValue(PropertyValue value) {
+    if (value.isNull()) {
+      write(NULL);
+    } else if (value.isString()) {
+      byte[] rawBytes = value.getRawBytes();
+      writeUtf8String(rawBytes, PropertyValue.OFFSET, rawBytes.length);
+    } else if (value.isBoolean()) {
+      write(value.getBoolean() ? TRUE : FALSE);
+    } else if (value.isInt()) {
+      writeLong(value.getInt());
+    } else if (value.isLong()) {
+      writeLong(value.getLong());
+    } else if (value.isFloat() && Float.isFinite(value.getFloat())) {
+      writeAscii(Float.toString(value.getFloat()));
+    } else if (value.isDouble() && Double.isFinite(value.getDouble())) {
+      writeAscii(Double.toString(value.getDouble()));
+    } else if (value.isBigDecimal()) {
+      writeAscii(value.getBigDecimal().toString());
+    } else if (value.isList()) {
+      List<PropertyValue> list = value.getList();
+      write('[');
+      for (int i = 0; i < list.size(); i++) {
+        if (i > 0) {
+          write(',');
+        }
+        writeValue(list.get(i));
+      }
+      write(']');
+    } else if (value.isMap()) {
+      write('{');
+      boolean first = true;
+      for (Map.Entry<PropertyValue, PropertyValue> entry : value.getMap().entrySet()) {
+        if (!first) {
+          write(',');
+        }
+        writeString(entry.getKey().toString());
+        write(':');
+        writeValue(entry.getValue());
+        first = false;
+      }
+      write('}');
+    } else {
+      writeString(value.toString());
+    }
+  }
+
+  /**
+   * Writes an identifier as quoted hexadecimal string.
+   *
+   * @param id identifier
+   */
+  private void writeId(GradoopId id) {
+    byte[] idBytes = id.toByteArray();
+    ensureCapacity(2 * idBytes.length + 2);
+    buffer[size++] = '"';
+    for (byte b : idBytes) {
+      buffer[size++] = HEX_DIGITS[b >> 4 & 0xF];
+      buffer[size++] = HEX_DIGITS[b & 0xF];
+    }
+    buffer[size++] = '"';
+  }
+
+  /**
+   * Writes a decimal number.
+   *
+   * @param value number
+   */
+  private void writeLong(long value) {
+    if (value == Long.MIN_VALUE) {
+      writeAscii(Long.toString(value));
+      return;
+    }
+    if (value < 0) {
+      write('-');
+      value = -value;
+    }
+    int digits = 1;
+    for (long v = value; v >= 10; v /= 10) {
+      digits++;
+    }
+    ensureCapacity(digits);
+    for (int i = size + digits - 1; i >= size; i--) {
+      buffer[i] = (byte) ('0' + value % 10);
+      value /= 10;
+    }
+    size += digits;
+  }
+
+  /**
+   * Writes a quoted and escaped string.
+   *
+   * @param string string
+   */
+  private void writeString(String string) {
+    // an escaped character takes at most six bytes
+    ensureCapacity(6 * string.length() + 2);
+    buffer[size++] = '"';
+    for (int i = 0; i < string.length(); i++) {
+      char c = string.charAt(i);
+      if (c < 0x80) {
+        writeAsciiCharacter(c);
+      } else if (c < 0x800) {
+        buffer[size++] = (byte) (0xC0 | c >> 6);
+        buffer[size++] = (byte) (0x80 | c & 0x3F);
+      } else if (Character.isHighSurrogate(c) && i + 1 < string.length() &&
+        Character.isLowSurrogate(string.charAt(i + 1))) {
+        int codePoint = Character.toCodePoint(c, string.charAt(++i));
+        buffer[size++] = (byte) (0xF0 | codePoint >> 18);
+        buffer[size++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+        buffer[size++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+        buffer[size++] = (byte) (0x80 | codePoint & 0x3F);
+      } else if (Character.isSurrogate(c)) {
+        // unpaired surrogates are replaced like by the UTF-8 encoder of the JDK
+        buffer[size++] = '?';
+      } else {
+        buffer[size++] = (byte) (0xE0 | c >> 12);
+        buffer[size++] = (byte) (0x80 | c >> 6 & 0x3F);
+        buffer[size++] = (byte) (0x80 | c & 0x3F);
+      }
+    }
+    buffer[size++] = '"';
+  }
+
+  /**
+   * Writes quoted and escaped UTF-8 encoded string without decoding it.
+   *
+   * @param bytes UTF-8 encoded string
+   * @param from position of the first byte
+   * @param to position after the last byte
+   */
+  private void writeUtf8String(byte[] bytes, int from, int to) {
+    ensureCapacity(6 * (to - from) + 2);
+    buffer[size++] = '"';
+    for (int i = from; i < to; i++) {
+      byte b = bytes[i];
+      if (b >= 0) {
+        writeAsciiCharacter((char) b);
+      } else {
+        buffer[size++] = b;
+      }
+    }
+    buffer[size++] = '"';
+  }
+
+  /**
+   * Writes an ASCII character of a string, escaping it if necessary. The caller has to ensure
+   * that the buffer has a capacity of at least six bytes.
+   *
+   * @param c ASCII character
+   */
+  private void writeAsciiCharacter(char c) {
+    if (c == '"' || c == '\\') {
+      buffer[size++] = '\\';
+      buffer[size++] = (byte) c;
+    } else if (c >= 0x20) {
+      buffer[size++] = (byte) c;
+    } else if (c == '\n') {
+      buffer[size++] = '\\';
+      buffer[size++] = 'n';
+    } else if (c == '\r') {
+      buffer[size++] = '\\';
+      buffer[size++] = 'r';
+    } else if (c == '\t') {
+      buffer[size++] = '\\';
+      buffer[size++] = 't';
+    } else {
+      buffer[size++] = '\\';
+      buffer[size++] = 'u';
+      buffer[size++] = '0';
+      buffer[size++] = '0';
+      buffer[size++] = HEX_DIGITS[c >> 4];
+      buffer[size++] = HEX_DIGITS[c & 0xF];
+    }
+  }
+
+  /**
+   * Writes the given ASCII string, e.g. a number, as is.
+   *
+   * @param string ASCII string
+   */
+  private void writeAscii(String string) {
+    ensureCapacity(string.length());
+    for (int i = 0; i < string.length(); i++) {
+      buffer[size++] = (byte) string.charAt(i);
+    }
+  }
+
+  /**
+   * Writes the given bytes.
+   *
+   * @param bytes bytes
+   */
+  private void write(byte[] bytes) {
+    ensureCapacity(bytes.length);
+    System.arraycopy(bytes, 0, buffer, size, bytes.length);
+    size += bytes.length;
+  }
+
+  /**
+   * Writes a single ASCII character.
+   *
+   * @param c ASCII character
+   */
+  private void write(char c) {
+    ensureCapacity(1);
+    buffer[size++] = (byte) c;
+  }
+
+  /**
+   * Grows the buffer if less than the given number of bytes are available.
+   *
+   * @param length number of bytes to write
+   */
+  private void ensureCapacity(int length) {
+    if (size + length > buffer.length) {
+      buffer = Arrays.copyOf(buffer, Math.max(2 * buffer.length, size + length));
+    }
+  }
+
+  /**
+   * Returns the start of an object member.
+   *
+   * @param prefix delimiter preceding the member
+   * @param key member key
+   * @return UTF-8 encoded prefix and quoted key followed by a colon
+   */
+  private static byte[] member(String prefix, String key) {
+    return utf8(String.format("%s\"%s\":", prefix, key));
+  }
+
+  /**
+   * Encodes the given string as UTF-8.
+   *
+   * @param string string
+   * @return UTF-8 bytes
+   */
+  private static byte[] utf8(String string) {
+    return string.getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,226 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.mapped;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A read-only file mapped into memory. As a single {@link MappedByteBuffer} is limited to 2 GB,
+ * the file is mapped in chunks and values crossing a chunk border are assembled byte-wise.
+ *
+ * Instances are not thread-safe, as bulk reads use the position of the mapped buffers.
+ */
+public class MappedFile implements Closeable {
+  /**
+   * Number of bits addressing a position within a chunk
+   */
+  private static final int CHUNK_BITS = 30;
+  /**
+   * Size of a single mapped chunk
+   */
+  private static final long CHUNK_SIZE = 1L << CHUNK_BITS;
+  /**
+   * Mask selecting the position within a chunk
+   */
+  private static final long CHUNK_MASK = CHUNK_SIZE - 1;
+  /**
+   * Channel of the mapped file
+   */
+  private final FileChannel channel;
+  /**
+   * Mapped chunks of the file
+   */
+  private final MappedByteBuffer[] chunks;
+  /**
+   * File size in bytes
+   */
+  private final long size;
+
+  /**
+   * Maps the given file into memory.
+   *
+   * @param file local file
+   * @throws IOException if the file cannot be mapped
+   */
+  public MappedFile(File file) throws IOException {
+    this.channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+    try {
+      this.size = channel.size();
+      this.chunks = new MappedByteBuffer[(int) ((size + CHUNK_SIZE - 1) >>> CHUNK_BITS)];
+      for (int i = 0; i < chunks.length; i++) {
+        long start = (long) i << CHUNK_BITS;
+        chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, start,
+          Math.min(CHUNK_SIZE, size - start));
+      }
+    } catch (IOException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Returns the size of the file.
+   *
+   * @return size in bytes
+   */
+  public long size() {
+    return size;
+  }
+
+  /**
+   * Reads the int value at the given position.
+   *
+   * @param position file position
+   * @return int value
+   */
+  public int getInt(long position) {
+    MappedByteBuffer chunk = chunks[(int) (position >>> CHUNK_BITS)];
+    int offset = (int) (position & CHUNK_MASK);
+    if (offset + Integer.BYTES <= chunk.limit()) {
+      return chunk.getInt(offset);
+    }
+    int value = 0;
+    for (int i = 0; i < Integer.BYTES; i++) {
+      value = value << Byte.SIZE | (getByte(position + i) & 0xff);
+    }
+    return value;
+  }
+
+  /**
+   * Reads the long value at the given position.
+   *
+   * @param position file position
+   * @return long value
+   */
+  public long getLong(long position) {
+    MappedByteBuffer chunk = chunks[(int) (position >>> CHUNK_BITS)];
+    int offset = (int) (position & CHUNK_MASK);
+    if (offset + Long.BYTES <= chunk.limit()) {
+      return chunk.getLong(offset);
+    }
+    long value = 0;
+    for (int i = 0; i < Long.BYTES; i++) {
+      value = value << Byte.SIZE | (getByte(position + i) & 0xff);
+    }
+    return value;
+  }
+
+  /**
+   * Copies bytes starting at the given position.
+   *
+   * @param position file position
+   * @param target target array
+   * @param offset position in the target array
+   * @param length number of bytes to copy
+   */
+  public void get(long position, byte[] target, int offset, int length) {
+    while (length > 0) {
+      MappedByteBuffer chunk = chunks[(int) (position >>> CHUNK_BITS)];
+      int chunkOffset = (int) (position & CHUNK_MASK);
+      int count = Math.min(length, chunk.limit() - chunkOffset);
+      chunk.position(chunkOffset);
+      chunk.get(target, offset, count);
+      position += count;
+      offset += count;
+      length -= count;
+    }
+  }
+
+  /**
+   * Reads the identifier stored at the given position.
+   *
+   * @param position file position
+   * @return identifier
+   */
+  public GradoopId getId(long position) {
+    byte[] bytes = new byte[GradoopId.ID_SIZE];
+    get(position, bytes, 0, bytes.length);
+    return GradoopId.fromByteArray(bytes);
+  }
+
+  /**
+   * Searches an identifier in a section of sorted identifiers.
+   *
+   * @param sectionStart file position of the first identifier
+   * @param count number of identifiers in the section
+   * @param id identifier bytes to search
+   * @param buffer buffer of {@link GradoopId#ID_SIZE} bytes used for comparison
+   * @return index of the identifier or {@code -1} if the section does not contain it
+   */
+  public long searchId(long sectionStart, long count, byte[] id, byte[] buffer) {
+    long low = 0;
+    long high = count - 1;
+    while (low <= high) {
+      long mid = (low + high) >>> 1;
+      get(sectionStart + mid * GradoopId.ID_SIZE, buffer, 0, GradoopId.ID_SIZE);
+      int comparison = compareIds(buffer, id);
+      if (comparison < 0) {
+        low = mid + 1;
+      } else if (comparison > 0) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Compares two identifiers given by their bytes in the order of
+   * {@link GradoopId#compareTo(GradoopId)}.
+   *
+   * @param first bytes of the first identifier
+   * @param second bytes of the second identifier
+   * @return a negative integer, zero, or a positive integer as the first identifier is less than,
+   *         equal to, or greater than the second one
+   */
+  public static int compareIds(byte[] first, byte[] second) {
+    for (int i = 0; i < GradoopId.ID_SIZE; i++) {
+      if (first[i] != second[i]) {
+        return (first[i] & 0xff) < (second[i] & 0xff) ? -1 : 1;
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Mapped chunks are released when they are garbage collected, closing only releases the
+   * channel.
+   *
+   * @throws IOException if closing the channel fails
+   */
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  /**
+   * Reads the byte at the given position.
+   *
+   * @param position file position
+   * @return byte value
+   */
+  private byte getByte(long position) {
+    return chunks[(int) (position >>> CHUNK_BITS)].get((int) (position & CHUNK_MASK));
+  }
+}
@@ -0,0 +1,410 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.mapped;
+
+import org.apache.flink.core.fs.Path;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.EdgeFactory;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.GraphHeadFactory;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.pojo.VertexFactory;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Read access to a graph file written by {@link MappedGraphDataSink}. The file is mapped into
+ * memory, so opening it does not read or parse any elements and all tasks of a local job share
+ * the pages cached by the operating system. Elements are decoded directly from the mapped file.
+ *
+ * The file starts with a header of {@link #HEADER_SIZE} bytes containing the magic number, the
+ * number of graph heads, vertices and edges and the positions of the following sections:
+ *
+ * <pre>
+ * labels             int count, count x (int length, UTF-8 bytes)
+ * graph head offsets (graph heads + 1) x long position of the record
+ * vertex ids         vertices x 12 bytes, sorted ascending
+ * vertex offsets     (vertices + 1) x long position of the record
+ * edge offsets       (edges + 1) x long position of the record
+ * row pointers       (vertices + 1) x long, outgoing edges of vertex i are the edges
+ *                    rowPointers[i] until rowPointers[i + 1]
+ * adjacency targets  edges x long index of the target vertex
+ * </pre>
+ *
+ * Vertices are stored in the order of their ids and edges in the order of their source ids, i.e.
+ * edges and adjacency targets form a compressed sparse row (CSR) representation of the graph.
+ * Each record consists of:
+ *
+ * <pre>
+ * int label index, 12 bytes id,
+ * edges only:                 12 bytes source id, 12 bytes target id,
+ * vertices and edges only:    int count (-1 for null), count x 12 bytes graph id,
+ * int count (-1 for null), count x (int length, UTF-8 key, int length, raw property value)
+ * </pre>
+ *
+ * Instances are not thread-safe.
+ */
+public class MappedGraph implements Closeable {
+  /**
+   * Identifies graph files
+   */
+  public static final long MAGIC = 0x4752444d4d415031L;
+  /**
+   * Size of the file header
+   */
+  public static final int HEADER_SIZE = 11 * Long.BYTES;
+  /**
+   * Record kind of graph heads
+   */
+  public static final byte GRAPH_HEAD = 0;
+  /**
+   * Record kind of vertices
+   */
+  public static final byte VERTEX = 1;
+  /**
+   * Record kind of edges
+   */
+  public static final byte EDGE = 2;
+  /**
+   * Size of an edge record prefix preceding its source and target id
+   */
+  public static final int EDGE_TARGET_OFFSET = 2 * GradoopId.ID_SIZE;
+  /**
+   * Mapped graph file
+   */
+  private final MappedFile file;
+  /**
+   * Number of graph heads
+   */
+  private final long graphHeadCount;
+  /**
+   * Number of vertices
+   */
+  private final long vertexCount;
+  /**
+   * Number of edges
+   */
+  private final long edgeCount;
+  /**
+   * Position of the graph head offsets
+   */
+  private final long graphHeadOffsets;
+  /**
+   * Position of the sorted vertex ids
+   */
+  private final long vertexIds;
+  /**
+   * Position of the vertex offsets
+   */
+  private final long vertexOffsets;
+  /**
+   * Position of the edge offsets
+   */
+  private final long edgeOffsets;
+  /**
+   * Position of the row pointers
+   */
+  private final long rowPointers;
+  /**
+   * Position of the adjacency targets
+   */
+  private final long adjacencyTargets;
+  /**
+   * Labels by index
+   */
+  private final String[] labels;
+  /**
+   * Buffer used for id comparisons
+   */
+  private final byte[] idBuffer = new byte[GradoopId.ID_SIZE];
+  /**
+   * Position of the next byte to decode
+   */
+  private long position;
+
+  /**
+   * Maps the given graph file into memory.
+   *
+   * @param path path of a local graph file
+   * @throws IOException if the file cannot be mapped or is no graph file
+   */
+  public MappedGraph(String path) throws IOException {
+    this.file = new MappedFile(getLocalFile(path));
+    boolean valid = false;
+    try {
+      if (file.size() < HEADER_SIZE || file.getLong(0) != MAGIC) {
+        throw new IOException("Not a mapped graph file: " + path);
+      }
+      position = Long.BYTES;
+      graphHeadCount = readLong();
+      vertexCount = readLong();
+      edgeCount = readLong();
+      long labelsPosition = readLong();
+      graphHeadOffsets = readLong();
+      vertexIds = readLong();
+      vertexOffsets = readLong();
+      edgeOffsets = readLong();
+      rowPointers = readLong();
+      adjacencyTargets = readLong();
+
+      position = labelsPosition;
+      labels = new String[readInt()];
+      for (int i = 0; i < labels.length; i++) {
+        labels[i] = readString();
+      }
+      valid = true;
+    } finally {
+      if (!valid) {
+        file.close();
+      }
+    }
+  }
+
+  /**
+   * Returns the local file of the given path, which may also be a file URI.
+   *
+   * @param path local path or URI
+   * @return local file
+   */
+  public static File getLocalFile(String path) {
+    return new File(new Path(path).toUri().getPath());
+  }
+
+  /**
+   * Returns the number of graph heads.
+   *
+   * @return graph head count
+   */
+  public long getGraphHeadCount() {
+    return graphHeadCount;
+  }
+
+  /**
+   * Returns the number of vertices.
+   *
+   * @return vertex count
+   */
+  public long getVertexCount() {
+    return vertexCount;
+  }
+
+  /**
+   * Returns the number of edges.
+   *
+   * @return edge count
+   */
+  public long getEdgeCount() {
+    return edgeCount;
+  }
+
+  /**
+   * Decodes the graph head with the given index.
+   *
+   * @param index graph head index
+   * @param factory creates graph heads
+   * @return graph head
+   */
+  public GraphHead getGraphHead(long index, GraphHeadFactory factory) {
+    position = file.getLong(graphHeadOffsets + index * Long.BYTES);
+    String label = labels[readInt()];
+    GradoopId id = readId();
+    return factory.initGraphHead(id, label, readProperties());
+  }
+
+  /**
+   * Decodes the vertex with the given index. Vertices are ordered by their ids.
+   *
+   * @param index vertex index
+   * @param factory creates vertices
+   * @return vertex
+   */
+  public Vertex getVertex(long index, VertexFactory factory) {
+    position = file.getLong(vertexOffsets + index * Long.BYTES);
+    String label = labels[readInt()];
+    GradoopId id = readId();
+    GradoopIdSet graphIds = readGraphIds();
+    return factory.initVertex(id, label, readProperties(), graphIds);
+  }
+
+  /**
+   * Decodes the edge with the given index. Edges are ordered by their source ids.
+   *
+   * @param index edge index
+   * @param factory creates edges
+   * @return edge
+   */
+  public Edge getEdge(long index, EdgeFactory factory) {
+    position = file.getLong(edgeOffsets + index * Long.BYTES);
+    String label = labels[readInt()];
+    GradoopId id = readId();
+    GradoopId sourceId = readId();
+    GradoopId targetId = readId();
+    GradoopIdSet graphIds = readGraphIds();
+    return factory.initEdge(id, label, sourceId, targetId, readProperties(), graphIds);
+  }
+
+  /**
+   * Returns the id of the vertex with the given index without decoding the vertex.
+   *
+   * @param index vertex index
+   * @return vertex id
+   */
+  public GradoopId getVertexId(long index) {
+    return file.getId(vertexIds + index * GradoopId.ID_SIZE);
+  }
+
+  /**
+   * Returns the index of the vertex with the given id.
+   *
+   * @param id vertex id
+   * @return vertex index or {@code -1} if the graph contains no such vertex
+   */
+  public long getVertexIndex(GradoopId id) {
+    return file.searchId(vertexIds, vertexCount, id.toByteArray(), idBuffer);
+  }
+
+  /**
+   * Returns the index of the first outgoing edge of the given vertex.
+   *
+   * @param vertexIndex vertex index
+   * @return first edge index
+   */
+  public long getOutgoingEdgesStart(long vertexIndex) {
+    return file.getLong(rowPointers + vertexIndex * Long.BYTES);
+  }
+
+  /**
+   * Returns the index after the last outgoing edge of the given vertex.
+   *
+   * @param vertexIndex vertex index
+   * @return end of the outgoing edge indices
+   */
+  public long getOutgoingEdgesEnd(long vertexIndex) {
+    return file.getLong(rowPointers + (vertexIndex + 1) * Long.BYTES);
+  }
+
+  /**
+   * Returns the index of the target vertex of the given edge.
+   *
+   * @param edgeIndex edge index
+   * @return target vertex index
+   */
+  public long getTargetIndex(long edgeIndex) {
+    return file.getLong(adjacencyTargets + edgeIndex * Long.BYTES);
+  }
+
+  @Override
+  public void close() throws IOException {
+    file.close();
+  }
+
+  /**
+   * Reads an int value and advances the position.
+   *
+   * @return int value
+   */
+  private int readInt() {
+    int value = file.getInt(position);
+    position += Integer.BYTES;
+    return value;
+  }
+
+  /**
+   * Reads a long value and advances the position.
+   *
+   * @return long value
+   */
+  private long readLong() {
+    long value = file.getLong(position);
+    position += Long.BYTES;
+    return value;
+  }
+
+  /**
+   * Reads a length prefixed byte array and advances the position.
+   *
+   * @return bytes
+   */
+  private byte[] readBytes() {
+    int length = readInt();
+    byte[] bytes = new byte[length];
+    file.get(position, bytes, 0, length);
+    position += length;
+    return bytes;
+  }
+
+  /**
+   * Reads a length prefixed UTF-8 string and advances the position.
+   *
+   * @return string
+   */
+  private String readString() {
+    return new String(readBytes(), StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Reads an identifier and advances the position.
+   *
+   * @return identifier
+   */
+  private GradoopId readId() {
+    GradoopId id = file.getId(position);
+    position += GradoopId.ID_SIZE;
+    return id;
+  }
+
+  /**
+   * Reads a set of graph ids and advances the position.
+   *
+   * @return graph ids, might be {@code null}
+   */
+  private GradoopIdSet readGraphIds() {
+    int count = readInt();
+    if (count < 0) {
+      return null;
+    }
+    byte[] bytes = new byte[count * GradoopId.ID_SIZE];
+    file.get(position, bytes, 0, bytes.length);
+    position += bytes.length;
+    return GradoopIdSet.fromByteArray(bytes);
+  }
+
+  /**
+   * Reads the properties and advances the position. Property values are copied from the file
+   * into their binary representation without further decoding.
+   *
+   * @return properties, might be {@code null}
+   */
+  private Properties readProperties() {
+    int count = readInt();
+    if (count < 0) {
+      return null;
+    }
+    Properties properties = Properties.createWithCapacity(count);
+    for (int i = 0; i < count; i++) {
+      String key = readString();
+      properties.set(key, PropertyValue.fromRawBytes(readBytes()));
+    }
+    return properties;
+  }
+}
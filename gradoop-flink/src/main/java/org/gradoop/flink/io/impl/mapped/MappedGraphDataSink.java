@@ -0,0 +1,98 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.mapped;
+
+import org.apache.flink.api.common.operators.Order;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.apache.flink.core.fs.FileSystem;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.io.api.DataSink;
+import org.gradoop.flink.io.impl.mapped.format.MappedGraphOutputFormat;
+import org.gradoop.flink.io.impl.mapped.functions.ElementToRecord;
+import org.gradoop.flink.model.api.epgm.GraphCollection;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * A graph data sink writing a single local graph file which can be memory-mapped by
+ * {@link MappedGraphDataSource} (see {@link MappedGraph} for the file layout).
+ *
+ * The elements are encoded in parallel, sorted by kind and id (edges by source id) and written
+ * by a single task, which also derives the compressed sparse row adjacency of the graph. Edges
+ * whose source or target vertex is not contained in the graph are rejected, i.e. the graph has
+ * to be verified beforehand if necessary.
+ */
+public class MappedGraphDataSink implements DataSink {
+  /**
+   * Path of the local graph file
+   */
+  private final String path;
+  /**
+   * Gradoop Flink configuration
+   */
+  private final GradoopFlinkConfig config;
+
+  /**
+   * Creates a new data sink.
+   *
+   * @param path path of the local graph file
+   * @param config Gradoop Flink configuration
+   */
+  public MappedGraphDataSink(String path, GradoopFlinkConfig config) {
+    this.path = Objects.requireNonNull(path);
+    this.config = Objects.requireNonNull(config);
+  }
+
+  @Override
+  public void write(LogicalGraph logicalGraph) throws IOException {
+    write(logicalGraph, false);
+  }
+
+  @Override
+  public void write(GraphCollection graphCollection) throws IOException {
+    write(graphCollection, false);
+  }
+
+  @Override
+  public void write(LogicalGraph logicalGraph, boolean overwrite) throws IOException {
+    write(config.getGraphCollectionFactory().fromGraph(logicalGraph), overwrite);
+  }
+
+  @Override
+  public void write(GraphCollection graphCollection, boolean overwrite) throws IOException {
+    FileSystem.WriteMode writeMode = overwrite ?
+      FileSystem.WriteMode.OVERWRITE : FileSystem.WriteMode.NO_OVERWRITE;
+
+    DataSet<Tuple4<Byte, GradoopId, String, byte[]>> records = graphCollection.getGraphHeads()
+      .map(new ElementToRecord<GraphHead>(MappedGraph.GRAPH_HEAD))
+      .union(graphCollection.getVertices()
+        .map(new ElementToRecord<Vertex>(MappedGraph.VERTEX)))
+      .union(graphCollection.getEdges()
+        .map(new ElementToRecord<Edge>(MappedGraph.EDGE)));
+
+    records
+      .sortPartition(0, Order.ASCENDING).setParallelism(1)
+      .sortPartition(1, Order.ASCENDING).setParallelism(1)
+      .output(new MappedGraphOutputFormat(path, writeMode)).setParallelism(1);
+  }
+}
@@ -0,0 +1,92 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.mapped;
+
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.ExecutionEnvironment;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.impl.mapped.format.MappedEdgeInputFormat;
+import org.gradoop.flink.io.impl.mapped.format.MappedGraphHeadInputFormat;
+import org.gradoop.flink.io.impl.mapped.format.MappedVertexInputFormat;
+import org.gradoop.flink.model.api.epgm.GraphCollection;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.combination.ReduceCombination;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.util.Objects;
+
+/**
+ * A graph data source for single machine jobs, e.g. using a local execution environment, reading
+ * a graph file written by {@link MappedGraphDataSink}.
+ *
+ * Instead of parsing text splits, each task memory-maps the file and decodes its share of the
+ * elements directly from the mapped pages. Opening the source thus takes constant time and the
+ * operating system shares the cached file between all tasks. The file has to be accessible under
+ * the same local path by all tasks. Local algorithms can use the adjacency stored in the file via
+ * {@link MappedGraph} without creating a Flink job at all.
+ */
+public class MappedGraphDataSource implements DataSource {
+  /**
+   * Path of the local graph file
+   */
+  private final String path;
+  /**
+   * Gradoop Flink configuration
+   */
+  private final GradoopFlinkConfig config;
+
+  /**
+   * Creates a new data source.
+   *
+   * @param path path of the local graph file
+   * @param config Gradoop Flink configuration
+   */
+  public MappedGraphDataSource(String path, GradoopFlinkConfig config) {
+    this.path = Objects.requireNonNull(path);
+    this.config = Objects.requireNonNull(config);
+  }
+
+  @Override
+  public LogicalGraph getLogicalGraph() {
+    return getGraphCollection().reduce(new ReduceCombination());
+  }
+
+  @Override
+  public GraphCollection getGraphCollection() {
+    ExecutionEnvironment env = config.getExecutionEnvironment();
+
+    TypeInformation<GraphHead> graphHeadTypeInfo = TypeExtractor
+      .createTypeInfo(config.getGraphHeadFactory().getType());
+    TypeInformation<Vertex> vertexTypeInfo = TypeExtractor
+      .createTypeInfo(config.getVertexFactory().getType());
+    TypeInformation<Edge> edgeTypeInfo = TypeExtractor
+      .createTypeInfo(config.getEdgeFactory().getType());
+
+    DataSet<GraphHead> graphHeads = env.createInput(
+      new MappedGraphHeadInputFormat(path, config.getGraphHeadFactory()), graphHeadTypeInfo);
+    DataSet<Vertex> vertices = env.createInput(
+      new MappedVertexInputFormat(path, config.getVertexFactory()), vertexTypeInfo);
+    DataSet<Edge> edges = env.createInput(
+      new MappedEdgeInputFormat(path, config.getEdgeFactory()), edgeTypeInfo);
+
+    return config.getGraphCollectionFactory().fromDataSets(graphHeads, vertices, edges);
+  }
+}
@@ -0,0 +1,55 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.mapped.format;
+
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.EdgeFactory;
+import org.gradoop.flink.io.impl.mapped.MappedGraph;
+
+/**
+ * Reads edges from a local graph file written by {@link MappedGraphOutputFormat}.
+ */
+public class MappedEdgeInputFormat extends MappedElementInputFormat<Edge> {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * Creates edges
+   */
+  private final EdgeFactory factory;
+
+  /**
+   * Creates a new input format.
+   *
+   * @param path path of the local graph file
+   * @param factory creates edges
+   */
+  public MappedEdgeInputFormat(String path, EdgeFactory factory) {
+    super(path);
+    this.factory = factory;
+  }
+
+  @Override
+  long getCount(MappedGraph graph) {
+    return graph.getEdgeCount();
+  }
+
+  @Override
+  Edge getElement(MappedGraph graph, long index) {
+    return graph.getEdge(index, factory);
+  }
+}
@@ -0,0 +1,143 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.mapped.format;
+
+import org.apache.flink.api.common.io.DefaultInputSplitAssigner;
+import org.apache.flink.api.common.io.RichInputFormat;
+import org.apache.flink.api.common.io.statistics.BaseStatistics;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.core.io.GenericInputSplit;
+import org.apache.flink.core.io.InputSplitAssigner;
+import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.flink.io.impl.mapped.MappedGraph;
+
+import java.io.IOException;
+
+/**
+ * Reads EPGM elements from a local graph file written by {@link MappedGraphOutputFormat}.
+ *
+ * Each task maps the file into memory once and decodes the elements of its splits directly from
+ * the mapped pages, which are shared by all tasks on the machine. Split {@code i} of {@code n}
+ * contains the elements {@code i * count / n} until {@code (i + 1) * count / n}.
+ *
+ * @param <E> EPGM element type
+ */
+public abstract class MappedElementInputFormat<E extends Element>
+  extends RichInputFormat<E, GenericInputSplit> {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * Path of the local graph file
+   */
+  private final String path;
+  /**
+   * Graph file mapped by this task
+   */
+  private transient MappedGraph graph;
+  /**
+   * Index of the next element of the current split
+   */
+  private transient long next;
+  /**
+   * Index after the last element of the current split
+   */
+  private transient long end;
+
+  /**
+   * Creates a new input format.
+   *
+   * @param path path of the local graph file
+   */
+  MappedElementInputFormat(String path) {
+    this.path = path;
+  }
+
+  @Override
+  public void configure(Configuration parameters) {
+  }
+
+  @Override
+  public BaseStatistics getStatistics(BaseStatistics cachedStatistics) {
+    return cachedStatistics;
+  }
+
+  @Override
+  public GenericInputSplit[] createInputSplits(int minNumSplits) {
+    GenericInputSplit[] splits = new GenericInputSplit[minNumSplits];
+    for (int i = 0; i < minNumSplits; i++) {
+      splits[i] = new GenericInputSplit(i, minNumSplits);
+    }
+    return splits;
+  }
+
+  @Override
+  public InputSplitAssigner getInputSplitAssigner(GenericInputSplit[] inputSplits) {
+    return new DefaultInputSplitAssigner(inputSplits);
+  }
+
+  @Override
+  public void openInputFormat() throws IOException {
+    graph = new MappedGraph(path);
+  }
+
+  @Override
+  public void open(GenericInputSplit split) throws IOException {
+    long count = getCount(graph);
+    next = count * split.getSplitNumber() / split.getTotalNumberOfSplits();
+    end = count * (split.getSplitNumber() + 1) / split.getTotalNumberOfSplits();
+  }
+
+  @Override
+  public boolean reachedEnd() {
+    return next >= end;
+  }
+
+  @Override
+  public E nextRecord(E reuse) {
+    return getElement(graph, next++);
+  }
+
+  @Override
+  public void close() {
+  }
+
+  @Override
+  public void closeInputFormat() throws IOException {
+    if (graph != null) {
+      graph.close();
+      graph = null;
+    }
+  }
+
+  /**
+   * Returns the number of elements read by this format.
+   *
+   * @param graph mapped graph file
+   * @return element count
+   */
+  abstract long getCount(MappedGraph graph);
+
+  /**
+   * Decodes the element with the given index.
+   *
+   * @param graph mapped graph file
+   * @param index element index
+   * @return EPGM element
+   */
+  abstract E getElement(MappedGraph graph, long index);
+}
@@ -0,0 +1,126 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.mapped.format;
+
+import org.apache.flink.api.common.io.CleanupWhenUnsuccessful;
+import org.apache.flink.api.common.io.InitializeOnMaster;
+import org.apache.flink.api.common.io.OutputFormat;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.core.fs.FileSystem;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.io.impl.mapped.MappedGraph;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+/**
+ * Writes the records created by
+ * {@link org.gradoop.flink.io.impl.mapped.functions.ElementToRecord} into a single local graph
+ * file (see {@link MappedGraph}).
+ *
+ * The format has to be executed with parallelism 1 and the records have to be sorted by kind and
+ * sort key (see {@link MappedGraphWriter}).
+ */
+public class MappedGraphOutputFormat implements
+  OutputFormat<Tuple4<Byte, GradoopId, String, byte[]>>, InitializeOnMaster,
+  CleanupWhenUnsuccessful {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * Path of the graph file
+   */
+  private final String path;
+  /**
+   * Overwrite mode
+   */
+  private final FileSystem.WriteMode writeMode;
+  /**
+   * Writes the graph file
+   */
+  private transient MappedGraphWriter writer;
+
+  /**
+   * Creates a new output format.
+   *
+   * @param path path of the local graph file
+   * @param writeMode overwrite mode
+   */
+  public MappedGraphOutputFormat(String path, FileSystem.WriteMode writeMode) {
+    this.path = path;
+    this.writeMode = writeMode;
+  }
+
+  /**
+   * Removes an existing file if it may be overwritten.
+   *
+   * @param parallelism parallelism of the sink
+   * @throws IOException if the file exists but must not be overwritten
+   */
+  @Override
+  public void initializeGlobal(int parallelism) throws IOException {
+    File graphFile = MappedGraph.getLocalFile(path);
+    if (graphFile.exists()) {
+      if (writeMode == FileSystem.WriteMode.NO_OVERWRITE) {
+        throw new IOException("Output path already exists: " + graphFile);
+      }
+      Files.delete(graphFile.toPath());
+    }
+    File directory = graphFile.getAbsoluteFile().getParentFile();
+    if (!directory.isDirectory() && !directory.mkdirs()) {
+      throw new IOException("Cannot create directory: " + directory);
+    }
+  }
+
+  @Override
+  public void configure(Configuration parameters) {
+  }
+
+  @Override
+  public void open(int taskNumber, int numTasks) throws IOException {
+    if (numTasks != 1) {
+      throw new IOException("Mapped graph files have to be written with parallelism 1");
+    }
+    writer = new MappedGraphWriter(MappedGraph.getLocalFile(path).getAbsoluteFile());
+  }
+
+  @Override
+  public void writeRecord(Tuple4<Byte, GradoopId, String, byte[]> record) throws IOException {
+    writer.write(record);
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (writer != null) {
+      MappedGraphWriter closed = writer;
+      writer = null;
+      closed.close();
+    }
+  }
+
+  @Override
+  public void tryCleanupOnError() throws IOException {
+    if (writer != null) {
+      writer.delete();
+      writer = null;
+    } else {
+      Files.deleteIfExists(MappedGraph.getLocalFile(path).toPath());
+    }
+  }
+}
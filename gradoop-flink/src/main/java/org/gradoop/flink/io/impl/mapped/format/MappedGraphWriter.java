@@ -0,0 +1,410 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.mapped.format;
+
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.io.impl.mapped.MappedFile;
+import org.gradoop.flink.io.impl.mapped.MappedGraph;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes a single graph file (see {@link MappedGraph}) from records sorted by kind and sort key.
+ * Records are appended to the graph file while ids and offsets are collected in temporary files
+ * next to it. On close, these sections are appended and the adjacency of the graph is derived by
+ * merging the sorted vertex ids with the sorted edge source ids.
+ */
+class MappedGraphWriter {
+  /**
+   * Graph file
+   */
+  private final File file;
+  /**
+   * Buffered stream on the graph file
+   */
+  private DataOutputStream out;
+  /**
+   * Number of bytes written to the graph file
+   */
+  private long position;
+  /**
+   * Kind of the record written last
+   */
+  private byte kind;
+  /**
+   * Number of records by kind
+   */
+  private final long[] counts;
+  /**
+   * Position after the last record by kind
+   */
+  private final long[] recordEnds;
+  /**
+   * Label indices by label
+   */
+  private final Map<String, Integer> labelIndices;
+  /**
+   * Labels by index
+   */
+  private final List<String> labels;
+  /**
+   * Positions of the graph head records
+   */
+  private final TemporarySection graphHeadOffsets;
+  /**
+   * Sorted vertex ids
+   */
+  private final TemporarySection vertexIds;
+  /**
+   * Positions of the vertex records
+   */
+  private final TemporarySection vertexOffsets;
+  /**
+   * Positions of the edge records
+   */
+  private final TemporarySection edgeOffsets;
+  /**
+   * Sorted edge source ids
+   */
+  private final TemporarySection edgeSourceIds;
+  /**
+   * Edge target ids
+   */
+  private final TemporarySection edgeTargetIds;
+
+  /**
+   * Creates a new writer.
+   *
+   * @param file graph file
+   * @throws IOException if the graph file or a temporary file cannot be created
+   */
+  MappedGraphWriter(File file) throws IOException {
+    this.file = file;
+    this.counts = new long[MappedGraph.EDGE + 1];
+    this.recordEnds = new long[MappedGraph.EDGE + 1];
+    this.labelIndices = new HashMap<>();
+    this.labels = new ArrayList<>();
+    this.graphHeadOffsets = new TemporarySection();
+    this.vertexIds = new TemporarySection();
+    this.vertexOffsets = new TemporarySection();
+    this.edgeOffsets = new TemporarySection();
+    this.edgeSourceIds = new TemporarySection();
+    this.edgeTargetIds = new TemporarySection();
+    this.out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+    out.write(new byte[MappedGraph.HEADER_SIZE]);
+    this.position = MappedGraph.HEADER_SIZE;
+    this.kind = MappedGraph.GRAPH_HEAD;
+  }
+
+  /**
+   * Appends a record to the graph file.
+   *
+   * @param record encoded element
+   * @throws IOException if the record is not sorted or writing fails
+   */
+  void write(Tuple4<Byte, GradoopId, String, byte[]> record) throws IOException {
+    if (record.f0 < kind) {
+      throw new IOException("Records have to be sorted by kind");
+    }
+    kind = record.f0;
+    Integer labelIndex = labelIndices.get(record.f2);
+    if (labelIndex == null) {
+      labelIndex = labels.size();
+      labelIndices.put(record.f2, labelIndex);
+      labels.add(record.f2);
+    }
+
+    switch (kind) {
+    case MappedGraph.GRAPH_HEAD:
+      graphHeadOffsets.out.writeLong(position);
+      break;
+    case MappedGraph.VERTEX:
+      vertexOffsets.out.writeLong(position);
+      vertexIds.out.write(record.f1.toByteArray());
+      break;
+    case MappedGraph.EDGE:
+      edgeOffsets.out.writeLong(position);
+      edgeSourceIds.out.write(record.f1.toByteArray());
+      edgeTargetIds.out.write(record.f3, MappedGraph.EDGE_TARGET_OFFSET, GradoopId.ID_SIZE);
+      break;
+    default:
+      throw new IOException("Unknown record kind: " + kind);
+    }
+
+    out.writeInt(labelIndex);
+    out.write(record.f3);
+    position += Integer.BYTES + record.f3.length;
+    counts[kind]++;
+    recordEnds[kind] = position;
+  }
+
+  /**
+   * Appends the remaining sections and writes the header.
+   *
+   * @throws IOException if a section cannot be derived or writing fails
+   */
+  void close() throws IOException {
+    try {
+      long labelsPosition = position;
+      writeInt(labels.size());
+      for (String label : labels) {
+        byte[] bytes = label.getBytes(StandardCharsets.UTF_8);
+        writeInt(bytes.length);
+        out.write(bytes);
+        position += bytes.length;
+      }
+      long graphHeadOffsetsPosition = appendOffsets(graphHeadOffsets, MappedGraph.GRAPH_HEAD);
+      long vertexIdsPosition = append(vertexIds);
+      long vertexOffsetsPosition = appendOffsets(vertexOffsets, MappedGraph.VERTEX);
+      long edgeOffsetsPosition = appendOffsets(edgeOffsets, MappedGraph.EDGE);
+      long rowPointersPosition = position;
+      writeRowPointers();
+      long adjacencyTargetsPosition = position;
+      writeAdjacencyTargets();
+      out.close();
+      out = null;
+
+      try (RandomAccessFile header = new RandomAccessFile(file, "rw")) {
+        header.writeLong(MappedGraph.MAGIC);
+        header.writeLong(counts[MappedGraph.GRAPH_HEAD]);
+        header.writeLong(counts[MappedGraph.VERTEX]);
+        header.writeLong(counts[MappedGraph.EDGE]);
+        header.writeLong(labelsPosition);
+        header.writeLong(graphHeadOffsetsPosition);
+        header.writeLong(vertexIdsPosition);
+        header.writeLong(vertexOffsetsPosition);
+        header.writeLong(edgeOffsetsPosition);
+        header.writeLong(rowPointersPosition);
+        header.writeLong(adjacencyTargetsPosition);
+      }
+    } finally {
+      if (out != null) {
+        out.close();
+        out = null;
+      }
+      deleteTemporarySections();
+    }
+  }
+
+  /**
+   * Removes the graph file and all temporary files.
+   *
+   * @throws IOException if deleting fails
+   */
+  void delete() throws IOException {
+    out.close();
+    deleteTemporarySections();
+    Files.deleteIfExists(file.toPath());
+  }
+
+  /**
+   * Writes the row pointers by merging the sorted vertex ids with the sorted source ids.
+   *
+   * @throws IOException if the vertex ids are not unique and sorted or an edge has no source
+   */
+  private void writeRowPointers() throws IOException {
+    long vertexCount = counts[MappedGraph.VERTEX];
+    long edgeCount = counts[MappedGraph.EDGE];
+    byte[] vertexId = new byte[GradoopId.ID_SIZE];
+    byte[] previousId = new byte[GradoopId.ID_SIZE];
+    byte[] sourceId = new byte[GradoopId.ID_SIZE];
+
+    try (DataInputStream vertexIn = vertexIds.openInput();
+      DataInputStream sourceIn = edgeSourceIds.openInput()) {
+      long edge = 0;
+      if (edgeCount > 0) {
+        sourceIn.readFully(sourceId);
+      }
+      for (long vertex = 0; vertex < vertexCount; vertex++) {
+        vertexIn.readFully(vertexId);
+        if (vertex > 0 && MappedFile.compareIds(previousId, vertexId) >= 0) {
+          throw new IOException("Vertices have to be unique and sorted by id");
+        }
+        writeLong(edge);
+        while (edge < edgeCount) {
+          int comparison = MappedFile.compareIds(sourceId, vertexId);
+          if (comparison > 0) {
+            break;
+          }
+          if (comparison < 0) {
+            throw missingVertex("Source", sourceId);
+          }
+          if (++edge < edgeCount) {
+            sourceIn.readFully(sourceId);
+          }
+        }
+        byte[] swap = previousId;
+        previousId = vertexId;
+        vertexId = swap;
+      }
+      if (edge < edgeCount) {
+        throw missingVertex("Source", sourceId);
+      }
+      writeLong(edgeCount);
+    }
+  }
+
+  /**
+   * Writes the vertex index of each edge target.
+   *
+   * @throws IOException if the target vertex of an edge is missing
+   */
+  private void writeAdjacencyTargets() throws IOException {
+    long vertexCount = counts[MappedGraph.VERTEX];
+    long edgeCount = counts[MappedGraph.EDGE];
+    byte[] targetId = new byte[GradoopId.ID_SIZE];
+    byte[] buffer = new byte[GradoopId.ID_SIZE];
+
+    try (MappedFile ids = new MappedFile(vertexIds.file);
+      DataInputStream targetIn = edgeTargetIds.openInput()) {
+      for (long edge = 0; edge < edgeCount; edge++) {
+        targetIn.readFully(targetId);
+        long target = ids.searchId(0, vertexCount, targetId, buffer);
+        if (target < 0) {
+          throw missingVertex("Target", targetId);
+        }
+        writeLong(target);
+      }
+    }
+  }
+
+  /**
+   * Appends a temporary section to the graph file.
+   *
+   * @param section temporary section
+   * @return position of the section in the graph file
+   * @throws IOException if copying fails
+   */
+  private long append(TemporarySection section) throws IOException {
+    long sectionPosition = position;
+    section.out.close();
+    position += Files.copy(section.file.toPath(), out);
+    return sectionPosition;
+  }
+
+  /**
+   * Appends a temporary offset section followed by the position after the last record.
+   *
+   * @param section temporary offset section
+   * @param recordKind kind of the records
+   * @return position of the section in the graph file
+   * @throws IOException if copying fails
+   */
+  private long appendOffsets(TemporarySection section, byte recordKind) throws IOException {
+    long sectionPosition = append(section);
+    writeLong(recordEnds[recordKind]);
+    return sectionPosition;
+  }
+
+  /**
+   * Writes an int value to the graph file.
+   *
+   * @param value int value
+   * @throws IOException if writing fails
+   */
+  private void writeInt(int value) throws IOException {
+    out.writeInt(value);
+    position += Integer.BYTES;
+  }
+
+  /**
+   * Writes a long value to the graph file.
+   *
+   * @param value long value
+   * @throws IOException if writing fails
+   */
+  private void writeLong(long value) throws IOException {
+    out.writeLong(value);
+    position += Long.BYTES;
+  }
+
+  /**
+   * Closes and deletes all temporary sections.
+   *
+   * @throws IOException if deleting fails
+   */
+  private void deleteTemporarySections() throws IOException {
+    for (TemporarySection section : Arrays.asList(graphHeadOffsets, vertexIds, vertexOffsets,
+      edgeOffsets, edgeSourceIds, edgeTargetIds)) {
+      section.out.close();
+      Files.deleteIfExists(section.file.toPath());
+    }
+  }
+
+  /**
+   * Creates the exception thrown for edges whose source or target vertex is missing.
+   *
+   * @param role role of the missing vertex
+   * @param id bytes of the vertex id
+   * @return exception
+   */
+  private static IOException missingVertex(String role, byte[] id) {
+    return new IOException(String.format("%s vertex %s of an edge is not contained in the graph",
+      role, GradoopId.fromByteArray(Arrays.copyOf(id, id.length))));
+  }
+
+  /**
+   * A section of the graph file which is written to a temporary file first.
+   */
+  private class TemporarySection {
+    /**
+     * Temporary file
+     */
+    private final File file;
+    /**
+     * Buffered stream on the temporary file
+     */
+    private final DataOutputStream out;
+
+    /**
+     * Creates a temporary file in the directory of the graph file.
+     *
+     * @throws IOException if the file cannot be created
+     */
+    TemporarySection() throws IOException {
+      this.file = File.createTempFile(MappedGraphWriter.this.file.getName() + "-",
+        ".tmp", MappedGraphWriter.this.file.getParentFile());
+      this.out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+    }
+
+    /**
+     * Opens the written section for reading.
+     *
+     * @return buffered stream on the temporary file
+     * @throws IOException if the file cannot be opened
+     */
+    DataInputStream openInput() throws IOException {
+      out.close();
+      return new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+    }
+  }
+}
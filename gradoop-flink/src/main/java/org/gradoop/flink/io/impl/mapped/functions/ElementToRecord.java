@@ -0,0 +1,139 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.mapped.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.common.model.impl.pojo.GraphElement;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.Property;
+import org.gradoop.flink.io.impl.mapped.MappedGraph;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encodes an EPGM element into a record of a mapped graph file (see {@link MappedGraph}).
+ *
+ * element -> (kind, sort key, label, record without label index)
+ *
+ * The sort key is the id of graph heads and vertices and the source id of edges.
+ *
+ * @param <E> EPGM element type
+ */
+public class ElementToRecord<E extends Element>
+  implements MapFunction<E, Tuple4<Byte, GradoopId, String, byte[]>> {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * Record kind of the encoded elements
+   */
+  private final byte kind;
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple4<Byte, GradoopId, String, byte[]> reuseTuple = new Tuple4<>();
+  /**
+   * Collects the encoded bytes
+   */
+  private transient ByteArrayOutputStream bytes;
+  /**
+   * Writes to the collected bytes
+   */
+  private transient DataOutputStream out;
+
+  /**
+   * Creates a new map function.
+   *
+   * @param kind record kind of the encoded elements, e.g. {@link MappedGraph#VERTEX}
+   */
+  public ElementToRecord(byte kind) {
+    this.kind = kind;
+  }
+
+  @Override
+  public Tuple4<Byte, GradoopId, String, byte[]> map(E element) throws IOException {
+    if (out == null) {
+      bytes = new ByteArrayOutputStream();
+      out = new DataOutputStream(bytes);
+    }
+    bytes.reset();
+    out.write(element.getId().toByteArray());
+    if (kind == MappedGraph.EDGE) {
+      Edge edge = (Edge) element;
+      out.write(edge.getSourceId().toByteArray());
+      out.write(edge.getTargetId().toByteArray());
+      reuseTuple.f1 = edge.getSourceId();
+    } else {
+      reuseTuple.f1 = element.getId();
+    }
+    if (kind != MappedGraph.GRAPH_HEAD) {
+      writeGraphIds(((GraphElement) element).getGraphIds());
+    }
+    writeProperties(element.getProperties());
+    out.flush();
+
+    reuseTuple.f0 = kind;
+    reuseTuple.f2 = element.getLabel();
+    reuseTuple.f3 = bytes.toByteArray();
+    return reuseTuple;
+  }
+
+  /**
+   * Writes the graph ids of an element.
+   *
+   * @param graphIds graph ids, might be {@code null}
+   * @throws IOException if writing fails
+   */
+  private void writeGraphIds(GradoopIdSet graphIds) throws IOException {
+    if (graphIds == null) {
+      out.writeInt(-1);
+    } else {
+      out.writeInt(graphIds.size());
+      out.write(graphIds.toByteArray());
+    }
+  }
+
+  /**
+   * Writes the properties of an element.
+   *
+   * @param properties properties, might be {@code null}
+   * @throws IOException if writing fails
+   */
+  private void writeProperties(Properties properties) throws IOException {
+    if (properties == null) {
+      out.writeInt(-1);
+      return;
+    }
+    out.writeInt(properties.size());
+    for (Property property : properties) {
+      byte[] key = property.getKey().getBytes(StandardCharsets.UTF_8);
+      out.writeInt(key.length);
+      out.write(key);
+      byte[] value = property.getValue().getRawBytes();
+      out.writeInt(value.length);
+      out.write(value);
+    }
+  }
+}
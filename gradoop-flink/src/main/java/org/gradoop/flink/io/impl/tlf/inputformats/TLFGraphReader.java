@@ -0,0 +1,350 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.tlf.inputformats;
+
+import org.gradoop.flink.algorithms.fsm.dimspan.tuples.LabeledGraphStringString;
+import org.gradoop.flink.io.impl.tlf.TLFConstants;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Parses the vertex and edge lines of TLF graphs from raw bytes into
+ * {@link LabeledGraphStringString} instances. TLF vertex ids are mapped to dense array indices in
+ * order of appearance and labels are cached, so that equal labels share the same string instance.
+ * Lines which neither start with {@link TLFConstants#VERTEX_SYMBOL} nor
+ * {@link TLFConstants#EDGE_SYMBOL} are ignored.
+ */
+class TLFGraphReader {
+  /**
+   * Number of slots of the label cache, needs to be a power of two
+   */
+  private static final int LABEL_CACHE_SIZE = 256;
+  /**
+   * Largest vertex id which is mapped via an array, larger ones are mapped via a hash map
+   */
+  private static final int MAX_DIRECT_VERTEX_ID = 1 << 16;
+  /**
+   * Byte representation of {@link TLFConstants#VERTEX_SYMBOL}
+   */
+  private static final byte VERTEX_SYMBOL = (byte) TLFConstants.VERTEX_SYMBOL.charAt(0);
+  /**
+   * Byte representation of {@link TLFConstants#EDGE_SYMBOL}
+   */
+  private static final byte EDGE_SYMBOL = (byte) TLFConstants.EDGE_SYMBOL.charAt(0);
+
+  /**
+   * Encoded labels of the label cache
+   */
+  private byte[][] cachedLabelBytes;
+  /**
+   * Decoded labels of the label cache
+   */
+  private String[] cachedLabels;
+  /**
+   * Maps TLF vertex ids up to {@link #MAX_DIRECT_VERTEX_ID} to vertex indices (+1)
+   */
+  private int[] directVertexIndices;
+  /**
+   * Maps larger TLF vertex ids to vertex indices
+   */
+  private Map<Integer, Integer> vertexIndices;
+  /**
+   * Vertex labels of the current graph
+   */
+  private String[] vertexLabels;
+  /**
+   * Number of vertices of the current graph
+   */
+  private int vertexCount;
+  /**
+   * TLF vertex ids of the current graph
+   */
+  private int[] vertexIds;
+  /**
+   * Edge labels of the current graph
+   */
+  private String[] edgeLabels;
+  /**
+   * Source and target indices of the edges of the current graph
+   */
+  private int[] edges;
+  /**
+   * Number of edges of the current graph
+   */
+  private int edgeCount;
+  /**
+   * Current read position
+   */
+  private int position;
+
+  /**
+   * Creates a new reader.
+   */
+  TLFGraphReader() {
+    cachedLabelBytes = new byte[LABEL_CACHE_SIZE][];
+    cachedLabels = new String[LABEL_CACHE_SIZE];
+    directVertexIndices = new int[0];
+    vertexIndices = new HashMap<>();
+    vertexLabels = new String[16];
+    vertexIds = new int[16];
+    edgeLabels = new String[16];
+    edges = new int[32];
+  }
+
+  /**
+   * Reads the graph contained in the given bytes. The first line, i.e., the remainder of the
+   * graph line, is skipped.
+   *
+   * @param reuse graph that may be reused, might be {@code null}
+   * @param bytes input buffer
+   * @param offset position of the first byte of the graph
+   * @param end position after the last byte of the graph
+   * @return graph or {@code null}, iff there are no lines after the first one
+   * @throws IOException if a line is malformed
+   */
+  LabeledGraphStringString read(LabeledGraphStringString reuse, byte[] bytes, int offset,
+    int end) throws IOException {
+    position = offset;
+
+    // skip the graph line, the first graph of a file might be preceded by empty lines
+    skipLine(bytes, end);
+    if (position >= end) {
+      return null;
+    }
+
+    clearGraph();
+
+    while (position < end) {
+      byte symbol = bytes[position];
+      if (symbol == VERTEX_SYMBOL && isSeparator(bytes, position + 1, end)) {
+        position++;
+        readVertex(bytes, end);
+      } else if (symbol == EDGE_SYMBOL && isSeparator(bytes, position + 1, end)) {
+        position++;
+        readEdge(bytes, end);
+      } else {
+        skipLine(bytes, end);
+      }
+    }
+
+    LabeledGraphStringString graph = reuse != null ? reuse : new LabeledGraphStringString();
+    graph.f0 = Arrays.copyOf(edges, edgeCount * 2);
+    graph.f1 = Arrays.copyOf(vertexLabels, vertexCount);
+    graph.f2 = Arrays.copyOf(edgeLabels, edgeCount);
+    return graph;
+  }
+
+  /**
+   * Resets the state of the current graph.
+   */
+  private void clearGraph() {
+    for (int i = 0; i < vertexCount; i++) {
+      int id = vertexIds[i];
+      if (id < directVertexIndices.length) {
+        directVertexIndices[id] = 0;
+      }
+    }
+    vertexIndices.clear();
+    vertexCount = 0;
+    edgeCount = 0;
+  }
+
+  /**
+   * Reads the id and label of a vertex line.
+   *
+   * @param bytes input buffer
+   * @param end end of the current graph
+   * @throws IOException if the line is malformed
+   */
+  private void readVertex(byte[] bytes, int end) throws IOException {
+    int id = readId(bytes, end);
+    String label = readLabel(bytes, end);
+
+    if (vertexCount == vertexLabels.length) {
+      vertexLabels = Arrays.copyOf(vertexLabels, vertexCount * 2);
+      vertexIds = Arrays.copyOf(vertexIds, vertexCount * 2);
+    }
+
+    if (id < MAX_DIRECT_VERTEX_ID) {
+      if (id >= directVertexIndices.length) {
+        directVertexIndices = Arrays.copyOf(directVertexIndices,
+          Math.min(MAX_DIRECT_VERTEX_ID, Math.max(id + 1, directVertexIndices.length * 2)));
+      }
+      directVertexIndices[id] = vertexCount + 1;
+    } else {
+      vertexIndices.put(id, vertexCount);
+    }
+
+    vertexIds[vertexCount] = id;
+    vertexLabels[vertexCount] = label;
+    vertexCount++;
+  }
+
+  /**
+   * Reads source id, target id and label of an edge line.
+   *
+   * @param bytes input buffer
+   * @param end end of the current graph
+   * @throws IOException if the line is malformed or refers to an unknown vertex
+   */
+  private void readEdge(byte[] bytes, int end) throws IOException {
+    int sourceIndex = getVertexIndex(readId(bytes, end));
+    int targetIndex = getVertexIndex(readId(bytes, end));
+    String label = readLabel(bytes, end);
+
+    if (edgeCount == edgeLabels.length) {
+      edgeLabels = Arrays.copyOf(edgeLabels, edgeCount * 2);
+      edges = Arrays.copyOf(edges, edgeCount * 4);
+    }
+
+    edges[edgeCount * 2] = sourceIndex;
+    edges[edgeCount * 2 + 1] = targetIndex;
+    edgeLabels[edgeCount] = label;
+    edgeCount++;
+  }
+
+  /**
+   * Returns the array index of a vertex by its TLF id.
+   *
+   * @param id TLF vertex id
+   * @return vertex index
+   * @throws IOException if there is no vertex with the given id
+   */
+  private int getVertexIndex(int id) throws IOException {
+    if (id < MAX_DIRECT_VERTEX_ID) {
+      if (id < directVertexIndices.length && directVertexIndices[id] > 0) {
+        return directVertexIndices[id] - 1;
+      }
+    } else {
+      Integer index = vertexIndices.get(id);
+      if (index != null) {
+        return index;
+      }
+    }
+    throw new IOException("Edge refers to unknown vertex " + id);
+  }
+
+  /**
+   * Reads a non-negative integer id preceded by column separators.
+   *
+   * @param bytes input buffer
+   * @param end end of the current graph
+   * @return id
+   * @throws IOException if there is no valid id at the current position
+   */
+  private int readId(byte[] bytes, int end) throws IOException {
+    while (position < end && bytes[position] == ' ') {
+      position++;
+    }
+    int start = position;
+    long id = 0;
+    while (position < end && bytes[position] >= '0' && bytes[position] <= '9') {
+      id = id * 10 + (bytes[position] - '0');
+      if (id > Integer.MAX_VALUE) {
+        throw new IOException("Vertex id out of range at offset " + start);
+      }
+      position++;
+    }
+    if (position == start || !isSeparator(bytes, position, end)) {
+      throw new IOException("Invalid vertex id at offset " + start);
+    }
+    return (int) id;
+  }
+
+  /**
+   * Reads the remainder of the current line as label and moves to the start of the next line.
+   *
+   * @param bytes input buffer
+   * @param end end of the current graph
+   * @return label
+   */
+  private String readLabel(byte[] bytes, int end) {
+    while (position < end && bytes[position] == ' ') {
+      position++;
+    }
+    int start = position;
+    while (position < end && bytes[position] != '\n') {
+      position++;
+    }
+    int labelEnd = position;
+    while (labelEnd > start && (bytes[labelEnd - 1] == ' ' || bytes[labelEnd - 1] == '\r')) {
+      labelEnd--;
+    }
+    position++;
+    return getLabel(bytes, start, labelEnd);
+  }
+
+  /**
+   * Returns the label encoded by the given bytes, using the label cache.
+   *
+   * @param bytes input buffer
+   * @param start start of the label
+   * @param end end of the label
+   * @return label
+   */
+  private String getLabel(byte[] bytes, int start, int end) {
+    int hash = 1;
+    for (int i = start; i < end; i++) {
+      hash = 31 * hash + bytes[i];
+    }
+    int slot = (hash ^ (hash >>> 16)) & (LABEL_CACHE_SIZE - 1);
+
+    byte[] cached = cachedLabelBytes[slot];
+    if (cached != null && cached.length == end - start) {
+      boolean equal = true;
+      for (int i = 0; equal && i < cached.length; i++) {
+        equal = cached[i] == bytes[start + i];
+      }
+      if (equal) {
+        return cachedLabels[slot];
+      }
+    }
+
+    String label = new String(bytes, start, end - start, StandardCharsets.UTF_8);
+    cachedLabelBytes[slot] = Arrays.copyOfRange(bytes, start, end);
+    cachedLabels[slot] = label;
+    return label;
+  }
+
+  /**
+   * Moves to the start of the next line.
+   *
+   * @param bytes input buffer
+   * @param end end of the current graph
+   */
+  private void skipLine(byte[] bytes, int end) {
+    while (position < end && bytes[position] != '\n') {
+      position++;
+    }
+    position++;
+  }
+
+  /**
+   * Checks if the given position is a column separator or the end of a line.
+   *
+   * @param bytes input buffer
+   * @param index position to check
+   * @param end end of the current graph
+   * @return true, iff the position separates two columns or ends the line
+   */
+  private boolean isSeparator(byte[] bytes, int index, int end) {
+    return index >= end || bytes[index] == ' ' || bytes[index] == '\n' || bytes[index] == '\r';
+  }
+}
@@ -0,0 +1,87 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.tlf.inputformats;
+
+import org.apache.flink.api.common.io.DelimitedInputFormat;
+import org.apache.flink.core.fs.FileInputSplit;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.flink.algorithms.fsm.dimspan.tuples.LabeledGraphStringString;
+import org.gradoop.flink.io.impl.tlf.TLFConstants;
+
+import java.io.IOException;
+
+/**
+ * Splittable input format reading TLF files directly into {@link LabeledGraphStringString}
+ * instances, e.g., as input of DIMSpan.
+ *
+ * Graphs are separated by the {@link TLFConstants#START_TAG} at the beginning of a line, hence
+ * large files are split across parallel tasks by {@link DelimitedInputFormat} without buffering
+ * graphs as strings. Vertex and edge lines are parsed from the raw bytes by a
+ * {@link TLFGraphReader} which is reused for all graphs of the task.
+ */
+public class TLFLabeledGraphInputFormat extends DelimitedInputFormat<LabeledGraphStringString> {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * Delimiter separating two graphs
+   */
+  private static final String GRAPH_DELIMITER = "\n" + TLFConstants.START_TAG;
+
+  /**
+   * Reader used to parse the graphs
+   */
+  private transient TLFGraphReader reader;
+
+  /**
+   * Creates a new input format.
+   *
+   * @param filePath path to the TLF file or directory
+   */
+  public TLFLabeledGraphInputFormat(String filePath) {
+    super(new Path(filePath), null);
+    setDelimiter(GRAPH_DELIMITER);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * A split not starting at the beginning of a file skips all bytes up to the first delimiter
+   * starting within the split, while the preceding split stops after the record terminated by a
+   * delimiter crossing the split boundary. To not lose the record following such a delimiter, the
+   * start of the split is moved backwards by the delimiter length minus one.
+   */
+  @Override
+  public void open(FileInputSplit split) throws IOException {
+    long start = split.getStart();
+    if (start > 0 && split.getLength() > 0) {
+      long shift = Math.min(GRAPH_DELIMITER.length() - 1, start - 1);
+      split = new FileInputSplit(split.getSplitNumber(), split.getPath(), start - shift,
+        split.getLength() + shift, split.getHostnames());
+    }
+    super.open(split);
+    if (reader == null) {
+      reader = new TLFGraphReader();
+    }
+  }
+
+  @Override
+  public LabeledGraphStringString readRecord(LabeledGraphStringString reuse, byte[] bytes,
+    int offset, int numBytes) throws IOException {
+    return reader.read(reuse, bytes, offset, offset + numBytes);
+  }
+}
@@ -102,6 +102,11 @@ public interface GraphCollectionOperators extends GraphBaseOperators {
    * a new property ("contains pattern"), or a new collection consisting of the
    * constructed embeddings
    *
+   * Available algorithms are
+   * {@link org.gradoop.flink.model.impl.operators.matching.transactional.algorithm.DepthSearchMatching}
+   * and the cost-based
+   * {@link org.gradoop.flink.model.impl.operators.matching.transactional.algorithm.OrderedSearchMatching}.
+   *
    * @param algorithm         custom pattern matching algorithm
    * @param pattern           query pattern
    * @param returnEmbeddings  true -> return embeddings as new collection,
@@ -18,6 +18,7 @@ package org.gradoop.flink.model.api.epgm;
 import com.google.common.collect.Lists;
 import org.apache.flink.api.common.functions.FilterFunction;
 import org.apache.flink.api.java.DataSet;
+import org.apache.flink.types.Row;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.GraphHead;
@@ -225,6 +226,33 @@ public class LogicalGraph implements LogicalGraphLayout, LogicalGraphOperators {
             vertexStrategy, edgeStrategy, graphStatistics));
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DataSet<Row> cypherTable(String query) {
+    return cypherTable(query, new GraphStatistics(1, 1, 1, 1));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DataSet<Row> cypherTable(String query, GraphStatistics graphStatistics) {
+    return cypherTable(query, MatchStrategy.HOMOMORPHISM, MatchStrategy.ISOMORPHISM,
+      graphStatistics);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DataSet<Row> cypherTable(String query, MatchStrategy vertexStrategy,
+    MatchStrategy edgeStrategy, GraphStatistics graphStatistics) {
+    return new CypherPatternMatching(query, false, vertexStrategy, edgeStrategy, graphStatistics)
+      .executeTable(this);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -17,6 +17,7 @@ package org.gradoop.flink.model.api.epgm;
 
 import org.apache.flink.api.common.functions.FilterFunction;
 import org.apache.flink.api.java.DataSet;
+import org.apache.flink.types.Row;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.pojo.Vertex;
@@ -34,6 +35,7 @@ import org.gradoop.flink.model.impl.operators.grouping.GroupingStrategy;
 import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.PropertyValueAggregator;
 import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
 import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.CypherPatternMatching;
 import org.gradoop.flink.model.impl.operators.matching.single.preserving.explorative.traverser.TraverserStrategy;
 import org.gradoop.flink.model.impl.operators.neighborhood.Neighborhood;
 
@@ -57,6 +59,13 @@ public interface LogicalGraphOperators extends GraphBaseOperators {
    * runtime performance. Use {@link LogicalGraphOperators#cypher(String, GraphStatistics)} to
    * provide statistics for the query planner.
    *
+   * If the query is prefixed by {@code EXPLAIN}, the query plan is logged and an empty collection
+   * is returned. See {@link CypherPatternMatching} for details on {@code EXPLAIN} and
+   * {@code PROFILE}.
+   *
+   * Variable length paths may be wrapped by {@code shortestPath}, {@code allShortestPaths} or
+   * {@code reachable}, e.g. {@code MATCH shortestPath((a)-[e*1..8]->(b))}.
+   *
    * @param query Cypher query
    * @return graph collection containing matching subgraphs
    */
@@ -155,6 +164,65 @@ public interface LogicalGraphOperators extends GraphBaseOperators {
   GraphCollection cypher(String query, String constructionPattern, boolean attachData,
     MatchStrategy vertexStrategy, MatchStrategy edgeStrategy, GraphStatistics graphStatistics);
 
+  /**
+   * Evaluates the given query using the Cypher query engine and returns the matches as rows.
+   * The engine uses default morphism strategies, which is vertex homomorphism and edge
+   * isomorphism.
+   *
+   * Each row contains the fields listed in the {@code RETURN} clause of the query, e.g.
+   *
+   * <pre>
+   * <code>graph.cypherTable(
+   *  "MATCH (a:Author)-[e:WROTE]->(p:Paper) WHERE p.year > 2010 RETURN a, a.name, p.title")
+   * </code>
+   * </pre>
+   *
+   * produces rows containing the id of {@code a}, the name of {@code a} and the title of
+   * {@code p}. Vertex and edge variables are mapped to their id, path variables to an array of
+   * ids and properties to their value. Without a {@code RETURN} clause or with {@code RETURN *},
+   * the rows contain the ids of all named variables in alphabetical order.
+   *
+   * The RETURN clause may contain the aggregate functions {@code count}, {@code sum},
+   * {@code min}, {@code max} and {@code avg}. In that case, all other return items are used as
+   * grouping keys, e.g. {@code RETURN a.city, count(*)} produces one row per city. The clause
+   * may be followed by {@code ORDER BY} on return items and {@code LIMIT}, e.g.
+   * {@code RETURN a.name, a.age ORDER BY a.age DESC LIMIT 100}. Aggregates are partially
+   * computed before shuffling and a limited order is computed from per-partition top-k rows.
+   *
+   * In contrast to {@link LogicalGraphOperators#cypher(String)}, no graph collection is
+   * created from the matches, i.e. there is no need for graph heads and no shuffle to merge
+   * elements that are contained in multiple matches.
+   *
+   * @param query Cypher query including an optional RETURN clause
+   * @return one row per match
+   */
+  DataSet<Row> cypherTable(String query);
+
+  /**
+   * Evaluates the given query using the Cypher query engine and returns the matches as rows.
+   * The engine uses default morphism strategies, which is vertex homomorphism and edge
+   * isomorphism.
+   *
+   * @param query Cypher query including an optional RETURN clause
+   * @param graphStatistics statistics about the data graph
+   * @return one row per match
+   * @see LogicalGraphOperators#cypherTable(String)
+   */
+  DataSet<Row> cypherTable(String query, GraphStatistics graphStatistics);
+
+  /**
+   * Evaluates the given query using the Cypher query engine and returns the matches as rows.
+   *
+   * @param query Cypher query including an optional RETURN clause
+   * @param vertexStrategy morphism setting for vertex mapping
+   * @param edgeStrategy morphism setting for edge mapping
+   * @param graphStatistics statistics about the data graph
+   * @return one row per match
+   * @see LogicalGraphOperators#cypherTable(String)
+   */
+  DataSet<Row> cypherTable(String query, MatchStrategy vertexStrategy,
+    MatchStrategy edgeStrategy, GraphStatistics graphStatistics);
+
   /**
    * Evaluates the given GDL query using the Traverser query engine.
    *
@@ -43,6 +43,15 @@ public class ElementSelectorComparable extends QueryComparable {
     this.elementSelector = elementSelector;
   }
 
+  /**
+   * Returns the query variable of the element selector.
+   *
+   * @return query variable
+   */
+  public String getVariable() {
+    return this.elementSelector.getVariable();
+  }
+
   /**
    * Returns a property values that wraps the elements id
    *
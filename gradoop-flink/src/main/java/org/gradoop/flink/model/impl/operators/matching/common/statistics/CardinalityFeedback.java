@@ -0,0 +1,94 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.common.statistics;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Stores the actual cardinalities of query sub-patterns which have been observed during query
+ * execution. Each cardinality is identified by a signature which describes the sub-pattern
+ * independently of the plan that computed it.
+ *
+ * Observed cardinalities are attached to {@link GraphStatistics} and persisted next to the
+ * statistics files (see {@link GraphStatisticsReader#FILE_OBSERVED_CARDINALITIES}). Estimators
+ * prefer observed cardinalities over the estimation based on independence assumptions.
+ */
+public class CardinalityFeedback {
+  /**
+   * Returned if there is no observation for a signature
+   */
+  public static final long UNKNOWN = -1L;
+  /**
+   * signature -> observed cardinality
+   */
+  private final Map<String, Long> observedCardinalities;
+
+  /**
+   * Creates an empty feedback store.
+   */
+  public CardinalityFeedback() {
+    this(new HashMap<>());
+  }
+
+  /**
+   * Creates a feedback store from the given observations.
+   *
+   * @param observedCardinalities signature -> observed cardinality
+   */
+  public CardinalityFeedback(Map<String, Long> observedCardinalities) {
+    this.observedCardinalities = new HashMap<>(observedCardinalities);
+  }
+
+  /**
+   * Records the observed cardinality of a sub-pattern. A previous observation of the same
+   * sub-pattern is replaced.
+   *
+   * @param signature sub-pattern signature
+   * @param cardinality observed cardinality
+   */
+  public void record(String signature, long cardinality) {
+    if (cardinality < 0) {
+      throw new IllegalArgumentException("Cardinality must not be negative: " + cardinality);
+    }
+    observedCardinalities.put(signature, cardinality);
+  }
+
+  /**
+   * Returns the observed cardinality of a sub-pattern.
+   *
+   * @param signature sub-pattern signature
+   * @return observed cardinality or {@link CardinalityFeedback#UNKNOWN}
+   */
+  public long getCardinality(String signature) {
+    return observedCardinalities.getOrDefault(signature, UNKNOWN);
+  }
+
+  /**
+   * Returns all observations.
+   *
+   * @return signature -> observed cardinality
+   */
+  public Map<String, Long> getObservedCardinalities() {
+    return Collections.unmodifiableMap(observedCardinalities);
+  }
+
+  @Override
+  public String toString() {
+    return "CardinalityFeedback{observedCardinalities=" + observedCardinalities + "}";
+  }
+}
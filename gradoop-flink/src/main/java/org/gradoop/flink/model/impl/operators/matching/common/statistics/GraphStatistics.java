@@ -84,6 +84,10 @@ public class GraphStatistics {
    * Number of distinct vertex property values for property names
    */
   private Map<String, Long> distinctVertexProperties;
+  /**
+   * Cardinalities observed during query execution, may be null
+   */
+  private CardinalityFeedback cardinalityFeedback;
 
   /**
    * Constructor using basic statistics.
@@ -306,6 +310,25 @@ public class GraphStatistics {
       distinctEdgePropertiesByLabel.get(edgeLabel).getOrDefault(propertyName, 0L) : 0;
   }
 
+  /**
+   * Returns the cardinalities observed during query execution.
+   *
+   * @return observed cardinalities or {@code null} if no feedback is collected
+   */
+  public CardinalityFeedback getCardinalityFeedback() {
+    return cardinalityFeedback;
+  }
+
+  /**
+   * Attaches a store for cardinalities observed during query execution. If set, query plans
+   * are profiled and their observed cardinalities are preferred during estimation.
+   *
+   * @param cardinalityFeedback observed cardinalities or {@code null} to disable feedback
+   */
+  public void setCardinalityFeedback(CardinalityFeedback cardinalityFeedback) {
+    this.cardinalityFeedback = cardinalityFeedback;
+  }
+
   @Override
   public String toString() {
     final StringBuilder sb = new StringBuilder("GraphStatistics{");
@@ -337,6 +360,8 @@ public class GraphStatistics {
       .append(distinctVertexPropertiesByLabel);
     sb.append(String.format(",%n distinctEdgePropertiesByLabel="))
       .append(distinctEdgePropertiesByLabel);
+    sb.append(String.format(",%n cardinalityFeedback="))
+      .append(cardinalityFeedback);
 
     sb.append(String.format("%n}"));
     return sb.toString();
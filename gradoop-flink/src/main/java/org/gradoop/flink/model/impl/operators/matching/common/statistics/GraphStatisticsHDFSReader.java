@@ -33,7 +33,8 @@ public class GraphStatisticsHDFSReader extends GraphStatisticsReader {
    * Reads statistics from files contains in the specified directory and creates a
    * {@link GraphStatistics} object from them.
    *
-   * The method expects all files to be present and formatted according to the docs.
+   * The method expects all files to be present and formatted according to the docs. Observed
+   * cardinalities are only attached if the corresponding file exists.
    *
    * @param inputPath path to directory containing statistics files
    * @param configuration Hadoop configuration
@@ -135,11 +136,21 @@ public class GraphStatisticsHDFSReader extends GraphStatisticsReader {
       distinctVertexPropertyValuesByPropertyName = readKeyValueMap(br.lines());
     }
 
-    return new GraphStatistics(vertexCount, edgeCount, vertexCountByLabel, edgeCountByLabel,
+    GraphStatistics statistics = new GraphStatistics(vertexCount, edgeCount,
+      vertexCountByLabel, edgeCountByLabel,
       edgeCountBySourceVertexAndEdgeLabel, edgeCountByTargetVertexAndEdgeLabel,
       distinctSourceVertexCount, distinctTargetVertexCount, distinctSourceVertexCountByEdgeLabel,
       distinctTargetVertexCountByEdgeLabel, distinctPropertyValuesByEdgeLabelAndPropertyName,
       distinctPropertyValuesByVertexLabelAndPropertyName,
       distinctEdgePropertyValuesByPropertyName, distinctVertexPropertyValuesByPropertyName);
+
+    p = new Path(root, GraphStatisticsReader.FILE_OBSERVED_CARDINALITIES);
+    if (fs.exists(p)) {
+      try (BufferedReader br = new BufferedReader(new InputStreamReader(fs.open(p), charset))) {
+        statistics.setCardinalityFeedback(readCardinalityFeedback(br.lines()));
+      }
+    }
+
+    return statistics;
   }
 }
@@ -0,0 +1,56 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.common.statistics;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.Charset;
+
+/**
+ * Writes parts of {@link GraphStatistics} to dedicated files in HDFS.
+ */
+public class GraphStatisticsHDFSWriter extends GraphStatisticsWriter {
+  /**
+   * Writes the observed cardinalities of the given statistics to the specified statistics
+   * directory. An existing file is overwritten. Nothing is written if the statistics do not
+   * contain observed cardinalities.
+   *
+   * @param outputPath path to directory containing statistics files
+   * @param statistics graph statistics
+   * @param configuration Hadoop configuration
+   * @throws IOException if an I/O error occurs writing the file
+   */
+  public static void writeCardinalityFeedback(String outputPath, GraphStatistics statistics,
+    Configuration configuration) throws IOException {
+    if (statistics.getCardinalityFeedback() == null) {
+      return;
+    }
+    FileSystem fs = FileSystem.get(configuration);
+    Path p = new Path(outputPath, GraphStatisticsReader.FILE_OBSERVED_CARDINALITIES);
+    try (BufferedWriter bw = new BufferedWriter(
+      new OutputStreamWriter(fs.create(p, true), Charset.forName("UTF-8")))) {
+      for (String line : formatCardinalityFeedback(statistics.getCardinalityFeedback())) {
+        bw.write(line);
+        bw.newLine();
+      }
+    }
+  }
+}
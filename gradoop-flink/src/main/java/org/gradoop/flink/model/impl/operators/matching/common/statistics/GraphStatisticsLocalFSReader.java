@@ -31,7 +31,8 @@ public class GraphStatisticsLocalFSReader extends GraphStatisticsReader {
    * Reads statistics from files contains in the specified directory and creates a
    * {@link GraphStatistics} object from them.
    *
-   * The method expects all files to be present and formatted according to the docs.
+   * The method expects all files to be present and formatted according to the docs. Observed
+   * cardinalities are only attached if the corresponding file exists.
    *
    * @param inputPath path to directory containing statistics files
    * @return graph statistics
@@ -98,7 +99,8 @@ public class GraphStatisticsLocalFSReader extends GraphStatisticsReader {
     Map<String, Long> distinctVertexPropertyValuesByPropertyName =
       readKeyValueMap(Files.lines(p, charset));
 
-    return new GraphStatistics(vertexCount, edgeCount, vertexCountByLabel, edgeCountByLabel,
+    GraphStatistics statistics = new GraphStatistics(vertexCount, edgeCount,
+      vertexCountByLabel, edgeCountByLabel,
       edgeCountBySourceVertexAndEdgeLabel, edgeCountByTargetVertexAndEdgeLabel,
       distinctSourceVertexCount, distinctTargetVertexCount,
       distSourceVertexCountByEdgeLabel, distTargetVertexCountByEdgeLabel,
@@ -106,6 +108,13 @@ public class GraphStatisticsLocalFSReader extends GraphStatisticsReader {
       distinctPropertyValuesByVertexLabelAndPropertyName,
       distinctEdgePropertyValuesByPropertyName,
       distinctVertexPropertyValuesByPropertyName);
+
+    p = statisticsDir.resolve(Paths.get(GraphStatisticsReader.FILE_OBSERVED_CARDINALITIES));
+    if (Files.exists(p)) {
+      statistics.setCardinalityFeedback(readCardinalityFeedback(Files.lines(p, charset)));
+    }
+
+    return statistics;
   }
 
 }
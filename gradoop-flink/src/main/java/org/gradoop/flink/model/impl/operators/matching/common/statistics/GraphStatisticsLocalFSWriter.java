@@ -0,0 +1,49 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.common.statistics;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Writes parts of {@link GraphStatistics} to dedicated files in the local file system.
+ */
+public class GraphStatisticsLocalFSWriter extends GraphStatisticsWriter {
+  /**
+   * Writes the observed cardinalities of the given statistics to the specified statistics
+   * directory. An existing file is overwritten. Nothing is written if the statistics do not
+   * contain observed cardinalities.
+   *
+   * @param outputPath path to directory containing statistics files
+   * @param statistics graph statistics
+   * @throws IOException if an I/O error occurs writing the file
+   */
+  public static void writeCardinalityFeedback(String outputPath, GraphStatistics statistics)
+      throws IOException {
+    if (statistics.getCardinalityFeedback() == null) {
+      return;
+    }
+    Path statisticsDir = Paths.get(new File(outputPath).getAbsolutePath());
+    Files.createDirectories(statisticsDir);
+    Path p = statisticsDir.resolve(Paths.get(GraphStatisticsReader.FILE_OBSERVED_CARDINALITIES));
+    Files.write(p, formatCardinalityFeedback(statistics.getCardinalityFeedback()),
+      Charset.forName("UTF-8"));
+  }
+}
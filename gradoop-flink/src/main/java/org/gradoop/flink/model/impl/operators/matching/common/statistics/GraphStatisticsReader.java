@@ -166,6 +166,17 @@ public abstract class GraphStatisticsReader {
    */
   public static final String FILE_DISTINCT_VERTEX_PROPERTIES = "distinct_vertex_properties";
 
+  /**
+   * Optional file. Each line contains the observed cardinality of a query sub-pattern and its
+   * signature (see {@link CardinalityFeedback}), e.g.
+   *
+   * BOF
+   * 12,(a {a.__label__ = Person})
+   * 30,(a)-[e {e.__label__ = knows}]->(b)
+   * EOF
+   */
+  public static final String FILE_OBSERVED_CARDINALITIES = "observed_cardinalities";
+
   /**
    * Reads a single {@link Long} value from the specified file.
    *
@@ -222,4 +233,19 @@ public abstract class GraphStatisticsReader {
 
     return mapping;
   }
+
+  /**
+   * Reads the observed cardinalities from the specified file.
+   *
+   * @param lines stream of lines in the file
+   * @return observed cardinalities
+   * @throws IOException if an I/O error occurs opening the file
+   */
+  static CardinalityFeedback readCardinalityFeedback(Stream<String> lines) throws IOException {
+    return new CardinalityFeedback(lines
+      .filter(line -> !line.isEmpty())
+      .map(line -> line.split(TOKEN_SEPARATOR, 2))
+      .collect(Collectors.toMap(tokens -> tokens[1], tokens -> Long.parseLong(tokens[0]),
+        (first, second) -> second)));
+  }
 }
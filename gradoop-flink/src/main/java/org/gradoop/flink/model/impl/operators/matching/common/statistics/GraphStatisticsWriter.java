@@ -0,0 +1,41 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.common.statistics;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Base class for writing parts of a {@link GraphStatistics} object to file system. The files
+ * are formatted as expected by {@link GraphStatisticsReader}.
+ */
+public abstract class GraphStatisticsWriter {
+
+  /**
+   * Formats the observed cardinalities as lines of
+   * {@link GraphStatisticsReader#FILE_OBSERVED_CARDINALITIES}, ordered by signature.
+   *
+   * @param cardinalityFeedback observed cardinalities
+   * @return lines to write
+   */
+  static List<String> formatCardinalityFeedback(CardinalityFeedback cardinalityFeedback) {
+    return cardinalityFeedback.getObservedCardinalities().entrySet().stream()
+      .sorted(Map.Entry.comparingByKey())
+      .map(entry -> entry.getValue() + GraphStatisticsReader.TOKEN_SEPARATOR + entry.getKey())
+      .collect(Collectors.toList());
+  }
+}
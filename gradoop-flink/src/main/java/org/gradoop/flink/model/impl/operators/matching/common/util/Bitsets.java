@@ -0,0 +1,242 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.common.util;
+
+import java.util.Collection;
+
+/**
+ * Static helpers to treat a {@code long[]} as a bitset over dense int ids,
+ * e.g. query vertex or query edge ids.
+ *
+ * Each word holds 64 ids, so candidate sets of typical query graphs fit into
+ * a single word. In contrast to {@link java.util.BitSet}, a {@code long[]} is
+ * natively serialized by Flink.
+ */
+public final class Bitsets {
+
+  /**
+   * Number of bits per word.
+   */
+  private static final int WORD_SIZE = 64;
+
+  /**
+   * Utility class
+   */
+  private Bitsets() {
+  }
+
+  /**
+   * Creates an empty bitset that is able to hold the given number of bits.
+   *
+   * @param size number of bits
+   * @return empty bitset
+   */
+  public static long[] create(int size) {
+    return new long[Math.max(1, (size + WORD_SIZE - 1) / WORD_SIZE)];
+  }
+
+  /**
+   * Creates a bitset containing the indices of all true values.
+   *
+   * @param values boolean array
+   * @return bitset
+   */
+  public static long[] fromBooleans(boolean[] values) {
+    long[] bits = create(values.length);
+    for (int i = 0; i < values.length; i++) {
+      if (values[i]) {
+        set(bits, i);
+      }
+    }
+    return bits;
+  }
+
+  /**
+   * Creates a bitset containing the given ids.
+   *
+   * @param size  number of bits
+   * @param ids   ids to set
+   * @return bitset
+   */
+  public static long[] fromIds(int size, Collection<Long> ids) {
+    long[] bits = create(size);
+    if (ids != null) {
+      for (Long id : ids) {
+        set(bits, id.intValue());
+      }
+    }
+    return bits;
+  }
+
+  /**
+   * Sets the given bit.
+   *
+   * @param bits  bitset
+   * @param index bit index
+   */
+  public static void set(long[] bits, int index) {
+    bits[index / WORD_SIZE] |= 1L << index;
+  }
+
+  /**
+   * Clears the given bit.
+   *
+   * @param bits  bitset
+   * @param index bit index
+   */
+  public static void clear(long[] bits, int index) {
+    bits[index / WORD_SIZE] &= ~(1L << index);
+  }
+
+  /**
+   * Checks if the given bit is set.
+   *
+   * @param bits  bitset
+   * @param index bit index
+   * @return true, iff the bit is set
+   */
+  public static boolean get(long[] bits, int index) {
+    return (bits[index / WORD_SIZE] & (1L << index)) != 0;
+  }
+
+  /**
+   * Checks if no bit is set.
+   *
+   * @param bits bitset
+   * @return true, iff no bit is set
+   */
+  public static boolean isEmpty(long[] bits) {
+    for (long word : bits) {
+      if (word != 0L) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the number of set bits.
+   *
+   * @param bits bitset
+   * @return number of set bits
+   */
+  public static int cardinality(long[] bits) {
+    int count = 0;
+    for (long word : bits) {
+      count += Long.bitCount(word);
+    }
+    return count;
+  }
+
+  /**
+   * Checks if both bitsets have at least one common bit.
+   *
+   * @param left  bitset
+   * @param right bitset
+   * @return true, iff the intersection is not empty
+   */
+  public static boolean intersects(long[] left, long[] right) {
+    for (int i = 0; i < Math.min(left.length, right.length); i++) {
+      if ((left[i] & right[i]) != 0L) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Checks if all bits of {@code subset} are also set in {@code bits}.
+   *
+   * @param bits    bitset
+   * @param subset  bits to check
+   * @return true, iff {@code subset} is contained in {@code bits}
+   */
+  public static boolean containsAll(long[] bits, long[] subset) {
+    for (int i = 0; i < subset.length; i++) {
+      long word = i < bits.length ? bits[i] : 0L;
+      if ((subset[i] & ~word) != 0L) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Adds all bits of {@code source} to {@code target}.
+   *
+   * @param target bitset to update
+   * @param source bits to add
+   */
+  public static void or(long[] target, long[] source) {
+    for (int i = 0; i < Math.min(target.length, source.length); i++) {
+      target[i] |= source[i];
+    }
+  }
+
+  /**
+   * Removes all bits of {@code source} from {@code target}.
+   *
+   * @param target bitset to update
+   * @param source bits to remove
+   */
+  public static void andNot(long[] target, long[] source) {
+    for (int i = 0; i < Math.min(target.length, source.length); i++) {
+      target[i] &= ~source[i];
+    }
+  }
+
+  /**
+   * Returns the index of the first set bit that is equal to or greater than
+   * the given index.
+   *
+   * @param bits  bitset
+   * @param from  index to start from (inclusive)
+   * @return index of the next set bit or -1 if there is none
+   */
+  public static int nextSetBit(long[] bits, int from) {
+    int wordIndex = from / WORD_SIZE;
+    if (wordIndex >= bits.length) {
+      return -1;
+    }
+    long word = bits[wordIndex] & (-1L << from);
+    while (true) {
+      if (word != 0L) {
+        return wordIndex * WORD_SIZE + Long.numberOfTrailingZeros(word);
+      }
+      if (++wordIndex == bits.length) {
+        return -1;
+      }
+      word = bits[wordIndex];
+    }
+  }
+
+  /**
+   * Returns a string representation containing all set bits, e.g. "0,2,5".
+   *
+   * @param bits bitset
+   * @return string representation
+   */
+  public static String toString(long[] bits) {
+    StringBuilder sb = new StringBuilder();
+    for (int i = nextSetBit(bits, 0); i >= 0; i = nextSetBit(bits, i + 1)) {
+      if (sb.length() > 0) {
+        sb.append(',');
+      }
+      sb.append(i);
+    }
+    return sb.toString();
+  }
+}
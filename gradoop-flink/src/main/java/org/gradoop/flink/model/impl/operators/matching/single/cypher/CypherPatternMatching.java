@@ -16,26 +16,55 @@
 package org.gradoop.flink.model.impl.operators.matching.single.cypher;
 
 import com.google.common.collect.Sets;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.flink.api.common.JobExecutionResult;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
 import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.typeutils.ObjectArrayTypeInfo;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
+import org.apache.flink.types.Row;
 import org.apache.log4j.Logger;
+import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.io.api.FilterableDataSource;
+import org.gradoop.flink.io.api.ReadSpecification;
 import org.gradoop.flink.model.api.epgm.GraphCollection;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
 import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
 import org.gradoop.flink.model.impl.operators.matching.common.PostProcessor;
 import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.CardinalityFeedback;
 import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsHDFSWriter;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsLocalFSWriter;
 import org.gradoop.flink.model.impl.operators.matching.single.PatternMatching;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.debug.PrintEmbedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.functions.ElementsFromEmbedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.functions.EmbeddingToRow;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.add.AddEmbeddingsElements;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.project.ProjectEmbeddingsElements;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.explain.QueryPlanExplainer;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.explain.QueryPlanProfile;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.greedy.GreedyPlanner;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.QueryPlan;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.SharedSubPlans;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.table.AggregateRows;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.table.OrderAndLimitRows;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.table.ReturnItem;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.PathSemantics;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.PathSemanticsParser;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ReturnClauseParser;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import static com.google.common.collect.Sets.difference;
 import static com.google.common.collect.Sets.intersection;
@@ -43,12 +72,49 @@ import static org.gradoop.flink.model.impl.operators.matching.common.debug.Print
 
 /**
  * Implementation of a query engine based on the Cypher graph query language.
+ *
+ * The query may be prefixed by {@code EXPLAIN} or {@code PROFILE}. If the query is prefixed by
+ * {@code EXPLAIN}, the query plan including estimated cardinalities is logged and an empty
+ * collection is returned. If the query is prefixed by {@code PROFILE}, the output of each plan
+ * node is recorded during execution and can be retrieved via
+ * {@link CypherPatternMatching#getProfile(JobExecutionResult)} once the job has finished.
+ *
+ * If the graph statistics contain a {@link CardinalityFeedback}, the output of each plan node is
+ * recorded as well. Once the job has finished, the actual cardinalities can be stored in the
+ * statistics via {@link CypherPatternMatching#recordCardinalities(JobExecutionResult)} and are
+ * preferred by the planner when estimating subsequent queries.
+ *
+ * A pattern containing a named variable length path may be wrapped by {@code shortestPath},
+ * {@code allShortestPaths} or {@code reachable}, e.g.
+ * {@code MATCH shortestPath((a)-[e*1..8]->(b))}, to only produce the shortest path(s) or the
+ * reachable vertices (see {@link PathSemanticsParser}).
+ *
+ * The query may end with a {@code RETURN} clause (see {@link ReturnClauseParser}). The clause
+ * defines the fields of the rows produced by {@link CypherPatternMatching#executeTable}. If the
+ * result is a graph collection, only the {@code LIMIT} of the clause is considered, e.g.
+ * {@code MATCH (a)-[e]->(b) RETURN * LIMIT 25} returns 25 arbitrary matches. The limit is part of
+ * the query plan, i.e. only the limited matches are converted into graphs. As graph collections
+ * are unordered, {@code ORDER BY} is only supported by {@link CypherPatternMatching#executeTable}.
  */
 public class CypherPatternMatching extends PatternMatching {
   /**
    * Logger
    */
   private static final Logger LOG = Logger.getLogger(CypherPatternMatching.class);
+  /**
+   * Matches the EXPLAIN prefix of a query
+   */
+  private static final Pattern EXPLAIN_PREFIX =
+    Pattern.compile("^\\s*EXPLAIN\\s+", Pattern.CASE_INSENSITIVE);
+  /**
+   * Matches the PROFILE prefix of a query
+   */
+  private static final Pattern PROFILE_PREFIX =
+    Pattern.compile("^\\s*PROFILE\\s+", Pattern.CASE_INSENSITIVE);
+  /**
+   * Prefix of variables generated by the query parser for anonymous query elements
+   */
+  private static final String ANONYMOUS_VARIABLE_PREFIX = "__";
   /**
    * Construction pattern for result transformation.
    */
@@ -65,6 +131,38 @@ public class CypherPatternMatching extends PatternMatching {
    * Statistics about the data graph
    */
   private final GraphStatistics graphStatistics;
+  /**
+   * True, if the query plan shall only be explained but not executed
+   */
+  private final boolean explain;
+  /**
+   * True, if the query plan shall be profiled during execution
+   */
+  private final boolean profile;
+  /**
+   * Semantics of variable length paths that are wrapped by a path function
+   */
+  private final Map<String, PathSemantics> pathSemantics;
+  /**
+   * Items of the RETURN clause, empty if all named variables shall be returned
+   */
+  private final List<String> returnItems;
+  /**
+   * Items of the ORDER BY list and their direction (true, if ascending)
+   */
+  private final List<Pair<String, Boolean>> orderBy;
+  /**
+   * Maximum number of result rows, -1 if unlimited
+   */
+  private final int limit;
+  /**
+   * Explains the query plan of the last execution
+   */
+  private QueryPlanExplainer explainer;
+  /**
+   * Sub plans shared with other queries, {@code null} if the query is evaluated on its own
+   */
+  private SharedSubPlans sharedSubPlans;
 
   /**
    * Instantiates a new operator.
@@ -92,7 +190,32 @@ public class CypherPatternMatching extends PatternMatching {
    */
   public CypherPatternMatching(String query, String constructionPattern, boolean attachData,
     MatchStrategy vertexStrategy, MatchStrategy edgeStrategy, GraphStatistics graphStatistics) {
-    super(query, attachData, LOG);
+    this(query, new PathSemanticsParser(removeReturnClause(query)), constructionPattern,
+      attachData, vertexStrategy, edgeStrategy, graphStatistics);
+  }
+
+  /**
+   * Instantiates a new operator.
+   *
+   * @param query               Cypher query string
+   * @param pathParser          path functions parsed from the query
+   * @param constructionPattern Construction pattern
+   * @param attachData          true, if original data shall be attached to the result
+   * @param vertexStrategy      morphism strategy for vertex mappings
+   * @param edgeStrategy        morphism strategy for edge mappings
+   * @param graphStatistics     statistics about the data graph
+   */
+  private CypherPatternMatching(String query, PathSemanticsParser pathParser,
+    String constructionPattern, boolean attachData, MatchStrategy vertexStrategy,
+    MatchStrategy edgeStrategy, GraphStatistics graphStatistics) {
+    super(pathParser.getQuery(), attachData, LOG);
+    this.pathSemantics = pathParser.getPathSemantics();
+    ReturnClauseParser returnClause = new ReturnClauseParser(removePrefix(query));
+    this.returnItems = returnClause.getReturnItems();
+    this.orderBy = returnClause.getOrderBy();
+    this.limit = returnClause.getLimit();
+    this.explain = EXPLAIN_PREFIX.matcher(query).find();
+    this.profile = PROFILE_PREFIX.matcher(query).find();
     this.constructionPattern = constructionPattern;
     this.vertexStrategy = vertexStrategy;
     this.edgeStrategy = edgeStrategy;
@@ -106,11 +229,21 @@ public class CypherPatternMatching extends PatternMatching {
 
   @Override
   protected GraphCollection executeForPattern(LogicalGraph graph) {
+    if (!orderBy.isEmpty()) {
+      throw new IllegalArgumentException(
+        "ORDER BY requires a table result, use executeTable: " + getQuery());
+    }
     // Query planning
     QueryHandler queryHandler = getQueryHandler();
-    QueryPlan plan =
-      new GreedyPlanner(graph, queryHandler, graphStatistics, vertexStrategy, edgeStrategy).plan()
-        .getQueryPlan();
+    QueryPlan plan = createQueryPlan(graph);
+
+    if (explain) {
+      LOG.info(String.format("Query plan for %s%n%s", getQuery(), explainer.explain()));
+      return graph.getConfig().getGraphCollectionFactory().createEmptyCollection();
+    }
+    if (isProfiled()) {
+      explainer.enableProfiling();
+    }
 
     // Query execution
     DataSet<Embedding> embeddings = plan.execute();
@@ -136,6 +269,301 @@ public class CypherPatternMatching extends PatternMatching {
       PostProcessor.extractGraphCollection(finalElements, graph.getConfig(), true);
   }
 
+  /**
+   * Evaluates the query on the given graph and returns one row per match. The fields of each row
+   * are defined by the {@code RETURN} clause of the query.
+   *
+   * In contrast to {@link CypherPatternMatching#execute(LogicalGraph)}, the resulting embeddings
+   * are directly projected to rows, i.e. neither graph heads nor graph elements are created.
+   * If the RETURN clause contains aggregate functions, the rows are aggregated using all other
+   * return items as grouping keys. {@code ORDER BY} and {@code LIMIT} are applied to the final
+   * rows.
+   *
+   * @param graph data graph
+   * @return one row per match or group
+   */
+  public DataSet<Row> executeTable(LogicalGraph graph) {
+    List<ReturnItem> items = getReturnItems();
+    List<String> arguments = items.stream()
+      .map(ReturnItem::getArgument)
+      .filter(Objects::nonNull)
+      .collect(Collectors.toList());
+    RowTypeInfo inputType = getRowType(arguments);
+    RowTypeInfo rowType = AggregateRows.getResultType(inputType, items);
+    boolean aggregate = items.stream().anyMatch(ReturnItem::isAggregate);
+    // the limit can only be pushed into the plan if the rows are neither grouped nor sorted
+    boolean limitPlan = !aggregate && orderBy.isEmpty();
+    QueryPlan plan = createQueryPlan(graph, getReturnProperties(items), limitPlan ? limit : -1);
+
+    if (explain) {
+      LOG.info(String.format("Query plan for %s%n%s", getQuery(), explainer.explain()));
+      return graph.getConfig().getExecutionEnvironment()
+        .fromCollection(Collections.emptyList(), rowType);
+    }
+    if (isProfiled()) {
+      explainer.enableProfiling();
+    }
+
+    DataSet<Row> rows = plan.execute()
+      .map(new EmbeddingToRow(plan.getRoot().getEmbeddingMetaData(), arguments))
+      .returns(aggregate ? inputType : rowType);
+
+    if (aggregate) {
+      rows = new AggregateRows(rows, inputType, items).evaluate();
+    }
+    if (!orderBy.isEmpty() || (limit != -1 && !limitPlan)) {
+      int[] fields = new int[orderBy.size()];
+      boolean[] ascending = new boolean[orderBy.size()];
+      for (int i = 0; i < orderBy.size(); i++) {
+        fields[i] = getSortField(items, orderBy.get(i).getLeft());
+        ascending[i] = orderBy.get(i).getRight();
+      }
+      rows = new OrderAndLimitRows(rows, rowType, fields, ascending, limit).evaluate();
+    }
+    return rows;
+  }
+
+  /**
+   * Creates the query plan for the given graph without executing it and returns it including
+   * the estimated cardinality of each plan node.
+   *
+   * @param graph data graph
+   * @return explained query plan
+   */
+  public QueryPlanProfile explain(LogicalGraph graph) {
+    createQueryPlan(graph);
+    return explainer.explain();
+  }
+
+  /**
+   * Returns the query plan of the last execution including the estimated and the actual
+   * cardinality of each plan node. Actual values are only available if the query has been
+   * prefixed with {@code PROFILE}.
+   *
+   * @param jobResult result of the Flink job which executed the query
+   * @return profiled query plan
+   */
+  public QueryPlanProfile getProfile(JobExecutionResult jobResult) {
+    if (explainer == null) {
+      throw new IllegalStateException("Query has not been executed");
+    }
+    return explainer.profile(jobResult);
+  }
+
+  /**
+   * Records the actual cardinality of each node of the last executed query plan in the
+   * {@link CardinalityFeedback} of the graph statistics. The feedback may then be persisted
+   * using {@link GraphStatisticsLocalFSWriter} or {@link GraphStatisticsHDFSWriter}.
+   *
+   * @param jobResult result of the Flink job which executed the query
+   */
+  public void recordCardinalities(JobExecutionResult jobResult) {
+    if (explainer == null) {
+      throw new IllegalStateException("Query has not been executed");
+    }
+    if (graphStatistics.getCardinalityFeedback() == null) {
+      throw new IllegalStateException("Graph statistics do not collect cardinality feedback");
+    }
+    explainer.recordCardinalities(jobResult, graphStatistics.getCardinalityFeedback());
+  }
+
+  /**
+   * Returns the elements and properties of the data graph which are required to evaluate the
+   * query. The specification can be applied by a {@link FilterableDataSource} to avoid reading
+   * elements which cannot be part of any match.
+   *
+   * @return read specification for the data graph
+   */
+  public ReadSpecification getReadSpecification() {
+    ReadSpecification readSpecification = new GreedyPlanner(null, getQueryHandler(),
+      graphStatistics, vertexStrategy, edgeStrategy, pathSemantics,
+      getReturnProperties(getReturnItems()), limit).getReadSpecification();
+
+    if (doAttachData() || constructionPattern != null) {
+      // original elements are joined with the data graph and keep all properties
+      readSpecification.setVertexPropertyKeys(null).setEdgePropertyKeys(null);
+      if (getQueryHandler().getEdges().stream().anyMatch(e -> e.getUpperBound() != 1)) {
+        // vertices within paths may have any label
+        ReadSpecification allVertices = new ReadSpecification()
+          .setEdgeLabels(readSpecification.getEdgeLabels())
+          .setEdgePropertyKeys(null);
+        readSpecification.getEdgeRanges().forEach(allVertices::addEdgeRange);
+        readSpecification = allVertices;
+      }
+    }
+    return readSpecification;
+  }
+
+  /**
+   * Checks if the output of the plan nodes needs to be recorded during execution.
+   *
+   * @return true, iff the query is profiled or cardinality feedback is collected
+   */
+  private boolean isProfiled() {
+    return profile || graphStatistics.getCardinalityFeedback() != null;
+  }
+
+  /**
+   * Creates the query plan for the given graph and initializes the explainer.
+   *
+   * @param graph data graph
+   * @return query plan
+   */
+  private QueryPlan createQueryPlan(LogicalGraph graph) {
+    // a limit on sorted rows selects the top rows and can't be pushed into the plan
+    return createQueryPlan(graph, Collections.emptySet(), orderBy.isEmpty() ? limit : -1);
+  }
+
+  /**
+   * Creates the query plan for the given graph and initializes the explainer. The given
+   * properties are contained in the embeddings produced by the plan.
+   *
+   * @param graph data graph
+   * @param returnProperties variable-property pairs required in the result
+   * @param planLimit maximum number of embeddings produced by the plan, -1 if unlimited
+   * @return query plan
+   */
+  private QueryPlan createQueryPlan(LogicalGraph graph,
+    Set<Pair<String, String>> returnProperties, int planLimit) {
+    QueryPlan plan = new GreedyPlanner(graph, getQueryHandler(), graphStatistics,
+      vertexStrategy, edgeStrategy, pathSemantics, returnProperties, planLimit)
+      .plan().getQueryPlan();
+    explainer = new QueryPlanExplainer(plan, getQueryHandler(), graphStatistics);
+    if (sharedSubPlans != null) {
+      plan.shareSubPlans(sharedSubPlans);
+    }
+    return plan;
+  }
+
+  /**
+   * Shares the output of the plan nodes of subsequently created query plans with equivalent
+   * nodes of other queries (see {@link CypherQueryBatch}).
+   *
+   * @param sharedSubPlans sub plans shared between queries
+   */
+  void shareSubPlans(SharedSubPlans sharedSubPlans) {
+    this.sharedSubPlans = sharedSubPlans;
+  }
+
+  /**
+   * Returns the items of the RETURN clause. If the query has no such clause, all named
+   * variables are returned in alphabetical order.
+   *
+   * @return validated return items
+   */
+  private List<ReturnItem> getReturnItems() {
+    QueryHandler queryHandler = getQueryHandler();
+    if (returnItems.isEmpty()) {
+      return queryHandler.getAllVariables().stream()
+        .filter(variable -> !variable.startsWith(ANONYMOUS_VARIABLE_PREFIX))
+        .sorted()
+        .map(ReturnItem::parse)
+        .collect(Collectors.toList());
+    }
+    List<ReturnItem> items = returnItems.stream()
+      .map(ReturnItem::parse)
+      .collect(Collectors.toList());
+    for (ReturnItem item : items) {
+      String variable = item.getVariable();
+      if (variable != null && !queryHandler.getAllVariables().contains(variable)) {
+        throw new IllegalArgumentException("Unknown variable in RETURN clause: " + item);
+      }
+      if (item.isProperty() && isPath(variable)) {
+        throw new IllegalArgumentException("Properties of paths cannot be returned: " + item);
+      }
+    }
+    return items;
+  }
+
+  /**
+   * Returns the row field the given ORDER BY item refers to.
+   *
+   * @param items return items
+   * @param sortItem item of the ORDER BY list
+   * @return field index
+   */
+  private int getSortField(List<ReturnItem> items, String sortItem) {
+    ReturnItem item = ReturnItem.parse(sortItem);
+    int field = items.indexOf(item);
+    if (field == -1) {
+      throw new IllegalArgumentException(
+        "ORDER BY items must be contained in the RETURN clause: " + sortItem);
+    }
+    if (!item.isAggregate() && !item.isProperty() && isPath(item.getVariable())) {
+      throw new IllegalArgumentException("Paths cannot be sorted: " + sortItem);
+    }
+    return field;
+  }
+
+  /**
+   * Returns the properties referenced by the given return items.
+   *
+   * @param items return items
+   * @return variable-property pairs
+   */
+  private static Set<Pair<String, String>> getReturnProperties(List<ReturnItem> items) {
+    return items.stream()
+      .filter(ReturnItem::isProperty)
+      .map(item -> Pair.of(item.getVariable(), item.getPropertyKey()))
+      .collect(Collectors.toSet());
+  }
+
+  /**
+   * Returns the type of the rows containing the given variables and properties.
+   *
+   * @param items variables and properties ({@code variable.key})
+   * @return row type
+   */
+  private RowTypeInfo getRowType(List<String> items) {
+    TypeInformation<?>[] types = new TypeInformation<?>[items.size()];
+    for (int i = 0; i < items.size(); i++) {
+      String item = items.get(i);
+      if (item.contains(".")) {
+        types[i] = TypeInformation.of(PropertyValue.class);
+      } else if (isPath(item)) {
+        types[i] = ObjectArrayTypeInfo.getInfoFor(TypeInformation.of(GradoopId.class));
+      } else {
+        types[i] = TypeInformation.of(GradoopId.class);
+      }
+    }
+    return new RowTypeInfo(types);
+  }
+
+  /**
+   * Checks if the given variable refers to a variable length path.
+   *
+   * @param variable query variable
+   * @return true, if the variable is a path variable
+   */
+  private boolean isPath(String variable) {
+    return getQueryHandler().isEdge(variable) &&
+      getQueryHandler().getEdgeByVariable(variable).hasVariableLength();
+  }
+
+  /**
+   * Removes an EXPLAIN or PROFILE prefix and the RETURN clause from the given query.
+   *
+   * @param query Cypher query string
+   * @return query without prefix and RETURN clause
+   */
+  private static String removeReturnClause(String query) {
+    return new ReturnClauseParser(removePrefix(query)).getQuery();
+  }
+
+  /**
+   * Removes an EXPLAIN or PROFILE prefix from the given query.
+   *
+   * @param query Cypher query string
+   * @return query without prefix
+   */
+  private static String removePrefix(String query) {
+    if (query == null) {
+      return null;
+    }
+    query = EXPLAIN_PREFIX.matcher(query).replaceFirst("");
+    return PROFILE_PREFIX.matcher(query).replaceFirst("");
+  }
+
   /**
    * Method to construct final embedded elements
    *
@@ -0,0 +1,153 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher;
+
+import org.apache.flink.api.common.JobExecutionResult;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.types.Row;
+import org.gradoop.flink.io.api.DataSink;
+import org.gradoop.flink.model.api.epgm.GraphCollection;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.SharedSubPlans;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Evaluates a batch of Cypher queries on the same data graph.
+ *
+ * Each query is planned using the same graph statistics and morphism strategies. Plan nodes
+ * which evaluate the same sub-pattern in several queries, e.g. identical vertex and edge scans or
+ * common join sub plans, are only executed once and their output is shared between the queries
+ * (see {@link SharedSubPlans}). All query results are part of a single Flink program, i.e. the
+ * whole batch is executed as one Flink job with one sink per query.
+ *
+ * <pre>
+ * CypherQueryBatch batch = new CypherQueryBatch(queries, true,
+ *   MatchStrategy.HOMOMORPHISM, MatchStrategy.ISOMORPHISM, graphStatistics);
+ * batch.write(graph, sinks);
+ * </pre>
+ *
+ * Sub plans are recognized as equal independent of the query variables they use. Vertex and edge
+ * scans which only differ in the projected properties share the filtered elements. If a query is
+ * profiled, nodes below a shared node are not executed for that query and thus have no actual
+ * cardinality.
+ */
+public class CypherQueryBatch {
+  /**
+   * Operators evaluating the single queries
+   */
+  private final List<CypherPatternMatching> queries;
+  /**
+   * Sub plans shared during the last execution
+   */
+  private SharedSubPlans sharedSubPlans;
+
+  /**
+   * Creates a new batch of queries.
+   *
+   * @param queries         Cypher query strings
+   * @param attachData      true, if original data shall be attached to the results
+   * @param vertexStrategy  morphism strategy for vertex mappings
+   * @param edgeStrategy    morphism strategy for edge mappings
+   * @param graphStatistics statistics about the data graph
+   */
+  public CypherQueryBatch(List<String> queries, boolean attachData, MatchStrategy vertexStrategy,
+    MatchStrategy edgeStrategy, GraphStatistics graphStatistics) {
+    this.queries = queries.stream()
+      .map(query -> new CypherPatternMatching(query, attachData, vertexStrategy, edgeStrategy,
+        graphStatistics))
+      .collect(Collectors.toList());
+  }
+
+  /**
+   * Evaluates all queries on the given graph.
+   *
+   * @param graph data graph
+   * @return one graph collection per query in the order of the queries
+   */
+  public List<GraphCollection> execute(LogicalGraph graph) {
+    sharedSubPlans = new SharedSubPlans();
+    List<GraphCollection> results = new ArrayList<>(queries.size());
+    for (CypherPatternMatching query : queries) {
+      query.shareSubPlans(sharedSubPlans);
+      results.add(graph.callForCollection(query));
+    }
+    return results;
+  }
+
+  /**
+   * Evaluates all queries on the given graph and returns one row per match (see
+   * {@link CypherPatternMatching#executeTable(LogicalGraph)}).
+   *
+   * @param graph data graph
+   * @return one row data set per query in the order of the queries
+   */
+  public List<DataSet<Row>> executeTable(LogicalGraph graph) {
+    sharedSubPlans = new SharedSubPlans();
+    List<DataSet<Row>> results = new ArrayList<>(queries.size());
+    for (CypherPatternMatching query : queries) {
+      query.shareSubPlans(sharedSubPlans);
+      results.add(query.executeTable(graph));
+    }
+    return results;
+  }
+
+  /**
+   * Evaluates all queries on the given graph, writes the result of each query to the
+   * corresponding sink and executes the resulting program as a single Flink job.
+   *
+   * @param graph data graph
+   * @param sinks one sink per query in the order of the queries
+   * @return result of the Flink job
+   * @throws Exception if writing or executing fails
+   */
+  public JobExecutionResult write(LogicalGraph graph, List<DataSink> sinks) throws Exception {
+    if (sinks.size() != queries.size()) {
+      throw new IllegalArgumentException(String.format(
+        "Expected %d sinks but got %d", queries.size(), sinks.size()));
+    }
+    List<GraphCollection> results = execute(graph);
+    for (int i = 0; i < results.size(); i++) {
+      sinks.get(i).write(results.get(i));
+    }
+    return graph.getConfig().getExecutionEnvironment()
+      .execute(String.format("Cypher query batch (%d queries)", queries.size()));
+  }
+
+  /**
+   * Returns the operators evaluating the single queries, e.g. to retrieve their profiles once
+   * the batch has been executed.
+   *
+   * @return query operators in the order of the queries
+   */
+  public List<CypherPatternMatching> getQueries() {
+    return Collections.unmodifiableList(queries);
+  }
+
+  /**
+   * Returns the sub plans shared during the last execution.
+   *
+   * @return shared sub plans or {@code null} if the batch has not been executed
+   */
+  public SharedSubPlans getSharedSubPlans() {
+    return sharedSubPlans;
+  }
+}
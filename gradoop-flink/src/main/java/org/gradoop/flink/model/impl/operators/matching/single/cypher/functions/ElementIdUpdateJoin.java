@@ -0,0 +1,41 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Element;
+
+/**
+ * Joins elements with a Tuple2 that contains the current id of the element in its first field
+ * and the id to replace it with in its second.
+ * The output is the element with updated id.
+ *
+ * @param <EL> EPGM element type
+ */
+@FunctionAnnotation.ForwardedFieldsFirst("graphIds;label;properties")
+@FunctionAnnotation.ForwardedFieldsSecond("f1->id")
+public class ElementIdUpdateJoin<EL extends Element>
+  implements JoinFunction<EL, Tuple2<GradoopId, GradoopId>, EL> {
+
+  @Override
+  public EL join(EL element, Tuple2<GradoopId, GradoopId> idTuple) {
+    element.setId(idTuple.f1);
+    return element;
+  }
+}
@@ -0,0 +1,88 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.types.Row;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
+
+import java.util.List;
+
+/**
+ * Projects an embedding to a row containing the given return items.
+ *
+ * A return item is either a variable or a property of a variable ({@code variable.key}). Vertex
+ * and edge variables are mapped to their {@link GradoopId}, path variables to an array containing
+ * the ids of all path elements and properties to their
+ * {@link org.gradoop.common.model.impl.properties.PropertyValue}.
+ */
+public class EmbeddingToRow implements MapFunction<Embedding, Row> {
+  /**
+   * Embedding column of each return item
+   */
+  private final int[] columns;
+  /**
+   * True, if the corresponding return item is a property
+   */
+  private final boolean[] isProperty;
+  /**
+   * True, if the corresponding return item is a path variable
+   */
+  private final boolean[] isPath;
+
+  /**
+   * Creates a new function.
+   *
+   * @param metaData meta data of the input embeddings
+   * @param returnItems return items defining the row fields
+   */
+  public EmbeddingToRow(EmbeddingMetaData metaData, List<String> returnItems) {
+    this.columns = new int[returnItems.size()];
+    this.isProperty = new boolean[returnItems.size()];
+    this.isPath = new boolean[returnItems.size()];
+
+    for (int i = 0; i < returnItems.size(); i++) {
+      String item = returnItems.get(i);
+      int separator = item.indexOf('.');
+      if (separator == -1) {
+        columns[i] = metaData.getEntryColumn(item);
+        isPath[i] = metaData.getEntryType(item) == EmbeddingMetaData.EntryType.PATH;
+      } else {
+        columns[i] = metaData.getPropertyColumn(
+          item.substring(0, separator), item.substring(separator + 1));
+        isProperty[i] = true;
+      }
+    }
+  }
+
+  @Override
+  public Row map(Embedding embedding) throws Exception {
+    Row row = new Row(columns.length);
+    for (int i = 0; i < columns.length; i++) {
+      if (isProperty[i]) {
+        row.setField(i, embedding.getProperty(columns[i]));
+      } else if (isPath[i]) {
+        List<GradoopId> path = embedding.getIdList(columns[i]);
+        row.setField(i, path.toArray(new GradoopId[path.size()]));
+      } else {
+        row.setField(i, embedding.getId(columns[i]));
+      }
+    }
+    return row;
+  }
+}
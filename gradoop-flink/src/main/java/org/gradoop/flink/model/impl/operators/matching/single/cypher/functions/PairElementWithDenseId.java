@@ -0,0 +1,65 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.DenseIdMapping;
+
+/**
+ * Pairs an element with a dense id derived from the unique long assigned to it.
+ *
+ * (l, element) -> (element, denseId)
+ *
+ * Vertices are assigned even and edges odd numbers, so that vertex and edge ids never collide.
+ * Numbering starts at 2, as the dense id of 0 equals {@link GradoopId#NULL_VALUE}, which is used
+ * as a sentinel by several operators.
+ *
+ * @param <EL> EPGM element type
+ */
+@FunctionAnnotation.ForwardedFields("f1->f0")
+public class PairElementWithDenseId<EL extends Element>
+  implements MapFunction<Tuple2<Long, EL>, Tuple2<EL, GradoopId>> {
+
+  /**
+   * Added to the doubled unique long (2 for vertices, 3 for edges)
+   */
+  private final long offset;
+
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple2<EL, GradoopId> reuseTuple = new Tuple2<>();
+
+  /**
+   * Creates a new function instance.
+   *
+   * @param isEdge true, iff the mapped elements are edges
+   */
+  public PairElementWithDenseId(boolean isEdge) {
+    this.offset = isEdge ? 3L : 2L;
+  }
+
+  @Override
+  public Tuple2<EL, GradoopId> map(Tuple2<Long, EL> tuple) {
+    reuseTuple.f0 = tuple.f1;
+    reuseTuple.f1 = DenseIdMapping.toDenseId(2 * tuple.f0 + offset);
+    return reuseTuple;
+  }
+}
@@ -0,0 +1,113 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.functions;
+
+import org.apache.flink.api.common.accumulators.LongCounter;
+import org.apache.flink.api.common.accumulators.LongMaximum;
+import org.apache.flink.api.common.functions.RichMapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.configuration.Configuration;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+/**
+ * Forwards embeddings and records the number of embeddings, their serialized size in bytes and
+ * their output span using Flink accumulators.
+ *
+ * The output span is the time between the first and the last embedding received by a parallel
+ * instance, i.e. the first-to-last output latency of the node. The maximum over all instances is
+ * recorded. As upstream operators are pipelined, the span includes their latency and is not the
+ * time spent in the node itself.
+ */
+@FunctionAnnotation.ForwardedFields("*")
+public class ProfileEmbeddings extends RichMapFunction<Embedding, Embedding> {
+  /**
+   * Suffix of the accumulator counting the number of embeddings
+   */
+  public static final String ROWS = ".rows";
+  /**
+   * Suffix of the accumulator counting the number of bytes
+   */
+  public static final String BYTES = ".bytes";
+  /**
+   * Suffix of the accumulator holding the maximum output span in milliseconds
+   */
+  public static final String OUTPUT_SPAN = ".outputSpan";
+  /**
+   * Accumulator prefix
+   */
+  private final String name;
+  /**
+   * Counts the number of embeddings
+   */
+  private LongCounter rowCounter;
+  /**
+   * Counts the number of bytes
+   */
+  private LongCounter byteCounter;
+  /**
+   * Maximum time between the first and the last embedding of a parallel instance
+   */
+  private LongMaximum outputSpan;
+  /**
+   * Timestamp of the first embedding processed by this instance
+   */
+  private long firstTimestamp;
+  /**
+   * Timestamp of the last embedding processed by this instance
+   */
+  private long lastTimestamp;
+
+  /**
+   * Creates a new UDF instance.
+   *
+   * @param name accumulator prefix
+   */
+  public ProfileEmbeddings(String name) {
+    this.name = name;
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    rowCounter = new LongCounter();
+    byteCounter = new LongCounter();
+    outputSpan = new LongMaximum();
+    getRuntimeContext().addAccumulator(name + ROWS, rowCounter);
+    getRuntimeContext().addAccumulator(name + BYTES, byteCounter);
+    getRuntimeContext().addAccumulator(name + OUTPUT_SPAN, outputSpan);
+    firstTimestamp = -1L;
+  }
+
+  @Override
+  public Embedding map(Embedding embedding) throws Exception {
+    lastTimestamp = System.currentTimeMillis();
+    if (firstTimestamp < 0) {
+      firstTimestamp = lastTimestamp;
+    }
+    rowCounter.add(1L);
+    byteCounter.add(embedding.getIdData().length + embedding.getPropertyData().length +
+      embedding.getIdListData().length);
+    return embedding;
+  }
+
+  @Override
+  public void close() throws Exception {
+    if (firstTimestamp >= 0) {
+      outputSpan.add(lastTimestamp - firstTimestamp);
+    }
+    super.close();
+  }
+}
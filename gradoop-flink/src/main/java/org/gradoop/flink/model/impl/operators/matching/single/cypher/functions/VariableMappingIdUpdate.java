@@ -0,0 +1,83 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.functions;
+
+import org.apache.flink.api.common.functions.CoGroupFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.matching.single.PatternMatching;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replaces the element ids within the variable mapping of a graph head. The graph head is
+ * co-grouped with Tuple3s that contain the graph head id, the current id of an element and the
+ * id to replace it with. Ids without replacement are kept.
+ */
+@FunctionAnnotation.ForwardedFieldsFirst("id;label")
+public class VariableMappingIdUpdate
+  implements CoGroupFunction<GraphHead, Tuple3<GradoopId, GradoopId, GradoopId>, GraphHead> {
+
+  @Override
+  public void coGroup(Iterable<GraphHead> graphHeads,
+    Iterable<Tuple3<GradoopId, GradoopId, GradoopId>> idTuples, Collector<GraphHead> out) {
+    Map<GradoopId, GradoopId> replacements = new HashMap<>();
+    for (Tuple3<GradoopId, GradoopId, GradoopId> idTuple : idTuples) {
+      replacements.put(idTuple.f1, idTuple.f2);
+    }
+
+    for (GraphHead graphHead : graphHeads) {
+      if (!replacements.isEmpty()) {
+        Map<PropertyValue, PropertyValue> variableMapping = graphHead
+          .getPropertyValue(PatternMatching.VARIABLE_MAPPING_KEY).getMap();
+        Map<PropertyValue, PropertyValue> updatedMapping = new HashMap<>(variableMapping.size());
+        for (Map.Entry<PropertyValue, PropertyValue> entry : variableMapping.entrySet()) {
+          updatedMapping.put(entry.getKey(), update(entry.getValue(), replacements));
+        }
+        graphHead.setProperty(PatternMatching.VARIABLE_MAPPING_KEY, updatedMapping);
+      }
+      out.collect(graphHead);
+    }
+  }
+
+  /**
+   * Replaces the id or the ids of a path stored in the given mapping value.
+   *
+   * @param value id or list of ids
+   * @param replacements current id to new id
+   * @return updated mapping value
+   */
+  private PropertyValue update(PropertyValue value, Map<GradoopId, GradoopId> replacements) {
+    if (value.isGradoopId()) {
+      return PropertyValue.create(
+        replacements.getOrDefault(value.getGradoopId(), value.getGradoopId()));
+    } else if (value.isList()) {
+      List<PropertyValue> path = new ArrayList<>(value.getList().size());
+      for (PropertyValue pathElement : value.getList()) {
+        path.add(update(pathElement, replacements));
+      }
+      return PropertyValue.create(path);
+    }
+    return value;
+  }
+}
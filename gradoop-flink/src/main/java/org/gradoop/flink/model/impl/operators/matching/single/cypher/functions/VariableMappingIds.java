@@ -0,0 +1,67 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.matching.single.PatternMatching;
+
+/**
+ * Extracts all element ids referenced by the variable mapping of a graph head, including the
+ * ids within path mappings.
+ *
+ * graphHead -> (elementId, graphHeadId)*
+ */
+public class VariableMappingIds
+  implements FlatMapFunction<GraphHead, Tuple2<GradoopId, GradoopId>> {
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple2<GradoopId, GradoopId> reuseTuple = new Tuple2<>();
+
+  @Override
+  public void flatMap(GraphHead graphHead, Collector<Tuple2<GradoopId, GradoopId>> out) {
+    if (!graphHead.hasProperty(PatternMatching.VARIABLE_MAPPING_KEY)) {
+      return;
+    }
+    reuseTuple.f1 = graphHead.getId();
+    for (PropertyValue value : graphHead.getPropertyValue(PatternMatching.VARIABLE_MAPPING_KEY)
+      .getMap().values()) {
+      if (value.isGradoopId()) {
+        collect(value, out);
+      } else if (value.isList()) {
+        for (PropertyValue pathElement : value.getList()) {
+          collect(pathElement, out);
+        }
+      }
+    }
+  }
+
+  /**
+   * Emits the given id together with the current graph head id.
+   *
+   * @param id element id
+   * @param out output collector
+   */
+  private void collect(PropertyValue id, Collector<Tuple2<GradoopId, GradoopId>> out) {
+    reuseTuple.f0 = id.getGradoopId();
+    out.collect(reuseTuple);
+  }
+}
@@ -0,0 +1,201 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand;
+
+import org.apache.flink.api.common.operators.base.JoinOperatorBase;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.operators.DeltaIteration;
+import org.gradoop.flink.model.impl.functions.bool.False;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.functions.ReverseEdgeEmbedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperator;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.BuildAdjacencyList;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.CombineShortestPaths;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.CreateShortestPathsSource;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.ExpandShortestPathsEntry;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.ExtractKeyedCandidateEdges;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.FilterAdmissibleShortestPaths;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.FilterUnvisitedShortestPaths;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.PostProcessShortestPaths;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.AdjacencyList;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ShortestPathsEntry;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandDirection;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.PathSemantics;
+
+import java.util.List;
+
+/**
+ * Expands a vertex along the edges using a breadth first search per input embedding. In contrast
+ * to {@link ExpandEmbeddings}, only the shortest paths from the start vertex to each reachable
+ * end vertex are produced (see {@link PathSemantics}). The number of hops can be specified via
+ * upper and lower bound. Paths whose length is below the lower bound are discarded.
+ *
+ * The input embedding is appended by 2 Entries, the first one represents the path (edge, vertex,
+ * edge, vertex, ..., edge), the second one the end vertex. In case of
+ * {@link PathSemantics#REACHABILITY} the path entry is empty.
+ *
+ * The search is done with a {@code DeltaIteration}. The solution set contains the vertices that
+ * have been reached by a path of admissible length from each input embedding and is used to prune
+ * paths to visited vertices. As it grows with the number of input embeddings times the number of
+ * reachable vertices, it is kept in Flink managed memory instead of on the heap. The working set
+ * only contains the newly reached vertices (BFS frontier). Vertices reached below the lower bound
+ * remain in the frontier without being marked as visited, so that they can be reached again by a
+ * longer, admissible path.
+ */
+public class ExpandShortestPaths implements PhysicalOperator {
+  /**
+   * Input Embeddings
+   */
+  private final DataSet<Embedding> input;
+  /**
+   * Candidate edges
+   */
+  private final DataSet<Embedding> candidateEdges;
+  /**
+   * specifies the input column that will be expanded
+   */
+  private final int expandColumn;
+  /**
+   * minimum hops
+   */
+  private final int lowerBound;
+  /**
+   * maximum hops
+   */
+  private final int upperBound;
+  /**
+   * expand direction
+   */
+  private final ExpandDirection direction;
+  /**
+   * Holds indices of input vertex columns that should be distinct
+   */
+  private final List<Integer> distinctVertexColumns;
+  /**
+   * Holds indices of input edge columns that should be distinct
+   */
+  private final List<Integer> distinctEdgeColumns;
+  /**
+   * Define the column which should be equal with the paths end
+   */
+  private final int closingColumn;
+  /**
+   * Path semantics
+   */
+  private final PathSemantics semantics;
+  /**
+   * Operator name used for Flink operator description
+   */
+  private String name;
+
+  /**
+   * New Expand Shortest Paths Operator
+   *
+   * @param input the embedding which should be expanded
+   * @param candidateEdges candidate edges along which we expand
+   * @param expandColumn specifies the input column that represents the vertex from which we expand
+   * @param lowerBound specifies the minimum hops we want to expand
+   * @param upperBound specifies the maximum hops we want to expand
+   * @param direction direction of the expansion {@see ExpandDirection}
+   * @param distinctVertexColumns indices of distinct input vertex columns
+   * @param distinctEdgeColumns indices of distinct input edge columns
+   * @param closingColumn defines the column which should be equal with the paths end
+   * @param semantics path semantics (must not be {@link PathSemantics#ALL})
+   */
+  public ExpandShortestPaths(DataSet<Embedding> input, DataSet<Embedding> candidateEdges,
+    int expandColumn, int lowerBound, int upperBound, ExpandDirection direction,
+    List<Integer> distinctVertexColumns, List<Integer> distinctEdgeColumns, int closingColumn,
+    PathSemantics semantics) {
+    if (semantics == PathSemantics.ALL) {
+      throw new IllegalArgumentException("Use ExpandEmbeddings to produce all paths");
+    }
+    this.input = input;
+    this.candidateEdges = candidateEdges;
+    this.expandColumn = expandColumn;
+    this.lowerBound = lowerBound;
+    this.upperBound = upperBound;
+    this.direction = direction;
+    this.distinctVertexColumns = distinctVertexColumns;
+    this.distinctEdgeColumns = distinctEdgeColumns;
+    this.closingColumn = closingColumn;
+    this.semantics = semantics;
+    this.setName("ExpandShortestPaths");
+  }
+
+  @Override
+  public DataSet<Embedding> evaluate() {
+    DataSet<Embedding> edges = direction == ExpandDirection.IN ?
+      candidateEdges.map(new ReverseEdgeEmbedding()).name(getName() + " - Reverse Edges") :
+      candidateEdges;
+
+    DataSet<AdjacencyList> adjacencyIndex = edges
+      .map(new ExtractKeyedCandidateEdges())
+      .name(getName() + " - Create candidate edge tuples")
+      .groupBy(0)
+      .reduceGroup(new BuildAdjacencyList())
+      .name(getName() + " - Build adjacency index");
+
+    DataSet<ShortestPathsEntry> sources = input
+      .map(new CreateShortestPathsSource(expandColumn))
+      .name(getName() + " - Create sources");
+
+    // the start vertex is only marked as visited if the empty path is a valid result (which is
+    // then part of the result), otherwise the shortest cycle back to the start vertex is searched
+    DataSet<ShortestPathsEntry> initialSolutionSet = lowerBound == 0 ? sources : sources
+      .filter(new False<>())
+      .name(getName() + " - Initial visited vertices");
+
+    DeltaIteration<ShortestPathsEntry, ShortestPathsEntry> iteration = initialSolutionSet
+      .iterateDelta(sources, upperBound, 0, 1)
+      .name(getName());
+
+    DataSet<ShortestPathsEntry> candidates = iteration.getWorkset()
+      .join(adjacencyIndex, JoinOperatorBase.JoinHint.REPARTITION_HASH_SECOND)
+        .where(1).equalTo(0)
+        .with(new ExpandShortestPathsEntry(
+          distinctVertexColumns,
+          distinctEdgeColumns,
+          closingColumn))
+      .name(getName() + " - Expansion")
+      .groupBy(0, 1)
+      .reduceGroup(new CombineShortestPaths(semantics))
+      .name(getName() + " - Combine paths");
+
+    DataSet<ShortestPathsEntry> frontier = candidates
+      .coGroup(iteration.getSolutionSet())
+        .where(0, 1).equalTo(0, 1)
+        .with(new FilterUnvisitedShortestPaths())
+      .name(getName() + " - Prune visited vertices");
+
+    DataSet<ShortestPathsEntry> visited = lowerBound > 1 ? frontier
+      .filter(new FilterAdmissibleShortestPaths(lowerBound))
+      .name(getName() + " - Admissible paths") : frontier;
+
+    return iteration.closeWith(visited, frontier)
+      .flatMap(new PostProcessShortestPaths(lowerBound, closingColumn))
+      .name(getName() + " - Post Processing");
+  }
+
+  @Override
+  public void setName(String newName) {
+    this.name = newName;
+  }
+
+  @Override
+  public String getName() {
+    return this.name;
+  }
+}
@@ -0,0 +1,65 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ExpandEmbedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+/**
+ * Assigns a key to an intermediate result which identifies its path. The key is used as key of
+ * the solution set of a delta iteration.
+ *
+ * The key consists of the ids of the base embedding followed by the ids of the path and its end
+ * vertex. It is thus derived from the intermediate result only and does not change if the result
+ * is recomputed.
+ *
+ * expandEmbedding -> (pathKey, expandEmbedding)
+ */
+@FunctionAnnotation.ForwardedFields("*->f1")
+public class AssignPathKey
+  implements MapFunction<ExpandEmbedding, Tuple2<byte[], ExpandEmbedding>> {
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple2<byte[], ExpandEmbedding> reuseTuple = new Tuple2<>();
+
+  @Override
+  public Tuple2<byte[], ExpandEmbedding> map(ExpandEmbedding expandEmbedding) throws Exception {
+    Embedding base = expandEmbedding.getBase();
+    byte[] idData = base.getIdData();
+    byte[] idListData = base.getIdListData();
+    GradoopId[] path = expandEmbedding.getPath();
+
+    byte[] key = new byte[idData.length + idListData.length +
+      (path.length + 1) * GradoopId.ID_SIZE];
+    System.arraycopy(idData, 0, key, 0, idData.length);
+    System.arraycopy(idListData, 0, key, idData.length, idListData.length);
+    int offset = idData.length + idListData.length;
+    for (GradoopId id : path) {
+      System.arraycopy(id.toByteArray(), 0, key, offset, GradoopId.ID_SIZE);
+      offset += GradoopId.ID_SIZE;
+    }
+    System.arraycopy(expandEmbedding.getEnd().toByteArray(), 0, key, offset, GradoopId.ID_SIZE);
+
+    reuseTuple.f0 = key;
+    reuseTuple.f1 = expandEmbedding;
+    return reuseTuple;
+  }
+}
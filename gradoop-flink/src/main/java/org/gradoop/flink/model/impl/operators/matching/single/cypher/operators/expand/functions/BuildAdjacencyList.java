@@ -0,0 +1,54 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.AdjacencyList;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.EdgeWithTiePoint;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Combines all candidate edges with the same tie point into a single {@link AdjacencyList}
+ *
+ * (a,e1,b),(a,e2,c) -> (a,[e1,e2],[b,c])
+ */
+@FunctionAnnotation.ForwardedFields("f0")
+public class BuildAdjacencyList
+  implements GroupReduceFunction<EdgeWithTiePoint, AdjacencyList> {
+
+  @Override
+  public void reduce(Iterable<EdgeWithTiePoint> edges, Collector<AdjacencyList> out)
+    throws Exception {
+    GradoopId vertexId = null;
+    List<GradoopId> edgeIds = new ArrayList<>();
+    List<GradoopId> neighborIds = new ArrayList<>();
+
+    for (EdgeWithTiePoint edge : edges) {
+      vertexId = edge.getSource();
+      edgeIds.add(edge.getId());
+      neighborIds.add(edge.getTarget());
+    }
+
+    out.collect(new AdjacencyList(vertexId,
+      edgeIds.toArray(new GradoopId[edgeIds.size()]),
+      neighborIds.toArray(new GradoopId[neighborIds.size()])));
+  }
+}
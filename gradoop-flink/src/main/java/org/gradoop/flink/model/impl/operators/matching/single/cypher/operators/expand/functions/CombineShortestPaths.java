@@ -0,0 +1,81 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.util.Collector;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ExpandEmbedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ShortestPathsEntry;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.PathSemantics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Combines all entries with the same source key and end vertex that have been created in the
+ * same superstep. Depending on the {@link PathSemantics}, the combined entry contains
+ *
+ * <ul>
+ * <li>{@link PathSemantics#SHORTEST}: a single path</li>
+ * <li>{@link PathSemantics#ALL_SHORTEST}: all paths</li>
+ * <li>{@link PathSemantics#REACHABILITY}: a single empty path</li>
+ * </ul>
+ */
+@FunctionAnnotation.ForwardedFields("f0;f1;f2")
+public class CombineShortestPaths
+  implements GroupReduceFunction<ShortestPathsEntry, ShortestPathsEntry> {
+  /**
+   * Path semantics
+   */
+  private final PathSemantics semantics;
+
+  /**
+   * Creates a new UDF instance
+   *
+   * @param semantics path semantics
+   */
+  public CombineShortestPaths(PathSemantics semantics) {
+    this.semantics = semantics;
+  }
+
+  @Override
+  public void reduce(Iterable<ShortestPathsEntry> entries, Collector<ShortestPathsEntry> out)
+    throws Exception {
+    ShortestPathsEntry first = null;
+    List<ExpandEmbedding> paths = new ArrayList<>();
+
+    for (ShortestPathsEntry entry : entries) {
+      if (first == null) {
+        first = entry;
+      }
+      for (ExpandEmbedding path : entry.getPaths()) {
+        paths.add(path);
+      }
+      if (semantics != PathSemantics.ALL_SHORTEST) {
+        break;
+      }
+    }
+
+    if (semantics == PathSemantics.REACHABILITY) {
+      ExpandEmbedding path = paths.get(0);
+      paths.set(0, new ExpandEmbedding(path.getBase(), path.getEnd()));
+    }
+
+    out.collect(new ShortestPathsEntry(first.getSourceKey(), first.getVertexId(),
+      first.getDepth(), paths.toArray(new ExpandEmbedding[paths.size()])));
+  }
+}
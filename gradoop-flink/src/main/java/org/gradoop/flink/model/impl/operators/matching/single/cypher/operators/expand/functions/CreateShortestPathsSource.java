@@ -0,0 +1,51 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ExpandEmbedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ShortestPathsEntry;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+/**
+ * Creates the initial frontier of a shortest path search from an input embedding. The entry
+ * contains a single empty path that ends at the vertex in the expand column.
+ *
+ * embedding -> (newKey, embedding[expandColumn], 0, [(embedding, [], embedding[expandColumn])])
+ */
+public class CreateShortestPathsSource implements MapFunction<Embedding, ShortestPathsEntry> {
+  /**
+   * The column the expansion starts at
+   */
+  private final int expandColumn;
+
+  /**
+   * Creates a new UDF instance
+   *
+   * @param expandColumn column the expansion starts at
+   */
+  public CreateShortestPathsSource(int expandColumn) {
+    this.expandColumn = expandColumn;
+  }
+
+  @Override
+  public ShortestPathsEntry map(Embedding embedding) throws Exception {
+    GradoopId start = embedding.getId(expandColumn);
+    return new ShortestPathsEntry(GradoopId.get(), start, 0,
+      new ExpandEmbedding(embedding, start));
+  }
+}
@@ -0,0 +1,75 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import org.apache.flink.api.common.functions.RichFlatJoinFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.util.Collector;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.AdjacencyList;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.EdgeWithTiePoint;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ExpandEmbedding;
+
+import java.util.List;
+
+/**
+ * Grows an intermediate result by every edge of the adjacency list of its end vertex.
+ * The distinctiveness conditions are checked like in {@link MergeExpandEmbeddings}.
+ */
+@FunctionAnnotation.ForwardedFieldsFirst("f0")
+public class ExpandByAdjacencyList
+  extends RichFlatJoinFunction<ExpandEmbedding, AdjacencyList, ExpandEmbedding> {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * Expands an intermediate result by a single edge
+   */
+  private final MergeExpandEmbeddings merge;
+  /**
+   * Reuse tuple
+   */
+  private transient EdgeWithTiePoint reuseEdge;
+
+  /**
+   * Create a new Expand By Adjacency List Operator
+   * @param distinctVertices distinct vertex columns
+   * @param distinctEdges distinct edge columns
+   * @param closingColumn base column that should be equal to a paths end node
+   */
+  public ExpandByAdjacencyList(List<Integer> distinctVertices,
+    List<Integer> distinctEdges, int closingColumn) {
+    this.merge = new MergeExpandEmbeddings(distinctVertices, distinctEdges, closingColumn);
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    reuseEdge = new EdgeWithTiePoint();
+  }
+
+  @Override
+  public void join(ExpandEmbedding base, AdjacencyList adjacencyList,
+    Collector<ExpandEmbedding> out) throws Exception {
+    reuseEdge.setSource(adjacencyList.getVertexId());
+    for (int i = 0; i < adjacencyList.getDegree(); i++) {
+      reuseEdge.setId(adjacencyList.getEdgeIds()[i]);
+      reuseEdge.setTarget(adjacencyList.getNeighborIds()[i]);
+      merge.join(base, reuseEdge, out);
+    }
+  }
+}
@@ -0,0 +1,109 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import org.apache.flink.api.common.functions.RichFlatJoinFunction;
+import org.apache.flink.api.common.functions.util.ListCollector;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.util.Collector;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.AdjacencyList;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.EdgeWithTiePoint;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ExpandEmbedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ShortestPathsEntry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Grows all paths of a frontier entry by every edge of the adjacency list of its end vertex.
+ * Each grown path is emitted as a separate entry with increased depth.
+ *
+ * The distinctiveness conditions of the first hop are checked like in
+ * {@link CreateExpandEmbedding}, those of all further hops like in {@link MergeExpandEmbeddings}.
+ */
+@FunctionAnnotation.ForwardedFieldsFirst("f0")
+public class ExpandShortestPathsEntry
+  extends RichFlatJoinFunction<ShortestPathsEntry, AdjacencyList, ShortestPathsEntry> {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * Expands the empty path of a source entry
+   */
+  private final CreateExpandEmbedding create;
+  /**
+   * Expands a non-empty path
+   */
+  private final MergeExpandEmbeddings merge;
+  /**
+   * Reuse tuple
+   */
+  private transient EdgeWithTiePoint reuseEdge;
+  /**
+   * Holds the grown paths of a single join pair
+   */
+  private transient List<ExpandEmbedding> grownPaths;
+  /**
+   * Collects the grown paths
+   */
+  private transient ListCollector<ExpandEmbedding> pathCollector;
+
+  /**
+   * Create a new UDF instance
+   * @param distinctVertices distinct vertex columns
+   * @param distinctEdges distinct edge columns
+   * @param closingColumn base column that should be equal to a paths end node
+   */
+  public ExpandShortestPathsEntry(List<Integer> distinctVertices, List<Integer> distinctEdges,
+    int closingColumn) {
+    this.create = new CreateExpandEmbedding(distinctVertices, distinctEdges, closingColumn);
+    this.merge = new MergeExpandEmbeddings(distinctVertices, distinctEdges, closingColumn);
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    reuseEdge = new EdgeWithTiePoint();
+    grownPaths = new ArrayList<>();
+    pathCollector = new ListCollector<>(grownPaths);
+  }
+
+  @Override
+  public void join(ShortestPathsEntry entry, AdjacencyList adjacencyList,
+    Collector<ShortestPathsEntry> out) throws Exception {
+    reuseEdge.setSource(adjacencyList.getVertexId());
+
+    for (ExpandEmbedding path : entry.getPaths()) {
+      for (int i = 0; i < adjacencyList.getDegree(); i++) {
+        reuseEdge.setId(adjacencyList.getEdgeIds()[i]);
+        reuseEdge.setTarget(adjacencyList.getNeighborIds()[i]);
+        if (entry.getDepth() == 0) {
+          create.join(path.getBase(), reuseEdge, pathCollector);
+        } else {
+          merge.join(path, reuseEdge, pathCollector);
+        }
+      }
+    }
+
+    for (ExpandEmbedding grownPath : grownPaths) {
+      out.collect(new ShortestPathsEntry(entry.getSourceKey(), grownPath.getEnd(),
+        entry.getDepth() + 1, grownPath));
+    }
+    grownPaths.clear();
+  }
+}
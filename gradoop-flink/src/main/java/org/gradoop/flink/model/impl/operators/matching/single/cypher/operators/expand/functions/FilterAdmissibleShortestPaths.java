@@ -0,0 +1,45 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import org.apache.flink.api.common.functions.FilterFunction;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ShortestPathsEntry;
+
+/**
+ * Filters the entries of a shortest path search whose paths are not shorter than the lower bound.
+ * Only these entries mark their end vertex as visited, a vertex reached by a shorter path can
+ * still be reached again by an admissible path.
+ */
+public class FilterAdmissibleShortestPaths implements FilterFunction<ShortestPathsEntry> {
+  /**
+   * Minimum number of edges in a path
+   */
+  private final int lowerBound;
+
+  /**
+   * Creates a new UDF instance
+   *
+   * @param lowerBound the lower bound path length
+   */
+  public FilterAdmissibleShortestPaths(int lowerBound) {
+    this.lowerBound = lowerBound;
+  }
+
+  @Override
+  public boolean filter(ShortestPathsEntry entry) throws Exception {
+    return entry.getDepth() >= lowerBound;
+  }
+}
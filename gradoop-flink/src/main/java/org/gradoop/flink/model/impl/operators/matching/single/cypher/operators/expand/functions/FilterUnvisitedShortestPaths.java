@@ -0,0 +1,40 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import org.apache.flink.api.common.functions.CoGroupFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.util.Collector;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ShortestPathsEntry;
+
+/**
+ * Emits the new entries of a shortest path search whose end vertex has not been reached from
+ * the same input embedding in a previous superstep.
+ */
+@FunctionAnnotation.ForwardedFieldsFirst("*->*")
+public class FilterUnvisitedShortestPaths
+  implements CoGroupFunction<ShortestPathsEntry, ShortestPathsEntry, ShortestPathsEntry> {
+
+  @Override
+  public void coGroup(Iterable<ShortestPathsEntry> candidates,
+    Iterable<ShortestPathsEntry> visited, Collector<ShortestPathsEntry> out) throws Exception {
+    if (!visited.iterator().hasNext()) {
+      for (ShortestPathsEntry candidate : candidates) {
+        out.collect(candidate);
+      }
+    }
+  }
+}
@@ -21,13 +21,15 @@ import org.apache.flink.util.Collector;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.EdgeWithTiePoint;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ExpandEmbedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.IdFingerprint;
 
 import java.util.List;
 
 /**
  * Combines the results of a join between ExpandIntermediateResults and an edge embedding by growing
  * the intermediate result.
- * Before growing it is checked whether distinctiveness conditions would still apply.
+ * Before growing it is checked whether distinctiveness conditions would still apply. The base
+ * embedding is only searched for clashing ids if its {@link IdFingerprint} may contain them.
  */
 @FunctionAnnotation.ForwardedFieldsFirst("f0")
 @FunctionAnnotation.ForwardedFieldsSecond("f2")
@@ -46,6 +48,18 @@ public class MergeExpandEmbeddings
    * Specifies a base column that should be equal to the paths end node
    */
   private final int closingColumn;
+  /**
+   * Distinct vertex columns as array
+   */
+  private final int[] distinctVertexColumns;
+  /**
+   * Distinct edge columns as array
+   */
+  private final int[] distinctEdgeColumns;
+  /**
+   * Reused fingerprint of the ids in the distinct columns of the base embedding
+   */
+  private final IdFingerprint fingerprint;
 
   /**
    * Create a new Combine Expand Embeddings Operator
@@ -59,6 +73,9 @@ public class MergeExpandEmbeddings
     this.distinctVertices = distinctVertices;
     this.distinctEdges = distinctEdges;
     this.closingColumn = closingColumn;
+    this.distinctVertexColumns = distinctVertices.stream().mapToInt(i -> i).toArray();
+    this.distinctEdgeColumns = distinctEdges.stream().mapToInt(i -> i).toArray();
+    this.fingerprint = new IdFingerprint();
   }
 
   @Override
@@ -98,16 +115,23 @@ public class MergeExpandEmbeddings
     List<GradoopId> ref;
 
     // check for clashes with distinct vertices in the base
-    for (int i : distinctVertices) {
-      ref = prev.getBase().getIdAsList(i);
-      if ((ref.contains(edge.getTarget()) && i != closingColumn) ||
-        ref.contains(edge.getSource())) {
-        return false;
+    fingerprint.reset().addColumns(prev.getBase(), distinctVertexColumns);
+    if (fingerprint.mayContain(edge.getSource()) || fingerprint.mayContain(edge.getTarget())) {
+      for (int i : distinctVertices) {
+        ref = prev.getBase().getIdAsList(i);
+        if ((ref.contains(edge.getTarget()) && i != closingColumn) ||
+          ref.contains(edge.getSource())) {
+          return false;
+        }
       }
     }
 
     // check for clashes with distinct edges in the base
-    ref = prev.getBase().getIdsAsList(distinctEdges);
-    return !ref.contains(edge.getId());
+    fingerprint.reset().addColumns(prev.getBase(), distinctEdgeColumns);
+    if (fingerprint.mayContain(edge.getId())) {
+      ref = prev.getBase().getIdsAsList(distinctEdges);
+      return !ref.contains(edge.getId());
+    }
+    return true;
   }
 }
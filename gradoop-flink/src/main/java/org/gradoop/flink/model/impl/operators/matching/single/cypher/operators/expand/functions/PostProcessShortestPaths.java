@@ -0,0 +1,71 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import org.apache.flink.api.common.functions.RichFlatMapFunction;
+import org.apache.flink.util.Collector;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ExpandEmbedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ShortestPathsEntry;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+/**
+ * Post-processes the shortest path search results
+ *
+ * <ol>
+ * <li>Remove paths below lower bound length</li>
+ * <li>Remove results that do not match circle condition</li>
+ * <li>Turn each path into an embedding</li>
+ * </ol>
+ */
+public class PostProcessShortestPaths extends RichFlatMapFunction<ShortestPathsEntry, Embedding> {
+  /**
+   * Minimum number of edges in a path
+   */
+  private final int lowerBound;
+  /**
+   * Specifies the base column which should be equal to the paths end column
+   */
+  private final int closingColumn;
+
+  /**
+   * Create a new Post-process function
+   *
+   * @param lowerBound the lower bound path length
+   * @param closingColumn the base column which should equal the paths end column
+   */
+  public PostProcessShortestPaths(int lowerBound, int closingColumn) {
+    this.lowerBound = lowerBound;
+    this.closingColumn = closingColumn;
+  }
+
+  @Override
+  public void flatMap(ShortestPathsEntry entry, Collector<Embedding> out) throws Exception {
+    if (entry.getDepth() < lowerBound) {
+      return;
+    }
+
+    for (ExpandEmbedding path : entry.getPaths()) {
+      if (closingColumn >= 0 && !path.getBase().getId(closingColumn).equals(path.getEnd())) {
+        continue;
+      }
+      // paths of the same entry share their base embedding
+      Embedding embedding = path.getBase().copy();
+      embedding.add(path.getPath());
+      embedding.add(path.getEnd());
+      out.collect(embedding);
+    }
+  }
+}
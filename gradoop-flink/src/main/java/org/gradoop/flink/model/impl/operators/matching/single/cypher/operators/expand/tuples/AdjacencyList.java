@@ -0,0 +1,79 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples;
+
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * Represents a row of an adjacency index in compressed sparse row layout, i.e. all candidate
+ * edges that start at a single vertex
+ *
+ * f0 -> vertex id (tie point)
+ * f1 -> ids of the outgoing edges
+ * f2 -> ids of the adjacent vertices (f2[i] is reached via f1[i])
+ */
+public class AdjacencyList extends Tuple3<GradoopId, GradoopId[], GradoopId[]> {
+
+  /**
+   * Creates an empty Object
+   */
+  public AdjacencyList() {
+  }
+
+  /**
+   * Creates a new adjacency list
+   *
+   * @param vertexId vertex id
+   * @param edgeIds ids of the outgoing edges
+   * @param neighborIds ids of the adjacent vertices
+   */
+  public AdjacencyList(GradoopId vertexId, GradoopId[] edgeIds, GradoopId[] neighborIds) {
+    super(vertexId, edgeIds, neighborIds);
+  }
+
+  /**
+   * Get vertex id
+   * @return vertex id
+   */
+  public GradoopId getVertexId() {
+    return f0;
+  }
+
+  /**
+   * Get edge ids
+   * @return edge ids
+   */
+  public GradoopId[] getEdgeIds() {
+    return f1;
+  }
+
+  /**
+   * Get neighbor ids
+   * @return neighbor ids
+   */
+  public GradoopId[] getNeighborIds() {
+    return f2;
+  }
+
+  /**
+   * Number of edges in the list
+   * @return degree of the vertex
+   */
+  public int getDegree() {
+    return f1.length;
+  }
+}
@@ -0,0 +1,81 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples;
+
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * Represents the shortest paths from a single input embedding to a single vertex
+ *
+ * f0 -> key of the input embedding the paths start at
+ * f1 -> id of the vertex the paths end at
+ * f2 -> length of the paths (number of edges)
+ * f3 -> paths
+ */
+public class ShortestPathsEntry extends Tuple4<GradoopId, GradoopId, Integer, ExpandEmbedding[]> {
+
+  /**
+   * Creates an empty Object
+   */
+  public ShortestPathsEntry() {
+  }
+
+  /**
+   * Creates a new entry
+   *
+   * @param sourceKey key of the input embedding
+   * @param vertexId end vertex id
+   * @param depth path length
+   * @param paths paths
+   */
+  public ShortestPathsEntry(GradoopId sourceKey, GradoopId vertexId, int depth,
+    ExpandEmbedding... paths) {
+    super(sourceKey, vertexId, depth, paths);
+  }
+
+  /**
+   * Get source key
+   * @return key of the input embedding
+   */
+  public GradoopId getSourceKey() {
+    return f0;
+  }
+
+  /**
+   * Get end vertex id
+   * @return vertex id
+   */
+  public GradoopId getVertexId() {
+    return f1;
+  }
+
+  /**
+   * Get path length
+   * @return number of edges in each path
+   */
+  public int getDepth() {
+    return f2;
+  }
+
+  /**
+   * Get paths
+   * @return paths
+   */
+  public ExpandEmbedding[] getPaths() {
+    return f3;
+  }
+}
@@ -0,0 +1,148 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.filter;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.operators.FilterOperator;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.filter.functions.BuildIdBloomFilter;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.filter.functions.FilterEdgeByBloomFilter;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.filter.functions.MergeIdBloomFilters;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.IdBloomFilter;
+
+/**
+ * Reduces a set of EPGM {@link Edge} objects to those edges whose source and/or target vertex
+ * might be contained in a given set of vertex embeddings (semi-join reduction).
+ *
+ * The vertex ids are collected in a compact {@link IdBloomFilter} which is broadcasted to the
+ * edge scan. Thus, edges that cannot be joined with the vertex embeddings are removed before
+ * they are shuffled by subsequent joins. Due to the nature of bloom filters, some edges that
+ * cannot be joined may remain in the result.
+ */
+public class SemiJoinReduceEdges {
+  /**
+   * False positive probability of the bloom filters
+   */
+  public static final double FALSE_POSITIVE_RATE = 0.01;
+  /**
+   * Input edges
+   */
+  private final DataSet<Edge> input;
+  /**
+   * Vertex embeddings whose ids reduce the source vertices (may be {@code null})
+   */
+  private final DataSet<Embedding> sourceVertices;
+  /**
+   * Expected number of source vertex embeddings
+   */
+  private final long sourceCardinality;
+  /**
+   * Vertex embeddings whose ids reduce the target vertices (may be {@code null})
+   */
+  private final DataSet<Embedding> targetVertices;
+  /**
+   * Expected number of target vertex embeddings
+   */
+  private final long targetCardinality;
+  /**
+   * Operator name used for Flink operator description
+   */
+  private String name;
+
+  /**
+   * Creates a new operator.
+   *
+   * @param input input edges
+   * @param sourceVertices vertex embeddings (id in column 0) for source reduction or {@code null}
+   * @param sourceCardinality expected number of source vertex embeddings
+   * @param targetVertices vertex embeddings (id in column 0) for target reduction or {@code null}
+   * @param targetCardinality expected number of target vertex embeddings
+   */
+  public SemiJoinReduceEdges(DataSet<Edge> input,
+    DataSet<Embedding> sourceVertices, long sourceCardinality,
+    DataSet<Embedding> targetVertices, long targetCardinality) {
+    this.input = input;
+    this.sourceVertices = sourceVertices;
+    this.sourceCardinality = sourceCardinality;
+    this.targetVertices = targetVertices;
+    this.targetCardinality = targetCardinality;
+    this.setName("SemiJoinReduceEdges");
+  }
+
+  /**
+   * Applies the reduction to the input edges.
+   *
+   * @return reduced edges
+   */
+  public DataSet<Edge> evaluate() {
+    if (sourceVertices == null && targetVertices == null) {
+      return input;
+    }
+
+    FilterOperator<Edge> reduced = input
+      .filter(new FilterEdgeByBloomFilter(sourceVertices != null, targetVertices != null))
+      .name(getName());
+
+    if (sourceVertices != null) {
+      reduced = reduced.withBroadcastSet(
+        buildFilter(sourceVertices, sourceCardinality, "source"),
+        FilterEdgeByBloomFilter.SOURCE_FILTER);
+    }
+    if (targetVertices != null) {
+      reduced = reduced.withBroadcastSet(
+        buildFilter(targetVertices, targetCardinality, "target"),
+        FilterEdgeByBloomFilter.TARGET_FILTER);
+    }
+    return reduced;
+  }
+
+  /**
+   * Builds a single bloom filter containing the ids of the given vertex embeddings.
+   *
+   * @param vertices vertex embeddings
+   * @param cardinality expected number of vertex embeddings
+   * @param side name of the reduced side
+   * @return data set containing a single bloom filter
+   */
+  private DataSet<IdBloomFilter> buildFilter(DataSet<Embedding> vertices, long cardinality,
+    String side) {
+    return vertices
+      .mapPartition(new BuildIdBloomFilter(0, IdBloomFilter.create(cardinality,
+        FALSE_POSITIVE_RATE)))
+      .name(getName() + " - Build " + side + " filter")
+      .reduce(new MergeIdBloomFilters())
+      .name(getName() + " - Merge " + side + " filters");
+  }
+
+  /**
+   * Set the operator description
+   *
+   * @param newName operator description
+   */
+  public void setName(String newName) {
+    this.name = newName;
+  }
+
+  /**
+   * Get the operator description
+   *
+   * @return operator description
+   */
+  public String getName() {
+    return name;
+  }
+}
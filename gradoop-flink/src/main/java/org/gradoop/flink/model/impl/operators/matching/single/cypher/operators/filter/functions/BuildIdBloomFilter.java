@@ -0,0 +1,62 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.filter.functions;
+
+import org.apache.flink.api.common.functions.RichMapPartitionFunction;
+import org.apache.flink.util.Collector;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.IdBloomFilter;
+
+/**
+ * Builds a partial {@link IdBloomFilter} from the ids stored in a specified column of all
+ * embeddings in a partition.
+ */
+public class BuildIdBloomFilter extends RichMapPartitionFunction<Embedding, IdBloomFilter> {
+  /**
+   * Column that holds the id to add to the filter
+   */
+  private final int column;
+  /**
+   * Number of bits used by the filter
+   */
+  private final int numBits;
+  /**
+   * Number of hash functions used by the filter
+   */
+  private final int hashFunctions;
+
+  /**
+   * Creates a new UDF instance.
+   *
+   * @param column column that holds the id to add to the filter
+   * @param template empty filter that specifies the size and number of hash functions
+   */
+  public BuildIdBloomFilter(int column, IdBloomFilter template) {
+    this.column = column;
+    this.numBits = template.getBits().length * Long.SIZE;
+    this.hashFunctions = template.getHashFunctions();
+  }
+
+  @Override
+  public void mapPartition(Iterable<Embedding> embeddings, Collector<IdBloomFilter> out)
+    throws Exception {
+    IdBloomFilter filter = new IdBloomFilter(numBits, hashFunctions);
+    for (Embedding embedding : embeddings) {
+      filter.add(embedding.getId(column));
+    }
+    out.collect(filter);
+  }
+}
@@ -0,0 +1,110 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.filter.functions;
+
+import org.apache.flink.api.common.functions.RichFilterFunction;
+import org.apache.flink.configuration.Configuration;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.IdBloomFilter;
+
+import java.util.List;
+
+/**
+ * Filters edges whose source and/or target vertex is not contained in a broadcasted
+ * {@link IdBloomFilter}.
+ */
+public class FilterEdgeByBloomFilter extends RichFilterFunction<Edge> {
+  /**
+   * Broadcast set name for the source vertex filter
+   */
+  public static final String SOURCE_FILTER = "sourceFilter";
+  /**
+   * Broadcast set name for the target vertex filter
+   */
+  public static final String TARGET_FILTER = "targetFilter";
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * True, if the source vertex id needs to be checked
+   */
+  private final boolean checkSource;
+  /**
+   * True, if the target vertex id needs to be checked
+   */
+  private final boolean checkTarget;
+  /**
+   * Filter for source vertex ids
+   */
+  private transient IdBloomFilter sourceFilter;
+  /**
+   * Filter for target vertex ids
+   */
+  private transient IdBloomFilter targetFilter;
+
+  /**
+   * Creates a new UDF instance.
+   *
+   * @param checkSource true, if the source vertex id needs to be checked
+   * @param checkTarget true, if the target vertex id needs to be checked
+   */
+  public FilterEdgeByBloomFilter(boolean checkSource, boolean checkTarget) {
+    this.checkSource = checkSource;
+    this.checkTarget = checkTarget;
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    if (checkSource) {
+      sourceFilter = getFilter(SOURCE_FILTER);
+    }
+    if (checkTarget) {
+      targetFilter = getFilter(TARGET_FILTER);
+    }
+  }
+
+  @Override
+  public boolean filter(Edge edge) throws Exception {
+    return mightContain(checkSource, sourceFilter, edge.getSourceId()) &&
+      mightContain(checkTarget, targetFilter, edge.getTargetId());
+  }
+
+  /**
+   * Checks a single endpoint of an edge against the corresponding filter.
+   *
+   * @param check true, iff the endpoint needs to be checked
+   * @param filter bloom filter (null, if no vertex qualified)
+   * @param vertexId endpoint id
+   * @return true, iff the endpoint may be joined
+   */
+  private boolean mightContain(boolean check, IdBloomFilter filter, GradoopId vertexId) {
+    return !check || filter != null && filter.mightContain(vertexId);
+  }
+
+  /**
+   * Reads the filter from the specified broadcast set.
+   *
+   * @param name broadcast set name
+   * @return filter or {@code null} if there are no qualifying vertices
+   */
+  private IdBloomFilter getFilter(String name) {
+    List<IdBloomFilter> filters = getRuntimeContext().getBroadcastVariable(name);
+    return filters.isEmpty() ? null : filters.get(0);
+  }
+}
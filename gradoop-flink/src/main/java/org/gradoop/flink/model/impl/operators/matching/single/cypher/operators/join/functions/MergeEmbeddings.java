@@ -22,6 +22,7 @@ import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.util.Collector;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.IdFingerprint;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.JoinEmbeddings;
 
 import java.util.HashSet;
@@ -34,7 +35,9 @@ import java.util.stream.IntStream;
  * Given two input embeddings, the function merges them according to the given parameters and
  * constraints.
  *
- * The constraints for merging are defined at {@link JoinEmbeddings}.
+ * The constraints for merging are defined at {@link JoinEmbeddings}. Distinctness constraints are
+ * checked before the merged embedding is built. An {@link IdFingerprint} of the distinct columns
+ * accepts most valid pairs without materializing their ids.
  */
 public class MergeEmbeddings implements
   FlatJoinFunction<Embedding, Embedding, Embedding>,
@@ -76,6 +79,10 @@ public class MergeEmbeddings implements
    * Flag, if vertex distinctiveness needs to be checked.
    */
   private final boolean checkDistinctEdges;
+  /**
+   * Reused fingerprint of the ids in the distinct columns
+   */
+  private final IdFingerprint fingerprint;
 
   /**
    * Creates a new UDF instance.
@@ -110,6 +117,7 @@ public class MergeEmbeddings implements
     this.checkDistinctEdges = distinctEdgeColumnsLeft.size() > 0 ||
       distinctEdgeColumnsRight.size() > 0;
     this.reuseEmbedding = new Embedding();
+    this.fingerprint = new IdFingerprint();
   }
 
   @Override
@@ -177,6 +185,12 @@ public class MergeEmbeddings implements
   private boolean isDistinct(int[] columnsLeft, int[] columnsRight,
     Embedding left, Embedding right) {
 
+    fingerprint.reset().addColumns(left, columnsLeft).addColumns(right, columnsRight);
+    if (fingerprint.isDistinct()) {
+      return true;
+    }
+
+    // the fingerprint indicates a possible duplicate
     Set<GradoopId> ids = new HashSet<>(left.size() + right.size());
     return isDistinct(ids, columnsLeft, left) && isDistinct(ids, columnsRight, right);
   }
@@ -0,0 +1,78 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.limit;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.flink.model.impl.functions.bool.False;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperator;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+/**
+ * Returns an arbitrary subset of the input embeddings which contains at most the given number
+ * of embeddings.
+ *
+ * Each input partition stops forwarding embeddings as soon as the limit is reached, i.e. at most
+ * {@code limit * parallelism} embeddings are shipped to the single task that computes the
+ * final result.
+ */
+public class LimitEmbeddings implements PhysicalOperator {
+  /**
+   * Input embeddings
+   */
+  private final DataSet<Embedding> input;
+  /**
+   * Maximum number of embeddings
+   */
+  private final int limit;
+  /**
+   * Operator name used for Flink operator description
+   */
+  private String name;
+
+  /**
+   * Creates a new operator.
+   *
+   * @param input input embeddings
+   * @param limit maximum number of embeddings
+   */
+  public LimitEmbeddings(DataSet<Embedding> input, int limit) {
+    this.input = input;
+    this.limit = limit;
+    this.name = "LimitEmbeddings";
+  }
+
+  @Override
+  public DataSet<Embedding> evaluate() {
+    if (limit == 0) {
+      return input
+        .filter(new False<>())
+        .name(getName());
+    }
+    return input
+      .first(limit)
+      .name(getName());
+  }
+
+  @Override
+  public void setName(String newName) {
+    this.name = newName;
+  }
+
+  @Override
+  public String getName() {
+    return this.name;
+  }
+}
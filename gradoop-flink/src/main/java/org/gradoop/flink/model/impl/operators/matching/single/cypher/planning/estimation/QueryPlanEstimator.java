@@ -16,6 +16,7 @@
 package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.estimation;
 
 import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.CardinalityFeedback;
 import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.BinaryNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.FilterNode;
@@ -23,10 +24,20 @@ import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.qu
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.QueryPlan;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.UnaryNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.unary.LimitEmbeddingsNode;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Estimates a given query plan by traversing its nodes and updating the state of specific
  * estimator implementations (e.g. for join, filter, project).
+ *
+ * If the graph statistics contain a {@link CardinalityFeedback}, the observed cardinality of
+ * a previously executed sub-pattern is preferred (see {@link SubPatternSignature}). If only
+ * parts of the plan have been observed, the estimation is corrected by the ratio between the
+ * observed and the estimated cardinality of these parts.
  */
 public class QueryPlanEstimator {
   /**
@@ -41,6 +52,18 @@ public class QueryPlanEstimator {
    * Estimates the cardinality and selectivity of the leaf nodes.
    */
   private final FilterEstimator filterEstimator;
+  /**
+   * Query handler
+   */
+  private final QueryHandler queryHandler;
+  /**
+   * Graph statistics
+   */
+  private final GraphStatistics graphStatistics;
+  /**
+   * Observed cardinalities, null if observations shall be ignored
+   */
+  private final CardinalityFeedback cardinalityFeedback;
 
   /**
    * Creates a new plan estimator.
@@ -51,7 +74,23 @@ public class QueryPlanEstimator {
    */
   public QueryPlanEstimator(QueryPlan queryPlan, QueryHandler queryHandler,
     GraphStatistics graphStatistics) {
+    this(queryPlan, queryHandler, graphStatistics, graphStatistics.getCardinalityFeedback());
+  }
+
+  /**
+   * Creates a new plan estimator.
+   *
+   * @param queryPlan query plan
+   * @param queryHandler query handler
+   * @param graphStatistics graph statistics
+   * @param cardinalityFeedback observed cardinalities or {@code null}
+   */
+  private QueryPlanEstimator(QueryPlan queryPlan, QueryHandler queryHandler,
+    GraphStatistics graphStatistics, CardinalityFeedback cardinalityFeedback) {
     this.queryPlan = queryPlan;
+    this.queryHandler = queryHandler;
+    this.graphStatistics = graphStatistics;
+    this.cardinalityFeedback = cardinalityFeedback;
     this.joinEstimator = new JoinEstimator(queryHandler, graphStatistics);
     this.filterEstimator = new FilterEstimator(queryHandler, graphStatistics);
   }
@@ -71,16 +110,73 @@ public class QueryPlanEstimator {
    * @return estimated cardinality of the specified plan
    */
   public long getCardinality() {
-    traversePlan(queryPlan.getRoot());
+    PlanNode root = queryPlan.getRoot();
+    PlanNode pattern = root instanceof LimitEmbeddingsNode ?
+      ((LimitEmbeddingsNode) root).getChildNode() : root;
+
+    long cardinality = cardinalityFeedback != null ?
+      cardinalityFeedback.getCardinality(SubPatternSignature.of(pattern)) :
+      CardinalityFeedback.UNKNOWN;
 
-    long cardinality = joinEstimator.getCardinality();
-    if (cardinality == 0) {
-      // plan contains only a leaf node
-      cardinality = filterEstimator.getCardinality();
+    if (cardinality == CardinalityFeedback.UNKNOWN) {
+      traversePlan(root);
+
+      cardinality = joinEstimator.getCardinality();
+      if (cardinality == 0) {
+        // plan contains only a leaf node
+        cardinality = filterEstimator.getCardinality();
+      }
+      double selectivity = filterEstimator.getSelectivity();
+      if (cardinalityFeedback != null) {
+        selectivity *= getCorrection(pattern);
+      }
+      cardinality = Math.round(cardinality * selectivity);
+    }
+
+    if (root instanceof LimitEmbeddingsNode) {
+      cardinality = Math.min(cardinality, ((LimitEmbeddingsNode) queryPlan.getRoot()).getLimit());
+    }
+    return cardinality;
+  }
+
+  /**
+   * Computes the factor by which the estimation of the given node needs to be corrected
+   * according to the observed cardinalities of its largest observed sub trees.
+   *
+   * @param node plan node which has not been observed
+   * @return correction factor
+   */
+  private double getCorrection(PlanNode node) {
+    double correction = 1d;
+    for (PlanNode child : getChildren(node)) {
+      long observed = cardinalityFeedback.getCardinality(SubPatternSignature.of(child));
+      if (observed == CardinalityFeedback.UNKNOWN) {
+        correction *= getCorrection(child);
+      } else {
+        long estimated = new QueryPlanEstimator(new QueryPlan(child), queryHandler,
+          graphStatistics, null).getCardinality();
+        if (estimated > 0) {
+          correction *= (double) observed / estimated;
+        }
+      }
     }
-    double selectivity = filterEstimator.getSelectivity();
+    return correction;
+  }
 
-    return Math.round(cardinality * selectivity);
+  /**
+   * Returns the child nodes of the given node.
+   *
+   * @param node plan node
+   * @return child nodes
+   */
+  private static List<PlanNode> getChildren(PlanNode node) {
+    if (node instanceof BinaryNode) {
+      return Arrays.asList(((BinaryNode) node).getLeftChild(), ((BinaryNode) node).getRightChild());
+    }
+    if (node instanceof UnaryNode) {
+      return Collections.singletonList(((UnaryNode) node).getChildNode());
+    }
+    return Collections.emptyList();
   }
 
   /**
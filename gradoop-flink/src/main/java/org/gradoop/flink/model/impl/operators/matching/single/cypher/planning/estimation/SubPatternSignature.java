@@ -0,0 +1,251 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.estimation;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.CNF;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.QueryComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.comparables.ElementSelectorComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.comparables.LiteralComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.comparables.PropertySelectorComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.expressions.ComparisonExpression;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.CardinalityFeedback;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.BinaryNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.UnaryNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary.CartesianProductNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary.ExpandEmbeddingsNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary.ExpandShortestPathsNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary.JoinEmbeddingsNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary.ValueJoinNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectEdgesNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectVerticesNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.unary.FilterEmbeddingsNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.unary.LimitEmbeddingsNode;
+
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Computes the signature of the query sub-pattern which is evaluated by a plan node. The
+ * signature is used to identify observed cardinalities in a {@link CardinalityFeedback}.
+ *
+ * The signature consists of the sorted descriptions of all query elements, predicates and
+ * morphism strategies covered by the sub tree of the node, e.g.
+ * {@code (a {(a.__label__ = 'Person')}) (a)-[e {(e.__label__ = 'knows')}]->(b) MORPHISM ...}.
+ * Thus, it does not depend on the join order or on the projected properties. By default, query
+ * variables are part of the signature. A naming may be passed to replace them, e.g. by their
+ * embedding column, which makes the signature independent of the variable names of a query.
+ */
+public class SubPatternSignature {
+
+  /**
+   * Separates the tokens of a signature
+   */
+  private static final String TOKEN_SEPARATOR = " ";
+
+  /**
+   * Utility class
+   */
+  private SubPatternSignature() {
+  }
+
+  /**
+   * Returns the signature of the sub-pattern evaluated by the given node.
+   *
+   * @param node plan node
+   * @return sub-pattern signature
+   */
+  public static String of(PlanNode node) {
+    return of(node, Function.identity());
+  }
+
+  /**
+   * Returns the signature of the sub-pattern evaluated by the given node in which every query
+   * variable is replaced by its name according to the given naming.
+   *
+   * @param node plan node
+   * @param naming maps query variables to the names used in the signature
+   * @return sub-pattern signature
+   */
+  public static String of(PlanNode node, Function<String, String> naming) {
+    Set<String> tokens = new TreeSet<>();
+    collectTokens(node, naming, tokens);
+    return String.join(TOKEN_SEPARATOR, tokens);
+  }
+
+  /**
+   * Checks if the output cardinality of the given node is determined by its sub-pattern, i.e.
+   * if it may be recorded as observed cardinality of that sub-pattern. This is not the case for
+   * nodes that limit their output.
+   *
+   * @param node plan node
+   * @return true, iff the output cardinality of the node may be recorded
+   */
+  public static boolean isRecordable(PlanNode node) {
+    return !(node instanceof LimitEmbeddingsNode);
+  }
+
+  /**
+   * Recursively collects the tokens of the sub tree of the given node.
+   *
+   * @param node plan node
+   * @param naming maps query variables to the names used in the signature
+   * @param tokens collected tokens
+   */
+  private static void collectTokens(PlanNode node, Function<String, String> naming,
+    Set<String> tokens) {
+    if (node instanceof FilterAndProjectVerticesNode) {
+      FilterAndProjectVerticesNode vertexNode = (FilterAndProjectVerticesNode) node;
+      tokens.add(String.format("(%s {%s})",
+        naming.apply(vertexNode.getEmbeddingMetaData().getVertexVariables().get(0)),
+        describe(vertexNode.getFilterPredicate(), naming)));
+    } else if (node instanceof FilterAndProjectEdgesNode) {
+      FilterAndProjectEdgesNode edgeNode = (FilterAndProjectEdgesNode) node;
+      StringBuilder token = new StringBuilder(String.format("(%s)-[%s {%s}]->(%s)",
+        naming.apply(edgeNode.getSourceVariable()), naming.apply(edgeNode.getEdgeVariable()),
+        describe(edgeNode.getFilterPredicate(), naming),
+        naming.apply(edgeNode.getTargetVariable())));
+      if (edgeNode.getSourceReducer() != null) {
+        token.append(String.format(" SOURCE IN [%s]", of(edgeNode.getSourceReducer(), naming)));
+      }
+      if (edgeNode.getTargetReducer() != null) {
+        token.append(String.format(" TARGET IN [%s]", of(edgeNode.getTargetReducer(), naming)));
+      }
+      tokens.add(token.toString());
+    } else if (node instanceof FilterEmbeddingsNode) {
+      tokens.add(String.format("WHERE {%s}",
+        describe(((FilterEmbeddingsNode) node).getFilterPredicate(), naming)));
+    } else if (node instanceof ExpandEmbeddingsNode) {
+      ExpandEmbeddingsNode expandNode = (ExpandEmbeddingsNode) node;
+      StringBuilder token = new StringBuilder(String.format("EXPAND (%s)-[%s*%d..%d %s]-(%s)",
+        naming.apply(expandNode.getStartVariable()), naming.apply(expandNode.getPathVariable()),
+        expandNode.getLowerBound(), expandNode.getUpperBound(), expandNode.getExpandDirection(),
+        naming.apply(expandNode.getEndVariable())));
+      if (node instanceof ExpandShortestPathsNode) {
+        token.append(" ").append(((ExpandShortestPathsNode) node).getPathSemantics());
+      }
+      token.append(" ").append(
+        getMorphismToken(expandNode.getVertexStrategy(), expandNode.getEdgeStrategy()));
+      tokens.add(token.toString());
+    } else if (node instanceof ValueJoinNode) {
+      ValueJoinNode joinNode = (ValueJoinNode) node;
+      tokens.add(String.format("VALUE JOIN [%s] = [%s] %s",
+        describe(joinNode.getLeftJoinProperties(), naming),
+        describe(joinNode.getRightJoinProperties(), naming),
+        getMorphismToken(joinNode.getVertexStrategy(), joinNode.getEdgeStrategy())));
+    } else if (node instanceof JoinEmbeddingsNode) {
+      JoinEmbeddingsNode joinNode = (JoinEmbeddingsNode) node;
+      tokens.add(getMorphismToken(joinNode.getVertexStrategy(), joinNode.getEdgeStrategy()));
+    } else if (node instanceof CartesianProductNode) {
+      CartesianProductNode crossNode = (CartesianProductNode) node;
+      tokens.add(getMorphismToken(crossNode.getVertexStrategy(), crossNode.getEdgeStrategy()));
+    }
+
+    if (node instanceof BinaryNode) {
+      collectTokens(((BinaryNode) node).getLeftChild(), naming, tokens);
+      collectTokens(((BinaryNode) node).getRightChild(), naming, tokens);
+    } else if (node instanceof UnaryNode) {
+      collectTokens(((UnaryNode) node).getChildNode(), naming, tokens);
+    }
+  }
+
+  /**
+   * Returns the token describing the morphism strategies of a join.
+   *
+   * @param vertexStrategy vertex morphism strategy
+   * @param edgeStrategy edge morphism strategy
+   * @return morphism token
+   */
+  private static String getMorphismToken(MatchStrategy vertexStrategy,
+    MatchStrategy edgeStrategy) {
+    return String.format("MORPHISM %s,%s", vertexStrategy, edgeStrategy);
+  }
+
+  /**
+   * Describes the given predicate. Disjunctions and conjunctions are sorted, i.e. the
+   * description does not depend on the order of the predicates.
+   *
+   * @param cnf predicate
+   * @param naming maps query variables to the names used in the signature
+   * @return predicate description
+   */
+  private static String describe(CNF cnf, Function<String, String> naming) {
+    return cnf.getPredicates().stream()
+      .map(disjunction -> disjunction.getPredicates().stream()
+        .map(comparison -> describe(comparison, naming))
+        .sorted()
+        .collect(joining(" OR ", "(", ")")))
+      .sorted()
+      .collect(joining(" AND "));
+  }
+
+  /**
+   * Describes the given comparison.
+   *
+   * @param comparison comparison
+   * @param naming maps query variables to the names used in the signature
+   * @return comparison description
+   */
+  private static String describe(ComparisonExpression comparison,
+    Function<String, String> naming) {
+    return String.format("%s %s %s", describe(comparison.getLhs(), naming),
+      comparison.getComparator(), describe(comparison.getRhs(), naming));
+  }
+
+  /**
+   * Describes the given side of a comparison. String literals are quoted and all other literals
+   * are tagged with their type, i.e. literals can not be mistaken for query variables.
+   *
+   * @param comparable side of a comparison
+   * @param naming maps query variables to the names used in the signature
+   * @return comparable description
+   */
+  private static String describe(QueryComparable comparable, Function<String, String> naming) {
+    if (comparable instanceof PropertySelectorComparable) {
+      PropertySelectorComparable selector = (PropertySelectorComparable) comparable;
+      return naming.apply(selector.getVariable()) + "." + selector.getPropertyKey();
+    } else if (comparable instanceof ElementSelectorComparable) {
+      return naming.apply(((ElementSelectorComparable) comparable).getVariable());
+    } else {
+      Object value = ((LiteralComparable) comparable).getValue();
+      if (value instanceof String) {
+        return "'" + ((String) value).replace("\\", "\\\\").replace("'", "\\'") + "'";
+      }
+      return value == null ? "NULL" :
+        String.format("%s(%s)", value.getClass().getSimpleName(), value);
+    }
+  }
+
+  /**
+   * Describes the given join properties.
+   *
+   * @param properties (variable, property key) pairs
+   * @param naming maps query variables to the names used in the signature
+   * @return join properties description
+   */
+  private static String describe(List<Pair<String, String>> properties,
+    Function<String, String> naming) {
+    return properties.stream()
+      .map(property -> naming.apply(property.getLeft()) + "." + property.getRight())
+      .collect(joining(","));
+  }
+}
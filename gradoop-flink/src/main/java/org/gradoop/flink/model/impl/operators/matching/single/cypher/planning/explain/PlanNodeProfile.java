@@ -0,0 +1,124 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.explain;
+
+/**
+ * Describes a single node of an explained or profiled query plan.
+ *
+ * Actual values are only available if the query plan has been profiled, otherwise they are set
+ * to {@link PlanNodeProfile#UNKNOWN}.
+ */
+public class PlanNodeProfile {
+  /**
+   * Marks a value that has not been measured
+   */
+  public static final long UNKNOWN = -1L;
+  /**
+   * Depth of the node in the query plan (root has level 0)
+   */
+  private final int level;
+  /**
+   * String representation of the plan node
+   */
+  private final String description;
+  /**
+   * Estimated output cardinality of the node
+   */
+  private final long estimatedCardinality;
+  /**
+   * Actual number of embeddings produced by the node
+   */
+  private long actualCardinality;
+  /**
+   * Actual number of bytes produced by the node
+   */
+  private long actualBytes;
+  /**
+   * Maximum time in milliseconds between the first and the last embedding produced by a parallel
+   * instance of the node (first-to-last output latency)
+   */
+  private long actualOutputSpan;
+
+  /**
+   * Creates a new profile.
+   *
+   * @param level depth of the node in the query plan
+   * @param description string representation of the plan node
+   * @param estimatedCardinality estimated output cardinality
+   */
+  public PlanNodeProfile(int level, String description, long estimatedCardinality) {
+    this.level = level;
+    this.description = description;
+    this.estimatedCardinality = estimatedCardinality;
+    this.actualCardinality = UNKNOWN;
+    this.actualBytes = UNKNOWN;
+    this.actualOutputSpan = UNKNOWN;
+  }
+
+  public int getLevel() {
+    return level;
+  }
+
+  public String getDescription() {
+    return description;
+  }
+
+  public long getEstimatedCardinality() {
+    return estimatedCardinality;
+  }
+
+  public long getActualCardinality() {
+    return actualCardinality;
+  }
+
+  public long getActualBytes() {
+    return actualBytes;
+  }
+
+  public long getActualOutputSpan() {
+    return actualOutputSpan;
+  }
+
+  /**
+   * Returns true, if the node has been profiled.
+   *
+   * @return true, iff actual values are available
+   */
+  public boolean isProfiled() {
+    return actualCardinality != UNKNOWN;
+  }
+
+  /**
+   * Sets the measured values of the node.
+   *
+   * @param cardinality number of produced embeddings
+   * @param bytes number of produced bytes
+   * @param outputSpan first-to-last output latency in milliseconds
+   */
+  void setActualValues(long cardinality, long bytes, long outputSpan) {
+    this.actualCardinality = cardinality;
+    this.actualBytes = bytes;
+    this.actualOutputSpan = outputSpan;
+  }
+
+  @Override
+  public String toString() {
+    return isProfiled() ?
+      String.format("%s{estimated=%d, actual=%d, bytes=%d, outputSpan=%dms}",
+        description, estimatedCardinality, actualCardinality, actualBytes, actualOutputSpan) :
+      String.format("%s{estimated=%d}", description, estimatedCardinality);
+  }
+}
@@ -0,0 +1,215 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.explain;
+
+import org.apache.flink.api.common.JobExecutionResult;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.CardinalityFeedback;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.functions.ProfileEmbeddings;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.estimation.QueryPlanEstimator;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.estimation.SubPatternSignature;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.BinaryNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.QueryPlan;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.UnaryNode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Explains a query plan by computing the estimated cardinality of each plan node using the
+ * {@link QueryPlanEstimator}. If profiling is enabled before the plan is executed, the actual
+ * output of each node is recorded using Flink accumulators and can be compared with the estimation
+ * once the Flink job has finished.
+ *
+ * <pre>
+ * QueryPlanExplainer explainer = new QueryPlanExplainer(plan, queryHandler, statistics);
+ * explainer.enableProfiling();
+ * plan.execute().output(...);
+ * JobExecutionResult result = env.execute();
+ * QueryPlanProfile profile = explainer.profile(result);
+ * </pre>
+ *
+ * The actual output of each node can also be recorded in a {@link CardinalityFeedback} in order
+ * to improve the estimation of subsequent queries.
+ */
+public class QueryPlanExplainer {
+  /**
+   * Prefix for all accumulators used for profiling
+   */
+  private static final String ACCUMULATOR_PREFIX = "cypher-profile.";
+  /**
+   * The query plan to explain
+   */
+  private final QueryPlan queryPlan;
+  /**
+   * Query handler
+   */
+  private final QueryHandler queryHandler;
+  /**
+   * Statistics about the search graph
+   */
+  private final GraphStatistics graphStatistics;
+
+  /**
+   * Creates a new explainer.
+   *
+   * @param queryPlan query plan
+   * @param queryHandler query handler
+   * @param graphStatistics search graph statistics
+   */
+  public QueryPlanExplainer(QueryPlan queryPlan, QueryHandler queryHandler,
+    GraphStatistics graphStatistics) {
+    this.queryPlan = queryPlan;
+    this.queryHandler = queryHandler;
+    this.graphStatistics = graphStatistics;
+  }
+
+  /**
+   * Enables profiling for all nodes in the query plan. Needs to be called before the query plan
+   * is executed.
+   */
+  public void enableProfiling() {
+    String planId = ACCUMULATOR_PREFIX + GradoopId.get() + ".";
+    List<PlanNode> nodes = getNodes();
+    for (int i = 0; i < nodes.size(); i++) {
+      nodes.get(i).enableProfiling(planId + i);
+    }
+  }
+
+  /**
+   * Returns the query plan including the estimated cardinality of each node.
+   *
+   * @return explained query plan
+   */
+  public QueryPlanProfile explain() {
+    List<PlanNodeProfile> profiles = new ArrayList<>();
+    explain(queryPlan.getRoot(), 0, profiles);
+    return new QueryPlanProfile(profiles);
+  }
+
+  /**
+   * Returns the query plan including the estimated and the actual cardinality of each node. The
+   * actual values are read from the accumulators stored in the given job result.
+   *
+   * @param jobResult result of the Flink job which executed the query plan
+   * @return profiled query plan
+   */
+  public QueryPlanProfile profile(JobExecutionResult jobResult) {
+    QueryPlanProfile queryPlanProfile = explain();
+    List<PlanNode> nodes = getNodes();
+
+    for (int i = 0; i < nodes.size(); i++) {
+      String name = nodes.get(i).getProfilingName();
+      if (name != null) {
+        queryPlanProfile.getNodeProfiles().get(i).setActualValues(
+          getAccumulatorValue(jobResult, name + ProfileEmbeddings.ROWS),
+          getAccumulatorValue(jobResult, name + ProfileEmbeddings.BYTES),
+          getAccumulatorValue(jobResult, name + ProfileEmbeddings.OUTPUT_SPAN));
+      }
+    }
+    return queryPlanProfile;
+  }
+
+  /**
+   * Records the actual cardinality of each profiled plan node as observed cardinality of the
+   * sub-pattern evaluated by that node. The actual values are read from the accumulators stored
+   * in the given job result.
+   *
+   * @param jobResult result of the Flink job which executed the query plan
+   * @param cardinalityFeedback store for observed cardinalities
+   */
+  public void recordCardinalities(JobExecutionResult jobResult,
+    CardinalityFeedback cardinalityFeedback) {
+    for (PlanNode node : getNodes()) {
+      String name = node.getProfilingName();
+      if (name != null && SubPatternSignature.isRecordable(node)) {
+        long rows = getAccumulatorValue(jobResult, name + ProfileEmbeddings.ROWS);
+        if (rows != PlanNodeProfile.UNKNOWN) {
+          cardinalityFeedback.record(SubPatternSignature.of(node), rows);
+        }
+      }
+    }
+  }
+
+  /**
+   * Recursively creates the profiles of the sub tree of the given node in pre-order.
+   *
+   * @param node root plan node
+   * @param level level of the whole query tree
+   * @param profiles resulting profiles
+   */
+  private void explain(PlanNode node, int level, List<PlanNodeProfile> profiles) {
+    long estimation = new QueryPlanEstimator(new QueryPlan(node), queryHandler, graphStatistics)
+      .getCardinality();
+    profiles.add(new PlanNodeProfile(level, node.toString(), estimation));
+
+    for (PlanNode child : getChildren(node)) {
+      explain(child, level + 1, profiles);
+    }
+  }
+
+  /**
+   * Returns all nodes of the query plan in pre-order.
+   *
+   * @return plan nodes
+   */
+  private List<PlanNode> getNodes() {
+    List<PlanNode> nodes = new ArrayList<>();
+    List<PlanNode> stack = new ArrayList<>();
+    stack.add(queryPlan.getRoot());
+    while (!stack.isEmpty()) {
+      PlanNode node = stack.remove(stack.size() - 1);
+      nodes.add(node);
+      List<PlanNode> children = getChildren(node);
+      for (int i = children.size() - 1; i >= 0; i--) {
+        stack.add(children.get(i));
+      }
+    }
+    return nodes;
+  }
+
+  /**
+   * Returns the child nodes of the given node from left to right.
+   *
+   * @param node plan node
+   * @return child nodes
+   */
+  private List<PlanNode> getChildren(PlanNode node) {
+    List<PlanNode> children = new ArrayList<>();
+    if (node instanceof UnaryNode) {
+      children.add(((UnaryNode) node).getChildNode());
+    } else if (node instanceof BinaryNode) {
+      children.add(((BinaryNode) node).getLeftChild());
+      children.add(((BinaryNode) node).getRightChild());
+    }
+    return children;
+  }
+
+  /**
+   * Reads the value of a long accumulator from the job result.
+   *
+   * @param jobResult job result
+   * @param name accumulator name
+   * @return accumulator value or {@link PlanNodeProfile#UNKNOWN} if not available
+   */
+  private long getAccumulatorValue(JobExecutionResult jobResult, String name) {
+    Object value = jobResult.getAccumulatorResult(name);
+    return value == null ? PlanNodeProfile.UNKNOWN : (Long) value;
+  }
+}
@@ -0,0 +1,73 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.explain;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Represents an explained or profiled query plan. The node profiles are stored in pre-order.
+ */
+public class QueryPlanProfile {
+  /**
+   * Used for indentation when creating a string representation of the plan
+   */
+  private static final String PAD_STRING = "|.";
+  /**
+   * Profiles of the plan nodes in pre-order
+   */
+  private final List<PlanNodeProfile> nodeProfiles;
+
+  /**
+   * Creates a new query plan profile.
+   *
+   * @param nodeProfiles profiles of the plan nodes in pre-order
+   */
+  public QueryPlanProfile(List<PlanNodeProfile> nodeProfiles) {
+    this.nodeProfiles = nodeProfiles;
+  }
+
+  /**
+   * Returns the profiles of all plan nodes in pre-order, i.e. the first profile describes the
+   * root of the query plan.
+   *
+   * @return node profiles
+   */
+  public List<PlanNodeProfile> getNodeProfiles() {
+    return Collections.unmodifiableList(nodeProfiles);
+  }
+
+  /**
+   * Returns the profile of the root node.
+   *
+   * @return root node profile
+   */
+  public PlanNodeProfile getRootProfile() {
+    return nodeProfiles.get(0);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    for (PlanNodeProfile profile : nodeProfiles) {
+      sb.append(String.format("%s|-%s%n",
+        StringUtils.leftPad("", profile.getLevel() * 2, PAD_STRING), profile));
+    }
+    return sb.toString();
+  }
+}
@@ -17,18 +17,24 @@ package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.p
 
 import com.google.common.collect.Sets;
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.flink.api.common.operators.base.JoinOperatorBase;
 import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.common.util.GradoopConstants;
+import org.gradoop.flink.io.api.PropertyRange;
+import org.gradoop.flink.io.api.ReadSpecification;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
 import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
 import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
 import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.CNF;
 import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.CNFElement;
 import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.QueryComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.comparables.LiteralComparable;
 import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.comparables.PropertySelectorComparable;
 import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.expressions.ComparisonExpression;
 import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandDirection;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.PathSemantics;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.estimation.QueryPlanEstimator;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTable;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTableEntry;
@@ -36,19 +42,23 @@ import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.qu
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.QueryPlan;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary.CartesianProductNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary.ExpandEmbeddingsNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary.ExpandShortestPathsNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary.JoinEmbeddingsNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary.ValueJoinNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectEdgesNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectVerticesNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.unary.FilterEmbeddingsNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.unary.LimitEmbeddingsNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.unary.ProjectEmbeddingsNode;
 import org.s1ck.gdl.model.Edge;
 import org.s1ck.gdl.model.Vertex;
 import org.s1ck.gdl.utils.Comparator;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -62,6 +72,15 @@ import static org.gradoop.flink.model.impl.operators.matching.single.cypher.plan
  * plan and extending it.
  */
 public class GreedyPlanner {
+  /**
+   * Maximum fraction of all vertices a labeled vertex leaf may produce to be used for semi-join
+   * reduction of adjacent edge leaves without further predicates.
+   */
+  static final double SEMI_JOIN_SELECTIVITY = 0.1;
+  /**
+   * Property key used by the query parser to express label predicates.
+   */
+  private static final String LABEL_SELECTOR = "__label__";
   /**
    * The search graph to be queried
    */
@@ -82,6 +101,18 @@ public class GreedyPlanner {
    * The morphism type for edge mappings.
    */
   private final MatchStrategy edgeStrategy;
+  /**
+   * Semantics of variable length paths that do not produce all paths.
+   */
+  private final Map<String, PathSemantics> pathSemantics;
+  /**
+   * Variable-property pairs that need to be contained in the resulting embeddings.
+   */
+  private final Set<Pair<String, String>> returnProperties;
+  /**
+   * Maximum number of embeddings produced by the plan, -1 if unlimited.
+   */
+  private final int limit;
 
   /**
    * Creates a new greedy planner.
@@ -94,11 +125,51 @@ public class GreedyPlanner {
    */
   public GreedyPlanner(LogicalGraph graph, QueryHandler queryHandler,
     GraphStatistics graphStatistics, MatchStrategy vertexStrategy, MatchStrategy edgeStrategy) {
+    this(graph, queryHandler, graphStatistics, vertexStrategy, edgeStrategy,
+      Collections.emptyMap());
+  }
+
+  /**
+   * Creates a new greedy planner.
+   *
+   * @param graph search graph
+   * @param queryHandler query handler
+   * @param graphStatistics search graph statistics
+   * @param vertexStrategy morphism type for vertex mappings
+   * @param edgeStrategy morphism type for edge mappings
+   * @param pathSemantics semantics of variable length paths (path variable to semantics)
+   */
+  public GreedyPlanner(LogicalGraph graph, QueryHandler queryHandler,
+    GraphStatistics graphStatistics, MatchStrategy vertexStrategy, MatchStrategy edgeStrategy,
+    Map<String, PathSemantics> pathSemantics) {
+    this(graph, queryHandler, graphStatistics, vertexStrategy, edgeStrategy, pathSemantics,
+      Collections.emptySet(), -1);
+  }
+
+  /**
+   * Creates a new greedy planner.
+   *
+   * @param graph search graph
+   * @param queryHandler query handler
+   * @param graphStatistics search graph statistics
+   * @param vertexStrategy morphism type for vertex mappings
+   * @param edgeStrategy morphism type for edge mappings
+   * @param pathSemantics semantics of variable length paths (path variable to semantics)
+   * @param returnProperties variable-property pairs that are kept in the resulting embeddings
+   * @param limit maximum number of embeddings produced by the plan, -1 if unlimited
+   */
+  public GreedyPlanner(LogicalGraph graph, QueryHandler queryHandler,
+    GraphStatistics graphStatistics, MatchStrategy vertexStrategy, MatchStrategy edgeStrategy,
+    Map<String, PathSemantics> pathSemantics, Set<Pair<String, String>> returnProperties,
+    int limit) {
     this.graph = graph;
     this.queryHandler = queryHandler;
     this.graphStatistics = graphStatistics;
     this.vertexStrategy = vertexStrategy;
     this.edgeStrategy = edgeStrategy;
+    this.pathSemantics = pathSemantics;
+    this.returnProperties = returnProperties;
+    this.limit = limit;
   }
 
   /**
@@ -127,7 +198,157 @@ public class GreedyPlanner {
       planTable.add(bestEntry);
     }
 
-    return planTable.get(0);
+    return limit == -1 ? planTable.get(0) : addLimit(planTable.get(0));
+  }
+
+  /**
+   * Adds a {@link LimitEmbeddingsNode} on top of the query plan represented by the given entry.
+   *
+   * @param entry plan table entry
+   * @return entry with limited output
+   */
+  private PlanTableEntry addLimit(PlanTableEntry entry) {
+    LimitEmbeddingsNode node = new LimitEmbeddingsNode(entry.getQueryPlan().getRoot(), limit);
+    return new PlanTableEntry(GRAPH, Sets.newHashSet(entry.getProcessedVariables()),
+      entry.getPredicates(),
+      new QueryPlanEstimator(new QueryPlan(node), queryHandler, graphStatistics));
+  }
+
+  /**
+   * Returns the elements and properties of the search graph which are required by the leaves of
+   * the query plan. Labels and properties are derived from the query elements, ranges from
+   * predicates comparing a single property with a literal. The search graph is not accessed,
+   * i.e. the planner may be created without a graph to push the specification into a
+   * {@link org.gradoop.flink.io.api.FilterableDataSource}.
+   *
+   * @return read specification for the search graph
+   */
+  public ReadSpecification getReadSpecification() {
+    ReadSpecification readSpecification = ReadSpecification.none();
+    CNF predicates = queryHandler.getPredicates();
+
+    for (Vertex vertex : queryHandler.getVertices()) {
+      String variable = vertex.getVariable();
+      ReadSpecification vertexSpecification = ReadSpecification.none()
+        .setVertexLabels(getRequiredLabels(vertex.getLabel(),
+          GradoopConstants.DEFAULT_VERTEX_LABEL))
+        .setVertexPropertyKeys(getRequiredPropertyKeys(predicates, variable));
+      getRanges(predicates, variable).forEach(vertexSpecification::addVertexRange);
+      readSpecification = readSpecification.union(vertexSpecification);
+    }
+
+    for (Edge edge : queryHandler.getEdges()) {
+      String variable = edge.getVariable();
+      ReadSpecification edgeSpecification = ReadSpecification.none()
+        .setEdgeLabels(getRequiredLabels(edge.getLabel(), GradoopConstants.DEFAULT_EDGE_LABEL))
+        .setEdgePropertyKeys(getRequiredPropertyKeys(predicates, variable));
+      // predicates on variable length paths are not evaluated on single edges
+      if (edge.getUpperBound() == 1) {
+        getRanges(predicates, variable).forEach(edgeSpecification::addEdgeRange);
+      }
+      readSpecification = readSpecification.union(edgeSpecification);
+    }
+
+    return readSpecification;
+  }
+
+  /**
+   * Returns the labels required by a query element with the given label.
+   *
+   * @param label label of the query element
+   * @param defaultLabel label of query elements without label
+   * @return required labels, {@code null} if all labels are required
+   */
+  private static Set<String> getRequiredLabels(String label, String defaultLabel) {
+    return label.equals(defaultLabel) ? null : Sets.newHashSet(label);
+  }
+
+  /**
+   * Returns the keys of all properties of the given variable that are evaluated by predicates or
+   * need to be contained in the resulting embeddings.
+   *
+   * @param predicates query predicates
+   * @param variable query variable
+   * @return property keys
+   */
+  private Set<String> getRequiredPropertyKeys(CNF predicates, String variable) {
+    Set<String> keys = predicates.getPropertyKeys(variable);
+    keys.addAll(getReturnPropertyKeys(variable));
+    keys.remove(LABEL_SELECTOR);
+    return keys;
+  }
+
+  /**
+   * Returns the ranges implied by the predicates of the given variable. A range is derived from
+   * each conjunct which compares a property of the variable with a literal.
+   *
+   * @param predicates query predicates
+   * @param variable query variable
+   * @return property ranges which have to be satisfied by all matching elements
+   */
+  private List<PropertyRange> getRanges(CNF predicates, String variable) {
+    List<PropertyRange> ranges = new ArrayList<>();
+    for (CNFElement predicate : predicates.getSubCNF(variable).getPredicates()) {
+      if (predicate.size() != 1) {
+        continue;
+      }
+      ComparisonExpression comparison = predicate.getPredicates().get(0);
+      QueryComparable lhs = comparison.getLhs();
+      QueryComparable rhs = comparison.getRhs();
+      Comparator comparator = comparison.getComparator();
+      if (rhs instanceof PropertySelectorComparable && lhs instanceof LiteralComparable) {
+        QueryComparable swap = lhs;
+        lhs = rhs;
+        rhs = swap;
+        comparator = flip(comparator);
+      }
+      if (!(lhs instanceof PropertySelectorComparable) || !(rhs instanceof LiteralComparable)) {
+        continue;
+      }
+      String key = ((PropertySelectorComparable) lhs).getPropertyKey();
+      Object literal = ((LiteralComparable) rhs).getValue();
+      if (key.equals(LABEL_SELECTOR) || literal == null) {
+        continue;
+      }
+      PropertyValue value = PropertyValue.create(literal);
+      switch (comparator) {
+      case EQ:
+        ranges.add(new PropertyRange(key, value, value));
+        break;
+      case LT:
+      case LTE:
+        ranges.add(new PropertyRange(key, null, value));
+        break;
+      case GT:
+      case GTE:
+        ranges.add(new PropertyRange(key, value, null));
+        break;
+      default:
+        break;
+      }
+    }
+    return ranges;
+  }
+
+  /**
+   * Returns the comparator which yields the same result if both operands are swapped.
+   *
+   * @param comparator comparator
+   * @return flipped comparator
+   */
+  private static Comparator flip(Comparator comparator) {
+    switch (comparator) {
+    case LT:
+      return Comparator.GT;
+    case LTE:
+      return Comparator.GTE;
+    case GT:
+      return Comparator.LT;
+    case GTE:
+      return Comparator.LTE;
+    default:
+      return comparator;
+    }
   }
 
   //------------------------------------------------------------------------------------------------
@@ -164,6 +385,7 @@ public class GreedyPlanner {
       // TODO: this might be moved to the FilterAndProject node in issue #510
       CNF vertexPredicates = allPredicates.removeSubCNF(vertexVariable);
       Set<String> projectionKeys = allPredicates.getPropertyKeys(vertexVariable);
+      projectionKeys.addAll(getReturnPropertyKeys(vertexVariable));
 
       DataSet<org.gradoop.common.model.impl.pojo.Vertex> vertices =
         vertex.getLabel().equals(GradoopConstants.DEFAULT_VERTEX_LABEL) ?
@@ -194,6 +416,7 @@ public class GreedyPlanner {
       // TODO: this might be moved the the FilterAndProject node in issue #510
       CNF edgePredicates = allPredicates.removeSubCNF(edgeVariable);
       Set<String> projectionKeys = allPredicates.getPropertyKeys(edgeVariable);
+      projectionKeys.addAll(getReturnPropertyKeys(edgeVariable));
 
       boolean isPath = edge.getUpperBound() != 1;
 
@@ -204,6 +427,10 @@ public class GreedyPlanner {
       FilterAndProjectEdgesNode node = new FilterAndProjectEdgesNode(edges,
         sourceVariable, edgeVariable, targetVariable, edgePredicates, projectionKeys, isPath);
 
+      if (!isPath) {
+        addSemiJoinReducers(planTable, node, sourceVariable, targetVariable);
+      }
+
       PlanTableEntry.Type type = edge.hasVariableLength() ? PATH : EDGE;
 
       planTable.add(new PlanTableEntry(type, Sets.newHashSet(edgeVariable), allPredicates,
@@ -211,6 +438,105 @@ public class GreedyPlanner {
     }
   }
 
+  /**
+   * Returns the keys of all properties of the given variable that need to be contained in the
+   * resulting embeddings.
+   *
+   * @param variable query variable
+   * @return property keys
+   */
+  private Set<String> getReturnPropertyKeys(String variable) {
+    return returnProperties.stream()
+      .filter(pair -> pair.getLeft().equals(variable))
+      .map(Pair::getRight)
+      .collect(Collectors.toSet());
+  }
+
+  /**
+   * Attaches semi-join reducers to the specified edge leaf. For each selective endpoint, the
+   * output of the existing vertex leaf of that endpoint is used to remove edges that cannot be
+   * joined with it before they are shuffled.
+   *
+   * @param planTable plan table containing the vertex leaves
+   * @param node edge leaf node
+   * @param sourceVariable source vertex variable
+   * @param targetVariable target vertex variable
+   */
+  private void addSemiJoinReducers(PlanTable planTable, FilterAndProjectEdgesNode node,
+    String sourceVariable, String targetVariable) {
+    if (isSelective(sourceVariable)) {
+      PlanTableEntry reducer = getVertexEntry(planTable, sourceVariable);
+      node.setSourceReducer(reducer.getQueryPlan().getRoot(), reducer.getEstimatedCardinality());
+    }
+    if (isSelective(targetVariable)) {
+      PlanTableEntry reducer = getVertexEntry(planTable, targetVariable);
+      node.setTargetReducer(reducer.getQueryPlan().getRoot(), reducer.getEstimatedCardinality());
+    }
+  }
+
+  /**
+   * Returns the vertex leaf entry of the specified variable from the given plan table.
+   *
+   * @param planTable plan table containing the vertex leaves
+   * @param vertexVariable vertex variable
+   * @return vertex leaf entry
+   */
+  private PlanTableEntry getVertexEntry(PlanTable planTable, String vertexVariable) {
+    for (PlanTableEntry entry : planTable) {
+      if (entry.getType() == VERTEX && entry.getProcessedVariables().contains(vertexVariable)) {
+        return entry;
+      }
+    }
+    throw new IllegalStateException("No vertex leaf for variable " + vertexVariable);
+  }
+
+  /**
+   * Checks if the vertex leaf for the specified variable is expected to produce only a small
+   * fraction of all vertices. This is the case if the vertex has a predicate that is not a label
+   * predicate or if its label is rare according to the graph statistics.
+   *
+   * @param vertexVariable vertex variable
+   * @return true, iff the vertex leaf is considered selective
+   */
+  private boolean isSelective(String vertexVariable) {
+    CNF vertexPredicates = queryHandler.getPredicates().getSubCNF(vertexVariable);
+    if (vertexPredicates.getPredicates().stream().anyMatch(p -> !isLabelPredicate(p))) {
+      return true;
+    }
+    String label = queryHandler.getVertexByVariable(vertexVariable).getLabel();
+    if (label.equals(GradoopConstants.DEFAULT_VERTEX_LABEL)) {
+      return false;
+    }
+    long labelCount = graphStatistics.getVertexCount(label);
+    return labelCount > 0 &&
+      labelCount <= SEMI_JOIN_SELECTIVITY * graphStatistics.getVertexCount();
+  }
+
+  /**
+   * Checks if the specified predicate solely compares the label of a query element.
+   *
+   * @param predicate disjunctive predicate
+   * @return true, iff the predicate is a label predicate
+   */
+  private boolean isLabelPredicate(CNFElement predicate) {
+    if (predicate.size() != 1) {
+      return false;
+    }
+    ComparisonExpression comparison = predicate.getPredicates().get(0);
+    return isLabelSelector(comparison.getLhs()) || isLabelSelector(comparison.getRhs());
+  }
+
+  /**
+   * Checks if the specified comparable selects the label of a query element.
+   *
+   * @param comparable query comparable
+   * @return true, iff the comparable is a label selector
+   */
+  private boolean isLabelSelector(QueryComparable comparable) {
+    return comparable instanceof PropertySelectorComparable &&
+      ((PropertySelectorComparable) comparable).getPropertyKey().equals(LABEL_SELECTOR);
+  }
+
   //------------------------------------------------------------------------------------------------
   // Join and Expand
   //------------------------------------------------------------------------------------------------
@@ -294,7 +620,8 @@ public class GreedyPlanner {
       node = createExpandNode(leftEntry, rightEntry, joinVariables.get(0));
     } else {
       node = new JoinEmbeddingsNode(leftEntry.getQueryPlan().getRoot(),
-        rightEntry.getQueryPlan().getRoot(), joinVariables, vertexStrategy, edgeStrategy);
+        rightEntry.getQueryPlan().getRoot(), joinVariables, vertexStrategy, edgeStrategy,
+        getJoinHint(leftEntry, rightEntry));
     }
 
     // update processed variables
@@ -309,7 +636,28 @@ public class GreedyPlanner {
   }
 
   /**
-   * Creates an {@link ExpandEmbeddingsNode} from the specified arguments.
+   * Returns the join strategy for the given entries. Without limit, the strategy is chosen by
+   * the Flink optimizer. With limit, a hash join is used that builds the hash table from the
+   * smaller input and streams the larger input, i.e. embeddings are produced as soon as the
+   * hash table has been built and the plan does not block on sorting both inputs.
+   *
+   * @param leftEntry left entry
+   * @param rightEntry right entry
+   * @return join hint
+   */
+  private JoinOperatorBase.JoinHint getJoinHint(PlanTableEntry leftEntry,
+    PlanTableEntry rightEntry) {
+    if (limit == -1) {
+      return JoinOperatorBase.JoinHint.OPTIMIZER_CHOOSES;
+    }
+    return leftEntry.getEstimatedCardinality() <= rightEntry.getEstimatedCardinality() ?
+      JoinOperatorBase.JoinHint.REPARTITION_HASH_FIRST :
+      JoinOperatorBase.JoinHint.REPARTITION_HASH_SECOND;
+  }
+
+  /**
+   * Creates an {@link ExpandEmbeddingsNode} from the specified arguments. If the path is not
+   * supposed to produce all paths, an {@link ExpandShortestPathsNode} is created.
    *
    * @param leftEntry left entry
    * @param rightEntry right entry
@@ -334,10 +682,13 @@ public class GreedyPlanner {
     String endVariable = direction == ExpandDirection.OUT ?
       targetVertex.getVariable() : sourceVertex.getVariable();
 
-    return new ExpandEmbeddingsNode(leftEntry.getQueryPlan().getRoot(),
+    ExpandEmbeddingsNode node = new ExpandEmbeddingsNode(leftEntry.getQueryPlan().getRoot(),
       rightEntry.getQueryPlan().getRoot(),
       startVariable, pathVariable, endVariable, lowerBound, upperBound, direction,
       vertexStrategy, edgeStrategy);
+
+    PathSemantics semantics = pathSemantics.getOrDefault(pathVariable, PathSemantics.ALL);
+    return semantics == PathSemantics.ALL ? node : new ExpandShortestPathsNode(node, semantics);
   }
 
   //------------------------------------------------------------------------------------------------
@@ -390,6 +741,7 @@ public class GreedyPlanner {
     for (PlanTableEntry entry : currentTable) {
       Set<Pair<String, String>> propertyPairs = entry.getPropertyPairs();
       Set<Pair<String, String>> projectionPairs = entry.getProjectionPairs();
+      projectionPairs.addAll(returnProperties);
 
       Set<Pair<String, String>> updatedPropertyPairs = propertyPairs.stream()
         .filter(projectionPairs::contains)
@@ -16,6 +16,7 @@
 package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan;
 
 import org.apache.flink.api.java.DataSet;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.functions.ProfileEmbeddings;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
 
@@ -27,13 +28,79 @@ public abstract class PlanNode {
    * Describes the output of that node.
    */
   private EmbeddingMetaData embeddingMetaData;
+  /**
+   * Prefix of the accumulators used to profile the output of that node. If {@code null}, the
+   * output is not profiled.
+   */
+  private String profilingName;
+  /**
+   * Sub plans shared with other query plans. If {@code null}, the node is executed on its own.
+   */
+  private SharedSubPlans sharedSubPlans;
+  /**
+   * Output of that node once it has been executed. Nodes referenced from multiple places within
+   * a plan (e.g. vertex leaves used as semi-join reducers) are thus only evaluated once.
+   */
+  private DataSet<Embedding> output;
 
   /**
    * Recursively executes this node and returns the resulting {@link Embedding} data set.
    *
+   * If profiling is enabled for that node, the output is additionally passed through a
+   * {@link ProfileEmbeddings} function which records the actual output of the node.
+   *
+   * If sub plans are shared, an equivalent node which has already been executed by another plan
+   * is reused instead of executing this node (see {@link SharedSubPlans}).
+   *
+   * Repeated calls return the data set created by the first call.
+   *
+   * @return embeddings
+   */
+  public DataSet<Embedding> execute() {
+    if (output == null) {
+      output = sharedSubPlans != null ? sharedSubPlans.execute(this) : executeNode();
+      if (profilingName != null) {
+        output = output
+          .map(new ProfileEmbeddings(profilingName))
+          .name("Profile " + toString());
+      }
+    }
+    return output;
+  }
+
+  /**
+   * Executes the node specific logic and returns the resulting {@link Embedding} data set.
+   *
    * @return embeddings
    */
-  public abstract DataSet<Embedding> execute();
+  protected abstract DataSet<Embedding> executeNode();
+
+  /**
+   * Enables profiling of the output of that node using accumulators with the given prefix.
+   *
+   * @param profilingName accumulator prefix (must be unique within a Flink job)
+   */
+  public void enableProfiling(String profilingName) {
+    this.profilingName = profilingName;
+  }
+
+  /**
+   * Enables sharing the output of this node with equivalent nodes of other query plans.
+   *
+   * @param sharedSubPlans sub plans shared between query plans
+   */
+  public void shareSubPlans(SharedSubPlans sharedSubPlans) {
+    this.sharedSubPlans = sharedSubPlans;
+  }
+
+  /**
+   * Returns the accumulator prefix used to profile the output of that node.
+   *
+   * @return accumulator prefix or {@code null} if profiling is disabled
+   */
+  public String getProfilingName() {
+    return profilingName;
+  }
 
   /**
    * Returns the meta data describing the embeddings produced by this node.
@@ -59,6 +59,32 @@ public class QueryPlan {
     return root.execute();
   }
 
+  /**
+   * Enables sharing the output of all nodes of this plan with equivalent nodes of other query
+   * plans. Needs to be called before the query plan is executed.
+   *
+   * @param sharedSubPlans sub plans shared between query plans
+   */
+  public void shareSubPlans(SharedSubPlans sharedSubPlans) {
+    shareSubPlans(root, sharedSubPlans);
+  }
+
+  /**
+   * Recursively enables sharing for the sub tree of the given node.
+   *
+   * @param node root plan node
+   * @param sharedSubPlans sub plans shared between query plans
+   */
+  private void shareSubPlans(PlanNode node, SharedSubPlans sharedSubPlans) {
+    node.shareSubPlans(sharedSubPlans);
+    if (node instanceof UnaryNode) {
+      shareSubPlans(((UnaryNode) node).getChildNode(), sharedSubPlans);
+    } else if (node instanceof BinaryNode) {
+      shareSubPlans(((BinaryNode) node).getLeftChild(), sharedSubPlans);
+      shareSubPlans(((BinaryNode) node).getRightChild(), sharedSubPlans);
+    }
+  }
+
   @Override
   public String toString() {
     StringBuilder sb = new StringBuilder();
@@ -0,0 +1,179 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.estimation.SubPatternSignature;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectEdgesNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectVerticesNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * Shares the output of equivalent plan nodes between multiple query plans evaluated on the same
+ * data graph within a single Flink program.
+ *
+ * Two nodes are equivalent if they evaluate the same sub-pattern (see
+ * {@link SubPatternSignature}) and produce embeddings with the same layout. Query variables are
+ * identified by their embedding column, i.e. {@code (p:Person)} and {@code (a:Person)} are
+ * equivalent. The first executed node creates the data set, every equivalent node executed
+ * afterwards reuses it. As the data set of a shared node is reused as a whole, the nodes below a
+ * reused node are not executed at all. Thus, identical leaf scans as well as common join sub
+ * plans are only evaluated once.
+ *
+ * Leaf nodes which only differ in their projected properties share the filtered vertices or
+ * edges and project them separately.
+ *
+ * Nodes which limit their output are never shared.
+ */
+public class SharedSubPlans {
+  /**
+   * Output of executed nodes by their sub-pattern signature and embedding layout
+   */
+  private final Map<String, DataSet<Embedding>> subPlans = new HashMap<>();
+  /**
+   * Filtered vertices of executed vertex leaves by their sub-pattern signature
+   */
+  private final Map<String, DataSet<Vertex>> filteredVertices = new HashMap<>();
+  /**
+   * Filtered edges of executed edge leaves by their sub-pattern signature
+   */
+  private final Map<String, DataSet<Edge>> filteredEdges = new HashMap<>();
+  /**
+   * Number of node executions which reused the output of an equivalent node
+   */
+  private int reuseCount;
+
+  /**
+   * Returns the output of a previously executed node equivalent to the given one or executes
+   * the given node if there is no such node.
+   *
+   * @param node plan node
+   * @return embeddings
+   */
+  DataSet<Embedding> execute(PlanNode node) {
+    if (!SubPatternSignature.isRecordable(node)) {
+      return node.executeNode();
+    }
+    EmbeddingMetaData metaData = node.getEmbeddingMetaData();
+    Function<String, String> naming = getColumnNaming(metaData);
+    String signature = SubPatternSignature.of(node, naming);
+    String key = signature + " " + describeLayout(metaData, naming);
+    DataSet<Embedding> output = subPlans.get(key);
+    if (output == null) {
+      output = executeNode(node, signature);
+      subPlans.put(key, output);
+    } else {
+      reuseCount++;
+    }
+    return output;
+  }
+
+  /**
+   * Executes the given node. Leaf nodes reuse the filtered vertices or edges of a previously
+   * executed leaf with the same sub-pattern signature.
+   *
+   * @param node plan node
+   * @param signature sub-pattern signature of the node with variables named by column
+   * @return embeddings
+   */
+  private DataSet<Embedding> executeNode(PlanNode node, String signature) {
+    if (node instanceof FilterAndProjectVerticesNode) {
+      FilterAndProjectVerticesNode vertexNode = (FilterAndProjectVerticesNode) node;
+      DataSet<Vertex> vertices = filteredVertices.get(signature);
+      if (vertices == null) {
+        vertices = vertexNode.filterVertices();
+        filteredVertices.put(signature, vertices);
+      } else {
+        reuseCount++;
+      }
+      return vertexNode.projectVertices(vertices);
+    } else if (node instanceof FilterAndProjectEdgesNode) {
+      FilterAndProjectEdgesNode edgeNode = (FilterAndProjectEdgesNode) node;
+      DataSet<Edge> edges = filteredEdges.get(signature);
+      if (edges == null) {
+        edges = edgeNode.filterEdges();
+        filteredEdges.put(signature, edges);
+      } else {
+        reuseCount++;
+      }
+      return edgeNode.projectEdges(edges);
+    }
+    return node.executeNode();
+  }
+
+  /**
+   * Returns a naming which replaces every query variable contained in the given meta data by
+   * its embedding column. Other variables keep their name.
+   *
+   * @param metaData meta data describing the output of a node
+   * @return variable naming
+   */
+  private static Function<String, String> getColumnNaming(EmbeddingMetaData metaData) {
+    return variable -> metaData.containsEntryColumn(variable) ?
+      "$" + metaData.getEntryColumn(variable) : variable;
+  }
+
+  /**
+   * Describes the embedding layout specified by the given meta data using the given naming.
+   *
+   * @param metaData meta data describing the output of a node
+   * @param naming maps query variables to the names used in the description
+   * @return layout description
+   */
+  private static String describeLayout(EmbeddingMetaData metaData,
+    Function<String, String> naming) {
+    TreeSet<String> entries = new TreeSet<>();
+    for (String variable : metaData.getVariables()) {
+      String entry = naming.apply(variable) + ":" + metaData.getEntryType(variable);
+      if (metaData.getEntryType(variable) == EmbeddingMetaData.EntryType.PATH) {
+        entry += ":" + metaData.getDirection(variable);
+      }
+      entries.add(entry);
+      for (String key : metaData.getPropertyKeys(variable)) {
+        entries.add(String.format("%s.%s:%d",
+          naming.apply(variable), key, metaData.getPropertyColumn(variable, key)));
+      }
+    }
+    return entries.toString();
+  }
+
+  /**
+   * Returns the number of distinct sub plans which have been executed.
+   *
+   * @return number of executed sub plans
+   */
+  public int getSubPlanCount() {
+    return subPlans.size();
+  }
+
+  /**
+   * Returns the number of node executions which reused the output of an equivalent node,
+   * including leaves which reused the filtered vertices or edges of another leaf.
+   *
+   * @return number of reused sub plans
+   */
+  public int getReuseCount() {
+    return reuseCount;
+  }
+}
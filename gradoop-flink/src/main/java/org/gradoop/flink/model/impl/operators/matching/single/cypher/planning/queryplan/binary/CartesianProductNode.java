@@ -78,8 +78,26 @@ public class CartesianProductNode extends BinaryNode implements JoinNode {
     this.crossHint = crossHint;
   }
 
+  /**
+   * Returns the morphism strategy for vertices.
+   *
+   * @return vertex morphism strategy
+   */
+  public MatchStrategy getVertexStrategy() {
+    return vertexStrategy;
+  }
+
+  /**
+   * Returns the morphism strategy for edges.
+   *
+   * @return edge morphism strategy
+   */
+  public MatchStrategy getEdgeStrategy() {
+    return edgeStrategy;
+  }
+
   @Override
-  public DataSet<Embedding> execute() {
+  protected DataSet<Embedding> executeNode() {
     CartesianProduct op = new CartesianProduct(getLeftChild().execute(), getRightChild().execute(),
       getRightChild().getEmbeddingMetaData().getEntryCount(),
       getDistinctVertexColumnsLeft(), getDistinctVertexColumnsRight(),
@@ -24,7 +24,7 @@ import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embed
 
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand
   .ExpandEmbeddings;
-import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.ExpandEmbeddingsBulk;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.ExpandEmbeddingsDelta;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.BinaryNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.JoinNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
@@ -34,49 +34,49 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 /**
- * Binary node that wraps an {@link ExpandEmbeddingsBulk} operator.
+ * Binary node that wraps an {@link ExpandEmbeddingsDelta} operator.
  */
 public class ExpandEmbeddingsNode extends BinaryNode implements JoinNode {
   /**
    * Column to expand the embedding from.
    */
-  private final int expandColumn;
+  protected final int expandColumn;
   /**
    * Query variable of the first vertex in the path
    */
-  private final String startVariable;
+  protected final String startVariable;
   /**
    * Query variable of the variable length path
    */
-  private final String pathVariable;
+  protected final String pathVariable;
   /**
    * Query variable of the last vertex in the path
    */
-  private final String endVariable;
+  protected final String endVariable;
   /**
    * Minimum number of path expansion steps
    */
-  private final int lowerBound;
+  protected final int lowerBound;
   /**
    * Maximum number of path expansion steps
    */
-  private final int upperBound;
+  protected final int upperBound;
   /**
    * Column that contains the final vertex of the expansion
    */
-  private final int closingColumn;
+  protected final int closingColumn;
   /**
    * Direction in which to expand the embedding
    */
-  private final ExpandDirection expandDirection;
+  protected final ExpandDirection expandDirection;
   /**
    * Morphism type for vertices
    */
-  private final MatchStrategy vertexStrategy;
+  protected final MatchStrategy vertexStrategy;
   /**
    * Morphism type for edges
    */
-  private final MatchStrategy edgeStrategy;
+  protected final MatchStrategy edgeStrategy;
 
   /**
    * Creates a new node.
@@ -110,9 +110,100 @@ public class ExpandEmbeddingsNode extends BinaryNode implements JoinNode {
       leftChild.getEmbeddingMetaData().getEntryColumn(endVariable) : -1;
   }
 
+  /**
+   * Creates a new node with the same children and expansion parameters as the given node.
+   *
+   * @param other node to copy
+   */
+  protected ExpandEmbeddingsNode(ExpandEmbeddingsNode other) {
+    super(other.getLeftChild(), other.getRightChild());
+    this.pathVariable = other.pathVariable;
+    this.startVariable = other.startVariable;
+    this.endVariable = other.endVariable;
+    this.lowerBound = other.lowerBound;
+    this.upperBound = other.upperBound;
+    this.expandDirection = other.expandDirection;
+    this.vertexStrategy = other.vertexStrategy;
+    this.edgeStrategy = other.edgeStrategy;
+    this.expandColumn = other.expandColumn;
+    this.closingColumn = other.closingColumn;
+  }
+
+  /**
+   * Returns the query variable of the first vertex in the path.
+   *
+   * @return start vertex variable
+   */
+  public String getStartVariable() {
+    return startVariable;
+  }
+
+  /**
+   * Returns the query variable of the variable length path.
+   *
+   * @return path variable
+   */
+  public String getPathVariable() {
+    return pathVariable;
+  }
+
+  /**
+   * Returns the query variable of the last vertex in the path.
+   *
+   * @return end vertex variable
+   */
+  public String getEndVariable() {
+    return endVariable;
+  }
+
+  /**
+   * Returns the minimum number of path expansion steps.
+   *
+   * @return lower bound
+   */
+  public int getLowerBound() {
+    return lowerBound;
+  }
+
+  /**
+   * Returns the maximum number of path expansion steps.
+   *
+   * @return upper bound
+   */
+  public int getUpperBound() {
+    return upperBound;
+  }
+
+  /**
+   * Returns the direction in which the embeddings are expanded.
+   *
+   * @return expand direction
+   */
+  public ExpandDirection getExpandDirection() {
+    return expandDirection;
+  }
+
+  /**
+   * Returns the morphism strategy for vertices.
+   *
+   * @return vertex morphism strategy
+   */
+  public MatchStrategy getVertexStrategy() {
+    return vertexStrategy;
+  }
+
+  /**
+   * Returns the morphism strategy for edges.
+   *
+   * @return edge morphism strategy
+   */
+  public MatchStrategy getEdgeStrategy() {
+    return edgeStrategy;
+  }
+
   @Override
-  public DataSet<Embedding> execute() {
-    ExpandEmbeddings op = new ExpandEmbeddingsBulk(
+  protected DataSet<Embedding> executeNode() {
+    ExpandEmbeddings op = new ExpandEmbeddingsDelta(
       getLeftChild().execute(), getRightChild().execute(),
       expandColumn, lowerBound, upperBound, expandDirection,
       getDistinctVertexColumns(getLeftChild().getEmbeddingMetaData()),
@@ -147,7 +238,7 @@ public class ExpandEmbeddingsNode extends BinaryNode implements JoinNode {
    * @param metaData meta data for the embedding
    * @return distinct vertex columns
    */
-  private List<Integer> getDistinctVertexColumns(EmbeddingMetaData metaData) {
+  protected List<Integer> getDistinctVertexColumns(EmbeddingMetaData metaData) {
     return this.vertexStrategy == MatchStrategy.ISOMORPHISM ? metaData.getVertexVariables().stream()
       .map(metaData::getEntryColumn)
       .collect(Collectors.toList()) : Collections.emptyList();
@@ -161,7 +252,7 @@ public class ExpandEmbeddingsNode extends BinaryNode implements JoinNode {
    * @param metaData meta data for the embedding
    * @return distinct edge columns
    */
-  private List<Integer> getDistinctEdgeColumns(EmbeddingMetaData metaData) {
+  protected List<Integer> getDistinctEdgeColumns(EmbeddingMetaData metaData) {
     return edgeStrategy == MatchStrategy.ISOMORPHISM ?
       metaData.getEdgeVariables().stream()
         .map(metaData::getEntryColumn)
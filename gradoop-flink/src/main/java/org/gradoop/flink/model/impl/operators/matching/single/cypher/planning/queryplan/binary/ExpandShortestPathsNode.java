@@ -0,0 +1,80 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.ExpandShortestPaths;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.PathSemantics;
+
+/**
+ * Binary node that wraps an {@link ExpandShortestPaths} operator.
+ */
+public class ExpandShortestPathsNode extends ExpandEmbeddingsNode {
+  /**
+   * Specifies which paths are produced by the expansion
+   */
+  private final PathSemantics pathSemantics;
+
+  /**
+   * Creates a new node that expands the embeddings like the given node but only produces the
+   * paths specified by the given semantics.
+   *
+   * @param expandNode node that produces all paths
+   * @param pathSemantics paths produced by the expansion
+   */
+  public ExpandShortestPathsNode(ExpandEmbeddingsNode expandNode, PathSemantics pathSemantics) {
+    super(expandNode);
+    this.pathSemantics = pathSemantics;
+  }
+
+  @Override
+  protected DataSet<Embedding> executeNode() {
+    ExpandShortestPaths op = new ExpandShortestPaths(
+      getLeftChild().execute(), getRightChild().execute(),
+      expandColumn, lowerBound, upperBound, expandDirection,
+      getDistinctVertexColumns(getLeftChild().getEmbeddingMetaData()),
+      getDistinctEdgeColumns(getLeftChild().getEmbeddingMetaData()),
+      closingColumn, pathSemantics);
+    op.setName(toString());
+    return op.evaluate();
+  }
+
+  /**
+   * Returns the paths produced by the expansion.
+   *
+   * @return path semantics
+   */
+  public PathSemantics getPathSemantics() {
+    return pathSemantics;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("ExpandShortestPathsNode={" +
+        "startVariable='%s', " +
+        "pathVariable='%s', " +
+        "endVariable='%s', " +
+        "lowerBound=%d, " +
+        "upperBound=%d, " +
+        "expandDirection=%s, " +
+        "pathSemantics=%s, " +
+        "vertexMorphismType=%s, " +
+        "edgeMorphismType=%s}",
+      startVariable, pathVariable, endVariable, lowerBound, upperBound, expandDirection,
+      pathSemantics, vertexStrategy, edgeStrategy);
+  }
+}
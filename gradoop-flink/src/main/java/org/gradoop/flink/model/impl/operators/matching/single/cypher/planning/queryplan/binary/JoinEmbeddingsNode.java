@@ -87,8 +87,26 @@ public class JoinEmbeddingsNode extends BinaryNode implements JoinNode {
     this.joinHint = joinHint;
   }
 
+  /**
+   * Returns the morphism strategy for vertices.
+   *
+   * @return vertex morphism strategy
+   */
+  public MatchStrategy getVertexStrategy() {
+    return vertexStrategy;
+  }
+
+  /**
+   * Returns the morphism strategy for edges.
+   *
+   * @return edge morphism strategy
+   */
+  public MatchStrategy getEdgeStrategy() {
+    return edgeStrategy;
+  }
+
   @Override
-  public DataSet<Embedding> execute() {
+  protected DataSet<Embedding> executeNode() {
     JoinEmbeddings op = new JoinEmbeddings(getLeftChild().execute(), getRightChild().execute(),
       getRightChild().getEmbeddingMetaData().getEntryCount(),
       getJoinColumnsLeft(), getJoinColumnsRight(),
@@ -26,6 +26,7 @@ import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.qu
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.JoinNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -95,8 +96,44 @@ public class ValueJoinNode extends BinaryNode implements JoinNode {
     this.joinHint = joinHint;
   }
 
+  /**
+   * Returns a copy of the left side properties used for the join.
+   *
+   * @return (variable, property key) pairs
+   */
+  public List<Pair<String, String>> getLeftJoinProperties() {
+    return new ArrayList<>(leftJoinProperties);
+  }
+
+  /**
+   * Returns a copy of the right side properties used for the join.
+   *
+   * @return (variable, property key) pairs
+   */
+  public List<Pair<String, String>> getRightJoinProperties() {
+    return new ArrayList<>(rightJoinProperties);
+  }
+
+  /**
+   * Returns the morphism strategy for vertices.
+   *
+   * @return vertex morphism strategy
+   */
+  public MatchStrategy getVertexStrategy() {
+    return vertexStrategy;
+  }
+
+  /**
+   * Returns the morphism strategy for edges.
+   *
+   * @return edge morphism strategy
+   */
+  public MatchStrategy getEdgeStrategy() {
+    return edgeStrategy;
+  }
+
   @Override
-  public DataSet<Embedding> execute() {
+  protected DataSet<Embedding> executeNode() {
     ValueJoin op = new ValueJoin(getLeftChild().execute(), getRightChild().execute(),
       getJoinPropertiesLeft(), getJoinPropertiesRight(),
       getRightChild().getEmbeddingMetaData().getEntryCount(),
@@ -21,8 +21,12 @@ import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.C
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.filter.FilterAndProjectEdges;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.filter.SemiJoinReduceEdges;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.filter.functions.FilterEdge;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.project.ProjectEdges;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.FilterNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.LeafNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.ProjectionNode;
 
 import java.util.ArrayList;
@@ -61,6 +65,22 @@ public class FilterAndProjectEdgesNode extends LeafNode implements FilterNode, P
    * Indicates if the edges is actually a path
    */
   private final boolean isPath;
+  /**
+   * Vertex leaf whose output reduces the source vertices of the input edges (optional)
+   */
+  private PlanNode sourceReducer;
+  /**
+   * Estimated cardinality of the source reducer
+   */
+  private long sourceReducerCardinality;
+  /**
+   * Vertex leaf whose output reduces the target vertices of the input edges (optional)
+   */
+  private PlanNode targetReducer;
+  /**
+   * Estimated cardinality of the target reducer
+   */
+  private long targetReducerCardinality;
 
   /**
    * Creates a new node.
@@ -86,9 +106,9 @@ public class FilterAndProjectEdgesNode extends LeafNode implements FilterNode, P
   }
 
   @Override
-  public DataSet<Embedding> execute() {
+  protected DataSet<Embedding> executeNode() {
     FilterAndProjectEdges op =  new FilterAndProjectEdges(
-      edges,
+      reduceEdges(),
       filterPredicate,
       projectionKeys,
       isLoop()
@@ -97,6 +117,113 @@ public class FilterAndProjectEdgesNode extends LeafNode implements FilterNode, P
     return op.evaluate();
   }
 
+  /**
+   * Returns the input edges that pass the semi-join reduction and fulfill the filter predicate.
+   * Together with {@link #projectEdges(DataSet)}, this is equivalent to executing the node, but
+   * allows sharing the filtered edges with nodes that project different properties.
+   *
+   * @return filtered edges
+   */
+  public DataSet<Edge> filterEdges() {
+    return reduceEdges()
+      .filter(new FilterEdge(filterPredicate))
+      .name("FilterEdges " + toString());
+  }
+
+  /**
+   * Projects the given edges, which fulfill the filter predicate, to the output embeddings.
+   *
+   * @param filteredEdges output of {@link #filterEdges()}
+   * @return embeddings
+   */
+  public DataSet<Embedding> projectEdges(DataSet<Edge> filteredEdges) {
+    ProjectEdges op = new ProjectEdges(filteredEdges, projectionKeys, isLoop());
+    op.setName(toString());
+    return op.evaluate();
+  }
+
+  /**
+   * Reduces the input edges by the source and target reducers, if any.
+   *
+   * @return reduced input edges
+   */
+  private DataSet<Edge> reduceEdges() {
+    SemiJoinReduceEdges reduction = new SemiJoinReduceEdges(edges,
+      sourceReducer != null ? sourceReducer.execute() : null, sourceReducerCardinality,
+      targetReducer != null ? targetReducer.execute() : null, targetReducerCardinality);
+    reduction.setName("SemiJoinReduceEdges " + toString());
+    return reduction.evaluate();
+  }
+
+  /**
+   * Reduces the input edges to those whose source vertex is contained in the output of the given
+   * vertex leaf before filtering and projecting them (semi-join reduction).
+   *
+   * @param vertexNode node that produces vertex embeddings with the vertex id in column 0
+   * @param estimatedCardinality estimated number of embeddings produced by the node
+   */
+  public void setSourceReducer(PlanNode vertexNode, long estimatedCardinality) {
+    this.sourceReducer = vertexNode;
+    this.sourceReducerCardinality = estimatedCardinality;
+  }
+
+  /**
+   * Reduces the input edges to those whose target vertex is contained in the output of the given
+   * vertex leaf before filtering and projecting them (semi-join reduction).
+   *
+   * @param vertexNode node that produces vertex embeddings with the vertex id in column 0
+   * @param estimatedCardinality estimated number of embeddings produced by the node
+   */
+  public void setTargetReducer(PlanNode vertexNode, long estimatedCardinality) {
+    this.targetReducer = vertexNode;
+    this.targetReducerCardinality = estimatedCardinality;
+  }
+
+  /**
+   * Returns the query variable of the source vertex.
+   *
+   * @return source vertex variable
+   */
+  public String getSourceVariable() {
+    return sourceVariable;
+  }
+
+  /**
+   * Returns the query variable of the edge.
+   *
+   * @return edge variable
+   */
+  public String getEdgeVariable() {
+    return edgeVariable;
+  }
+
+  /**
+   * Returns the query variable of the target vertex.
+   *
+   * @return target vertex variable
+   */
+  public String getTargetVariable() {
+    return targetVariable;
+  }
+
+  /**
+   * Returns the vertex leaf which reduces the source vertices of the input edges.
+   *
+   * @return source reducer or {@code null} if the source vertices are not reduced
+   */
+  public PlanNode getSourceReducer() {
+    return sourceReducer;
+  }
+
+  /**
+   * Returns the vertex leaf which reduces the target vertices of the input edges.
+   *
+   * @return target reducer or {@code null} if the target vertices are not reduced
+   */
+  public PlanNode getTargetReducer() {
+    return targetReducer;
+  }
+
   /**
    * Returns a copy of the filter predicate attached to this node.
    *
@@ -21,6 +21,8 @@ import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.C
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.filter.FilterAndProjectVertices;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.filter.functions.FilterVertex;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.project.ProjectVertices;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.FilterNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.LeafNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.ProjectionNode;
@@ -67,13 +69,38 @@ public class FilterAndProjectVerticesNode extends LeafNode implements FilterNode
   }
 
   @Override
-  public DataSet<Embedding> execute() {
+  protected DataSet<Embedding> executeNode() {
     FilterAndProjectVertices op =
       new FilterAndProjectVertices(vertices, filterPredicate, projectionKeys);
     op.setName(toString());
     return op.evaluate();
   }
 
+  /**
+   * Returns the input vertices that fulfill the filter predicate. Together with
+   * {@link #projectVertices(DataSet)}, this is equivalent to executing the node, but allows
+   * sharing the filtered vertices with nodes that project different properties.
+   *
+   * @return filtered vertices
+   */
+  public DataSet<Vertex> filterVertices() {
+    return vertices
+      .filter(new FilterVertex(filterPredicate))
+      .name("FilterVertices " + toString());
+  }
+
+  /**
+   * Projects the given vertices, which fulfill the filter predicate, to the output embeddings.
+   *
+   * @param filteredVertices output of {@link #filterVertices()}
+   * @return embeddings
+   */
+  public DataSet<Embedding> projectVertices(DataSet<Vertex> filteredVertices) {
+    ProjectVertices op = new ProjectVertices(filteredVertices, projectionKeys);
+    op.setName(toString());
+    return op.evaluate();
+  }
+
   /**
    * Returns a copy of the filter predicate attached to this node.
    *
@@ -0,0 +1,65 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.unary;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.limit.LimitEmbeddings;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.UnaryNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
+
+/**
+ * Unary node that wraps a {@link LimitEmbeddings} operator.
+ */
+public class LimitEmbeddingsNode extends UnaryNode {
+  /**
+   * Maximum number of embeddings
+   */
+  private final int limit;
+
+  /**
+   * Creates a new node.
+   *
+   * @param childNode input plan node
+   * @param limit maximum number of embeddings
+   */
+  public LimitEmbeddingsNode(PlanNode childNode, int limit) {
+    super(childNode);
+    this.limit = limit;
+  }
+
+  public int getLimit() {
+    return limit;
+  }
+
+  @Override
+  protected DataSet<Embedding> executeNode() {
+    LimitEmbeddings op = new LimitEmbeddings(getChildNode().execute(), limit);
+    op.setName(toString());
+    return op.evaluate();
+  }
+
+  @Override
+  protected EmbeddingMetaData computeEmbeddingMetaData() {
+    return new EmbeddingMetaData(getChildNode().getEmbeddingMetaData());
+  }
+
+  @Override
+  public String toString() {
+    return String.format("LimitEmbeddingsNode{limit=%d}", limit);
+  }
+}
@@ -600,55 +600,92 @@ public class Embedding implements Value, CopyableValue<Embedding> {
 
   @Override
   public void copy(DataInputView source, DataOutputView target) throws IOException {
-    int sizeBuffer = source.readInt();
-    target.writeInt(sizeBuffer);
-    target.write(source, sizeBuffer);
+    int entries = source.readInt();
+    target.writeInt(entries);
+    for (int i = 0; i < entries; i++) {
+      copyCompactId(source, target);
+    }
 
-    sizeBuffer = source.readInt();
+    int sizeBuffer = source.readInt();
     target.writeInt(sizeBuffer);
     target.write(source, sizeBuffer);
 
     sizeBuffer = source.readInt();
     target.writeInt(sizeBuffer);
-    target.write(source, sizeBuffer);
+    int offset = 0;
+    while (offset < sizeBuffer) {
+      copyCompactId(source, target);
+      int listSize = source.readInt();
+      target.writeInt(listSize);
+      for (int i = 0; i < listSize; i++) {
+        copyCompactId(source, target);
+      }
+      offset += GradoopId.ID_SIZE + Integer.BYTES + listSize * GradoopId.ID_SIZE;
+    }
   }
 
+  /**
+   * Writes the embedding to the given output. Ids are written in a compact form which omits
+   * their leading zero bytes, i.e. dense ids (e.g. created by a {@code DenseIdMapping}) require
+   * considerably less space than 12 bytes.
+   *
+   * @param out output view
+   * @throws IOException if writing fails
+   */
   @Override
   public void write(DataOutputView out) throws IOException {
-    out.writeInt(idData.length);
-    out.write(idData);
+    out.writeInt(size());
+    for (int offset = 0; offset < idData.length; offset += ID_ENTRY_SIZE) {
+      writeCompactId(out, idData[offset], idData, offset + 1);
+    }
 
     out.writeInt(propertyData.length);
     out.write(propertyData);
 
     out.writeInt(idListData.length);
-    out.write(idListData);
+    int offset = 0;
+    while (offset < idListData.length) {
+      writeCompactId(out, ID_ENTRY_FLAG, idListData, offset);
+      offset += GradoopId.ID_SIZE;
+      out.write(idListData, offset, Integer.BYTES);
+      int listSize = Ints.fromBytes(idListData[offset], idListData[offset + 1],
+        idListData[offset + 2], idListData[offset + 3]);
+      offset += Integer.BYTES;
+      for (int i = 0; i < listSize; i++) {
+        writeCompactId(out, ID_ENTRY_FLAG, idListData, offset);
+        offset += GradoopId.ID_SIZE;
+      }
+    }
   }
 
   @Override
   public void read(DataInputView in) throws IOException {
 
-    int sizeBuffer = in.readInt();
-    byte[] ids = new byte[sizeBuffer];
-    if (sizeBuffer > 0) {
-      if (in.read(ids) != sizeBuffer) {
-        throw new RuntimeException("Deserialisation of Embedding failed");
-      }
+    int entries = in.readInt();
+    byte[] ids = new byte[entries * ID_ENTRY_SIZE];
+    for (int offset = 0; offset < ids.length; offset += ID_ENTRY_SIZE) {
+      ids[offset] = readCompactId(in, ids, offset + 1);
     }
 
-    sizeBuffer = in.readInt();
+    int sizeBuffer = in.readInt();
     byte[] newPropertyData =  new byte[sizeBuffer];
     if (sizeBuffer > 0) {
-      if (in.read(newPropertyData) != sizeBuffer) {
-        throw new RuntimeException("Deserialisation of Embedding failed");
-      }
+      in.readFully(newPropertyData);
     }
 
     sizeBuffer = in.readInt();
     byte[] idLists = new byte[sizeBuffer];
-    if (sizeBuffer > 0) {
-      if (in.read(idLists) != sizeBuffer) {
-        throw new RuntimeException("Deserialisation of Embedding failed");
+    int offset = 0;
+    while (offset < sizeBuffer) {
+      readCompactId(in, idLists, offset);
+      offset += GradoopId.ID_SIZE;
+      in.readFully(idLists, offset, Integer.BYTES);
+      int listSize = Ints.fromBytes(idLists[offset], idLists[offset + 1],
+        idLists[offset + 2], idLists[offset + 3]);
+      offset += Integer.BYTES;
+      for (int i = 0; i < listSize; i++) {
+        readCompactId(in, idLists, offset);
+        offset += GradoopId.ID_SIZE;
       }
     }
 
@@ -657,6 +694,59 @@ public class Embedding implements Value, CopyableValue<Embedding> {
     this.idListData = idLists;
   }
 
+  /**
+   * Writes a single id without its leading zero bytes. The first byte stores the given flag in
+   * its upper and the number of omitted bytes in its lower four bits.
+   *
+   * @param out output view
+   * @param flag entry flag
+   * @param source array containing the id
+   * @param offset offset of the id
+   * @throws IOException if writing fails
+   */
+  private static void writeCompactId(DataOutputView out, byte flag, byte[] source, int offset)
+    throws IOException {
+    int zeros = 0;
+    while (zeros < GradoopId.ID_SIZE && source[offset + zeros] == 0) {
+      zeros++;
+    }
+    out.writeByte(flag << 4 | zeros);
+    out.write(source, offset + zeros, GradoopId.ID_SIZE - zeros);
+  }
+
+  /**
+   * Reads a single id written by
+   * {@link Embedding#writeCompactId(DataOutputView, byte, byte[], int)}.
+   *
+   * @param in input view
+   * @param target array to store the id in (initialized with zeros)
+   * @param offset offset of the id
+   * @return entry flag
+   * @throws IOException if reading fails
+   */
+  private static byte readCompactId(DataInputView in, byte[] target, int offset)
+    throws IOException {
+    byte header = in.readByte();
+    int zeros = header & 0x0F;
+    in.readFully(target, offset + zeros, GradoopId.ID_SIZE - zeros);
+    return (byte) (header >> 4);
+  }
+
+  /**
+   * Copies a single id written by
+   * {@link Embedding#writeCompactId(DataOutputView, byte, byte[], int)} without decoding it.
+   *
+   * @param source input view
+   * @param target output view
+   * @throws IOException if reading or writing fails
+   */
+  private static void copyCompactId(DataInputView source, DataOutputView target)
+    throws IOException {
+    byte header = source.readByte();
+    target.writeByte(header);
+    target.write(source, GradoopId.ID_SIZE - (header & 0x0F));
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
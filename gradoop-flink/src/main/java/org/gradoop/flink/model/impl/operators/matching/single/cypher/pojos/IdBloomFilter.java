@@ -0,0 +1,169 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos;
+
+import edu.umd.cs.findbugs.annotations.SuppressWarnings;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * A compact bloom filter over {@link GradoopId}s.
+ *
+ * The filter is used to pass the ids of qualifying vertices from a selective leaf of a query plan
+ * to the edge scans of adjacent leaves (semi-join reduction). A filter may report false positives
+ * but never false negatives, i.e. reducing an input by the filter never removes a valid match.
+ *
+ * The class is a POJO so that partial filters can be shipped and merged by Flink.
+ */
+public class IdBloomFilter {
+  /**
+   * Minimum number of bits used by a filter
+   */
+  public static final int MIN_BITS = 1 << 10;
+  /**
+   * Maximum number of bits used by a filter (16 MB)
+   */
+  public static final int MAX_BITS = 1 << 27;
+  /**
+   * Bit set
+   */
+  private long[] bits;
+  /**
+   * Number of hash functions
+   */
+  private int hashFunctions;
+
+  /**
+   * Default constructor for serialization.
+   */
+  public IdBloomFilter() {
+  }
+
+  /**
+   * Creates a new empty filter.
+   *
+   * @param numBits number of bits (will be rounded to a multiple of 64)
+   * @param hashFunctions number of hash functions
+   */
+  public IdBloomFilter(int numBits, int hashFunctions) {
+    this.bits = new long[(numBits + Long.SIZE - 1) / Long.SIZE];
+    this.hashFunctions = hashFunctions;
+  }
+
+  /**
+   * Creates a new empty filter that is sized for the expected number of ids and the given false
+   * positive probability.
+   *
+   * @param expectedInsertions expected number of ids
+   * @param falsePositiveRate desired false positive probability
+   * @return empty filter
+   */
+  public static IdBloomFilter create(long expectedInsertions, double falsePositiveRate) {
+    long n = Math.max(1L, expectedInsertions);
+    long numBits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+    numBits = Math.max(MIN_BITS, Math.min(MAX_BITS, numBits));
+    int hashFunctions = (int) Math.max(1, Math.round((double) numBits / n * Math.log(2)));
+    return new IdBloomFilter((int) numBits, Math.min(hashFunctions, 16));
+  }
+
+  /**
+   * Adds the given id to the filter.
+   *
+   * @param id gradoop id
+   */
+  public void add(GradoopId id) {
+    long hash = hash(id.toByteArray());
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    long numBits = (long) bits.length * Long.SIZE;
+    for (int i = 0; i < hashFunctions; i++) {
+      long index = ((h1 + i * h2) & Integer.MAX_VALUE) % numBits;
+      bits[(int) (index >>> 6)] |= 1L << index;
+    }
+  }
+
+  /**
+   * Checks if the given id may have been added to the filter.
+   *
+   * @param id gradoop id
+   * @return false, if the id has definitely not been added to the filter
+   */
+  public boolean mightContain(GradoopId id) {
+    long hash = hash(id.toByteArray());
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    long numBits = (long) bits.length * Long.SIZE;
+    for (int i = 0; i < hashFunctions; i++) {
+      long index = ((h1 + i * h2) & Integer.MAX_VALUE) % numBits;
+      if ((bits[(int) (index >>> 6)] & (1L << index)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Adds all ids of the given filter to this filter. Both filters need to have the same size and
+   * number of hash functions.
+   *
+   * @param other filter to merge
+   * @return this filter
+   */
+  public IdBloomFilter merge(IdBloomFilter other) {
+    if (other.bits.length != bits.length || other.hashFunctions != hashFunctions) {
+      throw new IllegalArgumentException("Bloom filters are not compatible");
+    }
+    for (int i = 0; i < bits.length; i++) {
+      bits[i] |= other.bits[i];
+    }
+    return this;
+  }
+
+  @SuppressWarnings("EI_EXPOSE_REP")
+  public long[] getBits() {
+    return bits;
+  }
+
+  @SuppressWarnings("EI_EXPOSE_REP2")
+  public void setBits(long[] bits) {
+    this.bits = bits;
+  }
+
+  public int getHashFunctions() {
+    return hashFunctions;
+  }
+
+  public void setHashFunctions(int hashFunctions) {
+    this.hashFunctions = hashFunctions;
+  }
+
+  /**
+   * Computes a 64 bit FNV-1a hash of the given bytes with an additional avalanche step.
+   *
+   * @param bytes input bytes
+   * @return 64 bit hash
+   */
+  private static long hash(byte[] bytes) {
+    long hash = 0xcbf29ce484222325L;
+    for (byte b : bytes) {
+      hash ^= b & 0xff;
+      hash *= 0x100000001b3L;
+    }
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+}
@@ -0,0 +1,139 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+
+import java.io.Serializable;
+
+/**
+ * Compact fingerprint of a set of ids, i.e. a 64 bit bloom filter using a single hash function.
+ *
+ * The fingerprint is used to check distinctness constraints without materializing the ids.
+ * If each added id sets a different bit, all ids are distinct. If an id maps to a bit that is
+ * not set, the id has not been added. In any other case, an exact check is required.
+ *
+ * The instance is mutable and meant to be reused within a single function instance.
+ */
+public class IdFingerprint implements Serializable {
+  /**
+   * Bits set by the added ids
+   */
+  private long bits;
+  /**
+   * Number of added ids
+   */
+  private int count;
+
+  /**
+   * Removes all ids from the fingerprint.
+   *
+   * @return this fingerprint
+   */
+  public IdFingerprint reset() {
+    bits = 0L;
+    count = 0;
+    return this;
+  }
+
+  /**
+   * Adds the given id.
+   *
+   * @param id id
+   * @return this fingerprint
+   */
+  public IdFingerprint add(GradoopId id) {
+    return add(id.toByteArray(), 0);
+  }
+
+  /**
+   * Adds the id stored in the given array at the given offset.
+   *
+   * @param data array containing the id
+   * @param offset offset of the id
+   * @return this fingerprint
+   */
+  public IdFingerprint add(byte[] data, int offset) {
+    bits |= getBit(data, offset);
+    count++;
+    return this;
+  }
+
+  /**
+   * Adds all ids stored at the given columns of the embedding. If a column contains an id list,
+   * all ids of that list are added.
+   *
+   * @param embedding embedding
+   * @param columns embedding columns
+   * @return this fingerprint
+   */
+  public IdFingerprint addColumns(Embedding embedding, int[] columns) {
+    byte[] idData = embedding.getIdData();
+    for (int column : columns) {
+      int offset = column * Embedding.ID_ENTRY_SIZE;
+      if (idData[offset] == Embedding.ID_LIST_FLAG) {
+        for (GradoopId id : embedding.getIdList(column)) {
+          add(id);
+        }
+      } else {
+        add(idData, offset + 1);
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Checks if all added ids are distinct. A return value of {@code false} does not imply that
+   * the ids contain duplicates.
+   *
+   * @return true, if all added ids are guaranteed to be distinct
+   */
+  public boolean isDistinct() {
+    return Long.bitCount(bits) == count;
+  }
+
+  /**
+   * Checks if the given id may have been added. A return value of {@code true} does not imply
+   * that the id has been added.
+   *
+   * @param id id
+   * @return false, if the id is guaranteed not to be contained
+   */
+  public boolean mayContain(GradoopId id) {
+    return (bits & getBit(id.toByteArray(), 0)) != 0L;
+  }
+
+  /**
+   * Computes the bit of the id stored in the given array at the given offset.
+   *
+   * @param data array containing the id
+   * @param offset offset of the id
+   * @return single bit
+   */
+  private static long getBit(byte[] data, int offset) {
+    int hash = 0;
+    for (int i = offset; i < offset + GradoopId.ID_SIZE; i++) {
+      hash = 31 * hash + data[i];
+    }
+    // finalization step of MurmurHash3
+    hash ^= hash >>> 16;
+    hash *= 0x85ebca6b;
+    hash ^= hash >>> 13;
+    hash *= 0xc2b2ae35;
+    hash ^= hash >>> 16;
+    return 1L << (hash & (Long.SIZE - 1));
+  }
+}
@@ -0,0 +1,205 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.table;
+
+import org.apache.flink.api.common.operators.base.ReduceOperatorBase.CombineHint;
+import org.apache.flink.api.common.typeinfo.BasicTypeInfo;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
+import org.apache.flink.types.Row;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.table.functions.CombineAccumulators;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.table.functions.CreateAccumulator;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.table.functions.FinalizeAggregates;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.table.functions.GroupingKey;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Computes the aggregate functions contained in a list of return items. All return items that
+ * are no aggregates are used as grouping keys.
+ *
+ * The input rows contain one field for each return item that has an argument (see
+ * {@link ReturnItem#getArgument()}) in the order of the items. The output rows contain one field
+ * per return item.
+ *
+ * Each input row is converted into a partial aggregate which is merged using a hash-based
+ * combiner before the partial aggregates are shuffled by their grouping keys. If there are no
+ * grouping keys, the result contains exactly one row, even if the input is empty.
+ */
+public class AggregateRows {
+  /**
+   * Input rows
+   */
+  private final DataSet<Row> input;
+  /**
+   * Type of the input rows
+   */
+  private final RowTypeInfo inputType;
+  /**
+   * Return items
+   */
+  private final List<ReturnItem> items;
+
+  /**
+   * Creates a new operator.
+   *
+   * @param input input rows
+   * @param inputType type of the input rows
+   * @param items return items
+   */
+  public AggregateRows(DataSet<Row> input, RowTypeInfo inputType, List<ReturnItem> items) {
+    this.input = input;
+    this.inputType = inputType;
+    this.items = items;
+  }
+
+  /**
+   * Computes the aggregated rows.
+   *
+   * @return one row per group
+   */
+  public DataSet<Row> evaluate() {
+    List<Integer> keyFields = new ArrayList<>();
+    List<Integer> argumentFields = new ArrayList<>();
+    int field = 0;
+    for (ReturnItem item : items) {
+      int itemField = item.getArgument() != null ? field++ : -1;
+      if (item.isAggregate()) {
+        argumentFields.add(itemField);
+      } else {
+        keyFields.add(itemField);
+      }
+    }
+    RowAggregation[] aggregations = getAggregations(items);
+    RowTypeInfo accumulatorType = getAccumulatorType(keyFields, aggregations);
+
+    DataSet<Row> accumulators = input
+      .map(new CreateAccumulator(toArray(keyFields), toArray(argumentFields), aggregations))
+      .returns(accumulatorType);
+
+    if (keyFields.isEmpty()) {
+      accumulators = accumulators
+        .union(input.getExecutionEnvironment().fromCollection(
+          Collections.singletonList(CreateAccumulator.createEmptyAccumulator(aggregations)),
+          accumulatorType))
+        .reduce(new CombineAccumulators(0, aggregations));
+    } else {
+      accumulators = accumulators
+        .groupBy(new GroupingKey(keyFields.size()))
+        .reduce(new CombineAccumulators(keyFields.size(), aggregations))
+        .setCombineHint(CombineHint.HASH);
+    }
+
+    return accumulators
+      .map(new FinalizeAggregates(getAggregateFlags(items), aggregations, keyFields.size()))
+      .returns(getResultType(inputType, items));
+  }
+
+  /**
+   * Returns the type of the rows produced for the given input type and return items.
+   *
+   * @param inputType type of the input rows
+   * @param items return items
+   * @return result row type
+   */
+  public static RowTypeInfo getResultType(RowTypeInfo inputType, List<ReturnItem> items) {
+    TypeInformation<?>[] types = new TypeInformation<?>[items.size()];
+    String[] names = new String[items.size()];
+    int field = 0;
+    for (int i = 0; i < items.size(); i++) {
+      ReturnItem item = items.get(i);
+      if (!item.isAggregate()) {
+        types[i] = inputType.getTypeAt(field);
+      } else if (item.getAggregation() == RowAggregation.COUNT) {
+        types[i] = BasicTypeInfo.LONG_TYPE_INFO;
+      } else {
+        types[i] = TypeInformation.of(PropertyValue.class);
+      }
+      if (item.getArgument() != null) {
+        field++;
+      }
+      names[i] = item.toString();
+    }
+    return new RowTypeInfo(types, names);
+  }
+
+  /**
+   * Returns the type of the accumulators.
+   *
+   * @param keyFields input fields of the grouping keys
+   * @param aggregations aggregate functions
+   * @return accumulator type
+   */
+  private RowTypeInfo getAccumulatorType(List<Integer> keyFields,
+    RowAggregation[] aggregations) {
+    List<TypeInformation<?>> types = new ArrayList<>();
+    for (int keyField : keyFields) {
+      types.add(inputType.getTypeAt(keyField));
+    }
+    for (RowAggregation aggregation : aggregations) {
+      if (aggregation == RowAggregation.COUNT) {
+        types.add(BasicTypeInfo.LONG_TYPE_INFO);
+      } else {
+        types.add(TypeInformation.of(PropertyValue.class));
+        if (aggregation == RowAggregation.AVG) {
+          types.add(BasicTypeInfo.LONG_TYPE_INFO);
+        }
+      }
+    }
+    return new RowTypeInfo(types.toArray(new TypeInformation<?>[types.size()]));
+  }
+
+  /**
+   * Returns the aggregate functions of the given items in order.
+   *
+   * @param items return items
+   * @return aggregate functions
+   */
+  private static RowAggregation[] getAggregations(List<ReturnItem> items) {
+    return items.stream()
+      .filter(ReturnItem::isAggregate)
+      .map(ReturnItem::getAggregation)
+      .toArray(RowAggregation[]::new);
+  }
+
+  /**
+   * Returns a flag for each item that is true, if the item is an aggregate.
+   *
+   * @param items return items
+   * @return aggregate flags
+   */
+  private static boolean[] getAggregateFlags(List<ReturnItem> items) {
+    boolean[] flags = new boolean[items.size()];
+    for (int i = 0; i < items.size(); i++) {
+      flags[i] = items.get(i).isAggregate();
+    }
+    return flags;
+  }
+
+  /**
+   * Converts the given list to an array.
+   *
+   * @param values integer list
+   * @return integer array
+   */
+  private static int[] toArray(List<Integer> values) {
+    return values.stream().mapToInt(Integer::intValue).toArray();
+  }
+}
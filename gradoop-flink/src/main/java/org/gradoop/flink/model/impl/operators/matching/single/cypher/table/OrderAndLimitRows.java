@@ -0,0 +1,101 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.table;
+
+import org.apache.flink.api.common.operators.Order;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
+import org.apache.flink.types.Row;
+import org.gradoop.flink.model.impl.functions.bool.False;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.table.functions.MergeTopK;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.table.functions.RowComparator;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.table.functions.SortKey;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.table.functions.TopKPerPartition;
+
+/**
+ * Sorts rows and/or limits their number.
+ *
+ * If both, an order and a limit, are given, each partition keeps its first k rows in a bounded
+ * heap and only those are merged by a single task. Without limit, all rows are sorted by a single
+ * task using Flink's external sort, which spills to disk if the rows do not fit into memory.
+ * Without order, the first k rows of the input are returned.
+ */
+public class OrderAndLimitRows {
+  /**
+   * Input rows
+   */
+  private final DataSet<Row> input;
+  /**
+   * Type of the rows
+   */
+  private final RowTypeInfo rowType;
+  /**
+   * Sort fields, empty if the rows are not sorted
+   */
+  private final int[] fields;
+  /**
+   * True, if the corresponding sort field is sorted in ascending order
+   */
+  private final boolean[] ascending;
+  /**
+   * Maximum number of rows, -1 if unlimited
+   */
+  private final int limit;
+
+  /**
+   * Creates a new operator.
+   *
+   * @param input input rows
+   * @param rowType type of the rows
+   * @param fields sort fields, empty if the rows are not sorted
+   * @param ascending true, if the corresponding sort field is sorted in ascending order
+   * @param limit maximum number of rows, -1 if unlimited
+   */
+  public OrderAndLimitRows(DataSet<Row> input, RowTypeInfo rowType, int[] fields,
+    boolean[] ascending, int limit) {
+    this.input = input;
+    this.rowType = rowType;
+    this.fields = fields.clone();
+    this.ascending = ascending.clone();
+    this.limit = limit;
+  }
+
+  /**
+   * Sorts and limits the input rows.
+   *
+   * @return sorted and limited rows
+   */
+  public DataSet<Row> evaluate() {
+    if (limit == 0) {
+      return input.filter(new False<>());
+    }
+    if (fields.length == 0) {
+      return limit == -1 ? input : input.first(limit);
+    }
+    if (limit == -1) {
+      return input
+        .sortPartition(new SortKey(fields, ascending), Order.ASCENDING)
+        .setParallelism(1);
+    }
+    RowComparator comparator = new RowComparator(fields, ascending);
+
+    return input
+      .mapPartition(new TopKPerPartition(comparator, limit))
+      .returns(rowType)
+      .reduceGroup(new MergeTopK(comparator, limit))
+      .returns(rowType);
+  }
+}
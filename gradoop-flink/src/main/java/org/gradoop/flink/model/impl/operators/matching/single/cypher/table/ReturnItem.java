@@ -0,0 +1,198 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.table;
+
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * An item of the RETURN clause of a Cypher query.
+ *
+ * An item is either a variable ({@code a}), a property of a variable ({@code a.name}) or an
+ * aggregate function applied to one of both ({@code max(a.age)}). {@code count(*)} is the only
+ * aggregate function without a variable.
+ */
+public class ReturnItem {
+  /**
+   * Matches an aggregate function and captures its name and argument
+   */
+  private static final Pattern FUNCTION = Pattern.compile("^([A-Za-z]+)\\s*\\((.*)\\)$");
+  /**
+   * Matches a variable or property and captures the variable and the optional property key
+   */
+  private static final Pattern EXPRESSION =
+    Pattern.compile("^([A-Za-z_][A-Za-z0-9_]*)(?:\\.([A-Za-z_][A-Za-z0-9_]*))?$");
+  /**
+   * Matches the DISTINCT modifier of an aggregate function
+   */
+  private static final Pattern DISTINCT =
+    Pattern.compile("^DISTINCT\\s", Pattern.CASE_INSENSITIVE);
+  /**
+   * Wildcard argument of count(*)
+   */
+  private static final String WILDCARD = "*";
+  /**
+   * Item as written in the query
+   */
+  private final String text;
+  /**
+   * Referenced variable, null for count(*)
+   */
+  private final String variable;
+  /**
+   * Referenced property key, null if the item refers to the variable itself
+   */
+  private final String propertyKey;
+  /**
+   * Aggregate function, null if the item is no aggregate
+   */
+  private final RowAggregation aggregation;
+
+  /**
+   * Creates a new return item.
+   *
+   * @param text item as written in the query
+   * @param variable referenced variable
+   * @param propertyKey referenced property key
+   * @param aggregation aggregate function
+   */
+  private ReturnItem(String text, String variable, String propertyKey,
+    RowAggregation aggregation) {
+    this.text = text;
+    this.variable = variable;
+    this.propertyKey = propertyKey;
+    this.aggregation = aggregation;
+  }
+
+  /**
+   * Parses the given return item.
+   *
+   * @param text return item
+   * @return parsed return item
+   */
+  public static ReturnItem parse(String text) {
+    text = text.trim();
+    Matcher function = FUNCTION.matcher(text);
+    if (!function.matches()) {
+      Matcher expression = parseExpression(text);
+      return new ReturnItem(text, expression.group(1), expression.group(2), null);
+    }
+
+    RowAggregation aggregation;
+    try {
+      aggregation = RowAggregation.valueOf(function.group(1).toUpperCase());
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Unsupported function: " + text, e);
+    }
+    String argument = function.group(2).trim();
+    if (DISTINCT.matcher(argument).find()) {
+      throw new IllegalArgumentException("DISTINCT aggregates are not supported: " + text);
+    }
+    if (argument.equals(WILDCARD)) {
+      if (aggregation != RowAggregation.COUNT) {
+        throw new IllegalArgumentException("Only count supports *: " + text);
+      }
+      return new ReturnItem(text, null, null, aggregation);
+    }
+    Matcher expression = parseExpression(argument);
+    if (aggregation != RowAggregation.COUNT && expression.group(2) == null) {
+      throw new IllegalArgumentException(aggregation + " requires a property: " + text);
+    }
+    return new ReturnItem(text, expression.group(1), expression.group(2), aggregation);
+  }
+
+  /**
+   * Matches a variable or property expression.
+   *
+   * @param expression expression string
+   * @return successful matcher
+   */
+  private static Matcher parseExpression(String expression) {
+    Matcher matcher = EXPRESSION.matcher(expression);
+    if (!matcher.matches()) {
+      throw new IllegalArgumentException("Unsupported return item: " + expression);
+    }
+    return matcher;
+  }
+
+  public String getVariable() {
+    return variable;
+  }
+
+  public String getPropertyKey() {
+    return propertyKey;
+  }
+
+  public RowAggregation getAggregation() {
+    return aggregation;
+  }
+
+  /**
+   * Checks if the item is an aggregate function.
+   *
+   * @return true, if the item is an aggregate
+   */
+  public boolean isAggregate() {
+    return aggregation != null;
+  }
+
+  /**
+   * Checks if the item refers to a property.
+   *
+   * @return true, if the item refers to a property
+   */
+  public boolean isProperty() {
+    return propertyKey != null;
+  }
+
+  /**
+   * Returns the expression the item is computed from, i.e. the item itself or the argument of
+   * the aggregate function.
+   *
+   * @return {@code variable} or {@code variable.propertyKey}, null for count(*)
+   */
+  public String getArgument() {
+    if (variable == null) {
+      return null;
+    }
+    return propertyKey == null ? variable : variable + "." + propertyKey;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    ReturnItem that = (ReturnItem) o;
+    return Objects.equals(variable, that.variable) &&
+      Objects.equals(propertyKey, that.propertyKey) &&
+      aggregation == that.aggregation;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(variable, propertyKey, aggregation);
+  }
+
+  @Override
+  public String toString() {
+    return text;
+  }
+}
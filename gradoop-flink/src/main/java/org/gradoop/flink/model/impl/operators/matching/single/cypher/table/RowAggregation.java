@@ -0,0 +1,42 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.table;
+
+/**
+ * Aggregate functions that can be used in the RETURN clause of a Cypher query.
+ */
+public enum RowAggregation {
+  /**
+   * Number of rows (with a non-null argument)
+   */
+  COUNT,
+  /**
+   * Sum of all non-null argument values
+   */
+  SUM,
+  /**
+   * Minimum of all non-null argument values
+   */
+  MIN,
+  /**
+   * Maximum of all non-null argument values
+   */
+  MAX,
+  /**
+   * Average of all non-null argument values
+   */
+  AVG
+}
@@ -0,0 +1,135 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.table.functions;
+
+import org.apache.flink.api.common.functions.ReduceFunction;
+import org.apache.flink.types.Row;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueUtils;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.table.RowAggregation;
+
+/**
+ * Merges two accumulators with equal grouping keys (see {@link CreateAccumulator}).
+ *
+ * The function is used as combiner for partial aggregation and for the final aggregation.
+ */
+public class CombineAccumulators implements ReduceFunction<Row> {
+  /**
+   * Number of grouping keys
+   */
+  private final int keyCount;
+  /**
+   * Aggregate functions
+   */
+  private final RowAggregation[] aggregations;
+
+  /**
+   * Creates a new function.
+   *
+   * @param keyCount number of grouping keys
+   * @param aggregations aggregate functions
+   */
+  public CombineAccumulators(int keyCount, RowAggregation[] aggregations) {
+    this.keyCount = keyCount;
+    this.aggregations = aggregations.clone();
+  }
+
+  @Override
+  public Row reduce(Row left, Row right) throws Exception {
+    int field = keyCount;
+    for (RowAggregation aggregation : aggregations) {
+      switch (aggregation) {
+      case COUNT:
+        left.setField(field, add((Long) left.getField(field), (Long) right.getField(field)));
+        break;
+      case SUM:
+        left.setField(field, sum(getValue(left, field), getValue(right, field)));
+        break;
+      case MIN:
+        left.setField(field, select(getValue(left, field), getValue(right, field), true));
+        break;
+      case MAX:
+        left.setField(field, select(getValue(left, field), getValue(right, field), false));
+        break;
+      case AVG:
+        left.setField(field, sum(getValue(left, field), getValue(right, field)));
+        field++;
+        left.setField(field, add((Long) left.getField(field), (Long) right.getField(field)));
+        break;
+      default:
+        throw new IllegalArgumentException("Unsupported aggregation: " + aggregation);
+      }
+      field++;
+    }
+    return left;
+  }
+
+  /**
+   * Adds two counts.
+   *
+   * @param left first count
+   * @param right second count
+   * @return sum of both counts
+   */
+  private static Long add(Long left, Long right) {
+    return left + right;
+  }
+
+  /**
+   * Returns the property value stored in the given field.
+   *
+   * @param row accumulator
+   * @param field field index
+   * @return property value
+   */
+  private static PropertyValue getValue(Row row, int field) {
+    return (PropertyValue) row.getField(field);
+  }
+
+  /**
+   * Adds two numerical values. Null values are ignored.
+   *
+   * @param left first value
+   * @param right second value
+   * @return sum of both values
+   */
+  private static PropertyValue sum(PropertyValue left, PropertyValue right) {
+    if (left.isNull()) {
+      return right;
+    } else if (right.isNull()) {
+      return left;
+    }
+    return PropertyValueUtils.Numeric.add(PropertyValue.create(left.getObject()), right);
+  }
+
+  /**
+   * Returns the smaller or the bigger of both values. Null values are ignored.
+   *
+   * @param left first value
+   * @param right second value
+   * @param min true, if the smaller value shall be returned
+   * @return selected value
+   */
+  private static PropertyValue select(PropertyValue left, PropertyValue right, boolean min) {
+    if (left.isNull()) {
+      return right;
+    } else if (right.isNull()) {
+      return left;
+    }
+    int comparison = RowComparator.compareValues(left, right);
+    return (comparison <= 0) == min ? left : right;
+  }
+}
@@ -0,0 +1,132 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.table.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.types.Row;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.table.RowAggregation;
+
+/**
+ * Creates the partial aggregate of a single input row.
+ *
+ * The accumulator contains the grouping keys followed by one field per aggregate. An average is
+ * represented by two fields, the sum and the number of values.
+ */
+public class CreateAccumulator implements MapFunction<Row, Row> {
+  /**
+   * Input fields of the grouping keys
+   */
+  private final int[] keyFields;
+  /**
+   * Input fields of the aggregate arguments, -1 for count(*)
+   */
+  private final int[] argumentFields;
+  /**
+   * Aggregate functions
+   */
+  private final RowAggregation[] aggregations;
+  /**
+   * Number of accumulator fields
+   */
+  private final int arity;
+
+  /**
+   * Creates a new function.
+   *
+   * @param keyFields input fields of the grouping keys
+   * @param argumentFields input fields of the aggregate arguments, -1 for count(*)
+   * @param aggregations aggregate functions
+   */
+  public CreateAccumulator(int[] keyFields, int[] argumentFields, RowAggregation[] aggregations) {
+    this.keyFields = keyFields.clone();
+    this.argumentFields = argumentFields.clone();
+    this.aggregations = aggregations.clone();
+    this.arity = getArity(keyFields.length, aggregations);
+  }
+
+  /**
+   * Returns the number of accumulator fields.
+   *
+   * @param keyCount number of grouping keys
+   * @param aggregations aggregate functions
+   * @return accumulator arity
+   */
+  public static int getArity(int keyCount, RowAggregation[] aggregations) {
+    int arity = keyCount + aggregations.length;
+    for (RowAggregation aggregation : aggregations) {
+      if (aggregation == RowAggregation.AVG) {
+        arity++;
+      }
+    }
+    return arity;
+  }
+
+  /**
+   * Creates the accumulator that represents an empty input.
+   *
+   * @param aggregations aggregate functions
+   * @return accumulator without grouping keys
+   */
+  public static Row createEmptyAccumulator(RowAggregation[] aggregations) {
+    Row accumulator = new Row(getArity(0, aggregations));
+    int field = 0;
+    for (RowAggregation aggregation : aggregations) {
+      if (aggregation == RowAggregation.COUNT) {
+        accumulator.setField(field++, 0L);
+      } else {
+        accumulator.setField(field++, PropertyValue.NULL_VALUE);
+        if (aggregation == RowAggregation.AVG) {
+          accumulator.setField(field++, 0L);
+        }
+      }
+    }
+    return accumulator;
+  }
+
+  @Override
+  public Row map(Row row) throws Exception {
+    Row accumulator = new Row(arity);
+    int field = 0;
+    for (int keyField : keyFields) {
+      accumulator.setField(field++, row.getField(keyField));
+    }
+    for (int i = 0; i < aggregations.length; i++) {
+      Object value = argumentFields[i] == -1 ? null : row.getField(argumentFields[i]);
+      boolean isNull = argumentFields[i] != -1 && isNull(value);
+
+      if (aggregations[i] == RowAggregation.COUNT) {
+        accumulator.setField(field++, isNull ? 0L : 1L);
+      } else {
+        accumulator.setField(field++, isNull ? PropertyValue.NULL_VALUE : value);
+        if (aggregations[i] == RowAggregation.AVG) {
+          accumulator.setField(field++, isNull ? 0L : 1L);
+        }
+      }
+    }
+    return accumulator;
+  }
+
+  /**
+   * Checks if the given field value represents {@code null}.
+   *
+   * @param value field value
+   * @return true, if the value is null
+   */
+  private static boolean isNull(Object value) {
+    return value == null || (value instanceof PropertyValue && ((PropertyValue) value).isNull());
+  }
+}
@@ -0,0 +1,79 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.table.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.types.Row;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.table.RowAggregation;
+
+/**
+ * Computes the result row from a fully merged accumulator (see {@link CreateAccumulator}).
+ *
+ * Grouping keys and aggregates are emitted in the order of the return items. Counts are emitted
+ * as {@link Long}, all other aggregates as {@link PropertyValue}.
+ */
+public class FinalizeAggregates implements MapFunction<Row, Row> {
+  /**
+   * True, if the return item at the corresponding position is an aggregate
+   */
+  private final boolean[] isAggregate;
+  /**
+   * Aggregate functions
+   */
+  private final RowAggregation[] aggregations;
+  /**
+   * Number of grouping keys
+   */
+  private final int keyCount;
+
+  /**
+   * Creates a new function.
+   *
+   * @param isAggregate true, if the return item at the corresponding position is an aggregate
+   * @param aggregations aggregate functions
+   * @param keyCount number of grouping keys
+   */
+  public FinalizeAggregates(boolean[] isAggregate, RowAggregation[] aggregations, int keyCount) {
+    this.isAggregate = isAggregate.clone();
+    this.aggregations = aggregations.clone();
+    this.keyCount = keyCount;
+  }
+
+  @Override
+  public Row map(Row accumulator) throws Exception {
+    Row row = new Row(isAggregate.length);
+    int keyField = 0;
+    int aggregateField = keyCount;
+    int aggregate = 0;
+
+    for (int i = 0; i < isAggregate.length; i++) {
+      if (!isAggregate[i]) {
+        row.setField(i, accumulator.getField(keyField++));
+      } else if (aggregations[aggregate] == RowAggregation.AVG) {
+        PropertyValue sum = (PropertyValue) accumulator.getField(aggregateField++);
+        long count = (Long) accumulator.getField(aggregateField++);
+        row.setField(i, count == 0 ? PropertyValue.NULL_VALUE :
+          PropertyValue.create(((Number) sum.getObject()).doubleValue() / count));
+        aggregate++;
+      } else {
+        row.setField(i, accumulator.getField(aggregateField++));
+        aggregate++;
+      }
+    }
+    return row;
+  }
+}
@@ -0,0 +1,80 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.table.functions;
+
+import org.apache.flink.api.java.functions.KeySelector;
+import org.apache.flink.types.Row;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Serializes the leading grouping key fields of a row into a single binary key.
+ *
+ * {@link PropertyValue} cannot be used as a Flink key, therefore the keys are compared by their
+ * binary representation. Each field is prefixed by its length to keep the encoding unique.
+ */
+public class GroupingKey implements KeySelector<Row, byte[]> {
+  /**
+   * Number of grouping key fields
+   */
+  private final int keyCount;
+
+  /**
+   * Creates a new key selector.
+   *
+   * @param keyCount number of leading grouping key fields
+   */
+  public GroupingKey(int keyCount) {
+    this.keyCount = keyCount;
+  }
+
+  @Override
+  public byte[] getKey(Row row) throws Exception {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(bytes);
+    for (int i = 0; i < keyCount; i++) {
+      write(out, row.getField(i));
+    }
+    out.flush();
+    return bytes.toByteArray();
+  }
+
+  /**
+   * Writes the binary representation of the given field value.
+   *
+   * @param out output
+   * @param value field value
+   * @throws IOException on failure
+   */
+  private static void write(DataOutputStream out, Object value) throws IOException {
+    if (value instanceof GradoopId[]) {
+      GradoopId[] ids = (GradoopId[]) value;
+      out.writeInt(ids.length * GradoopId.ID_SIZE);
+      for (GradoopId id : ids) {
+        out.write(id.toByteArray());
+      }
+    } else {
+      byte[] data = value instanceof GradoopId ?
+        ((GradoopId) value).toByteArray() : ((PropertyValue) value).getRawBytes();
+      out.writeInt(data.length);
+      out.write(data);
+    }
+  }
+}
@@ -0,0 +1,61 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.table.functions;
+
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.types.Row;
+import org.apache.flink.util.Collector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sorts the input rows and emits the first k of them in order. The input is expected to be
+ * bounded, e.g. by {@link TopKPerPartition}.
+ */
+public class MergeTopK implements GroupReduceFunction<Row, Row> {
+  /**
+   * Row order
+   */
+  private final RowComparator comparator;
+  /**
+   * Number of rows to emit
+   */
+  private final int limit;
+
+  /**
+   * Creates a new function.
+   *
+   * @param comparator row order
+   * @param limit number of rows to emit
+   */
+  public MergeTopK(RowComparator comparator, int limit) {
+    this.comparator = comparator;
+    this.limit = limit;
+  }
+
+  @Override
+  public void reduce(Iterable<Row> rows, Collector<Row> out) throws Exception {
+    List<Row> sorted = new ArrayList<>();
+    rows.forEach(sorted::add);
+    sorted.sort(comparator);
+
+    int count = Math.min(limit, sorted.size());
+    for (int i = 0; i < count; i++) {
+      out.collect(sorted.get(i));
+    }
+  }
+}
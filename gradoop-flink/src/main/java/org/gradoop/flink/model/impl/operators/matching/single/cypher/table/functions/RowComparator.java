@@ -0,0 +1,143 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.table.functions;
+
+import com.google.common.primitives.UnsignedBytes;
+import org.apache.flink.types.Row;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Comparator;
+
+/**
+ * Compares rows according to a list of sort fields.
+ *
+ * Null values are greater than all other values, i.e. they are placed last in ascending and first
+ * in descending order. Numerical property values of different types are compared by their
+ * numerical value. Other property values of different types are ordered by their type, values
+ * of the same type by their natural order or, if there is none (lists and maps), by their byte
+ * representation. This defines a total order for arbitrarily typed property values.
+ */
+public class RowComparator implements Comparator<Row>, Serializable {
+  /**
+   * Type rank of all numerical property values, lower than all type bytes
+   */
+  private static final int NUMBER_RANK = -1;
+  /**
+   * Sort fields
+   */
+  private final int[] fields;
+  /**
+   * True, if the corresponding field is sorted in ascending order
+   */
+  private final boolean[] ascending;
+
+  /**
+   * Creates a new comparator.
+   *
+   * @param fields sort fields
+   * @param ascending true, if the corresponding field is sorted in ascending order
+   */
+  public RowComparator(int[] fields, boolean[] ascending) {
+    this.fields = fields.clone();
+    this.ascending = ascending.clone();
+  }
+
+  @Override
+  public int compare(Row left, Row right) {
+    for (int i = 0; i < fields.length; i++) {
+      int comparison = compareValues(left.getField(fields[i]), right.getField(fields[i]));
+      if (comparison != 0) {
+        return ascending[i] ? comparison : -comparison;
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Compares two field values.
+   *
+   * @param left first value
+   * @param right second value
+   * @return negative, zero or positive if the first value is smaller, equal or greater
+   */
+  public static int compareValues(Object left, Object right) {
+    boolean leftNull = isNull(left);
+    boolean rightNull = isNull(right);
+    if (leftNull || rightNull) {
+      return Boolean.compare(leftNull, rightNull);
+    }
+    if (left instanceof PropertyValue) {
+      return comparePropertyValues((PropertyValue) left, (PropertyValue) right);
+    }
+    if (left instanceof GradoopId) {
+      return ((GradoopId) left).compareTo((GradoopId) right);
+    }
+    return ((Long) left).compareTo((Long) right);
+  }
+
+  /**
+   * Compares two non-null property values of arbitrary types.
+   *
+   * @param left first value
+   * @param right second value
+   * @return negative, zero or positive if the first value is smaller, equal or greater
+   */
+  @SuppressWarnings("unchecked")
+  private static int comparePropertyValues(PropertyValue left, PropertyValue right) {
+    Object leftObject = left.getObject();
+    Object rightObject = right.getObject();
+    boolean leftNumber = leftObject instanceof Number;
+    boolean rightNumber = rightObject instanceof Number;
+    if (leftNumber && rightNumber && left.getType() != right.getType()) {
+      return toBigDecimal(left).compareTo(toBigDecimal(right));
+    }
+    // all numerical types share the same rank
+    int leftRank = leftNumber ? NUMBER_RANK : left.getRawBytes()[0];
+    int rightRank = rightNumber ? NUMBER_RANK : right.getRawBytes()[0];
+    if (leftRank != rightRank) {
+      return Integer.compare(leftRank, rightRank);
+    }
+    if (leftObject instanceof Comparable) {
+      return ((Comparable<Object>) leftObject).compareTo(rightObject);
+    }
+    return UnsignedBytes.lexicographicalComparator()
+      .compare(left.getRawBytes(), right.getRawBytes());
+  }
+
+  /**
+   * Checks if the given field value represents {@code null}.
+   *
+   * @param value field value
+   * @return true, if the value is null
+   */
+  private static boolean isNull(Object value) {
+    return value == null || (value instanceof PropertyValue && ((PropertyValue) value).isNull());
+  }
+
+  /**
+   * Converts a numerical property value to a big decimal.
+   *
+   * @param value numerical property value
+   * @return big decimal
+   */
+  private static BigDecimal toBigDecimal(PropertyValue value) {
+    return value.isBigDecimal() ?
+      value.getBigDecimal() : new BigDecimal(value.getObject().toString());
+  }
+}
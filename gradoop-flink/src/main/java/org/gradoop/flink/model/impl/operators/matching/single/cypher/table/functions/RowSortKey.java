@@ -0,0 +1,153 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.table.functions;
+
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.apache.flink.types.Value;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Sort key of a row which orders rows like {@link RowComparator}.
+ *
+ * {@link PropertyValue}s of different types cannot be sorted by Flink directly. The key holds the
+ * sort field values of a row together with their sort directions and can therefore be used to
+ * sort rows with Flink's external (spilling) sort.
+ */
+public class RowSortKey implements Value, Comparable<RowSortKey> {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * Tag of a {@code null} field value
+   */
+  private static final byte NULL = 0;
+  /**
+   * Tag of a property value
+   */
+  private static final byte PROPERTY_VALUE = 1;
+  /**
+   * Tag of an id
+   */
+  private static final byte ID = 2;
+  /**
+   * Tag of a long value
+   */
+  private static final byte LONG = 3;
+  /**
+   * Sort field values
+   */
+  private Object[] values;
+  /**
+   * True, if the corresponding field is sorted in ascending order
+   */
+  private boolean[] ascending;
+
+  /**
+   * Default constructor for serialization.
+   */
+  public RowSortKey() {
+  }
+
+  /**
+   * Creates a new sort key.
+   *
+   * @param values sort field values
+   * @param ascending true, if the corresponding field is sorted in ascending order
+   */
+  RowSortKey(Object[] values, boolean[] ascending) {
+    this.values = values;
+    this.ascending = ascending;
+  }
+
+  @Override
+  public int compareTo(RowSortKey other) {
+    for (int i = 0; i < values.length; i++) {
+      int comparison = RowComparator.compareValues(values[i], other.values[i]);
+      if (comparison != 0) {
+        return ascending[i] ? comparison : -comparison;
+      }
+    }
+    return 0;
+  }
+
+  @Override
+  public void write(DataOutputView out) throws IOException {
+    out.writeInt(values.length);
+    for (int i = 0; i < values.length; i++) {
+      out.writeBoolean(ascending[i]);
+      Object value = values[i];
+      if (value == null) {
+        out.writeByte(NULL);
+      } else if (value instanceof PropertyValue) {
+        out.writeByte(PROPERTY_VALUE);
+        ((PropertyValue) value).write(out);
+      } else if (value instanceof GradoopId) {
+        out.writeByte(ID);
+        ((GradoopId) value).write(out);
+      } else {
+        out.writeByte(LONG);
+        out.writeLong((Long) value);
+      }
+    }
+  }
+
+  @Override
+  public void read(DataInputView in) throws IOException {
+    int size = in.readInt();
+    values = new Object[size];
+    ascending = new boolean[size];
+    for (int i = 0; i < size; i++) {
+      ascending[i] = in.readBoolean();
+      byte tag = in.readByte();
+      if (tag == PROPERTY_VALUE) {
+        PropertyValue value = new PropertyValue();
+        value.read(in);
+        values[i] = value;
+      } else if (tag == ID) {
+        GradoopId id = new GradoopId();
+        id.read(in);
+        values[i] = id;
+      } else if (tag == LONG) {
+        values[i] = in.readLong();
+      } else {
+        values[i] = null;
+      }
+    }
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    RowSortKey that = (RowSortKey) o;
+    return Arrays.equals(values, that.values) && Arrays.equals(ascending, that.ascending);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * Arrays.hashCode(values) + Arrays.hashCode(ascending);
+  }
+}
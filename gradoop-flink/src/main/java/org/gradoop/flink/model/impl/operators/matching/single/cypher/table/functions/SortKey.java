@@ -0,0 +1,53 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.table.functions;
+
+import org.apache.flink.api.java.functions.KeySelector;
+import org.apache.flink.types.Row;
+
+/**
+ * Extracts the sort fields of a row into a {@link RowSortKey}.
+ */
+public class SortKey implements KeySelector<Row, RowSortKey> {
+  /**
+   * Sort fields
+   */
+  private final int[] fields;
+  /**
+   * True, if the corresponding field is sorted in ascending order
+   */
+  private final boolean[] ascending;
+
+  /**
+   * Creates a new key selector.
+   *
+   * @param fields sort fields
+   * @param ascending true, if the corresponding field is sorted in ascending order
+   */
+  public SortKey(int[] fields, boolean[] ascending) {
+    this.fields = fields.clone();
+    this.ascending = ascending.clone();
+  }
+
+  @Override
+  public RowSortKey getKey(Row row) throws Exception {
+    Object[] values = new Object[fields.length];
+    for (int i = 0; i < fields.length; i++) {
+      values[i] = row.getField(fields[i]);
+    }
+    return new RowSortKey(values, ascending);
+  }
+}
@@ -0,0 +1,61 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.table.functions;
+
+import org.apache.flink.api.common.functions.MapPartitionFunction;
+import org.apache.flink.types.Row;
+import org.apache.flink.util.Collector;
+
+import java.util.PriorityQueue;
+
+/**
+ * Emits the first k rows of a partition according to the given order. The rows are kept in a
+ * bounded heap, i.e. at most k + 1 rows are held in memory.
+ */
+public class TopKPerPartition implements MapPartitionFunction<Row, Row> {
+  /**
+   * Row order
+   */
+  private final RowComparator comparator;
+  /**
+   * Number of rows to emit
+   */
+  private final int limit;
+
+  /**
+   * Creates a new function.
+   *
+   * @param comparator row order
+   * @param limit number of rows to emit
+   */
+  public TopKPerPartition(RowComparator comparator, int limit) {
+    this.comparator = comparator;
+    this.limit = limit;
+  }
+
+  @Override
+  public void mapPartition(Iterable<Row> rows, Collector<Row> out) throws Exception {
+    // the head of the heap is the last row according to the order
+    PriorityQueue<Row> heap = new PriorityQueue<>(limit + 1, comparator.reversed());
+    for (Row row : rows) {
+      heap.add(row);
+      if (heap.size() > limit) {
+        heap.poll();
+      }
+    }
+    heap.forEach(out::collect);
+  }
+}
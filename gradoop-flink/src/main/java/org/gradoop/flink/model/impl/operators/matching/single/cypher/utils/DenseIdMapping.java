@@ -0,0 +1,192 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.utils;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.utils.DataSetUtils;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.api.epgm.GraphCollection;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.api.operators.UnaryGraphToCollectionOperator;
+import org.gradoop.flink.model.impl.functions.epgm.ElementIdUpdater;
+import org.gradoop.flink.model.impl.functions.epgm.Id;
+import org.gradoop.flink.model.impl.functions.epgm.SourceId;
+import org.gradoop.flink.model.impl.functions.epgm.TargetId;
+import org.gradoop.flink.model.impl.functions.tuple.SwitchPair;
+import org.gradoop.flink.model.impl.operators.cloning.functions.EdgeSourceUpdateJoin;
+import org.gradoop.flink.model.impl.operators.cloning.functions.EdgeTargetUpdateJoin;
+import org.gradoop.flink.model.impl.operators.cloning.functions.Value0Of2ToId;
+import org.gradoop.flink.model.impl.operators.matching.single.PatternMatching;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.functions.ElementIdUpdateJoin;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.functions.IdReplacementJoin;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.functions.PairElementWithDenseId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.functions.VariableMappingIdUpdate;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.functions.VariableMappingIds;
+
+/**
+ * Replaces the ids of all vertices and edges of a logical graph by dense ids.
+ *
+ * A dense id is a {@link GradoopId} whose leading bytes are zero. As
+ * {@link org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding}s omit
+ * leading zero bytes when being serialized, embeddings of the dense graph require considerably
+ * less network and memory when being shipped between operators.
+ *
+ * The mapping is computed once and can be reused for multiple queries on the same graph within
+ * a Flink program. Query results are translated back to the original ids by
+ * {@link DenseIdMapping#restore(GraphCollection)}.
+ *
+ * <pre>
+ * DenseIdMapping mapping = new DenseIdMapping(graph);
+ * GraphCollection result = mapping.execute(new CypherPatternMatching(...));
+ * </pre>
+ */
+public class DenseIdMapping {
+  /**
+   * Graph with dense vertex and edge ids
+   */
+  private final LogicalGraph denseGraph;
+  /**
+   * (denseId, originalId) for all vertices and edges
+   */
+  private final DataSet<Tuple2<GradoopId, GradoopId>> mapping;
+
+  /**
+   * Computes the dense id mapping for the given graph.
+   *
+   * @param graph input graph
+   */
+  public DenseIdMapping(LogicalGraph graph) {
+    DataSet<Tuple2<Vertex, GradoopId>> vertexTuple = DataSetUtils
+      .zipWithUniqueId(graph.getVertices())
+      .map(new PairElementWithDenseId<>(false));
+
+    DataSet<Tuple2<GradoopId, GradoopId>> vertexIdTuple = vertexTuple
+      .map(new Value0Of2ToId<>());
+
+    DataSet<Vertex> vertices = vertexTuple
+      .map(new ElementIdUpdater<>());
+
+    DataSet<Tuple2<Edge, GradoopId>> edgeTuple = DataSetUtils
+      .zipWithUniqueId(graph.getEdges())
+      .map(new PairElementWithDenseId<>(true));
+
+    DataSet<Tuple2<GradoopId, GradoopId>> edgeIdTuple = edgeTuple
+      .map(new Value0Of2ToId<>());
+
+    DataSet<Edge> edges = edgeTuple
+      .map(new ElementIdUpdater<>())
+      .join(vertexIdTuple)
+      .where(new SourceId<>()).equalTo(0)
+      .with(new EdgeSourceUpdateJoin<>())
+      .join(vertexIdTuple)
+      .where(new TargetId<>()).equalTo(0)
+      .with(new EdgeTargetUpdateJoin<>());
+
+    this.denseGraph = graph.getConfig().getLogicalGraphFactory()
+      .fromDataSets(graph.getGraphHead(), vertices, edges);
+
+    this.mapping = vertexIdTuple.union(edgeIdTuple)
+      .map(new SwitchPair<>());
+  }
+
+  /**
+   * Creates a dense id from the given (non-negative) number. The first four bytes of the id are
+   * zero, the remaining eight bytes store the number in big-endian order. Note that the dense id
+   * of 0 equals {@link GradoopId#NULL_VALUE}.
+   *
+   * @param number number to create id from
+   * @return dense id
+   */
+  public static GradoopId toDenseId(long number) {
+    byte[] bytes = new byte[GradoopId.ID_SIZE];
+    for (int i = GradoopId.ID_SIZE - 1; i >= GradoopId.ID_SIZE - Long.BYTES; i--) {
+      bytes[i] = (byte) number;
+      number >>>= Byte.SIZE;
+    }
+    return GradoopId.fromByteArray(bytes);
+  }
+
+  /**
+   * Returns the input graph with dense vertex and edge ids.
+   *
+   * @return graph with dense ids
+   */
+  public LogicalGraph getDenseGraph() {
+    return denseGraph;
+  }
+
+  /**
+   * Returns (denseId, originalId) for all vertices and edges of the input graph.
+   *
+   * @return id mapping
+   */
+  public DataSet<Tuple2<GradoopId, GradoopId>> getMapping() {
+    return mapping;
+  }
+
+  /**
+   * Executes the given operator on the dense graph and restores the original element ids of the
+   * result.
+   *
+   * @param operator graph to collection operator, e.g. a pattern matching operator
+   * @return operator result with original element ids
+   */
+  public GraphCollection execute(UnaryGraphToCollectionOperator operator) {
+    return restore(denseGraph.callForCollection(operator));
+  }
+
+  /**
+   * Replaces the dense vertex and edge ids (including edge source and target ids) of the given
+   * collection by the original ids. The ids within the variable mappings of the graph heads
+   * (see {@link PatternMatching#VARIABLE_MAPPING_KEY}) are replaced as well.
+   *
+   * @param collection collection containing elements of the dense graph
+   * @return collection with original element ids
+   */
+  public GraphCollection restore(GraphCollection collection) {
+    DataSet<Vertex> vertices = collection.getVertices()
+      .join(mapping)
+      .where(new Id<>()).equalTo(0)
+      .with(new ElementIdUpdateJoin<>());
+
+    DataSet<Edge> edges = collection.getEdges()
+      .join(mapping)
+      .where(new Id<>()).equalTo(0)
+      .with(new ElementIdUpdateJoin<>())
+      .join(mapping)
+      .where(new SourceId<>()).equalTo(0)
+      .with(new EdgeSourceUpdateJoin<>())
+      .join(mapping)
+      .where(new TargetId<>()).equalTo(0)
+      .with(new EdgeTargetUpdateJoin<>());
+
+    DataSet<GraphHead> graphHeads = collection.getGraphHeads()
+      .coGroup(collection.getGraphHeads()
+        .flatMap(new VariableMappingIds())
+        .join(mapping)
+        .where(0).equalTo(0)
+        .with(new IdReplacementJoin()))
+      .where(new Id<>()).equalTo(0)
+      .with(new VariableMappingIdUpdate());
+
+    return collection.getConfig().getGraphCollectionFactory()
+      .fromDataSets(graphHeads, vertices, edges);
+  }
+}
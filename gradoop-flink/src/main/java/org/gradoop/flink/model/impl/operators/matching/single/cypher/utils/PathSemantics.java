@@ -0,0 +1,38 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.utils;
+
+/**
+ * Specifies which paths are produced by a variable length path expansion
+ */
+public enum PathSemantics {
+  /**
+   * All paths within the given bounds
+   */
+  ALL,
+  /**
+   * A single shortest path to each reachable end vertex
+   */
+  SHORTEST,
+  /**
+   * All shortest paths to each reachable end vertex
+   */
+  ALL_SHORTEST,
+  /**
+   * Each reachable end vertex with an empty path
+   */
+  REACHABILITY
+}
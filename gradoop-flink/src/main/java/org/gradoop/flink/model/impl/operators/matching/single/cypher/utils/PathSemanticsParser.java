@@ -0,0 +1,167 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.utils;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Extracts path functions from a Cypher query and removes them from the query string.
+ *
+ * The following functions can be wrapped around a pattern that contains exactly one named
+ * variable length path, e.g. {@code MATCH shortestPath((a)-[e*1..8]->(b))}:
+ *
+ * <ul>
+ * <li>{@code shortestPath} -> {@link PathSemantics#SHORTEST}</li>
+ * <li>{@code allShortestPaths} -> {@link PathSemantics#ALL_SHORTEST}</li>
+ * <li>{@code reachable} -> {@link PathSemantics#REACHABILITY}</li>
+ * </ul>
+ *
+ * Paths that are not wrapped by a function use {@link PathSemantics#ALL}.
+ */
+public class PathSemanticsParser {
+  /**
+   * Matches the beginning of a path function
+   */
+  private static final Pattern PATH_FUNCTION =
+    Pattern.compile("\\b(shortestPath|allShortestPaths|reachable)\\s*\\(",
+      Pattern.CASE_INSENSITIVE);
+  /**
+   * Matches a variable length path and captures its variable
+   */
+  private static final Pattern VARIABLE_LENGTH_PATH =
+    Pattern.compile("\\[\\s*([A-Za-z_][A-Za-z0-9_]*)[^\\]]*\\*[^\\]]*\\]");
+  /**
+   * Query without path functions
+   */
+  private final String query;
+  /**
+   * Path variable to semantics mapping
+   */
+  private final Map<String, PathSemantics> pathSemantics;
+
+  /**
+   * Parses the given query.
+   *
+   * @param query Cypher query string
+   */
+  public PathSemanticsParser(String query) {
+    this.pathSemantics = new HashMap<>();
+    this.query = query != null ? parse(query) : null;
+  }
+
+  /**
+   * Returns the query without path functions.
+   *
+   * @return query string
+   */
+  public String getQuery() {
+    return query;
+  }
+
+  /**
+   * Returns the semantics of all paths wrapped by a path function.
+   *
+   * @return path variable to semantics mapping
+   */
+  public Map<String, PathSemantics> getPathSemantics() {
+    return Collections.unmodifiableMap(pathSemantics);
+  }
+
+  /**
+   * Removes all path functions outside of string literals from the given query and records the
+   * semantics of the wrapped paths.
+   *
+   * @param input Cypher query string
+   * @return query without path functions
+   */
+  private String parse(String input) {
+    StringBuilder result = new StringBuilder();
+    Matcher matcher = PATH_FUNCTION.matcher(input);
+    int position = 0;
+    int searchStart = 0;
+
+    while (matcher.find(searchStart)) {
+      searchStart = matcher.end();
+      if (StringLiterals.isQuoted(input, matcher.start())) {
+        continue;
+      }
+      int argumentStart = matcher.end();
+      int argumentEnd = findClosingParenthesis(input, argumentStart);
+      String argument = input.substring(argumentStart, argumentEnd);
+
+      Matcher pathMatcher = VARIABLE_LENGTH_PATH.matcher(argument);
+      if (!pathMatcher.find()) {
+        throw new IllegalArgumentException(String.format(
+          "%s requires a named variable length path: %s", matcher.group(1), argument));
+      }
+      pathSemantics.put(pathMatcher.group(1), toSemantics(matcher.group(1)));
+
+      result.append(input, position, matcher.start()).append(argument);
+      position = argumentEnd + 1;
+      searchStart = position;
+    }
+
+    return result.append(input.substring(position)).toString();
+  }
+
+  /**
+   * Finds the parenthesis that closes the function argument starting at the given index.
+   * Parentheses inside string literals are ignored.
+   *
+   * @param input query string
+   * @param start index of the first argument character
+   * @return index of the closing parenthesis
+   */
+  private static int findClosingParenthesis(String input, int start) {
+    int depth = 1;
+    char quote = 0;
+    for (int i = start; i < input.length(); i++) {
+      char c = input.charAt(i);
+      if (quote != 0) {
+        if (c == quote) {
+          quote = 0;
+        }
+      } else if (c == '"' || c == '\'') {
+        quote = c;
+      } else if (c == '(') {
+        depth++;
+      } else if (c == ')' && --depth == 0) {
+        return i;
+      }
+    }
+    throw new IllegalArgumentException("Unbalanced parentheses in query: " + input);
+  }
+
+  /**
+   * Maps a function name to the corresponding semantics.
+   *
+   * @param function function name
+   * @return path semantics
+   */
+  private static PathSemantics toSemantics(String function) {
+    if (function.equalsIgnoreCase("shortestPath")) {
+      return PathSemantics.SHORTEST;
+    } else if (function.equalsIgnoreCase("allShortestPaths")) {
+      return PathSemantics.ALL_SHORTEST;
+    } else {
+      return PathSemantics.REACHABILITY;
+    }
+  }
+}
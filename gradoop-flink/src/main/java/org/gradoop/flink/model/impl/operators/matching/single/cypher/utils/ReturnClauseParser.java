@@ -0,0 +1,232 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.utils;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Extracts the {@code RETURN} clause from a Cypher query and removes it from the query string.
+ *
+ * The clause contains a comma separated list of return items. An item is either a variable, e.g.
+ * {@code RETURN a, e}, a property of a vertex or edge variable, e.g. {@code RETURN a.name}, or
+ * an aggregate function, e.g. {@code RETURN a.city, count(*)}.
+ * {@code RETURN *} and a query without {@code RETURN} clause both result in an empty item list
+ * which stands for all named variables of the query.
+ *
+ * The items may be followed by an {@code ORDER BY} list of return items, each optionally
+ * followed by {@code ASC} or {@code DESC}, and by {@code LIMIT k}, e.g.
+ * {@code RETURN a.name, a.age ORDER BY a.age DESC LIMIT 10}.
+ */
+public class ReturnClauseParser {
+  /**
+   * Matches the RETURN keyword
+   */
+  private static final Pattern RETURN_KEYWORD =
+    Pattern.compile("\\bRETURN\\b", Pattern.CASE_INSENSITIVE);
+  /**
+   * Matches the wildcard return item
+   */
+  private static final String WILDCARD = "*";
+  /**
+   * Matches the ORDER BY keywords
+   */
+  private static final Pattern ORDER_BY_KEYWORD =
+    Pattern.compile("\\bORDER\\s+BY\\b", Pattern.CASE_INSENSITIVE);
+  /**
+   * Matches the LIMIT keyword
+   */
+  private static final Pattern LIMIT_KEYWORD =
+    Pattern.compile("\\bLIMIT\\b", Pattern.CASE_INSENSITIVE);
+  /**
+   * Matches a sort item and captures the expression and the optional direction
+   */
+  private static final Pattern SORT_ITEM =
+    Pattern.compile("^(.+?)(?:\\s+(ASC|ASCENDING|DESC|DESCENDING))?$", Pattern.CASE_INSENSITIVE);
+  /**
+   * Query without return clause
+   */
+  private final String query;
+  /**
+   * Return items in the order of their definition
+   */
+  private final List<String> returnItems;
+  /**
+   * Sort items and their direction (true, if ascending) in the order of their definition
+   */
+  private final List<Pair<String, Boolean>> orderBy;
+  /**
+   * Maximum number of result rows, -1 if unlimited
+   */
+  private int limit = -1;
+
+  /**
+   * Parses the given query.
+   *
+   * @param query Cypher query string
+   */
+  public ReturnClauseParser(String query) {
+    this.returnItems = new ArrayList<>();
+    this.orderBy = new ArrayList<>();
+    this.query = query != null ? parse(query) : null;
+  }
+
+  /**
+   * Returns the query without return clause.
+   *
+   * @return query string
+   */
+  public String getQuery() {
+    return query;
+  }
+
+  /**
+   * Returns the return items of the query. An empty list stands for all named variables.
+   *
+   * @return return items
+   */
+  public List<String> getReturnItems() {
+    return Collections.unmodifiableList(returnItems);
+  }
+
+  /**
+   * Returns the items of the ORDER BY list and their direction (true, if ascending).
+   *
+   * @return sort items
+   */
+  public List<Pair<String, Boolean>> getOrderBy() {
+    return Collections.unmodifiableList(orderBy);
+  }
+
+  /**
+   * Returns the maximum number of result rows.
+   *
+   * @return limit or -1 if the number of rows is unlimited
+   */
+  public int getLimit() {
+    return limit;
+  }
+
+  /**
+   * Removes the return clause from the given query and records its items.
+   *
+   * @param input Cypher query string
+   * @return query without return clause
+   */
+  private String parse(String input) {
+    int start = find(RETURN_KEYWORD, input);
+    if (start == -1) {
+      return input;
+    }
+    String clause = input.substring(start + "RETURN".length());
+
+    int limitStart = find(LIMIT_KEYWORD, clause);
+    if (limitStart != -1) {
+      limit = parseLimit(clause.substring(limitStart + "LIMIT".length()).trim());
+      clause = clause.substring(0, limitStart);
+    }
+    int orderByStart = find(ORDER_BY_KEYWORD, clause);
+    if (orderByStart != -1) {
+      Matcher orderByMatcher = ORDER_BY_KEYWORD.matcher(clause);
+      orderByMatcher.find(orderByStart);
+      for (String item : split(clause.substring(orderByMatcher.end()))) {
+        Matcher sortItem = SORT_ITEM.matcher(item);
+        sortItem.matches();
+        boolean ascending = sortItem.group(2) == null ||
+          sortItem.group(2).toUpperCase().startsWith("ASC");
+        orderBy.add(Pair.of(sortItem.group(1).trim(), ascending));
+      }
+      clause = clause.substring(0, orderByStart);
+    }
+
+    clause = clause.trim();
+    if (clause.isEmpty()) {
+      throw new IllegalArgumentException("RETURN clause without items: " + input);
+    }
+    if (!clause.equals(WILDCARD)) {
+      returnItems.addAll(split(clause));
+    }
+    return input.substring(0, start);
+  }
+
+  /**
+   * Splits the given comma separated list of items. Commas inside parentheses are ignored.
+   *
+   * @param list item list
+   * @return trimmed items
+   */
+  private static List<String> split(String list) {
+    List<String> items = new ArrayList<>();
+    int depth = 0;
+    int itemStart = 0;
+    for (int i = 0; i <= list.length(); i++) {
+      char c = i < list.length() ? list.charAt(i) : ',';
+      if (c == '(') {
+        depth++;
+      } else if (c == ')') {
+        depth--;
+      } else if (c == ',' && depth == 0) {
+        String item = list.substring(itemStart, i).trim();
+        if (item.isEmpty()) {
+          throw new IllegalArgumentException("Empty item in list: " + list);
+        }
+        items.add(item);
+        itemStart = i + 1;
+      }
+    }
+    return items;
+  }
+
+  /**
+   * Parses the argument of the LIMIT keyword.
+   *
+   * @param argument limit argument
+   * @return limit
+   */
+  private static int parseLimit(String argument) {
+    try {
+      int value = Integer.parseInt(argument);
+      if (value < 0) {
+        throw new IllegalArgumentException("LIMIT must not be negative: " + argument);
+      }
+      return value;
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("LIMIT requires an integer: " + argument, e);
+    }
+  }
+
+  /**
+   * Finds the first occurrence of the given keyword outside of a string literal.
+   *
+   * @param keyword keyword pattern
+   * @param input query string
+   * @return index of the keyword or -1 if the keyword is not contained
+   */
+  private static int find(Pattern keyword, String input) {
+    Matcher matcher = keyword.matcher(input);
+    while (matcher.find()) {
+      if (!StringLiterals.isQuoted(input, matcher.start())) {
+        return matcher.start();
+      }
+    }
+    return -1;
+  }
+}
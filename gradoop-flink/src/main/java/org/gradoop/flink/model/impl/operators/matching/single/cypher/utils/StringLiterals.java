@@ -0,0 +1,51 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.utils;
+
+/**
+ * Static helpers to deal with string literals in Cypher query strings.
+ *
+ * A string literal is enclosed in either single or double quotes. A quote character of the other
+ * kind inside a literal does not terminate it.
+ */
+public final class StringLiterals {
+
+  /**
+   * Utility class
+   */
+  private StringLiterals() {
+  }
+
+  /**
+   * Checks if the given index is located inside a string literal.
+   *
+   * @param input query string
+   * @param index character index
+   * @return true, if the index is quoted
+   */
+  public static boolean isQuoted(String input, int index) {
+    char quote = 0;
+    for (int i = 0; i < index; i++) {
+      char c = input.charAt(i);
+      if (quote == 0 && (c == '"' || c == '\'')) {
+        quote = c;
+      } else if (c == quote) {
+        quote = 0;
+      }
+    }
+    return quote != 0;
+  }
+}
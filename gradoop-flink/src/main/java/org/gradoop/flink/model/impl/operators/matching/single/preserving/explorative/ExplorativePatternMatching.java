@@ -31,6 +31,7 @@ import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.flink.model.api.epgm.GraphCollection;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
 import org.gradoop.flink.model.api.operators.UnaryGraphToCollectionOperator;
+import org.gradoop.flink.model.impl.functions.bool.False;
 import org.gradoop.flink.model.impl.functions.epgm.Id;
 import org.gradoop.flink.model.impl.functions.epgm.VertexFromId;
 import org.gradoop.flink.model.impl.functions.tuple.ObjectTo1;
@@ -45,14 +46,17 @@ import org.gradoop.flink.model.impl.operators.matching.common.functions.Matching
 import org.gradoop.flink.model.impl.operators.matching.common.query.DFSTraverser;
 import org.gradoop.flink.model.impl.operators.matching.common.query.TraversalCode;
 import org.gradoop.flink.model.impl.operators.matching.common.query.Traverser;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
 import org.gradoop.flink.model.impl.operators.matching.common.tuples.Embedding;
 import org.gradoop.flink.model.impl.operators.matching.common.tuples.IdWithCandidates;
 import org.gradoop.flink.model.impl.operators.matching.common.tuples.TripleWithCandidates;
 import org.gradoop.flink.model.impl.operators.matching.single.PatternMatching;
 import org.gradoop.flink.model.impl.operators.matching.single.preserving.explorative.traverser.SetPairBulkTraverser;
 import org.gradoop.flink.model.impl.operators.matching.single.preserving.explorative.traverser.SetPairForLoopTraverser;
+import org.gradoop.flink.model.impl.operators.matching.single.preserving.explorative.traverser.SetPairHybridTraverser;
 import org.gradoop.flink.model.impl.operators.matching.single.preserving.explorative.traverser.SetPairTraverser;
 import org.gradoop.flink.model.impl.operators.matching.single.preserving.explorative.traverser.TraverserStrategy;
+import org.gradoop.flink.model.impl.operators.matching.single.preserving.explorative.traverser.TraverserStrategySelector;
 import org.gradoop.flink.model.impl.operators.matching.single.preserving.explorative.traverser.TripleForLoopTraverser;
 import org.gradoop.flink.model.impl.operators.matching.single.preserving.explorative.traverser.TripleTraverser;
 import org.gradoop.flink.util.GradoopFlinkConfig;
@@ -96,6 +100,19 @@ public class ExplorativePatternMatching
    * Strategy iterating the graph
    */
   private final TraverserStrategy traverserStrategy;
+  /**
+   * Maximum number of matches, -1 if unlimited
+   */
+  private final int limit;
+  /**
+   * Graph statistics used by the adaptive traverser strategy, may be null
+   */
+  private final GraphStatistics graphStatistics;
+  /**
+   * Number of embeddings below which the hybrid traverser switches to a for
+   * loop, -1 if the adaptive strategy shall not adapt at runtime
+   */
+  private final int hybridThreshold;
 
   /**
    * Create new operator instance
@@ -108,13 +125,19 @@ public class ExplorativePatternMatching
    * @param traverser               Traverser used for the query graph
    * @param edgeStepJoinStrategy    Join strategy for edge extension
    * @param vertexStepJoinStrategy  Join strategy for vertex extension
+   * @param limit                   maximum number of matches, -1 if unlimited
+   * @param graphStatistics         statistics for the adaptive strategy or null
+   * @param hybridThreshold         threshold for the hybrid traverser or -1
    */
   private ExplorativePatternMatching(String query, boolean attachData,
     MatchStrategy matchStrategy,
     TraverserStrategy traverserStrategy,
     Traverser traverser,
     JoinOperatorBase.JoinHint edgeStepJoinStrategy,
-    JoinOperatorBase.JoinHint vertexStepJoinStrategy) {
+    JoinOperatorBase.JoinHint vertexStepJoinStrategy,
+    int limit,
+    GraphStatistics graphStatistics,
+    int hybridThreshold) {
     super(query, attachData, LOG);
     this.matchStrategy          = matchStrategy;
     this.traverserStrategy = traverserStrategy;
@@ -122,6 +145,9 @@ public class ExplorativePatternMatching
     this.traverser.setQueryHandler(getQueryHandler());
     this.edgeStepJoinStrategy   = edgeStepJoinStrategy;
     this.vertexStepJoinStrategy = vertexStepJoinStrategy;
+    this.limit                  = limit;
+    this.graphStatistics        = graphStatistics;
+    this.hybridThreshold        = hybridThreshold;
   }
 
   @Override
@@ -134,6 +160,10 @@ public class ExplorativePatternMatching
     DataSet<Vertex> matchingVertices = graph.getVertices()
       .filter(new MatchingVertices<>(getQuery()));
 
+    if (limit != -1) {
+      matchingVertices = limit(matchingVertices);
+    }
+
     if (!doAttachData()) {
       matchingVertices = matchingVertices
         .map(new Id<>())
@@ -157,10 +187,18 @@ public class ExplorativePatternMatching
 
     TraversalCode traversalCode = traverser.traverse();
 
+    TraverserStrategy strategy = traverserStrategy;
+    if (strategy == TraverserStrategy.ADAPTIVE) {
+      strategy = new TraverserStrategySelector(getQueryHandler(),
+        graphStatistics, hybridThreshold != -1).select(traversalCode);
+      LOG.info("Selected traverser strategy: " + strategy);
+    }
+
     DataSet<Tuple1<Embedding<GradoopId>>> embeddings;
 
-    if (traverserStrategy == TraverserStrategy.SET_PAIR_BULK_ITERATION ||
-      traverserStrategy == TraverserStrategy.SET_PAIR_FOR_LOOP_ITERATION) {
+    if (strategy == TraverserStrategy.SET_PAIR_BULK_ITERATION ||
+      strategy == TraverserStrategy.SET_PAIR_FOR_LOOP_ITERATION ||
+      strategy == TraverserStrategy.SET_PAIR_HYBRID_ITERATION) {
 
       //--------------------------------------------------------------------------
       // Pre-processing (filter candidates)
@@ -178,11 +216,17 @@ public class ExplorativePatternMatching
 
       SetPairTraverser<GradoopId> distributedTraverser;
 
-      if (traverserStrategy == TraverserStrategy.SET_PAIR_BULK_ITERATION) {
+      if (strategy == TraverserStrategy.SET_PAIR_BULK_ITERATION) {
         distributedTraverser = new SetPairBulkTraverser<>(traversalCode, matchStrategy,
           traverser.getQueryHandler().getVertexCount(), traverser.getQueryHandler().getEdgeCount(),
           GradoopId.class, edgeStepJoinStrategy, vertexStepJoinStrategy, getVertexMapping(),
           getEdgeMapping());
+      } else if (strategy == TraverserStrategy.SET_PAIR_HYBRID_ITERATION) {
+        distributedTraverser = new SetPairHybridTraverser<>(traversalCode, matchStrategy,
+          traverser.getQueryHandler().getVertexCount(), traverser.getQueryHandler().getEdgeCount(),
+          GradoopId.class, edgeStepJoinStrategy, vertexStepJoinStrategy,
+          hybridThreshold == -1 ? SetPairHybridTraverser.DEFAULT_THRESHOLD : hybridThreshold,
+          getVertexMapping(), getEdgeMapping());
       } else {
         distributedTraverser = new SetPairForLoopTraverser<>(traversalCode, matchStrategy,
           traverser.getQueryHandler().getVertexCount(), traverser.getQueryHandler().getEdgeCount(),
@@ -191,7 +235,7 @@ public class ExplorativePatternMatching
       }
 
       embeddings = distributedTraverser.traverse(vertices, edges);
-    } else if (traverserStrategy == TraverserStrategy.TRIPLES_FOR_LOOP_ITERATION) {
+    } else if (strategy == TraverserStrategy.TRIPLES_FOR_LOOP_ITERATION) {
       DataSet<TripleWithCandidates<GradoopId>> triples = PreProcessor
         .filterTriplets(graph, getQuery());
 
@@ -204,7 +248,11 @@ public class ExplorativePatternMatching
       embeddings = distributedTraverser.traverse(triples);
 
     } else {
-      throw new IllegalArgumentException("Unsupported traverser strategy: " + traverserStrategy);
+      throw new IllegalArgumentException("Unsupported traverser strategy: " + strategy);
+    }
+
+    if (limit != -1) {
+      embeddings = limit(embeddings);
     }
 
     //--------------------------------------------------------------------------
@@ -230,6 +278,17 @@ public class ExplorativePatternMatching
   }
 
 
+  /**
+   * Returns at most {@code limit} elements of the given data set.
+   *
+   * @param input data set
+   * @param <T> element type
+   * @return limited data set
+   */
+  private <T> DataSet<T> limit(DataSet<T> input) {
+    return limit == 0 ? input.filter(new False<>()) : input.first(limit);
+  }
+
   /**
    * Used for configuring and creating a new {@link ExplorativePatternMatching}
    * operator instance.
@@ -263,6 +322,18 @@ public class ExplorativePatternMatching
      * Join strategy for vertex extensions during traversal
      */
     private JoinOperatorBase.JoinHint vertexStepJoinStrategy;
+    /**
+     * Maximum number of matches
+     */
+    private int limit;
+    /**
+     * Graph statistics for the adaptive traverser strategy
+     */
+    private GraphStatistics graphStatistics;
+    /**
+     * Threshold for the hybrid traverser
+     */
+    private int hybridThreshold;
 
     /**
      * Creates a new builder instance
@@ -274,6 +345,9 @@ public class ExplorativePatternMatching
       this.traverser              = new DFSTraverser();
       this.edgeStepJoinStrategy   = OPTIMIZER_CHOOSES;
       this.vertexStepJoinStrategy = OPTIMIZER_CHOOSES;
+      this.limit                  = -1;
+      this.graphStatistics        = null;
+      this.hybridThreshold        = -1;
     }
 
     /**
@@ -355,6 +429,46 @@ public class ExplorativePatternMatching
       return this;
     }
 
+    /**
+     * Sets the maximum number of matches. Only the limited matches are converted into the
+     * resulting graph collection.
+     *
+     * @param limit maximum number of matches, -1 if unlimited
+     * @return modified builder
+     */
+    public Builder setLimit(int limit) {
+      this.limit = limit;
+      return this;
+    }
+
+    /**
+     * Sets graph statistics which are used by {@link TraverserStrategy#ADAPTIVE}
+     * to estimate the selectivity of the start vertex.
+     *
+     * @param graphStatistics statistics of the search graph
+     * @return modified builder
+     */
+    public Builder setGraphStatistics(GraphStatistics graphStatistics) {
+      this.graphStatistics = graphStatistics;
+      return this;
+    }
+
+    /**
+     * Sets the number of embeddings below which
+     * {@link TraverserStrategy#SET_PAIR_HYBRID_ITERATION} switches from bulk
+     * iteration to a for loop. Setting a threshold also lets
+     * {@link TraverserStrategy#ADAPTIVE} choose the hybrid traverser instead
+     * of bulk iteration.
+     *
+     * @param hybridThreshold number of embeddings, -1 to disable runtime
+     *                        adaptation for the adaptive strategy
+     * @return modified builder
+     */
+    public Builder setHybridThreshold(int hybridThreshold) {
+      this.hybridThreshold = hybridThreshold;
+      return this;
+    }
+
     /**
      * Instantiates a new {@link ExplorativePatternMatching} operator.
      *
@@ -370,7 +484,7 @@ public class ExplorativePatternMatching
 
       return new ExplorativePatternMatching(query, attachData,
         matchStrategy, traverserStrategy, traverser, edgeStepJoinStrategy,
-        vertexStepJoinStrategy);
+        vertexStepJoinStrategy, limit, graphStatistics, hybridThreshold);
     }
 
   }
@@ -0,0 +1,53 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.preserving.explorative.functions;
+
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.util.Collector;
+
+/**
+ * Emits a single {@code true} value if the input contains at least the given
+ * number of elements. Used as termination criterion for bulk iterations.
+ *
+ * @param <T> element type
+ */
+public class ContainsAtLeast<T> implements GroupReduceFunction<T, Boolean> {
+
+  /**
+   * Minimum number of elements
+   */
+  private final long threshold;
+
+  /**
+   * Constructor
+   *
+   * @param threshold minimum number of elements
+   */
+  public ContainsAtLeast(long threshold) {
+    this.threshold = threshold;
+  }
+
+  @Override
+  public void reduce(Iterable<T> values, Collector<Boolean> out) throws Exception {
+    long count = 0L;
+    for (T ignored : values) {
+      if (++count >= threshold) {
+        out.collect(true);
+        return;
+      }
+    }
+  }
+}
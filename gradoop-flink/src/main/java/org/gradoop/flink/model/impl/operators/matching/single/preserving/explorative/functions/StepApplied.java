@@ -0,0 +1,57 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.preserving.explorative.functions;
+
+import org.apache.flink.api.common.functions.FilterFunction;
+import org.gradoop.flink.model.impl.operators.matching.common.query.TraversalCode;
+import org.gradoop.flink.model.impl.operators.matching.single.preserving.explorative.tuples.EmbeddingWithTiePoint;
+
+/**
+ * Filters embeddings depending on whether a given step of the traversal code
+ * has already been applied, i.e. if the traversed query edge is mapped.
+ *
+ * @param <K> key type
+ */
+public class StepApplied<K> implements FilterFunction<EmbeddingWithTiePoint<K>> {
+
+  /**
+   * Query edge traversed by the step
+   */
+  private final int queryEdge;
+
+  /**
+   * True, to keep embeddings for which the step has been applied
+   */
+  private final boolean applied;
+
+  /**
+   * Constructor
+   *
+   * @param traversalCode traversal code
+   * @param step          step index
+   * @param applied       true, to keep embeddings for which the step has been
+   *                      applied, false to keep the others
+   */
+  public StepApplied(TraversalCode traversalCode, int step, boolean applied) {
+    this.queryEdge = (int) traversalCode.getStep(step).getVia();
+    this.applied = applied;
+  }
+
+  @Override
+  public boolean filter(EmbeddingWithTiePoint<K> embedding) throws Exception {
+    return (embedding.getEmbedding().getEdgeMapping()[queryEdge] != null) == applied;
+  }
+}
@@ -0,0 +1,198 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.preserving.explorative.traverser;
+
+import org.apache.flink.api.common.operators.base.JoinOperatorBase;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.operators.IterativeDataSet;
+import org.apache.flink.api.java.tuple.Tuple1;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.functions.utils.Superstep;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.query.Step;
+import org.gradoop.flink.model.impl.operators.matching.common.query.TraversalCode;
+import org.gradoop.flink.model.impl.operators.matching.common.tuples.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.common.tuples.IdWithCandidates;
+import org.gradoop.flink.model.impl.operators.matching.common.tuples.TripleWithCandidates;
+import org.gradoop.flink.model.impl.operators.matching.single.preserving.explorative.functions.ContainsAtLeast;
+import org.gradoop.flink.model.impl.operators.matching.single.preserving.explorative.functions.StepApplied;
+import org.gradoop.flink.model.impl.operators.matching.single.preserving.explorative.tuples.EmbeddingWithTiePoint;
+
+/**
+ * Extracts {@link Embedding}s iteratively from a given graph by traversing the
+ * graph according to a given {@link TraversalCode}.
+ *
+ * The traverser starts with a Flink bulk iteration which terminates early as
+ * soon as fewer embeddings than a given threshold are left. The remaining
+ * steps are unrolled in a for loop in which the (small) embedding data set is
+ * broadcast to the edge and vertex joins instead of repartitioning the graph.
+ *
+ * @param <K> key type
+ */
+public class SetPairHybridTraverser<K> extends SetPairTraverser<K> {
+  /**
+   * Default number of embeddings below which the traverser switches to the
+   * for loop.
+   */
+  public static final int DEFAULT_THRESHOLD = 1000;
+  /**
+   * Number of embeddings below which the traverser switches to the for loop
+   */
+  private final int threshold;
+
+  /**
+   * Creates a new distributed traverser.
+   *
+   * @param traversalCode          describes the graph traversal
+   * @param matchStrategy          matching strategy for vertex and edge mapping
+   * @param vertexCount            number of query vertices
+   * @param edgeCount              number of query edges
+   * @param keyClazz               key type for embedding initialization
+   * @param edgeStepJoinStrategy   Join strategy for edge extension
+   * @param vertexStepJoinStrategy Join strategy for vertex extension
+   * @param threshold              number of embeddings below which the
+   *                               traverser switches to the for loop
+   * @param vertexMapping          used for debug
+   * @param edgeMapping            used for debug
+   */
+  public SetPairHybridTraverser(TraversalCode traversalCode, MatchStrategy matchStrategy,
+    int vertexCount, int edgeCount,
+    Class<K> keyClazz,
+    JoinOperatorBase.JoinHint edgeStepJoinStrategy,
+    JoinOperatorBase.JoinHint vertexStepJoinStrategy,
+    int threshold,
+    DataSet<Tuple2<K, PropertyValue>> vertexMapping,
+    DataSet<Tuple2<K, PropertyValue>> edgeMapping) {
+    super(traversalCode, matchStrategy, vertexCount, edgeCount, keyClazz,
+      edgeStepJoinStrategy, vertexStepJoinStrategy, vertexMapping, edgeMapping);
+    if (threshold < 1) {
+      throw new IllegalArgumentException("Threshold must be at least 1: " + threshold);
+    }
+    this.threshold = threshold;
+  }
+
+  @Override
+  public DataSet<Tuple1<Embedding<K>>> traverse(
+    DataSet<IdWithCandidates<K>> vertices,
+    DataSet<TripleWithCandidates<K>> edges) {
+
+    DataSet<EmbeddingWithTiePoint<K>> embeddings =
+      iterate(vertices, edges, buildInitialEmbeddings(vertices));
+
+    return unroll(vertices, edges, embeddings).project(1);
+  }
+
+  @Override
+  boolean isIterative() {
+    return false;
+  }
+
+  /**
+   * Explores the data graph using bulk iteration until all steps have been
+   * applied or fewer embeddings than the threshold are left.
+   *
+   * @param vertices          vertex candidates
+   * @param edges             edge candidates
+   * @param initialEmbeddings initial embeddings
+   * @return embeddings after the iteration
+   */
+  private DataSet<EmbeddingWithTiePoint<K>> iterate(
+    DataSet<IdWithCandidates<K>> vertices,
+    DataSet<TripleWithCandidates<K>> edges,
+    DataSet<EmbeddingWithTiePoint<K>> initialEmbeddings) {
+
+    // ITERATION HEAD
+    IterativeDataSet<EmbeddingWithTiePoint<K>> embeddings = initialEmbeddings
+      .iterate(getTraversalCode().getSteps().size());
+
+    // ITERATION BODY
+    DataSet<Integer> superstep = embeddings
+      .first(1)
+      .map(new Superstep<>());
+
+    String[] forwardedFieldsEdgeSteps = new String[] {
+        "f0" // forward edge id
+    };
+    DataSet<EmbeddingWithTiePoint<K>> nextWorkSet = traverseEdges(edges,
+      embeddings, superstep, TraverserStrategy.SET_PAIR_BULK_ITERATION,
+      forwardedFieldsEdgeSteps);
+
+    nextWorkSet = traverseVertices(vertices, nextWorkSet, superstep,
+      TraverserStrategy.SET_PAIR_BULK_ITERATION);
+
+    // continue as long as there are enough embeddings
+    DataSet<Boolean> enoughEmbeddings = nextWorkSet
+      .first(threshold)
+      .reduceGroup(new ContainsAtLeast<>(threshold));
+
+    // ITERATION FOOTER
+    return embeddings.closeWith(nextWorkSet, enoughEmbeddings);
+  }
+
+  /**
+   * Applies the steps which have not been applied during the bulk iteration.
+   * As the iteration extends all embeddings in each superstep, all embeddings
+   * are at the same step. Each unrolled step only extends the embeddings which
+   * are at that step and passes the others.
+   *
+   * @param vertices   vertex candidates
+   * @param edges      edge candidates
+   * @param embeddings embeddings after the bulk iteration
+   * @return final embeddings
+   */
+  private DataSet<EmbeddingWithTiePoint<K>> unroll(
+    DataSet<IdWithCandidates<K>> vertices,
+    DataSet<TripleWithCandidates<K>> edges,
+    DataSet<EmbeddingWithTiePoint<K>> embeddings) {
+
+    TraversalCode traversalCode = getTraversalCode();
+
+    // the first step is always applied by the bulk iteration
+    for (int i = 1; i < traversalCode.getSteps().size(); i++) {
+      Step step = traversalCode.getStep(i);
+
+      DataSet<Integer> superstep = vertices.getExecutionEnvironment()
+        .fromElements(i + 1);
+
+      String[] forwardedFieldEdgeSteps = new String[] {
+          // forward edge id
+          "f0",
+          // forward source or target id to tie point id
+          step.isOutgoing() ? "f1->f1" : "f2->f1",
+          // forward source or target id to next id
+          step.isOutgoing() ? "f2->f2" : "f1->f2"
+      };
+
+      DataSet<EmbeddingWithTiePoint<K>> pending = embeddings
+        .filter(new StepApplied<>(traversalCode, i, false));
+
+      DataSet<EmbeddingWithTiePoint<K>> done = embeddings
+        .filter(new StepApplied<>(traversalCode, i, true));
+
+      pending = traverseEdges(edges, pending, superstep,
+        TraverserStrategy.SET_PAIR_FOR_LOOP_ITERATION, forwardedFieldEdgeSteps,
+        JoinOperatorBase.JoinHint.BROADCAST_HASH_FIRST);
+      pending = traverseVertices(vertices, pending, superstep,
+        TraverserStrategy.SET_PAIR_FOR_LOOP_ITERATION,
+        JoinOperatorBase.JoinHint.BROADCAST_HASH_FIRST);
+
+      embeddings = pending.union(done);
+    }
+
+    return embeddings;
+  }
+}
@@ -146,6 +146,29 @@ public abstract class SetPairTraverser<K> extends DistributedTraverser<K> {
     DataSet<Integer> superstep,
     TraverserStrategy traverserStrategy,
     String[] forwardedFields) {
+    return traverseEdges(edges, embeddings, superstep, traverserStrategy,
+      forwardedFields, getEdgeStepJoinStrategy());
+  }
+
+  /**
+   * Extends the given embeddings with valid edges using the given join
+   * strategy and returns the updated embeddings.
+   *
+   * @param edges             edges including their candidates
+   * @param embeddings        embeddings
+   * @param superstep         current iteration
+   * @param traverserStrategy iteration strategy
+   * @param forwardedFields   forwarded fields for edge step creation
+   * @param joinStrategy      join strategy for the edge extension
+   * @return updated embeddings
+   */
+  DataSet<EmbeddingWithTiePoint<K>> traverseEdges(
+    DataSet<TripleWithCandidates<K>> edges,
+    DataSet<EmbeddingWithTiePoint<K>> embeddings,
+    DataSet<Integer> superstep,
+    TraverserStrategy traverserStrategy,
+    String[] forwardedFields,
+    JoinOperatorBase.JoinHint joinStrategy) {
 
     DataSet<EdgeStep<K>> edgeSteps = edges
       .filter(new EdgeHasCandidate<>(getTraversalCode()))
@@ -160,7 +183,7 @@ public abstract class SetPairTraverser<K> extends DistributedTraverser<K> {
 
     JoinOperator<EmbeddingWithTiePoint<K>, EdgeStep<K>,
       EmbeddingWithTiePoint<K>> join = embeddings
-      .join(edgeSteps, getEdgeStepJoinStrategy())
+      .join(edgeSteps, joinStrategy)
       .where(0).equalTo(1) // tiePointId == sourceId/targetId tie point
       .with(new UpdateEdgeMapping<>(getTraversalCode(), getMatchStrategy(), traverserStrategy));
 
@@ -190,6 +213,27 @@ public abstract class SetPairTraverser<K> extends DistributedTraverser<K> {
     DataSet<EmbeddingWithTiePoint<K>> embeddings,
     DataSet<Integer> superstep,
     TraverserStrategy traverserStrategy) {
+    return traverseVertices(vertices, embeddings, superstep, traverserStrategy,
+      getVertexStepJoinStrategy());
+  }
+
+  /**
+   * Extends the given embeddings with valid vertices using the given join
+   * strategy and returns the updated embeddings.
+   *
+   * @param vertices          vertices including their candidates
+   * @param embeddings        embeddings
+   * @param superstep         current super step
+   * @param traverserStrategy iteration strategy
+   * @param joinStrategy      join strategy for the vertex extension
+   * @return updated embeddings
+   */
+  DataSet<EmbeddingWithTiePoint<K>> traverseVertices(
+    DataSet<IdWithCandidates<K>> vertices,
+    DataSet<EmbeddingWithTiePoint<K>> embeddings,
+    DataSet<Integer> superstep,
+    TraverserStrategy traverserStrategy,
+    JoinOperatorBase.JoinHint joinStrategy) {
 
     DataSet<VertexStep<K>> vertexSteps = vertices
       .filter(new VertexHasCandidate<>(getTraversalCode()))
@@ -202,7 +246,7 @@ public abstract class SetPairTraverser<K> extends DistributedTraverser<K> {
 
     JoinOperator<EmbeddingWithTiePoint<K>, VertexStep<K>,
       EmbeddingWithTiePoint<K>> join = embeddings
-      .join(vertexSteps, getVertexStepJoinStrategy())
+      .join(vertexSteps, joinStrategy)
       .where(0).equalTo(0) // tiePointId == vertexId
       .with(new UpdateVertexMapping<>(getTraversalCode(), getMatchStrategy(), traverserStrategy));
 
@@ -30,5 +30,16 @@ public enum TraverserStrategy {
   /**
    * Traverse the graph based on edge triples in a for loop.
    */
-  TRIPLES_FOR_LOOP_ITERATION
+  TRIPLES_FOR_LOOP_ITERATION,
+  /**
+   * Traverse the graph using bulk iteration until the number of embeddings
+   * falls below a threshold and continue in a for loop which broadcasts the
+   * remaining embeddings.
+   */
+  SET_PAIR_HYBRID_ITERATION,
+  /**
+   * Choose one of the other strategies based on the query and optional graph
+   * statistics (see {@link TraverserStrategySelector}).
+   */
+  ADAPTIVE
 }
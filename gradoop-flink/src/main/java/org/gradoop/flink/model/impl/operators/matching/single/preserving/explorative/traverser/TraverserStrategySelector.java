@@ -0,0 +1,135 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.preserving.explorative.traverser;
+
+import org.gradoop.common.util.GradoopConstants;
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.query.TraversalCode;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.s1ck.gdl.model.Vertex;
+
+/**
+ * Chooses a {@link TraverserStrategy} for a given query based on its
+ * {@link TraversalCode} and optional {@link GraphStatistics}.
+ *
+ * The rules are applied in the following order:
+ *
+ * 1. Traversals with many steps use bulk iteration, as unrolling them leads
+ *    to large execution plans.
+ * 2. Cyclic queries use edge triples, as edges closing a cycle are validated
+ *    against both of their (already mapped) end points in a single join
+ *    instead of an additional join with the vertices.
+ * 3. Short traversals starting at a selective query vertex use a for loop, as
+ *    the few initial embeddings do not justify the iteration overhead and the
+ *    optimizer may choose a join strategy for each step.
+ * 4. All other traversals use bulk iteration.
+ *
+ * If runtime adaptation is enabled, {@link TraverserStrategy#SET_PAIR_HYBRID_ITERATION}
+ * is used instead of bulk iteration, which switches to a for loop once the
+ * number of embeddings becomes small.
+ */
+public class TraverserStrategySelector {
+  /**
+   * Maximum number of steps that are unrolled in a for loop.
+   */
+  static final int MAX_UNROLLED_STEPS = 6;
+  /**
+   * Fraction of all vertices below which a start vertex is considered
+   * selective.
+   */
+  static final double SELECTIVE_START_VERTEX = 0.1;
+
+  /**
+   * Query handler
+   */
+  private final QueryHandler queryHandler;
+  /**
+   * Graph statistics or {@code null}
+   */
+  private final GraphStatistics graphStatistics;
+  /**
+   * True, if bulk iteration shall be replaced by the hybrid strategy
+   */
+  private final boolean runtimeAdaptation;
+
+  /**
+   * Creates a new selector.
+   *
+   * @param queryHandler      query handler
+   * @param graphStatistics   graph statistics or {@code null} if unknown
+   * @param runtimeAdaptation true, to use the hybrid strategy instead of bulk
+   *                          iteration
+   */
+  public TraverserStrategySelector(QueryHandler queryHandler,
+    GraphStatistics graphStatistics, boolean runtimeAdaptation) {
+    this.queryHandler = queryHandler;
+    this.graphStatistics = graphStatistics;
+    this.runtimeAdaptation = runtimeAdaptation;
+  }
+
+  /**
+   * Chooses the traverser strategy for the given traversal code.
+   *
+   * @param traversalCode traversal code of the query
+   * @return traverser strategy
+   */
+  public TraverserStrategy select(TraversalCode traversalCode) {
+    int steps = traversalCode.getSteps().size();
+
+    if (steps <= MAX_UNROLLED_STEPS) {
+      if (isCyclic()) {
+        return TraverserStrategy.TRIPLES_FOR_LOOP_ITERATION;
+      }
+      if (getStartVertexSelectivity(traversalCode) <= SELECTIVE_START_VERTEX) {
+        return TraverserStrategy.SET_PAIR_FOR_LOOP_ITERATION;
+      }
+    }
+    return runtimeAdaptation ?
+      TraverserStrategy.SET_PAIR_HYBRID_ITERATION :
+      TraverserStrategy.SET_PAIR_BULK_ITERATION;
+  }
+
+  /**
+   * Checks if the query contains a cycle (including loops). This is the case
+   * if there are at least as many edges as vertices in a connected query.
+   *
+   * @return true, iff the query is cyclic
+   */
+  boolean isCyclic() {
+    return queryHandler.getEdgeCount() >= queryHandler.getVertexCount();
+  }
+
+  /**
+   * Estimates the fraction of data vertices matching the start vertex of the
+   * traversal based on its label. Returns 1 if no statistics are available or
+   * the start vertex has no label.
+   *
+   * @param traversalCode traversal code
+   * @return estimated selectivity between 0 and 1
+   */
+  double getStartVertexSelectivity(TraversalCode traversalCode) {
+    if (graphStatistics == null || graphStatistics.getVertexCount() == 0) {
+      return 1d;
+    }
+    Vertex start = queryHandler.getVertexById(traversalCode.getStep(0).getFrom());
+    String label = start.getLabel();
+    if (label == null || label.equals(GradoopConstants.DEFAULT_VERTEX_LABEL)) {
+      return 1d;
+    }
+    return (double) graphStatistics.getVertexCount(label) /
+      graphStatistics.getVertexCount();
+  }
+}
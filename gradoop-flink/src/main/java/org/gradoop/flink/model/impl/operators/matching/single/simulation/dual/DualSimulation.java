@@ -55,6 +55,10 @@ import static org.gradoop.flink.model.impl.operators.matching.common.debug.Print
 
 /**
  * Vertex-centric Dual-Simulation.
+ *
+ * Vertex and edge candidates are tracked as bitsets over the query vertex and
+ * query edge ids. Each vertex sends at most one deletion per neighbor and
+ * superstep which contains all of its invalid candidates.
  */
 public class DualSimulation extends PatternMatching {
 
@@ -20,6 +20,7 @@ import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.flink.model.impl.operators.matching.common.debug.Printer;
 import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.tuples
   .Deletion;
+import org.gradoop.flink.model.impl.operators.matching.common.util.Bitsets;
 
 /**
  * Debug output for {@link Deletion}.
@@ -43,10 +44,10 @@ public class PrintDeletion extends Printer<Deletion, GradoopId> {
 
   @Override
   protected String getDebugString(Deletion d) {
-    return String.format("(%s,%s,%s,%s)",
+    return String.format("(%s,%s,[%s],%s)",
       vertexMap.get(d.getRecipientId()),
       vertexMap.get(d.getSenderId()),
-      d.getDeletion(),
+      Bitsets.toString(d.getDeletions()),
       d.getMessageType());
   }
 
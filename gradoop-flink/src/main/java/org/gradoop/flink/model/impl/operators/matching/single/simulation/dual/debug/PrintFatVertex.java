@@ -23,6 +23,7 @@ import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.tu
   .IdPair;
 import org.gradoop.flink.model.impl.operators.matching.common.debug.Printer;
 import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.tuples.FatVertex;
+import org.gradoop.flink.model.impl.operators.matching.common.util.Bitsets;
 
 
 import java.util.List;
@@ -52,7 +53,7 @@ public class PrintFatVertex extends Printer<FatVertex, GradoopId> {
   protected String getDebugString(FatVertex v) {
     return String.format("(%s,[%s],[%s],[%s],{%s},%s)",
       vertexMap.get(v.getVertexId()),
-      StringUtils.join(v.getCandidates(), ','),
+      Bitsets.toString(v.getCandidates()),
       StringUtils.join(convertList(v.getParentIds(), true), ','),
       StringUtils.join(v.getIncomingCandidateCounts(), ','),
       StringUtils.join(getEdgeCandidates(v.getEdgeCandidates()), ','),
@@ -71,16 +72,16 @@ public class PrintFatVertex extends Printer<FatVertex, GradoopId> {
    * @param edgeCandidates runtime representation
    * @return string representation
    */
-  private List<String> getEdgeCandidates(Map<IdPair, boolean[]>
+  private List<String> getEdgeCandidates(Map<IdPair, long[]>
     edgeCandidates) {
 
     List<String> entries = Lists.newArrayList();
-    for (Map.Entry<IdPair, boolean[]> entry : edgeCandidates.entrySet()) {
+    for (Map.Entry<IdPair, long[]> entry : edgeCandidates.entrySet()) {
       // (edge-id,target-id)
       entries.add(String.format("(%s,%s):[%s]",
         edgeMap.get(entry.getKey().getEdgeId()),
         vertexMap.get(entry.getKey().getTargetId()),
-        StringUtils.join(entry.getValue(), ',')));
+        Bitsets.toString(entry.getValue())));
     }
     return entries;
   }
@@ -15,12 +15,16 @@
  */
 package org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.debug;
 
+import com.google.common.collect.Lists;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.log4j.Logger;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.tuples
   .Message;
 import org.gradoop.flink.model.impl.operators.matching.common.debug.Printer;
+import org.gradoop.flink.model.impl.operators.matching.common.util.Bitsets;
+
+import java.util.List;
 
 /**
  * Debug output for {@link Message}.
@@ -47,10 +51,25 @@ public class PrintMessage extends Printer<Message, GradoopId> {
     return String.format("(%s,[%s],[%s],[%s])",
       vertexMap.get(m.getRecipientId()),
       StringUtils.join(convertList(m.getSenderIds(), true), ','),
-      StringUtils.join(m.getDeletions(), ','),
+      StringUtils.join(getDeletions(m), ','),
       StringUtils.join(m.getMessageTypes(), ','));
   }
 
+  /**
+   * Returns string representations for the candidate deletions.
+   *
+   * @param m message
+   * @return string representations
+   */
+  private List<String> getDeletions(Message m) {
+    List<String> deletions = Lists.newArrayListWithCapacity(
+      m.getDeletions().size());
+    for (long[] deletion : m.getDeletions()) {
+      deletions.add("[" + Bitsets.toString(deletion) + "]");
+    }
+    return deletions;
+  }
+
   @Override
   protected Logger getLogger() {
     return LOG;
@@ -24,6 +24,7 @@ import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler
 import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.tuples.FatVertex;
 import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.tuples.IdPair;
 import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.tuples.TripleWithDirection;
+import org.gradoop.flink.model.impl.operators.matching.common.util.Bitsets;
 
 /**
  * Combines a collection of {@link TripleWithDirection} to a {@link FatVertex}.
@@ -95,7 +96,7 @@ public class BuildFatVertex
    */
   private void initFatVertex(TripleWithDirection triple) {
     reuseVertex.setVertexId(triple.getSourceId());
-    reuseVertex.setCandidates(Lists.newArrayList());
+    reuseVertex.setCandidates(Bitsets.create(qHandler.getVertexCount()));
     reuseVertex.setParentIds(Lists.newArrayList());
     reuseVertex.setIncomingCandidateCounts(new int[qHandler.getEdgeCount()]);
     reuseVertex.setEdgeCandidates(Maps.newHashMap());
@@ -124,9 +125,7 @@ public class BuildFatVertex
    * @param candidate query vertex id
    */
   private void updateCandidates(Long candidate) {
-    if (!reuseVertex.getCandidates().contains(candidate)) {
-      reuseVertex.getCandidates().add(candidate);
-    }
+    Bitsets.set(reuseVertex.getCandidates(), candidate.intValue());
   }
 
   /**
@@ -138,7 +137,8 @@ public class BuildFatVertex
     IdPair idPair = new IdPair();
     idPair.setEdgeId(triple.getEdgeId());
     idPair.setTargetId(triple.getTargetId());
-    reuseVertex.getEdgeCandidates().put(idPair, triple.getCandidates());
+    reuseVertex.getEdgeCandidates()
+      .put(idPair, Bitsets.fromBooleans(triple.getCandidates()));
   }
 
   /**
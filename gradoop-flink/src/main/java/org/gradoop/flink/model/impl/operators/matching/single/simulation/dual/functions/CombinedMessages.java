@@ -53,7 +53,7 @@ public class CombinedMessages implements
         first = false;
       }
       reuseMessage.getSenderIds().add(deletion.getSenderId());
-      reuseMessage.getDeletions().add(deletion.getDeletion());
+      reuseMessage.getDeletions().add(deletion.getDeletions());
       reuseMessage.getMessageTypes().add(deletion.getMessageType());
     }
 
@@ -19,6 +19,7 @@ import org.apache.flink.api.common.functions.GroupReduceFunction;
 import org.apache.flink.api.java.functions.FunctionAnnotation;
 import org.apache.flink.util.Collector;
 import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.tuples.FatVertex;
+import org.gradoop.flink.model.impl.operators.matching.common.util.Bitsets;
 
 /**
  * Merges multiple fat vertices into a single {@link FatVertex}.
@@ -69,9 +70,7 @@ public class GroupedFatVertices implements
    */
   private FatVertex merge(FatVertex result, FatVertex diff) {
     // update vertex candidates (CA)
-    if (diff.getCandidates().removeAll(result.getCandidates())) {
-      result.getCandidates().addAll(diff.getCandidates());
-    }
+    Bitsets.or(result.getCandidates(), diff.getCandidates());
     // update parent ids (P_IDs)
     result.getParentIds().addAll(diff.getParentIds());
     // update incoming edge counts (IN_CA)
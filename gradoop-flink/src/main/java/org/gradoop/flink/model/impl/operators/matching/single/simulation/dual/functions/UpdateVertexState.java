@@ -26,9 +26,9 @@ import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
 import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.tuples.FatVertex;
 
+import org.gradoop.flink.model.impl.operators.matching.common.util.Bitsets;
 import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.util.MessageType;
 
-import java.util.Collection;
 import java.util.Iterator;
 import java.util.Map;
 
@@ -55,9 +55,19 @@ public class UpdateVertexState
   private final String query;
 
   /**
-   * Query handler
+   * Number of query edges
    */
-  private transient QueryHandler queryHandler;
+  private transient int edgeCount;
+
+  /**
+   * Outgoing query edges for each query vertex (bitset over query edge ids)
+   */
+  private transient long[][] outgoingQueryEdges;
+
+  /**
+   * Incoming query edges for each query vertex (bitset over query edge ids)
+   */
+  private transient long[][] incomingQueryEdges;
 
   /**
    * Constructor
@@ -71,7 +81,16 @@ public class UpdateVertexState
   @Override
   public void open(Configuration parameters) throws Exception {
     super.open(parameters);
-    queryHandler = new QueryHandler(query);
+    QueryHandler queryHandler = new QueryHandler(query);
+    edgeCount = queryHandler.getEdgeCount();
+    outgoingQueryEdges = new long[queryHandler.getVertexCount()][];
+    incomingQueryEdges = new long[queryHandler.getVertexCount()][];
+    for (int vQ = 0; vQ < outgoingQueryEdges.length; vQ++) {
+      outgoingQueryEdges[vQ] = Bitsets.fromIds(edgeCount,
+        queryHandler.getEdgeIdsBySourceVertexId((long) vQ));
+      incomingQueryEdges[vQ] = Bitsets.fromIds(edgeCount,
+        queryHandler.getEdgeIdsByTargetVertexId((long) vQ));
+    }
   }
 
   @Override
@@ -95,29 +114,27 @@ public class UpdateVertexState
    *
    * @param fatVertex   fat vertex
    * @param senderId    sender vertexId
-   * @param deletion    sender vertex candidate deletion id
+   * @param deletions   sender vertex candidate deletions
    * @param messageType message type
    */
   private void processDeletion(FatVertex fatVertex, GradoopId senderId,
-    Long deletion, MessageType messageType) {
+    long[] deletions, MessageType messageType) {
     switch (messageType) {
     case FROM_SELF:
-      updateCandidates(fatVertex, deletion);
+      updateCandidates(fatVertex, deletions);
       break;
     case FROM_CHILD:
       updateOutgoingEdges(fatVertex,
-        queryHandler.getEdgeIdsByTargetVertexId(deletion), senderId);
+        getQueryEdges(incomingQueryEdges, deletions), senderId);
       break;
     case FROM_PARENT:
-      updateIncomingEdges(fatVertex,
-        queryHandler.getEdgeIdsBySourceVertexId(deletion));
+      updateIncomingEdges(fatVertex, deletions);
       break;
     case FROM_CHILD_REMOVE:
       updateOutgoingEdges(fatVertex, senderId);
       break;
     case FROM_PARENT_REMOVE:
-      updateIncomingEdges(fatVertex,
-        queryHandler.getEdgeIdsBySourceVertexId(deletion));
+      updateIncomingEdges(fatVertex, deletions);
       updateParentIds(fatVertex, senderId);
       break;
     default:
@@ -140,28 +157,33 @@ public class UpdateVertexState
    * candidates left, the outgoing edges will be updated accordingly.
    *
    * @param fatVertex fat vertex
-   * @param deletion  vertex candidate to be removed
+   * @param deletions vertex candidates to be removed
    */
-  private void updateCandidates(FatVertex fatVertex, Long deletion) {
-    fatVertex.getCandidates().remove(deletion);
-    if (!fatVertex.getCandidates().isEmpty()) {
+  private void updateCandidates(FatVertex fatVertex, long[] deletions) {
+    Bitsets.andNot(fatVertex.getCandidates(), deletions);
+    if (!Bitsets.isEmpty(fatVertex.getCandidates())) {
       updateOutgoingEdges(fatVertex,
-        queryHandler.getEdgeIdsBySourceVertexId(deletion));
+        getQueryEdges(outgoingQueryEdges, deletions), null);
     }
   }
 
   /**
    * Updates incoming edge of the given vertex. The method decrements the
-   * counter for each query edge candidate.
+   * counter for each query edge candidate leaving a deleted parent candidate.
    *
-   * @param fatVertex   fat vertex
-   * @param queryEdges  edge candidates to be removed
+   * @param fatVertex fat vertex
+   * @param deletions parent vertex candidates to be removed
    */
-  private void updateIncomingEdges(FatVertex fatVertex, Collection<Long>
-    queryEdges) {
-    for (Long eQ : queryEdges) {
-      if (fatVertex.getIncomingCandidateCounts()[eQ.intValue()] > 0) {
-        fatVertex.getIncomingCandidateCounts()[eQ.intValue()]--;
+  private void updateIncomingEdges(FatVertex fatVertex, long[] deletions) {
+    int[] counts = fatVertex.getIncomingCandidateCounts();
+    for (int vQ = Bitsets.nextSetBit(deletions, 0); vQ >= 0;
+         vQ = Bitsets.nextSetBit(deletions, vQ + 1)) {
+      long[] queryEdges = outgoingQueryEdges[vQ];
+      for (int eQ = Bitsets.nextSetBit(queryEdges, 0); eQ >= 0;
+           eQ = Bitsets.nextSetBit(queryEdges, eQ + 1)) {
+        if (counts[eQ] > 0) {
+          counts[eQ]--;
+        }
       }
     }
   }
@@ -182,60 +204,48 @@ public class UpdateVertexState
   }
 
   /**
-   * Updates the outgoing edges of the given vertex according to a collection
-   * of edge candidates which will be deleted.
-   *
-   * @param fatVertex   fat vertex
-   * @param queryEdges  edge candidates to be removed
-   */
-  private void updateOutgoingEdges(FatVertex fatVertex,
-    Collection<Long> queryEdges) {
-    updateOutgoingEdges(fatVertex, queryEdges, null);
-  }
-
-  /**
-   * Updates the outgoing edges of the given vertex according to a collection of
-   * edge candidates which will be deleted. Updates only those outgoing edges
-   * which point to a specific target vertex.
+   * Updates the outgoing edges of the given vertex according to a set of edge
+   * candidates which will be deleted. If a target vertex is given, only those
+   * outgoing edges which point to that vertex are updated.
    *
    * @param fatVertex     fat vertex
    * @param queryEdges    edge candidates to be removed
-   * @param targetVertex  target vertex to consider
+   * @param targetVertex  target vertex to consider or {@code null} for all
    */
-  private void updateOutgoingEdges(FatVertex fatVertex,
-    Collection<Long> queryEdges, GradoopId targetVertex) {
-    if (queryEdges != null) {
-      Iterator<Map.Entry<IdPair, boolean[]>> edgeIterator = fatVertex
-        .getEdgeCandidates().entrySet().iterator();
-      while (edgeIterator.hasNext()) {
-        Map.Entry<IdPair, boolean[]> e = edgeIterator.next();
-        if (targetVertex == null ||
-          e.getKey().getTargetId().equals(targetVertex)) {
-          // remove edge candidates for that edge
-          for (Long eQ : queryEdges) {
-            e.getValue()[eQ.intValue()] = false;
-          }
-          // remove edge if there are no candidates left
-          if (allFalse(e.getValue())) {
-            edgeIterator.remove();
-          }
+  private void updateOutgoingEdges(FatVertex fatVertex, long[] queryEdges,
+    GradoopId targetVertex) {
+    if (Bitsets.isEmpty(queryEdges)) {
+      return;
+    }
+    Iterator<Map.Entry<IdPair, long[]>> edgeIterator = fatVertex
+      .getEdgeCandidates().entrySet().iterator();
+    while (edgeIterator.hasNext()) {
+      Map.Entry<IdPair, long[]> e = edgeIterator.next();
+      if (targetVertex == null ||
+        e.getKey().getTargetId().equals(targetVertex)) {
+        // remove edge candidates for that edge
+        Bitsets.andNot(e.getValue(), queryEdges);
+        // remove edge if there are no candidates left
+        if (Bitsets.isEmpty(e.getValue())) {
+          edgeIterator.remove();
         }
       }
     }
   }
 
   /**
-   * Checks if the given array contains only false values.
+   * Returns the union of the query edges of all given query vertices.
    *
-   * @param a array
-   * @return true, iff all values are false
+   * @param queryEdgesByVertex query edges for each query vertex
+   * @param vertices           query vertices
+   * @return query edges (bitset over query edge ids)
    */
-  private boolean allFalse(boolean[] a) {
-    for (boolean b : a) {
-      if (b) {
-        return false;
-      }
+  private long[] getQueryEdges(long[][] queryEdgesByVertex, long[] vertices) {
+    long[] queryEdges = Bitsets.create(edgeCount);
+    for (int vQ = Bitsets.nextSetBit(vertices, 0); vQ >= 0;
+         vQ = Bitsets.nextSetBit(vertices, vQ + 1)) {
+      Bitsets.or(queryEdges, queryEdgesByVertex[vQ]);
     }
-    return true;
+    return queryEdges;
   }
 }
@@ -18,6 +18,7 @@ package org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.f
 import org.apache.flink.api.common.functions.FilterFunction;
 import org.apache.flink.api.java.functions.FunctionAnnotation;
 import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.tuples.FatVertex;
+import org.gradoop.flink.model.impl.operators.matching.common.util.Bitsets;
 
 /**
  * Filters a {@link FatVertex} if it has query candidates.
@@ -32,6 +33,6 @@ public class ValidFatVertices implements FilterFunction<FatVertex> {
 
   @Override
   public boolean filter(FatVertex fatVertex) throws Exception {
-    return fatVertex.getCandidates().size() > 0;
+    return !Bitsets.isEmpty(fatVertex.getCandidates());
   }
 }
@@ -15,11 +15,9 @@
  */
 package org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.functions;
 
-import com.google.common.collect.Sets;
 import org.apache.flink.api.common.functions.RichFlatMapFunction;
 import org.apache.flink.api.java.functions.FunctionAnnotation;
 import org.apache.flink.configuration.Configuration;
-import org.apache.flink.hadoop.shaded.com.google.common.collect.Lists;
 import org.apache.flink.util.Collector;
 import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.tuples
   .IdPair;
@@ -28,19 +26,20 @@ import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler
 import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.tuples.Deletion;
 import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.tuples.FatVertex;
 
+import org.gradoop.flink.model.impl.operators.matching.common.util.Bitsets;
 import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.util.MessageType;
 import org.s1ck.gdl.model.Edge;
 
 import java.util.Collection;
-import java.util.List;
-import java.util.Set;
 
 /**
  * Validates the neighborhood of a {@link FatVertex} according to the query.
  *
  * For each query vertex candidate, the flatMap function checks if the vertex
  * has the corresponding incident incoming and outgoing edges. If this is not
- * the case, the vertex sends delete messages to all of its neighbors.
+ * the case, the vertex sends delete messages to all of its neighbors. All
+ * invalid candidates are combined into a single bitset, i.e. the vertex sends
+ * at most one message per neighbor.
  *
  * fatVertex -> [deletion]
  *
@@ -65,6 +64,11 @@ public class ValidateNeighborhood
    */
   private transient QueryHandler queryHandler;
 
+  /**
+   * Outgoing query edges for each query vertex (bitset over query edge ids)
+   */
+  private transient long[][] outgoingQueryEdges;
+
   /**
    * Reduce instantiations
    */
@@ -84,23 +88,32 @@ public class ValidateNeighborhood
   public void open(Configuration parameters) throws Exception {
     super.open(parameters);
     queryHandler = new QueryHandler(query);
+    outgoingQueryEdges = new long[queryHandler.getVertexCount()][];
+    for (int vQ = 0; vQ < outgoingQueryEdges.length; vQ++) {
+      outgoingQueryEdges[vQ] = Bitsets.fromIds(queryHandler.getEdgeCount(),
+        queryHandler.getEdgeIdsBySourceVertexId((long) vQ));
+    }
   }
 
   @Override
   public void flatMap(FatVertex fatVertex, Collector<Deletion> collector) throws
     Exception {
 
-    List<Long> deletions = Lists
-      .newArrayListWithCapacity(fatVertex.getCandidates().size());
-    Set<Long> outgoingEdgeCandidates = getOutgoingEdgeCandidates(fatVertex);
+    long[] candidates = fatVertex.getCandidates();
+    long[] outgoingEdgeCandidates = getOutgoingEdgeCandidates(fatVertex);
+    long[] deletions = null;
 
-    for (Long vQ : fatVertex.getCandidates()) {
+    for (int vQ = Bitsets.nextSetBit(candidates, 0); vQ >= 0;
+         vQ = Bitsets.nextSetBit(candidates, vQ + 1)) {
       if (!isValidCandidate(vQ, fatVertex, outgoingEdgeCandidates)) {
-        deletions.add(vQ);
+        if (deletions == null) {
+          deletions = Bitsets.create(queryHandler.getVertexCount());
+        }
+        Bitsets.set(deletions, vQ);
       }
     }
 
-    if (!deletions.isEmpty()) {
+    if (deletions != null) {
       sendDeletions(deletions, fatVertex, collector);
     }
   }
@@ -114,15 +127,10 @@ public class ValidateNeighborhood
    * @param outgoingEdgeCandidates outgoing edge candidates
    * @return true, if {@code fatVertex} is a valid embedding for {@code vQ}
    */
-  private boolean isValidCandidate(Long vQ, FatVertex fatVertex,
-    Set<Long> outgoingEdgeCandidates) {
-    boolean isValidChild = isValidChild(vQ, fatVertex);
-
-    boolean isValidParent = true;
-    if (isValidChild) {
-      isValidParent = isValidParent(vQ, outgoingEdgeCandidates);
-    }
-    return isValidChild && isValidParent;
+  private boolean isValidCandidate(int vQ, FatVertex fatVertex,
+    long[] outgoingEdgeCandidates) {
+    return isValidChild(vQ, fatVertex) &&
+      Bitsets.containsAll(outgoingEdgeCandidates, outgoingQueryEdges[vQ]);
   }
 
   /**
@@ -132,9 +140,9 @@ public class ValidateNeighborhood
    * @param fatVertex vertex
    * @return true, if {@code fatVertex} is a valid child for {@code vQ}
    */
-  private boolean isValidChild(Long vQ, FatVertex fatVertex) {
+  private boolean isValidChild(int vQ, FatVertex fatVertex) {
     boolean isValidChild = true;
-    Collection<Edge> inE = queryHandler.getEdgesByTargetVertexId(vQ);
+    Collection<Edge> inE = queryHandler.getEdgesByTargetVertexId((long) vQ);
     if (inE != null) {
       for (Edge eQIn : inE) {
         if (fatVertex.getIncomingCandidateCounts()[(int) eQIn.getId()] == 0) {
@@ -146,27 +154,6 @@ public class ValidateNeighborhood
     return isValidChild;
   }
 
-  /**
-   * Validate outgoing edge candidates relating to the given vertex candidate.
-   *
-   * @param vQ vertex candidate
-   * @param outgoingEdgeCandidates outgoing edge candidates
-   * @return true, if {@code fatVertex} is a valid parent for {@code vQ}
-   */
-  private boolean isValidParent(Long vQ, Set<Long> outgoingEdgeCandidates) {
-    boolean isValidParent = true;
-    Collection<Edge> outE = queryHandler.getEdgesBySourceVertexId(vQ);
-    if (outE != null) {
-      for (Edge eQOut : outE) {
-        if (!outgoingEdgeCandidates.contains(eQOut.getId())) {
-          isValidParent = false;
-          break;
-        }
-      }
-    }
-    return isValidParent;
-  }
-
   /**
    * Sends delete messages to the vertex' neighborhood including itself.
    *
@@ -174,16 +161,15 @@ public class ValidateNeighborhood
    * @param fatVertex current vertex
    * @param collector message collector
    */
-  private void sendDeletions(List<Long> deletions, FatVertex fatVertex,
+  private void sendDeletions(long[] deletions, FatVertex fatVertex,
     Collector<Deletion> collector) {
     reuseDeletion.setSenderId(fatVertex.getVertexId());
-    boolean toBeRemoved = deletions.size() == fatVertex.getCandidates().size();
-    for (Long deletion : deletions) {
-      reuseDeletion.setDeletion(deletion);
-      sendToSelf(fatVertex, collector);
-      sendToParents(fatVertex, collector, toBeRemoved);
-      sendToChildren(fatVertex, collector, toBeRemoved);
-    }
+    reuseDeletion.setDeletions(deletions);
+    boolean toBeRemoved = Bitsets.containsAll(deletions,
+      fatVertex.getCandidates());
+    sendToSelf(fatVertex, collector);
+    sendToParents(fatVertex, collector, toBeRemoved);
+    sendToChildren(fatVertex, collector, toBeRemoved);
   }
 
   /**
@@ -239,14 +225,10 @@ public class ValidateNeighborhood
    * @param fatVertex fat vertex
    * @return all outgoing edge candidates of {@code fatVertex}
    */
-  private Set<Long> getOutgoingEdgeCandidates(FatVertex fatVertex) {
-    Set<Long> outgoingEdgeCandidates = Sets.newHashSet();
-    for (boolean[] candidates : fatVertex.getEdgeCandidates().values()) {
-      for (int i = 0; i < candidates.length; i++) {
-        if (candidates[i]) {
-          outgoingEdgeCandidates.add((long) i);
-        }
-      }
+  private long[] getOutgoingEdgeCandidates(FatVertex fatVertex) {
+    long[] outgoingEdgeCandidates = Bitsets.create(queryHandler.getEdgeCount());
+    for (long[] candidates : fatVertex.getEdgeCandidates().values()) {
+      Bitsets.or(outgoingEdgeCandidates, candidates);
     }
     return outgoingEdgeCandidates;
   }
@@ -24,10 +24,11 @@ import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.ut
  *
  * f0: recipient vertex id
  * f1: sender vertex id
- * f2: candidate for deletion
+ * f2: candidates for deletion (bitset over query vertex ids)
  * f3: message type
  */
-public class Deletion extends Tuple4<GradoopId, GradoopId, Long, MessageType> {
+public class Deletion extends
+  Tuple4<GradoopId, GradoopId, long[], MessageType> {
 
   public GradoopId getRecipientId() {
     return f0;
@@ -45,12 +46,12 @@ public class Deletion extends Tuple4<GradoopId, GradoopId, Long, MessageType> {
     f1 = senderId;
   }
 
-  public Long getDeletion() {
+  public long[] getDeletions() {
     return f2;
   }
 
-  public void setDeletion(Long deletion) {
-    f2 = deletion;
+  public void setDeletions(long[] deletions) {
+    f2 = deletions;
   }
 
   public MessageType getMessageType() {
@@ -25,14 +25,17 @@ import java.util.Map;
  * Represents a vertex and its neighborhood.
  *
  * f0: vertex id
- * f1: vertex query candidates
+ * f1: vertex query candidates (bitset over query vertex ids)
  * f2: parent ids
  * f3: counters for incoming edge candidates
- * f4: outgoing edges (edgeId, targetId) and their query candidates
+ * f4: outgoing edges (edgeId, targetId) and their query candidates (bitset
+ *     over query edge ids)
  * f5: updated flag
+ *
+ * @see org.gradoop.flink.model.impl.operators.matching.common.util.Bitsets
  */
-public class FatVertex extends Tuple6<GradoopId, List<Long>, List<GradoopId>,
-    int[], Map<IdPair, boolean[]>, Boolean> {
+public class FatVertex extends Tuple6<GradoopId, long[], List<GradoopId>,
+    int[], Map<IdPair, long[]>, Boolean> {
 
   public GradoopId getVertexId() {
     return f0;
@@ -42,11 +45,11 @@ public class FatVertex extends Tuple6<GradoopId, List<Long>, List<GradoopId>,
     f0 = vertexId;
   }
 
-  public List<Long> getCandidates() {
+  public long[] getCandidates() {
     return f1;
   }
 
-  public void setCandidates(List<Long> candidates) {
+  public void setCandidates(long[] candidates) {
     f1 = candidates;
   }
 
@@ -66,11 +69,11 @@ public class FatVertex extends Tuple6<GradoopId, List<Long>, List<GradoopId>,
     f3 = incomingCandidateCounts;
   }
 
-  public Map<IdPair, boolean[]> getEdgeCandidates() {
+  public Map<IdPair, long[]> getEdgeCandidates() {
     return f4;
   }
 
-  public void setEdgeCandidates(Map<IdPair, boolean[]> edgeCandidates) {
+  public void setEdgeCandidates(Map<IdPair, long[]> edgeCandidates) {
     f4 = edgeCandidates;
   }
 
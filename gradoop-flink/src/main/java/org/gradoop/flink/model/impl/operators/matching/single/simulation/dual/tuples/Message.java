@@ -27,11 +27,11 @@ import java.util.List;
  *
  * f0: recipient vertex id
  * f1: sender vertex ids
- * f2: candidate deletions
+ * f2: candidate deletions (one bitset over query vertex ids per sender)
  * f3: message types
  */
 public class Message extends
-  Tuple4<GradoopId, List<GradoopId>, List<Long>, List<MessageType>> {
+  Tuple4<GradoopId, List<GradoopId>, List<long[]>, List<MessageType>> {
 
   public GradoopId getRecipientId() {
     return f0;
@@ -49,11 +49,11 @@ public class Message extends
     f1 = senderIds;
   }
 
-  public List<Long> getDeletions() {
+  public List<long[]> getDeletions() {
     return f2;
   }
 
-  public void setDeletions(List<Long> deletions) {
+  public void setDeletions(List<long[]> deletions) {
     f2 = deletions;
   }
 
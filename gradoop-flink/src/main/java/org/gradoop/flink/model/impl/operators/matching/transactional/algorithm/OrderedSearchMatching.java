@@ -0,0 +1,661 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.transactional.algorithm;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.tuples.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.common.tuples.IdWithCandidates;
+import org.gradoop.flink.model.impl.operators.matching.common.tuples.TripleWithCandidates;
+import org.gradoop.flink.model.impl.operators.matching.common.util.Bitsets;
+import org.gradoop.flink.model.impl.operators.matching.transactional.tuples.GraphWithCandidates;
+import org.s1ck.gdl.model.Edge;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Backtracking pattern matching algorithm with cost-based candidate ordering
+ * and candidate pruning, following the ideas of VF2++ and CFL-Match.
+ *
+ * For each graph, the algorithm
+ *
+ * 1. maps vertices and edges to dense local ids and builds compact in- and
+ *    outgoing adjacency arrays,
+ * 2. stores the candidates of each query vertex as a bitset over the local
+ *    vertex ids and refines them by a neighborhood filter, i.e. a vertex stays
+ *    a candidate for a query vertex only if each incident query edge can be
+ *    matched to an incident edge leading to a candidate of the neighbor,
+ * 3. orders the query vertices by starting with the query vertex with the
+ *    fewest candidates relative to its degree and then repeatedly choosing
+ *    the query vertex with the most connections to the already ordered ones
+ *    (ties are broken by candidate count and degree) and
+ * 4. grows embeddings along that order, generating vertex candidates from the
+ *    adjacency of an already matched neighbor whenever possible.
+ *
+ * The query is only parsed when it differs from the previous invocation, so
+ * reusing an instance for many small graphs avoids the per-graph query setup.
+ *
+ * Like {@link DepthSearchMatching}, the algorithm computes isomorphic
+ * embeddings, i.e. vertices and edges are mapped injectively.
+ */
+public class OrderedSearchMatching implements PatternMatchingAlgorithm {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * Query of the cached query structures
+   */
+  private transient String cachedQuery;
+  /**
+   * Number of query vertices
+   */
+  private transient int queryVertexCount;
+  /**
+   * Number of query edges
+   */
+  private transient int queryEdgeCount;
+  /**
+   * query edge id -> query source vertex id
+   */
+  private transient int[] querySource;
+  /**
+   * query edge id -> query target vertex id
+   */
+  private transient int[] queryTarget;
+  /**
+   * query vertex id -> outgoing query edge ids
+   */
+  private transient int[][] queryOutEdges;
+  /**
+   * query vertex id -> incoming query edge ids
+   */
+  private transient int[][] queryInEdges;
+  /**
+   * local vertex id -> vertex id
+   */
+  private transient GradoopId[] vertexIds;
+  /**
+   * local edge id -> edge id
+   */
+  private transient GradoopId[] edgeIds;
+  /**
+   * local edge id -> local source vertex id
+   */
+  private transient int[] edgeSource;
+  /**
+   * local edge id -> local target vertex id
+   */
+  private transient int[] edgeTarget;
+  /**
+   * local edge id -> query edge candidates
+   */
+  private transient boolean[][] edgeCandidates;
+  /**
+   * local vertex id -> offset in {@link #outEdges}
+   */
+  private transient int[] outOffsets;
+  /**
+   * outgoing local edge ids grouped by source vertex
+   */
+  private transient int[] outEdges;
+  /**
+   * local vertex id -> offset in {@link #inEdges}
+   */
+  private transient int[] inOffsets;
+  /**
+   * incoming local edge ids grouped by target vertex
+   */
+  private transient int[] inEdges;
+  /**
+   * query vertex id -> candidates (bitset over local vertex ids)
+   */
+  private transient long[][] candidates;
+  /**
+   * position -> query vertex id
+   */
+  private transient int[] order;
+  /**
+   * position -> query edge used to generate vertex candidates or -1
+   */
+  private transient int[] pivotEdges;
+  /**
+   * position -> query edges which are matched at that position
+   */
+  private transient int[][] orderEdges;
+  /**
+   * position -> local vertex ids already generated at that position
+   */
+  private transient long[][] seenVertices;
+  /**
+   * query vertex id -> local vertex id or -1
+   */
+  private transient int[] vertexMapping;
+  /**
+   * query edge id -> local edge id or -1
+   */
+  private transient int[] edgeMapping;
+  /**
+   * Local vertex ids used by the current embedding
+   */
+  private transient long[] usedVertices;
+  /**
+   * Local edge ids used by the current embedding
+   */
+  private transient long[] usedEdges;
+  /**
+   * Found embeddings or {@code null} if only the existence is checked
+   */
+  private transient List<Embedding<GradoopId>> results;
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Boolean hasEmbedding(GraphWithCandidates graph, String query) {
+    results = null;
+    return prepare(graph, query) && matchVertex(0);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public List<Embedding<GradoopId>> findEmbeddings(GraphWithCandidates graph,
+    String query) {
+    List<Embedding<GradoopId>> embeddings = new ArrayList<>();
+    results = embeddings;
+    if (prepare(graph, query)) {
+      matchVertex(0);
+    }
+    results = null;
+    return embeddings;
+  }
+
+  /**
+   * Initializes query and graph structures, prunes the candidates and
+   * computes the matching order.
+   *
+   * @param graph graph with candidates
+   * @param query query string
+   * @return false, if the graph cannot contain an embedding
+   */
+  boolean prepare(GraphWithCandidates graph, String query) {
+    initializeQuery(query);
+    return queryVertexCount > 0 &&
+      initializeGraph(graph) &&
+      refineCandidates() &&
+      initializeOrder();
+  }
+
+  /**
+   * Returns the order in which query vertices are matched, as computed by the last
+   * {@link #prepare(GraphWithCandidates, String)} call.
+   *
+   * @return position -> query vertex id
+   */
+  int[] getOrder() {
+    return order;
+  }
+
+  /**
+   * Returns the remaining candidates of a query vertex after the last
+   * {@link #prepare(GraphWithCandidates, String)} call.
+   *
+   * @param queryVertex query vertex id
+   * @return ids of the candidate vertices
+   */
+  List<GradoopId> getCandidates(int queryVertex) {
+    List<GradoopId> candidateIds = new ArrayList<>();
+    long[] queryCandidates = candidates[queryVertex];
+    for (int v = Bitsets.nextSetBit(queryCandidates, 0); v >= 0;
+         v = Bitsets.nextSetBit(queryCandidates, v + 1)) {
+      candidateIds.add(vertexIds[v]);
+    }
+    return candidateIds;
+  }
+
+  /**
+   * Builds the query structures if the query differs from the cached one.
+   *
+   * @param query query string
+   */
+  private void initializeQuery(String query) {
+    if (query.equals(cachedQuery)) {
+      return;
+    }
+    QueryHandler handler = new QueryHandler(query);
+    queryVertexCount = handler.getVertexCount();
+    queryEdgeCount = handler.getEdgeCount();
+    querySource = new int[queryEdgeCount];
+    queryTarget = new int[queryEdgeCount];
+    int[] outDegrees = new int[queryVertexCount];
+    int[] inDegrees = new int[queryVertexCount];
+    for (Edge edge : handler.getEdges()) {
+      int id = (int) edge.getId();
+      querySource[id] = edge.getSourceVertexId().intValue();
+      queryTarget[id] = edge.getTargetVertexId().intValue();
+      outDegrees[querySource[id]]++;
+      inDegrees[queryTarget[id]]++;
+    }
+    queryOutEdges = new int[queryVertexCount][];
+    queryInEdges = new int[queryVertexCount][];
+    for (int u = 0; u < queryVertexCount; u++) {
+      queryOutEdges[u] = new int[outDegrees[u]];
+      queryInEdges[u] = new int[inDegrees[u]];
+      outDegrees[u] = 0;
+      inDegrees[u] = 0;
+    }
+    for (int eQ = 0; eQ < queryEdgeCount; eQ++) {
+      queryOutEdges[querySource[eQ]][outDegrees[querySource[eQ]]++] = eQ;
+      queryInEdges[queryTarget[eQ]][inDegrees[queryTarget[eQ]]++] = eQ;
+    }
+    vertexMapping = new int[queryVertexCount];
+    edgeMapping = new int[queryEdgeCount];
+    cachedQuery = query;
+  }
+
+  /**
+   * Maps the graph elements to dense local ids and builds adjacency arrays as
+   * well as the initial candidate sets.
+   *
+   * @param graph graph with candidates
+   * @return false, if a query vertex has no candidates
+   */
+  private boolean initializeGraph(GraphWithCandidates graph) {
+    List<IdWithCandidates<GradoopId>> vertices = graph.getVertexCandidates();
+    List<TripleWithCandidates<GradoopId>> edges = graph.getEdgeCandidates();
+    int vertexCount = vertices.size();
+
+    Map<GradoopId, Integer> localIds = new HashMap<>(vertexCount * 2);
+    vertexIds = new GradoopId[vertexCount];
+    candidates = new long[queryVertexCount][];
+    for (int u = 0; u < queryVertexCount; u++) {
+      candidates[u] = Bitsets.create(vertexCount);
+    }
+    for (int v = 0; v < vertexCount; v++) {
+      IdWithCandidates<GradoopId> vertex = vertices.get(v);
+      vertexIds[v] = vertex.getId();
+      localIds.put(vertex.getId(), v);
+      boolean[] vertexCandidates = vertex.getCandidates();
+      for (int u = 0; u < queryVertexCount; u++) {
+        if (vertexCandidates[u]) {
+          Bitsets.set(candidates[u], v);
+        }
+      }
+    }
+    for (long[] queryCandidates : candidates) {
+      if (Bitsets.isEmpty(queryCandidates)) {
+        return false;
+      }
+    }
+
+    int edgeCount = 0;
+    edgeIds = new GradoopId[edges.size()];
+    edgeSource = new int[edges.size()];
+    edgeTarget = new int[edges.size()];
+    edgeCandidates = new boolean[edges.size()][];
+    outOffsets = new int[vertexCount + 1];
+    inOffsets = new int[vertexCount + 1];
+    for (TripleWithCandidates<GradoopId> edge : edges) {
+      Integer source = localIds.get(edge.getSourceId());
+      Integer target = localIds.get(edge.getTargetId());
+      // edges to vertices without candidates can not be part of an embedding
+      if (source != null && target != null) {
+        edgeIds[edgeCount] = edge.getEdgeId();
+        edgeSource[edgeCount] = source;
+        edgeTarget[edgeCount] = target;
+        edgeCandidates[edgeCount] = edge.getCandidates();
+        outOffsets[source + 1]++;
+        inOffsets[target + 1]++;
+        edgeCount++;
+      }
+    }
+    for (int v = 0; v < vertexCount; v++) {
+      outOffsets[v + 1] += outOffsets[v];
+      inOffsets[v + 1] += inOffsets[v];
+    }
+    outEdges = new int[edgeCount];
+    inEdges = new int[edgeCount];
+    int[] outPositions = Arrays.copyOf(outOffsets, vertexCount);
+    int[] inPositions = Arrays.copyOf(inOffsets, vertexCount);
+    for (int e = 0; e < edgeCount; e++) {
+      outEdges[outPositions[edgeSource[e]]++] = e;
+      inEdges[inPositions[edgeTarget[e]]++] = e;
+    }
+
+    usedVertices = Bitsets.create(vertexCount);
+    usedEdges = Bitsets.create(edgeCount);
+    Arrays.fill(vertexMapping, -1);
+    Arrays.fill(edgeMapping, -1);
+    return true;
+  }
+
+  /**
+   * Removes all candidates which do not have a matching incident edge for each
+   * incident query edge until no more candidates can be removed.
+   *
+   * @return false, if a query vertex has no candidates left
+   */
+  private boolean refineCandidates() {
+    boolean changed = true;
+    while (changed) {
+      changed = false;
+      for (int u = 0; u < queryVertexCount; u++) {
+        long[] queryCandidates = candidates[u];
+        for (int v = Bitsets.nextSetBit(queryCandidates, 0); v >= 0;
+             v = Bitsets.nextSetBit(queryCandidates, v + 1)) {
+          if (!hasNeighborhoodSupport(u, v)) {
+            Bitsets.clear(queryCandidates, v);
+            changed = true;
+          }
+        }
+        if (Bitsets.isEmpty(queryCandidates)) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Checks if each query edge incident to the query vertex can be matched to
+   * an edge incident to the vertex whose opposite vertex is a candidate for
+   * the opposite query vertex.
+   *
+   * @param u query vertex
+   * @param v local vertex id
+   * @return true, iff all incident query edges are supported
+   */
+  private boolean hasNeighborhoodSupport(int u, int v) {
+    for (int eQ : queryOutEdges[u]) {
+      if (!hasSupportingEdge(eQ, outOffsets, outEdges, edgeTarget, v,
+        candidates[queryTarget[eQ]])) {
+        return false;
+      }
+    }
+    for (int eQ : queryInEdges[u]) {
+      if (!hasSupportingEdge(eQ, inOffsets, inEdges, edgeSource, v,
+        candidates[querySource[eQ]])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Checks if the vertex has an incident edge which is a candidate for the
+   * query edge and whose opposite vertex is contained in the given candidates.
+   *
+   * @param eQ          query edge
+   * @param offsets     adjacency offsets
+   * @param adjacency   adjacent local edge ids
+   * @param opposite    local edge id -> opposite local vertex id
+   * @param v           local vertex id
+   * @param oppositeCandidates candidates of the opposite query vertex
+   * @return true, iff such an edge exists
+   */
+  private boolean hasSupportingEdge(int eQ, int[] offsets, int[] adjacency,
+    int[] opposite, int v, long[] oppositeCandidates) {
+    for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+      int e = adjacency[i];
+      if (edgeCandidates[e][eQ] && Bitsets.get(oppositeCandidates, opposite[e])) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Computes the order in which query vertices are matched.
+   *
+   * @return true
+   */
+  private boolean initializeOrder() {
+    order = new int[queryVertexCount];
+    pivotEdges = new int[queryVertexCount];
+    orderEdges = new int[queryVertexCount][];
+    seenVertices = new long[queryVertexCount][usedVertices.length];
+    int[] cardinalities = new int[queryVertexCount];
+    int[] positions = new int[queryVertexCount];
+    for (int u = 0; u < queryVertexCount; u++) {
+      cardinalities[u] = Bitsets.cardinality(candidates[u]);
+      positions[u] = -1;
+    }
+
+    // root: fewest candidates relative to the degree
+    int root = 0;
+    for (int u = 1; u < queryVertexCount; u++) {
+      if ((long) cardinalities[u] * (degree(root) + 1) <
+        (long) cardinalities[root] * (degree(u) + 1)) {
+        root = u;
+      }
+    }
+    addToOrder(root, 0, positions);
+
+    for (int pos = 1; pos < queryVertexCount; pos++) {
+      int next = -1;
+      int nextConnections = -1;
+      for (int u = 0; u < queryVertexCount; u++) {
+        if (positions[u] != -1) {
+          continue;
+        }
+        int connections = countOrderedNeighbors(u, positions);
+        if (next == -1 || connections > nextConnections ||
+          (connections == nextConnections &&
+            (cardinalities[u] < cardinalities[next] ||
+              (cardinalities[u] == cardinalities[next] &&
+                degree(u) > degree(next))))) {
+          next = u;
+          nextConnections = connections;
+        }
+      }
+      addToOrder(next, pos, positions);
+    }
+    return true;
+  }
+
+  /**
+   * Adds the query vertex to the order and determines the query edges which
+   * are matched at that position.
+   *
+   * @param u         query vertex
+   * @param pos       position in the order
+   * @param positions query vertex id -> position or -1
+   */
+  private void addToOrder(int u, int pos, int[] positions) {
+    order[pos] = u;
+    positions[u] = pos;
+    pivotEdges[pos] = -1;
+    List<Integer> edges = new ArrayList<>();
+    for (int eQ : queryOutEdges[u]) {
+      if (positions[queryTarget[eQ]] != -1) {
+        edges.add(eQ);
+      }
+    }
+    for (int eQ : queryInEdges[u]) {
+      // loops have already been added as outgoing edges
+      if (positions[querySource[eQ]] != -1 && querySource[eQ] != u) {
+        edges.add(eQ);
+      }
+    }
+    orderEdges[pos] = new int[edges.size()];
+    for (int i = 0; i < edges.size(); i++) {
+      int eQ = edges.get(i);
+      orderEdges[pos][i] = eQ;
+      if (pivotEdges[pos] == -1 && querySource[eQ] != queryTarget[eQ]) {
+        pivotEdges[pos] = eQ;
+      }
+    }
+  }
+
+  /**
+   * Returns the number of query edges connecting the query vertex to already
+   * ordered query vertices.
+   *
+   * @param u         query vertex
+   * @param positions query vertex id -> position or -1
+   * @return number of connecting query edges
+   */
+  private int countOrderedNeighbors(int u, int[] positions) {
+    int count = 0;
+    for (int eQ : queryOutEdges[u]) {
+      if (positions[queryTarget[eQ]] != -1) {
+        count++;
+      }
+    }
+    for (int eQ : queryInEdges[u]) {
+      if (positions[querySource[eQ]] != -1) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Returns the degree of a query vertex.
+   *
+   * @param u query vertex
+   * @return number of incident query edges
+   */
+  private int degree(int u) {
+    return queryOutEdges[u].length + queryInEdges[u].length;
+  }
+
+  /**
+   * Matches the query vertex at the given position.
+   *
+   * @param pos position in the order
+   * @return true, if the search can be stopped
+   */
+  private boolean matchVertex(int pos) {
+    if (pos == queryVertexCount) {
+      return collectEmbedding();
+    }
+    int u = order[pos];
+    int pivot = pivotEdges[pos];
+
+    if (pivot == -1) {
+      long[] queryCandidates = candidates[u];
+      for (int v = Bitsets.nextSetBit(queryCandidates, 0); v >= 0;
+           v = Bitsets.nextSetBit(queryCandidates, v + 1)) {
+        if (!Bitsets.get(usedVertices, v) && matchVertex(pos, u, v)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    // generate candidates from the adjacency of the matched neighbor
+    boolean outgoing = queryTarget[pivot] == u;
+    int neighbor = vertexMapping[outgoing ? querySource[pivot] : queryTarget[pivot]];
+    int[] offsets = outgoing ? outOffsets : inOffsets;
+    int[] adjacency = outgoing ? outEdges : inEdges;
+    int[] opposite = outgoing ? edgeTarget : edgeSource;
+    long[] seen = seenVertices[pos];
+    boolean stop = false;
+
+    for (int i = offsets[neighbor]; i < offsets[neighbor + 1] && !stop; i++) {
+      int e = adjacency[i];
+      int v = opposite[e];
+      if (edgeCandidates[e][pivot] && !Bitsets.get(seen, v) &&
+        Bitsets.get(candidates[u], v) && !Bitsets.get(usedVertices, v)) {
+        Bitsets.set(seen, v);
+        stop = matchVertex(pos, u, v);
+      }
+    }
+    for (int i = offsets[neighbor]; i < offsets[neighbor + 1]; i++) {
+      Bitsets.clear(seen, opposite[adjacency[i]]);
+    }
+    return stop;
+  }
+
+  /**
+   * Maps the query vertex to the given vertex and continues with the query
+   * edges of that position.
+   *
+   * @param pos position in the order
+   * @param u   query vertex
+   * @param v   local vertex id
+   * @return true, if the search can be stopped
+   */
+  private boolean matchVertex(int pos, int u, int v) {
+    vertexMapping[u] = v;
+    Bitsets.set(usedVertices, v);
+    boolean stop = matchEdge(pos, 0);
+    Bitsets.clear(usedVertices, v);
+    vertexMapping[u] = -1;
+    return stop;
+  }
+
+  /**
+   * Matches the i-th query edge of the given position.
+   *
+   * @param pos position in the order
+   * @param i   index of the query edge at that position
+   * @return true, if the search can be stopped
+   */
+  private boolean matchEdge(int pos, int i) {
+    if (i == orderEdges[pos].length) {
+      return matchVertex(pos + 1);
+    }
+    int eQ = orderEdges[pos][i];
+    int source = vertexMapping[querySource[eQ]];
+    int target = vertexMapping[queryTarget[eQ]];
+    for (int j = outOffsets[source]; j < outOffsets[source + 1]; j++) {
+      int e = outEdges[j];
+      if (edgeTarget[e] == target && edgeCandidates[e][eQ] && !Bitsets.get(usedEdges, e)) {
+        edgeMapping[eQ] = e;
+        Bitsets.set(usedEdges, e);
+        boolean stop = matchEdge(pos, i + 1);
+        Bitsets.clear(usedEdges, e);
+        edgeMapping[eQ] = -1;
+        if (stop) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Adds the current mapping to the results.
+   *
+   * @return true, if the search can be stopped
+   */
+  private boolean collectEmbedding() {
+    if (results == null) {
+      return true;
+    }
+    GradoopId[] vertices = new GradoopId[queryVertexCount];
+    for (int u = 0; u < queryVertexCount; u++) {
+      vertices[u] = vertexIds[vertexMapping[u]];
+    }
+    GradoopId[] edges = new GradoopId[queryEdgeCount];
+    for (int eQ = 0; eQ < queryEdgeCount; eQ++) {
+      edges[eQ] = edgeIds[edgeMapping[eQ]];
+    }
+    Embedding<GradoopId> embedding = new Embedding<>();
+    embedding.setVertexMapping(vertices);
+    embedding.setEdgeMapping(edges);
+    results.add(embedding);
+    return false;
+  }
+}
@@ -19,14 +19,18 @@ import org.apache.flink.api.common.functions.FilterFunction;
 import org.apache.flink.api.java.DataSet;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.io.api.ReadSpecification;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
 import org.gradoop.flink.model.api.operators.UnaryGraphToGraphOperator;
+import org.gradoop.flink.model.impl.functions.epgm.ByLabel;
 import org.gradoop.flink.model.impl.functions.epgm.Id;
 import org.gradoop.flink.model.impl.functions.epgm.SourceId;
 import org.gradoop.flink.model.impl.functions.epgm.TargetId;
 import org.gradoop.flink.model.impl.functions.utils.LeftSide;
 import org.gradoop.flink.model.impl.functions.utils.RightSide;
 
+import java.util.Collections;
+
 /**
  * Extracts a subgraph from a logical graph using the given filter functions.
  *
@@ -80,6 +84,26 @@ public class Subgraph implements UnaryGraphToGraphOperator {
       vertexInducedSubgraph(superGraph) : edgeInducedSubgraph(superGraph);
   }
 
+  /**
+   * Returns the elements of the input graph which are required by the operator. Label filters
+   * ({@link ByLabel}) are translated into label restrictions, other filter functions are opaque
+   * and require all elements of their type.
+   *
+   * @return read specification for the input graph
+   */
+  public ReadSpecification getReadSpecification() {
+    ReadSpecification readSpecification = new ReadSpecification();
+    if (vertexFilterFunction instanceof ByLabel) {
+      readSpecification.setVertexLabels(
+        Collections.singleton(((ByLabel<Vertex>) vertexFilterFunction).getLabel()));
+    }
+    if (edgeFilterFunction instanceof ByLabel) {
+      readSpecification.setEdgeLabels(
+        Collections.singleton(((ByLabel<Edge>) edgeFilterFunction).getLabel()));
+    }
+    return readSpecification;
+  }
+
   /**
    * Returns the subgraph of the given supergraph that is induced by the
    * vertices that fulfil the given filter function.
@@ -0,0 +1,149 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.apache.flink.api.java.io.LocalCollectionOutputFormat;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.io.api.PropertyRange;
+import org.gradoop.flink.io.api.ReadSpecification;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.api.epgm.GraphCollection;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.gradoop.common.GradoopTestUtils.validateEPGMElementCollections;
+import static org.gradoop.common.GradoopTestUtils.validateEPGMGraphElementCollections;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ColumnarIOTest extends GradoopFlinkTestBase {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void testWriteRead() throws Exception {
+    String path = temporaryFolder.getRoot().getPath();
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+
+    loader.getDatabase().writeTo(new ColumnarDataSink(path, getConfig()));
+    getExecutionEnvironment().execute();
+
+    GraphCollection collection = new ColumnarDataSource(path, getConfig()).getGraphCollection();
+
+    Collection<GraphHead> loadedGraphHeads = Lists.newArrayList();
+    Collection<Vertex> loadedVertices = Lists.newArrayList();
+    Collection<Edge> loadedEdges = Lists.newArrayList();
+
+    collection.getGraphHeads().output(new LocalCollectionOutputFormat<>(loadedGraphHeads));
+    collection.getVertices().output(new LocalCollectionOutputFormat<>(loadedVertices));
+    collection.getEdges().output(new LocalCollectionOutputFormat<>(loadedEdges));
+
+    getExecutionEnvironment().execute();
+
+    validateEPGMElementCollections(loader.getGraphHeads(), loadedGraphHeads);
+    validateEPGMElementCollections(loader.getVertices(), loadedVertices);
+    validateEPGMGraphElementCollections(loader.getVertices(), loadedVertices);
+    validateEPGMElementCollections(loader.getEdges(), loadedEdges);
+    validateEPGMGraphElementCollections(loader.getEdges(), loadedEdges);
+    assertEquals(getEdgeTriples(loader.getEdges()), getEdgeTriples(loadedEdges));
+  }
+
+  @Test
+  public void testReadLabelsAndProperties() throws Exception {
+    String path = temporaryFolder.getRoot().getPath();
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+
+    loader.getDatabase().getDatabaseGraph().writeTo(new ColumnarDataSink(path, getConfig()));
+    getExecutionEnvironment().execute();
+
+    ReadSpecification readSpecification = new ReadSpecification()
+      .setVertexLabels(Sets.newHashSet("Person")).setVertexPropertyKeys(Sets.newHashSet("name"))
+      .setEdgeLabels(Sets.newHashSet("knows")).setEdgePropertyKeys(Sets.newHashSet("since"));
+    GraphCollection collection = new ColumnarDataSource(path, getConfig(), readSpecification)
+      .getGraphCollection();
+
+    List<Vertex> vertices = collection.getVertices().collect();
+    List<Edge> edges = collection.getEdges().collect();
+
+    assertEquals(loader.getVertices().stream()
+      .filter(v -> v.getLabel().equals("Person")).count(), vertices.size());
+    for (Vertex vertex : vertices) {
+      assertEquals("Person", vertex.getLabel());
+      assertEquals(1, vertex.getPropertyCount());
+      assertTrue(vertex.hasProperty("name"));
+    }
+    assertEquals(loader.getEdges().stream()
+      .filter(e -> e.getLabel().equals("knows")).count(), edges.size());
+    for (Edge edge : edges) {
+      assertEquals("knows", edge.getLabel());
+      assertTrue(edge.hasProperty("since"));
+    }
+  }
+
+  @Test
+  public void testPropertyRange() throws Exception {
+    String path = temporaryFolder.getRoot().getPath();
+    int vertexCount = 3 * ColumnarBase.BLOCK_SIZE;
+    List<Vertex> input = Lists.newArrayListWithCapacity(vertexCount);
+    for (int i = 0; i < vertexCount; i++) {
+      Vertex vertex = getConfig().getVertexFactory().createVertex(i % 2 == 0 ? "A" : "B");
+      vertex.setProperty("n", i);
+      vertex.setProperty("s", "v" + i);
+      input.add(vertex);
+    }
+    LogicalGraph graph = getConfig().getLogicalGraphFactory()
+      .fromCollections(input, Collections.emptyList());
+
+    graph.writeTo(new ColumnarDataSink(path, getConfig()));
+    getExecutionEnvironment().execute();
+
+    ReadSpecification readSpecification = new ReadSpecification()
+      .setVertexLabels(Sets.newHashSet("A")).setVertexPropertyKeys(Sets.newHashSet("n"))
+      .addVertexRange(
+        new PropertyRange("n", PropertyValue.create(5000), PropertyValue.create(5099)));
+    List<Vertex> vertices = new ColumnarDataSource(path, getConfig(), readSpecification)
+      .getGraphCollection().getVertices().collect();
+
+    assertEquals(50, vertices.size());
+    for (Vertex vertex : vertices) {
+      int n = vertex.getPropertyValue("n").getInt();
+      assertTrue(n >= 5000 && n <= 5099 && n % 2 == 0);
+      assertFalse(vertex.hasProperty("s"));
+    }
+  }
+
+  private static Set<String> getEdgeTriples(Collection<Edge> edges) {
+    return edges.stream()
+      .map(e -> e.getSourceId() + "-" + e.getId() + "->" + e.getTargetId())
+      .collect(Collectors.toSet());
+  }
+}
@@ -0,0 +1,127 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar.format;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.apache.flink.core.memory.DataInputViewStreamWrapper;
+import org.apache.flink.core.memory.DataOutputViewStreamWrapper;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.EdgeFactory;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.io.api.PropertyRange;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ColumnarBlockTest {
+
+  @Test
+  public void testWriteRead() throws IOException {
+    List<Edge> edges = createEdges();
+    ColumnarBlockReader reader = new ColumnarBlockReader(null, Collections.emptyList());
+    DataInputViewStreamWrapper in = write(edges);
+
+    assertTrue(reader.readBlock(in));
+    assertEquals(edges.size(), reader.getSelectedCount());
+    for (int i = 0; i < edges.size() - 1; i++) {
+      Edge edge = edges.get(i);
+      assertEquals(edge.getId(), reader.getId(i));
+      assertEquals(edge.getLabel(), reader.getLabel(i));
+      assertEquals(edge.getSourceId(), reader.getSourceId(i));
+      assertEquals(edge.getTargetId(), reader.getTargetId(i));
+      assertEquals(edge.getGraphIds(), reader.getGraphIds(i));
+      assertEquals(edge.getProperties(), reader.getProperties(i));
+    }
+    // missing graph ids and properties are read as empty sets
+    assertEquals("", reader.getLabel(4));
+    assertTrue(reader.getGraphIds(4).isEmpty());
+    assertTrue(reader.getProperties(4).isEmpty());
+    assertFalse(reader.readBlock(in));
+  }
+
+  @Test
+  public void testProjection() throws IOException {
+    ColumnarBlockReader reader =
+      new ColumnarBlockReader(Sets.newHashSet("a"), Collections.emptyList());
+    DataInputViewStreamWrapper in = write(createEdges());
+
+    assertTrue(reader.readBlock(in));
+    assertEquals(1, reader.getProperties(0).size());
+    assertEquals(PropertyValue.create(0), reader.getProperties(0).get("a"));
+    assertNull(reader.getProperties(0).get("b"));
+  }
+
+  @Test
+  public void testRange() throws IOException {
+    List<Edge> edges = createEdges();
+    DataInputViewStreamWrapper in = write(edges);
+
+    ColumnarBlockReader reader = new ColumnarBlockReader(null, Lists.newArrayList(
+      new PropertyRange("a", PropertyValue.create(1), PropertyValue.create(2))));
+    assertTrue(reader.readBlock(in));
+    assertEquals(2, reader.getSelectedCount());
+    assertEquals(edges.get(1).getId(), reader.getId(0));
+    assertEquals(edges.get(2).getId(), reader.getId(1));
+
+    in = write(edges);
+    reader = new ColumnarBlockReader(null, Lists.newArrayList(
+      new PropertyRange("a", PropertyValue.create(10), null)));
+    assertTrue(reader.readBlock(in));
+    assertEquals(0, reader.getSelectedCount());
+    assertFalse(reader.readBlock(in));
+  }
+
+  private static List<Edge> createEdges() {
+    EdgeFactory factory = new EdgeFactory();
+    List<Edge> edges = Lists.newArrayList();
+    for (int i = 0; i < 4; i++) {
+      Properties properties = Properties.create();
+      properties.set("a", i);
+      // column without statistics
+      properties.set("b", i % 2 == 0 ? PropertyValue.create("x") : PropertyValue.create(1.0));
+      edges.add(factory.initEdge(GradoopId.get(), i % 2 == 0 ? "knows" : "likes",
+        GradoopId.get(), GradoopId.get(), properties,
+        GradoopIdSet.fromExisting(GradoopId.get())));
+    }
+    edges.add(factory.initEdge(GradoopId.get(), "", GradoopId.get(), GradoopId.get()));
+    return edges;
+  }
+
+  private static DataInputViewStreamWrapper write(List<Edge> edges) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputViewStreamWrapper out = new DataOutputViewStreamWrapper(bytes);
+    ColumnarBlockWriter writer = new ColumnarBlockWriter();
+    for (Edge edge : edges) {
+      writer.add(edge);
+    }
+    writer.writeBlock(out);
+    ColumnarBlockWriter.writeEndOfFile(out);
+    return new DataInputViewStreamWrapper(new ByteArrayInputStream(bytes.toByteArray()));
+  }
+}
@@ -15,6 +15,15 @@
  */
 package org.gradoop.flink.io.impl.csv;
 
+import com.google.common.collect.Lists;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.io.DiscardingOutputFormat;
+import org.apache.flink.api.java.io.LocalCollectionOutputFormat;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.io.api.DataSink;
 import org.gradoop.flink.io.api.DataSource;
 import org.gradoop.flink.io.impl.edgelist.VertexLabeledEdgeListDataSourceTest;
@@ -24,6 +33,22 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
+import java.io.File;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
 public class CSVDataSinkTest extends GradoopFlinkTestBase {
 
   @Rule
@@ -72,4 +97,138 @@ public class CSVDataSinkTest extends GradoopFlinkTestBase {
 
     collectAndAssertTrue(input.equalsByElementData(output));
   }
+
+  @Test
+  public void testWriteAllPropertyTypes() throws Exception {
+    String tmpPath = temporaryFolder.getRoot().getPath();
+
+    Map<PropertyValue, PropertyValue> map = new HashMap<>();
+    map.put(PropertyValue.create("k=1,2"), PropertyValue.create(Lists.newArrayList(
+      PropertyValue.create(LocalTime.of(10, 15, 30)), PropertyValue.NULL_VALUE)));
+    map.put(PropertyValue.create("{k2}"), PropertyValue.create(new ArrayList<>()));
+
+    Vertex v1 = getConfig().getVertexFactory().createVertex("A");
+    v1.setProperty("boolean", true);
+    v1.setProperty("int", 23);
+    v1.setProperty("long", 42L);
+    v1.setProperty("float", 1.5f);
+    v1.setProperty("double", -0.25d);
+    v1.setProperty("string", "a|b;c\\d\n");
+    v1.setProperty("empty", "");
+    v1.setProperty("bigDecimal", new BigDecimal("3.14159265358979323846"));
+    v1.setProperty("gradoopId", GradoopId.get());
+    v1.setProperty("date", LocalDate.of(2018, 1, 31));
+    v1.setProperty("time", LocalTime.of(23, 5, 7, 1000));
+    v1.setProperty("dateTime", LocalDateTime.of(2018, 1, 31, 23, 5));
+    v1.setProperty("list", Lists.newArrayList(
+      PropertyValue.create("x,y"), PropertyValue.create("[z]")));
+    v1.setProperty("map", map);
+    Vertex v2 = getConfig().getVertexFactory().createVertex("A");
+    v2.setProperty("list", new ArrayList<>());
+    v2.setProperty("null", PropertyValue.NULL_VALUE);
+    Vertex v3 = getConfig().getVertexFactory().createVertex("B");
+    v3.setProperty("time", LocalTime.MIDNIGHT);
+
+    Edge e = getConfig().getEdgeFactory().createEdge("e", v1.getId(), v3.getId());
+    e.setProperty("nested", Lists.newArrayList(PropertyValue.create(Lists.newArrayList(
+      PropertyValue.create(map)))));
+
+    LogicalGraph input = getConfig().getLogicalGraphFactory()
+      .fromCollections(Lists.newArrayList(v1, v2, v3), Lists.newArrayList(e));
+    new CSVDataSink(tmpPath, getConfig()).write(input, true);
+    getExecutionEnvironment().execute();
+
+    LogicalGraph output = new CSVDataSource(tmpPath, getConfig()).getLogicalGraph();
+    List<Vertex> vertices = new ArrayList<>();
+    List<Edge> edges = new ArrayList<>();
+    output.getVertices().output(new LocalCollectionOutputFormat<>(vertices));
+    output.getEdges().output(new LocalCollectionOutputFormat<>(edges));
+    getExecutionEnvironment().execute();
+
+    assertEquals(3, vertices.size());
+    for (Vertex vertex : vertices) {
+      Vertex expected = vertex.getId().equals(v1.getId()) ? v1 :
+        vertex.getId().equals(v2.getId()) ? v2 : v3;
+      assertEquals(expected.getProperties(), vertex.getProperties());
+    }
+    assertEquals(1, edges.size());
+    assertEquals(e.getProperties(), edges.get(0).getProperties());
+  }
+
+  @Test
+  public void testWritePartitioned() throws Exception {
+    String tmpPath = temporaryFolder.getRoot().getPath();
+
+    LogicalGraph input = getSocialNetworkLoader()
+      .getDatabase()
+      .getDatabaseGraph(true);
+
+    DataSink csvDataSink = new CSVDataSink(tmpPath, null, 3, getConfig());
+    csvDataSink.write(input, true);
+
+    getExecutionEnvironment().execute();
+
+    // each partition is sorted and contains the outgoing edges of its vertices
+    Map<String, Integer> vertexPartitions = new HashMap<>();
+    for (int partition = 1; partition <= 3; partition++) {
+      List<String> vertexIds =
+        readIds(new File(tmpPath, "vertices.csv/" + partition), 0);
+      assertSorted(vertexIds);
+      for (String id : vertexIds) {
+        vertexPartitions.put(id, partition);
+      }
+      List<String> sourceIds = readIds(new File(tmpPath, "edges.csv/" + partition), 1);
+      assertSorted(sourceIds);
+      for (String id : sourceIds) {
+        assertEquals(partition, (int) vertexPartitions.getOrDefault(id, partition));
+      }
+    }
+    for (int partition = 1; partition <= 3; partition++) {
+      for (String id : readIds(new File(tmpPath, "edges.csv/" + partition), 1)) {
+        assertEquals(partition, (int) vertexPartitions.get(id));
+      }
+    }
+
+    DataSource csvDataSource = new CSVDataSource(tmpPath, getConfig());
+    LogicalGraph output = csvDataSource.getLogicalGraph();
+
+    collectAndAssertTrue(input.equalsByElementData(output));
+
+    // joining vertices with their outgoing edges does not require a shuffle
+    DataSet<Tuple2<Vertex, Edge>> joined = csvDataSource.getLogicalGraph().getVertices()
+      .join(csvDataSource.getLogicalGraph().getEdges())
+      .where("id").equalTo("sourceId")
+      .setParallelism(3);
+    joined.output(new DiscardingOutputFormat<>());
+    String plan = getExecutionEnvironment().getExecutionPlan();
+    assertFalse(plan, plan.contains("Hash Partition"));
+  }
+
+  /**
+   * Reads the ids at the given column of a CSV file.
+   *
+   * @param file CSV file
+   * @param column id column
+   * @return ids in order of the file
+   * @throws Exception on failure
+   */
+  private List<String> readIds(File file, int column) throws Exception {
+    List<String> ids = new ArrayList<>();
+    for (String line : Files.readAllLines(file.toPath(), StandardCharsets.UTF_8)) {
+      ids.add(line.split(CSVConstants.TOKEN_DELIMITER)[column]);
+    }
+    return ids;
+  }
+
+  /**
+   * Asserts that the given ids are sorted.
+   *
+   * @param ids ids
+   */
+  private void assertSorted(List<String> ids) {
+    for (int i = 1; i < ids.size(); i++) {
+      assertTrue(GradoopId.fromString(ids.get(i - 1))
+        .compareTo(GradoopId.fromString(ids.get(i))) <= 0);
+    }
+  }
 }
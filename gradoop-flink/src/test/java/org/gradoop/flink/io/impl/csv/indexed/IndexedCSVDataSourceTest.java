@@ -15,12 +15,29 @@
  */
 package org.gradoop.flink.io.impl.csv.indexed;
 
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.apache.flink.api.java.io.LocalCollectionOutputFormat;
+import org.gradoop.common.model.api.entities.EPGMElement;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.api.FilterableDataSource;
+import org.gradoop.flink.io.api.PropertyRange;
+import org.gradoop.flink.io.api.ReadSpecification;
 import org.gradoop.flink.io.impl.edgelist.VertexLabeledEdgeListDataSourceTest;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
 import org.junit.Test;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.gradoop.common.GradoopTestUtils.validateEPGMElementCollections;
+import static org.junit.Assert.assertEquals;
+
 public class IndexedCSVDataSourceTest extends GradoopFlinkTestBase {
 
   @Test
@@ -40,4 +57,58 @@ public class IndexedCSVDataSourceTest extends GradoopFlinkTestBase {
 
     collectAndAssertTrue(input.equalsByElementData(expected));
   }
+
+  @Test
+  public void testReadWithReadSpecification() throws Exception {
+    String csvPath = VertexLabeledEdgeListDataSourceTest.class
+      .getResource("/data/csv/input_indexed")
+      .getFile();
+
+    List<Vertex> allVertices = Lists.newArrayList();
+    List<Edge> allEdges = Lists.newArrayList();
+    LogicalGraph graph = new IndexedCSVDataSource(csvPath, getConfig()).getLogicalGraph();
+    graph.getVertices().output(new LocalCollectionOutputFormat<>(allVertices));
+    graph.getEdges().output(new LocalCollectionOutputFormat<>(allEdges));
+
+    // B vertices with c >= 1.0 projected to a, a edges projected to b
+    ReadSpecification readSpecification = new ReadSpecification()
+      .setVertexLabels(Sets.newHashSet("B"))
+      .setVertexPropertyKeys(Sets.newHashSet("a"))
+      .addVertexRange(new PropertyRange("c", PropertyValue.create(1.0), null))
+      .setEdgeLabels(Sets.newHashSet("a"))
+      .setEdgePropertyKeys(Sets.newHashSet("b"));
+
+    FilterableDataSource dataSource = new IndexedCSVDataSource(csvPath, getConfig());
+    dataSource.setReadSpecification(readSpecification);
+    List<Vertex> vertices = Lists.newArrayList();
+    List<Edge> edges = Lists.newArrayList();
+    graph = dataSource.getLogicalGraph();
+    graph.getVertices().output(new LocalCollectionOutputFormat<>(vertices));
+    graph.getEdges().output(new LocalCollectionOutputFormat<>(edges));
+
+    getExecutionEnvironment().execute();
+
+    List<Vertex> expectedVertices = allVertices.stream()
+      .filter(v -> v.getLabel().equals("B"))
+      .filter(v -> v.getPropertyValue("c").getDouble() >= 1.0)
+      .peek(v -> project(v, "a"))
+      .collect(Collectors.toList());
+    List<Edge> expectedEdges = allEdges.stream()
+      .filter(e -> e.getLabel().equals("a"))
+      .peek(e -> project(e, "b"))
+      .collect(Collectors.toList());
+
+    assertEquals(2, expectedVertices.size());
+    assertEquals(3, expectedEdges.size());
+    validateEPGMElementCollections(expectedVertices, vertices);
+    validateEPGMElementCollections(expectedEdges, edges);
+  }
+
+  private static void project(EPGMElement element, String key) {
+    Properties properties = Properties.create();
+    if (element.hasProperty(key)) {
+      properties.set(key, element.getPropertyValue(key));
+    }
+    element.setProperties(properties);
+  }
 }
@@ -0,0 +1,165 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.metadata;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class PropertyValueCodecTest {
+
+  @Test
+  public void testParseLong() throws IOException {
+    for (long value : new long[] {0L, 1L, -1L, 42L, Long.MAX_VALUE, Long.MIN_VALUE}) {
+      assertEquals(value, parseLong(Long.toString(value)));
+    }
+    assertEquals(42L, parseLong("+42"));
+  }
+
+  @Test(expected = IOException.class)
+  public void testParseLongOverflow() throws IOException {
+    parseLong("9223372036854775808");
+  }
+
+  @Test(expected = IOException.class)
+  public void testParseLongInvalid() throws IOException {
+    parseLong("4a2");
+  }
+
+  @Test(expected = IOException.class)
+  public void testParseLongSignOnly() throws IOException {
+    parseLong("-");
+  }
+
+  @Test
+  public void testParseValue() throws IOException {
+    GradoopId id = GradoopId.get();
+    assertEquals(PropertyValue.create("ä|ö"), parseValue("string", "ä|ö"));
+    assertEquals(PropertyValue.create(-23), parseValue("int", "-23"));
+    assertEquals(PropertyValue.create(1L << 40), parseValue("long", Long.toString(1L << 40)));
+    assertEquals(PropertyValue.create(13.37f), parseValue("float", "13.37"));
+    assertEquals(PropertyValue.create(0.123), parseValue("double", "0.123"));
+    assertEquals(PropertyValue.create(true), parseValue("boolean", "TRUE"));
+    assertEquals(PropertyValue.create(false), parseValue("boolean", "yes"));
+    assertEquals(PropertyValue.create(id), parseValue("gradoopid", id.toString()));
+    assertEquals(PropertyValue.create(new BigDecimal("-1.5E+3")),
+      parseValue("bigdecimal", "-1.5E+3"));
+    assertEquals(PropertyValue.create(LocalDate.of(2018, 1, 31)),
+      parseValue("date", "2018-01-31"));
+    assertEquals(PropertyValue.create(LocalTime.of(23, 5)), parseValue("time", "23:05"));
+    assertEquals(PropertyValue.create(LocalDateTime.of(2018, 1, 31, 23, 5, 7)),
+      parseValue("datetime", "2018-01-31T23:05:07"));
+    assertEquals(PropertyValue.NULL_VALUE, parseValue("int", "\\N"));
+    assertEquals(PropertyValue.create(""), parseValue("string", "\\E"));
+    assertEquals(PropertyValue.create("a;b\nc"), parseValue("string", "a\\;b\\nc"));
+    assertEquals(PropertyValue.create(Lists.newArrayList(
+      PropertyValue.create(Lists.newArrayList(PropertyValue.create(1L))),
+      PropertyValue.create(new ArrayList<>()))), parseValue("LIST:LIST:LONG", "[[1],[]]"));
+  }
+
+  @Test(expected = IOException.class)
+  public void testParseIntOverflow() throws IOException {
+    parseValue("int", Long.toString(Integer.MAX_VALUE + 1L));
+  }
+
+  @Test(expected = IOException.class)
+  public void testParseUnterminatedList() throws IOException {
+    parseValue("list:int", "[1,2");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testIncompleteTypeString() {
+    PropertyValueCodec.forTypeString("map:string");
+  }
+
+  @Test
+  public void testRoundTrip() throws IOException {
+    List<PropertyValue> strings = Lists.newArrayList(PropertyValue.create(""),
+      PropertyValue.create("a,b=c"), PropertyValue.NULL_VALUE,
+      PropertyValue.create("[x]{y}|z;\\\r\n"));
+    Map<PropertyValue, PropertyValue> map = new HashMap<>();
+    map.put(PropertyValue.create("k=1"), PropertyValue.create(Lists.newArrayList(
+      PropertyValue.create(LocalTime.of(10, 15, 30)))));
+    map.put(PropertyValue.create("k2"), PropertyValue.create(new ArrayList<>()));
+    map.put(PropertyValue.create("k3"), PropertyValue.NULL_VALUE);
+
+    List<PropertyValue> values = Lists.newArrayList(
+      PropertyValue.create(true), PropertyValue.create(Integer.MIN_VALUE),
+      PropertyValue.create(Long.MAX_VALUE), PropertyValue.create(Float.NaN),
+      PropertyValue.create(-0.5d), PropertyValue.create(new BigDecimal("123456789.000001")),
+      PropertyValue.create(GradoopId.get()), PropertyValue.create(LocalDate.of(1, 2, 3)),
+      PropertyValue.create(LocalTime.of(4, 5, 6, 7)),
+      PropertyValue.create(LocalDateTime.of(2018, 12, 31, 0, 0)),
+      PropertyValue.create(strings), PropertyValue.create(map),
+      PropertyValue.create(new HashMap<>()), PropertyValue.NULL_VALUE);
+
+    for (PropertyValue value : values) {
+      PropertyValueCodec codec = PropertyValueCodec.forValue(value);
+      StringBuilder builder = new StringBuilder();
+      codec.format(value, builder);
+      PropertyValueCodec parsedCodec = PropertyValueCodec.forTypeString(codec.getTypeString());
+      assertEquals(codec.getTypeString(), parsedCodec.getTypeString());
+      if (!value.isNull()) {
+        assertEquals(value, parsedCodec.parse(builder.toString()));
+      }
+    }
+    assertEquals("map:string:list:time",
+      PropertyValueCodec.forValue(PropertyValue.create(map)).getTypeString());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMixedListElements() {
+    PropertyValueCodec.forValue(PropertyValue.create(Lists.newArrayList(
+      PropertyValue.create(1), PropertyValue.create("1"))));
+  }
+
+  @Test
+  public void testUnify() {
+    assertEquals("list:map:int:string", PropertyValueCodec.unify(
+      PropertyValueCodec.forTypeString("list:map:null:string"),
+      PropertyValueCodec.forTypeString("list:map:int:null")).getTypeString());
+    assertNull(PropertyValueCodec.unify(PropertyValueCodec.forTypeString("list:int"),
+      PropertyValueCodec.forTypeString("list:long")));
+    assertEquals("a:list:int,a:list:long,b:string", MetaDataParser.getPropertiesMetaData(
+      Sets.newHashSet("a:list:null", "a:list:int", "b:null", "a:list:long", "b:string")));
+  }
+
+  private static long parseLong(String s) throws IOException {
+    byte[] bytes = (";" + s + ";").getBytes(StandardCharsets.UTF_8);
+    return PropertyValueCodec.parseLong(bytes, 1, bytes.length - 1);
+  }
+
+  private static PropertyValue parseValue(String type, String s) throws IOException {
+    byte[] bytes = (";" + s + ";").getBytes(StandardCharsets.UTF_8);
+    return PropertyValueCodec.forTypeString(type).parse(bytes, 1, bytes.length - 1);
+  }
+}
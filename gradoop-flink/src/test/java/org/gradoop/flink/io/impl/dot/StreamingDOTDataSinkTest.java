@@ -0,0 +1,200 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.dot;
+
+import org.gradoop.flink.io.api.DataSink;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.api.epgm.GraphCollection;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class StreamingDOTDataSinkTest extends GradoopFlinkTestBase {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void testWriteSameContentAsDOTDataSink() throws Exception {
+    LogicalGraph inputGraph = getInputGraph();
+
+    String dotFile = temporaryFolder.getRoot() + "/check.dot";
+    String streamingDotFile = temporaryFolder.getRoot() + "/streaming.dot";
+
+    new DOTDataSink(dotFile, true).write(inputGraph);
+    new StreamingDOTDataSink(streamingDotFile, true).write(inputGraph);
+    getExecutionEnvironment().execute();
+
+    List<String> lines = readLines(streamingDotFile);
+
+    assertEquals("Wrong prefix/missing 'digraph'", "digraph {", lines.get(0));
+    assertTrue("Wrong subgraph line", lines.get(1).startsWith("subgraph cluster_g"));
+    assertEquals("Wrong number of closing lines", "}", lines.get(lines.size() - 2));
+    assertEquals("Wrong number of closing lines", "}", lines.get(lines.size() - 1));
+    assertEquals("Wrong number of edge lines", 4, countEdgeLines(lines));
+    assertEquals("Wrong number of vertex lines", 3, countVertexLines(lines));
+    assertEquals("Streaming sink wrote different content",
+      sortedContent(readLines(dotFile)), sortedContent(lines));
+  }
+
+  @Test
+  public void testWriteSkipsGraphsNotInCollection() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString(
+      "g1[(a:A)-[:e]->(b:B)]" +
+      "g2[(a)-[:e]->(c:C)-[:e]->(a)]");
+
+    GraphCollection collection = loader.getGraphCollectionByVariables("g1");
+
+    String dotFile = temporaryFolder.getRoot() + "/check.dot";
+    new StreamingDOTDataSink(dotFile, false).write(collection);
+    getExecutionEnvironment().execute();
+
+    List<String> lines = readLines(dotFile);
+
+    assertEquals("Wrong number of subgraph lines", 1, countLines(lines, "subgraph"));
+    assertEquals("Wrong number of vertex lines", 2, countVertexLines(lines));
+    assertEquals("Wrong number of edge lines", 1, countEdgeLines(lines));
+    assertEquals("Wrong number of lines", 7, lines.size());
+  }
+
+  @Test
+  public void testWriteClustersPerGraph() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString(
+      "g1[(a:A)-[:e]->(b:B)]" +
+      "g2[(a)-[:e]->(c:C)-[:e]->(a)]");
+
+    GraphCollection collection = loader.getGraphCollectionByVariables("g1", "g2");
+
+    String dotFile = temporaryFolder.getRoot() + "/check.dot";
+    new StreamingDOTDataSink(dotFile, false).write(collection);
+    getExecutionEnvironment().execute();
+
+    List<String> lines = readLines(dotFile);
+
+    assertEquals("Wrong number of subgraph lines", 2, countLines(lines, "subgraph"));
+    assertEquals("Wrong number of closing lines", 3, countLines(lines, "}"));
+    assertEquals("Wrong number of vertex lines", 4, countVertexLines(lines));
+    assertEquals("Wrong number of edge lines", 3, countEdgeLines(lines));
+  }
+
+  @Test
+  public void testWriteWithMaxDegree() throws Exception {
+    String dotFile = temporaryFolder.getRoot() + "/check.dot";
+    new StreamingDOTDataSink(dotFile, false, 1d, 1).write(getInputGraph());
+    getExecutionEnvironment().execute();
+
+    List<String> lines = readLines(dotFile);
+
+    // the forum has two outgoing edges, one of them is truncated
+    assertEquals("Wrong number of edge lines", 3, countEdgeLines(lines));
+    assertEquals("Wrong number of vertex lines", 3, countVertexLines(lines));
+  }
+
+  @Test
+  public void testWriteWithSampling() throws Exception {
+    String dotFile = temporaryFolder.getRoot() + "/check.dot";
+    new StreamingDOTDataSink(dotFile, false, 0.5d, Integer.MAX_VALUE).write(getInputGraph());
+    getExecutionEnvironment().execute();
+
+    List<String> lines = readLines(dotFile);
+
+    Set<String> vertexIds = new HashSet<>();
+    for (String line : lines) {
+      if (line.startsWith("v") && !line.contains("->")) {
+        vertexIds.add(line.substring(0, line.indexOf(' ')));
+      }
+    }
+    for (String line : lines) {
+      if (line.contains("->")) {
+        String source = line.substring(0, line.indexOf("->"));
+        String target = line.substring(line.indexOf("->") + 2, line.indexOf(' '));
+        assertTrue("Edge source not sampled", vertexIds.contains(source));
+        assertTrue("Edge target not sampled", vertexIds.contains(target));
+      }
+    }
+    assertTrue("Too many vertex lines", vertexIds.size() <= 3);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidSampleRate() {
+    new StreamingDOTDataSink("/tmp/check.dot", false, 0d, 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidMaxDegree() {
+    new StreamingDOTDataSink("/tmp/check.dot", false, 1d, 0);
+  }
+
+  private LogicalGraph getInputGraph() throws IOException {
+    String gdlFile = StreamingDOTDataSinkTest.class.getResource("/data/dot/input.gdl").getFile();
+    return getLoaderFromFile(gdlFile).getLogicalGraphByVariable("input");
+  }
+
+  private static List<String> readLines(String file) throws IOException {
+    return Files.readAllLines(Paths.get(file), StandardCharsets.UTF_8);
+  }
+
+  private static int countLines(List<String> lines, String prefix) {
+    int count = 0;
+    for (String line : lines) {
+      if (line.startsWith(prefix)) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private static int countVertexLines(List<String> lines) {
+    return countLines(lines, "v") - countEdgeLines(lines);
+  }
+
+  private static int countEdgeLines(List<String> lines) {
+    int count = 0;
+    for (String line : lines) {
+      if (line.contains("->")) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private static List<String> sortedContent(List<String> lines) {
+    List<String> content = new ArrayList<>();
+    for (String line : lines) {
+      String trimmed = line.trim();
+      if (!trimmed.isEmpty() && !trimmed.equals("}") && !trimmed.equals("digraph {")) {
+        content.add(trimmed);
+      }
+    }
+    Collections.sort(content);
+    return content;
+  }
+}
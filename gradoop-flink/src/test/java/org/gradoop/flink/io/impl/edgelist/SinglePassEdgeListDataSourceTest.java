@@ -0,0 +1,134 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.edgelist;
+
+import org.apache.flink.api.java.io.LocalCollectionOutputFormat;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SinglePassEdgeListDataSourceTest extends GradoopFlinkTestBase {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void testRead() throws Exception {
+    String edgeListFile = SinglePassEdgeListDataSourceTest.class
+      .getResource("/data/edgelist/basic/input").getFile();
+    String gdlFile = SinglePassEdgeListDataSourceTest.class
+      .getResource("/data/edgelist/basic/expected.gdl").getFile();
+
+    LogicalGraph result =
+      new SinglePassEdgeListDataSource(edgeListFile, ",", getConfig()).getLogicalGraph();
+    FlinkAsciiGraphLoader loader = getLoaderFromFile(gdlFile);
+    LogicalGraph expected = loader.getLogicalGraphByVariable("expected");
+    collectAndAssertTrue(expected.equalsByElementData(result));
+  }
+
+  @Test
+  public void testReadCompressed() throws Exception {
+    File file = temporaryFolder.newFile("edges.gz");
+    String content = "# Directed graph\n" +
+      "# FromNodeId\tToNodeId\n" +
+      "1\t2\n" +
+      "\n" +
+      "2\t3\r\n" +
+      "3 \t 1\n";
+    try (OutputStream out = new GZIPOutputStream(new FileOutputStream(file))) {
+      out.write(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    LogicalGraph result =
+      new SinglePassEdgeListDataSource(file.getPath(), "\t", getConfig()).getLogicalGraph();
+    LogicalGraph expected = getLoaderFromString("expected[(a)-->(b)-->(c)-->(a)]")
+      .getLogicalGraphByVariable("expected");
+    collectAndAssertTrue(expected.equalsByElementData(result));
+  }
+
+  @Test
+  public void testIncrementalLoad() throws Exception {
+    File first = temporaryFolder.newFile("first");
+    Files.write(first.toPath(), "1,2\n2,3\n".getBytes(StandardCharsets.UTF_8));
+    File second = temporaryFolder.newFile("second");
+    Files.write(second.toPath(), "3,4\n-5,1\n".getBytes(StandardCharsets.UTF_8));
+    String mappingPath = new File(temporaryFolder.getRoot(), "mapping").getPath();
+
+    SinglePassEdgeListDataSource firstSource =
+      new SinglePassEdgeListDataSource(first.getPath(), ",", 42, mappingPath, getConfig());
+    List<Vertex> firstVertices = new ArrayList<>();
+    firstSource.getLogicalGraph().getVertices().output(
+      new LocalCollectionOutputFormat<>(firstVertices));
+    getExecutionEnvironment().execute();
+
+    Map<Long, GradoopId> mapping = new HashMap<>();
+    File mappingFile = new File(mappingPath);
+    File[] mappingFiles = mappingFile.isDirectory() ?
+      mappingFile.listFiles() : new File[] {mappingFile};
+    for (File part : mappingFiles) {
+      for (String line : Files.readAllLines(part.toPath(), StandardCharsets.UTF_8)) {
+        String[] fields = line.split(",");
+        mapping.put(Long.parseLong(fields[0]), GradoopId.fromString(fields[1]));
+      }
+    }
+    assertEquals(3, mapping.size());
+    assertEquals(3, firstVertices.size());
+    for (Vertex vertex : firstVertices) {
+      assertTrue(mapping.containsValue(vertex.getId()));
+    }
+
+    SinglePassEdgeListDataSource secondSource = new SinglePassEdgeListDataSource(
+      second.getPath(), ",", firstSource.getIdNamespace(), null, getConfig());
+    List<Tuple2<Long, GradoopId>> secondMapping = secondSource.getIdMapping().collect();
+    List<Edge> secondEdges = secondSource.getLogicalGraph().getEdges().collect();
+
+    assertEquals(4, secondMapping.size());
+    for (Tuple2<Long, GradoopId> entry : secondMapping) {
+      if (mapping.containsKey(entry.f0)) {
+        assertEquals(mapping.get(entry.f0), entry.f1);
+      }
+    }
+    assertEquals(2, secondEdges.size());
+    for (Edge edge : secondEdges) {
+      if (edge.getTargetId().equals(mapping.get(1L))) {
+        assertTrue(!mapping.containsValue(edge.getSourceId()));
+      } else {
+        assertEquals(mapping.get(3L), edge.getSourceId());
+      }
+    }
+  }
+}
@@ -0,0 +1,215 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.json.inputformats;
+
+import com.google.common.collect.Lists;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.EdgeFactory;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.GraphHeadFactory;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.pojo.VertexFactory;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.io.impl.json.outputformats.JSONWriter;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.gradoop.common.GradoopTestUtils.validateEPGMElements;
+import static org.gradoop.common.GradoopTestUtils.validateEPGMGraphElements;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+public class JSONReaderTest {
+
+  private static final String VERTEX = "{\"id\":\"000000000000000000000001\"," +
+    "\"data\":{\"name\":\"Alice\",\"age\":23,\"big\":3000000000,\"weight\":1.5e1," +
+    "\"escaped\":\"a\\\"b\\\\c\\u00e4\\n\",\"unicode\":\"ä€\",\"flag\":false,\"none\":null," +
+    "\"list\":[1,\"x\",[]],\"map\":{\"k\":{\"n\":true}}}," +
+    "\"meta\":{\"label\":\"Person\",\"unknown\":[1,2],\"graphs\":[\"000000000000000000000002\"," +
+    "\"000000000000000000000003\"]}}";
+
+  @Test
+  public void testReadVertex() throws IOException {
+    Vertex vertex = read(VERTEX).readVertex(null, new VertexFactory());
+
+    assertEquals(GradoopId.fromString("000000000000000000000001"), vertex.getId());
+    assertEquals("Person", vertex.getLabel());
+    assertEquals(GradoopIdSet.fromExisting(GradoopId.fromString("000000000000000000000002"),
+      GradoopId.fromString("000000000000000000000003")), vertex.getGraphIds());
+
+    Properties properties = vertex.getProperties();
+    assertEquals(10, properties.size());
+    assertEquals(PropertyValue.create("Alice"), properties.get("name"));
+    assertEquals(PropertyValue.create(23), properties.get("age"));
+    assertEquals(PropertyValue.create(3000000000L), properties.get("big"));
+    assertEquals(PropertyValue.create(15.0), properties.get("weight"));
+    assertEquals(PropertyValue.create("a\"b\\cä\n"), properties.get("escaped"));
+    assertEquals(PropertyValue.create("ä€"), properties.get("unicode"));
+    assertEquals(PropertyValue.create(false), properties.get("flag"));
+    assertEquals(PropertyValue.NULL_VALUE, properties.get("none"));
+    assertEquals(PropertyValue.create(Lists.newArrayList(PropertyValue.create(1),
+      PropertyValue.create("x"), PropertyValue.create(Lists.newArrayList()))),
+      properties.get("list"));
+    Map<PropertyValue, PropertyValue> inner = new HashMap<>();
+    inner.put(PropertyValue.create("n"), PropertyValue.create(true));
+    Map<PropertyValue, PropertyValue> outer = new HashMap<>();
+    outer.put(PropertyValue.create("k"), PropertyValue.create(inner));
+    assertEquals(PropertyValue.create(outer), properties.get("map"));
+  }
+
+  @Test
+  public void testReuse() throws IOException {
+    JSONReader reader = new JSONReader();
+    Vertex reuse = new VertexFactory().createVertex("Tag", Properties.create());
+    reuse.setProperty("stale", 1);
+    Properties properties = reuse.getProperties();
+
+    byte[] bytes = VERTEX.getBytes(StandardCharsets.UTF_8);
+    reader.reset(bytes, 0, bytes.length);
+    Vertex first = reader.readVertex(reuse, new VertexFactory());
+    reader.reset(bytes, 0, bytes.length);
+    Vertex second = reader.readVertex(null, new VertexFactory());
+
+    assertSame(reuse, first);
+    assertSame(properties, first.getProperties());
+    assertFalse(first.hasProperty("stale"));
+    // labels and keys are cached
+    assertSame(first.getLabel(), second.getLabel());
+    validateEPGMGraphElements(first, second);
+    validateEPGMElements(first, second);
+  }
+
+  @Test
+  public void testReadEdgeAndGraphHead() throws IOException {
+    Edge edge = read(" { \"target\" : \"000000000000000000000003\" , \"meta\" : { " +
+      "\"label\" : \"knows\" } , \"source\" : \"000000000000000000000002\" , \"data\" : { } , " +
+      "\"id\" : \"000000000000000000000001\" }\r").readEdge(null, new EdgeFactory());
+
+    assertEquals(GradoopId.fromString("000000000000000000000001"), edge.getId());
+    assertEquals(GradoopId.fromString("000000000000000000000002"), edge.getSourceId());
+    assertEquals(GradoopId.fromString("000000000000000000000003"), edge.getTargetId());
+    assertEquals("knows", edge.getLabel());
+    assertEquals(0, edge.getPropertyCount());
+    assertEquals(0, edge.getGraphCount());
+
+    GraphHead graphHead = read("{\"id\":\"000000000000000000000001\",\"data\":{\"a\":1}," +
+      "\"meta\":{\"label\":\"Community\",\"vertices\":[]}}")
+      .readGraphHead(null, new GraphHeadFactory());
+    assertEquals("Community", graphHead.getLabel());
+    assertEquals(PropertyValue.create(1), graphHead.getPropertyValue("a"));
+  }
+
+  @Test
+  public void testWriteAndRead() throws IOException {
+    List<PropertyValue> list = Lists.newArrayList(PropertyValue.create("a\tb"),
+      PropertyValue.create(Long.MIN_VALUE));
+    Map<PropertyValue, PropertyValue> map = new HashMap<>();
+    map.put(PropertyValue.create("key \"quoted\""), PropertyValue.create(list));
+    Properties properties = Properties.create();
+    properties.set("string", "ä\u0001€😀");
+    properties.set("int", Integer.MIN_VALUE);
+    properties.set("long", Long.MAX_VALUE);
+    properties.set("double", -0.125);
+    properties.set("boolean", true);
+    properties.set("null", PropertyValue.NULL_VALUE);
+    properties.set("list", list);
+    properties.set("map", map);
+    Edge expected = new EdgeFactory().createEdge("label \\ with / chars", GradoopId.get(),
+      GradoopId.get(), properties, GradoopIdSet.fromExisting(GradoopId.get(), GradoopId.get()));
+
+    JSONWriter writer = new JSONWriter();
+    writer.writeEdge(expected);
+    Edge edge = read(writer.toString()).readEdge(null, new EdgeFactory());
+
+    validateEPGMElements(expected, edge);
+    validateEPGMGraphElements(expected, edge);
+    assertEquals(expected.getSourceId(), edge.getSourceId());
+    assertEquals(expected.getTargetId(), edge.getTargetId());
+  }
+
+  @Test
+  public void testWriteLossyValues() throws IOException {
+    Properties properties = Properties.create();
+    properties.set("float", 13.5f);
+    properties.set("decimal", new BigDecimal("1.25"));
+    properties.set("nan", Double.NaN);
+    GradoopId id = GradoopId.get();
+    properties.set("id", id);
+    Vertex vertex = new VertexFactory().createVertex("A", properties);
+
+    JSONWriter writer = new JSONWriter();
+    writer.writeVertex(vertex);
+    vertex = read(writer.toString()).readVertex(null, new VertexFactory());
+
+    assertEquals(PropertyValue.create(13.5), vertex.getPropertyValue("float"));
+    assertEquals(PropertyValue.create(1.25), vertex.getPropertyValue("decimal"));
+    assertEquals(PropertyValue.create("NaN"), vertex.getPropertyValue("nan"));
+    assertEquals(PropertyValue.create(id.toString()), vertex.getPropertyValue("id"));
+  }
+
+  @Test
+  public void testEmptyDocument() {
+    byte[] bytes = " \t\r".getBytes(StandardCharsets.UTF_8);
+    assertFalse(new JSONReader().reset(bytes, 0, bytes.length));
+  }
+
+  @Test(expected = IOException.class)
+  public void testMissingLabel() throws IOException {
+    read("{\"id\":\"000000000000000000000001\",\"data\":{},\"meta\":{}}")
+      .readVertex(null, new VertexFactory());
+  }
+
+  @Test(expected = IOException.class)
+  public void testMissingSource() throws IOException {
+    read("{\"id\":\"000000000000000000000001\",\"target\":\"000000000000000000000001\"," +
+      "\"data\":{},\"meta\":{\"label\":\"a\"}}").readEdge(null, new EdgeFactory());
+  }
+
+  @Test(expected = IOException.class)
+  public void testTrailingCharacters() throws IOException {
+    read("{\"id\":\"000000000000000000000001\",\"meta\":{\"label\":\"a\"}}}")
+      .readVertex(null, new VertexFactory());
+  }
+
+  @Test(expected = IOException.class)
+  public void testUnterminatedString() throws IOException {
+    read("{\"id\":\"000000000000000000000001\",\"meta\":{\"label\":\"a}}")
+      .readVertex(null, new VertexFactory());
+  }
+
+  @Test(expected = IOException.class)
+  public void testInvalidNumber() throws IOException {
+    read("{\"id\":\"000000000000000000000001\",\"data\":{\"a\":1-2},\"meta\":{\"label\":\"a\"}}")
+      .readVertex(null, new VertexFactory());
+  }
+
+  private static JSONReader read(String document) {
+    JSONReader reader = new JSONReader();
+    byte[] bytes = document.getBytes(StandardCharsets.UTF_8);
+    reader.reset(bytes, 0, bytes.length);
+    return reader;
+  }
+}
@@ -0,0 +1,148 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.mapped;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.api.java.io.LocalCollectionOutputFormat;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.api.epgm.GraphCollection;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.gradoop.common.GradoopTestUtils.validateEPGMElementCollections;
+import static org.gradoop.common.GradoopTestUtils.validateEPGMGraphElementCollections;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MappedGraphIOTest extends GradoopFlinkTestBase {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void testWriteRead() throws Exception {
+    String path = new File(temporaryFolder.getRoot(), "graph.bin").getPath();
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+
+    loader.getDatabase().writeTo(new MappedGraphDataSink(path, getConfig()));
+    getExecutionEnvironment().execute();
+
+    GraphCollection collection = new MappedGraphDataSource(path, getConfig())
+      .getGraphCollection();
+
+    Collection<GraphHead> loadedGraphHeads = Lists.newArrayList();
+    Collection<Vertex> loadedVertices = Lists.newArrayList();
+    Collection<Edge> loadedEdges = Lists.newArrayList();
+
+    collection.getGraphHeads().output(new LocalCollectionOutputFormat<>(loadedGraphHeads));
+    collection.getVertices().output(new LocalCollectionOutputFormat<>(loadedVertices));
+    collection.getEdges().output(new LocalCollectionOutputFormat<>(loadedEdges));
+
+    getExecutionEnvironment().execute();
+
+    validateEPGMElementCollections(loader.getGraphHeads(), loadedGraphHeads);
+    validateEPGMElementCollections(loader.getVertices(), loadedVertices);
+    validateEPGMGraphElementCollections(loader.getVertices(), loadedVertices);
+    validateEPGMElementCollections(loader.getEdges(), loadedEdges);
+    validateEPGMGraphElementCollections(loader.getEdges(), loadedEdges);
+  }
+
+  @Test
+  public void testReadLogicalGraph() throws Exception {
+    String path = new File(temporaryFolder.getRoot(), "graph.bin").getPath();
+    LogicalGraph input = getSocialNetworkLoader().getLogicalGraphByVariable("g0");
+
+    input.writeTo(new MappedGraphDataSink(path, getConfig()));
+    getExecutionEnvironment().execute();
+
+    LogicalGraph output = new MappedGraphDataSource(path, getConfig()).getLogicalGraph();
+
+    collectAndAssertTrue(input.equalsByElementData(output));
+  }
+
+  @Test
+  public void testAdjacency() throws Exception {
+    String path = new File(temporaryFolder.getRoot(), "graph.bin").getPath();
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+
+    loader.getDatabase().getDatabaseGraph().writeTo(new MappedGraphDataSink(path, getConfig()));
+    getExecutionEnvironment().execute();
+
+    // temporary sections are removed
+    assertEquals(1, temporaryFolder.getRoot().list().length);
+
+    Map<GradoopId, Edge> expectedEdges = new HashMap<>();
+    loader.getEdges().forEach(edge -> expectedEdges.put(edge.getId(), edge));
+
+    try (MappedGraph graph = new MappedGraph(path)) {
+      assertEquals(1, graph.getGraphHeadCount());
+      assertEquals(loader.getVertices().size(), graph.getVertexCount());
+      assertEquals(loader.getEdges().size(), graph.getEdgeCount());
+
+      GradoopId previousId = null;
+      long edgeCount = 0;
+      for (long v = 0; v < graph.getVertexCount(); v++) {
+        Vertex vertex = graph.getVertex(v, getConfig().getVertexFactory());
+        assertEquals(vertex.getId(), graph.getVertexId(v));
+        assertEquals(v, graph.getVertexIndex(vertex.getId()));
+        assertTrue(previousId == null || previousId.compareTo(vertex.getId()) < 0);
+        previousId = vertex.getId();
+
+        for (long e = graph.getOutgoingEdgesStart(v); e < graph.getOutgoingEdgesEnd(v); e++) {
+          Edge edge = graph.getEdge(e, getConfig().getEdgeFactory());
+          Edge expected = expectedEdges.get(edge.getId());
+          assertEquals(vertex.getId(), edge.getSourceId());
+          assertEquals(expected.getSourceId(), edge.getSourceId());
+          assertEquals(expected.getTargetId(), edge.getTargetId());
+          assertEquals(expected.getTargetId(), graph.getVertexId(graph.getTargetIndex(e)));
+          edgeCount++;
+        }
+      }
+      assertEquals(graph.getEdgeCount(), edgeCount);
+      assertEquals(-1, graph.getVertexIndex(GradoopId.get()));
+    }
+  }
+
+  @Test(expected = Exception.class)
+  public void testRejectDanglingEdge() throws Exception {
+    String path = new File(temporaryFolder.getRoot(), "graph.bin").getPath();
+    Vertex vertex = getConfig().getVertexFactory().createVertex("A");
+    Edge edge = getConfig().getEdgeFactory().createEdge("e", vertex.getId(), GradoopId.get());
+
+    getConfig().getLogicalGraphFactory()
+      .fromCollections(Collections.singletonList(vertex), Collections.singletonList(edge))
+      .writeTo(new MappedGraphDataSink(path, getConfig()));
+    try {
+      getExecutionEnvironment().execute();
+    } finally {
+      assertFalse(new File(path).exists());
+    }
+  }
+}
@@ -0,0 +1,178 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.tlf.inputformats;
+
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.core.fs.FileInputSplit;
+import org.gradoop.flink.algorithms.fsm.dimspan.tuples.LabeledGraphStringString;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class TLFLabeledGraphInputFormatTest extends GradoopFlinkTestBase {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void testRead() throws Exception {
+    String tlfFile = TLFLabeledGraphInputFormatTest.class
+      .getResource("/data/tlf/io_test_string.tlf").getFile();
+
+    List<LabeledGraphStringString> graphs = getExecutionEnvironment()
+      .createInput(new TLFLabeledGraphInputFormat(tlfFile))
+      .collect();
+
+    List<String> expected = Arrays.asList(
+      "([0, 1, 0, 1],[A, B],[a, b])",
+      "([0, 1, 1, 0],[A, B],[a, b])");
+
+    assertEquals(expected, toSortedStrings(graphs));
+  }
+
+  @Test
+  public void testReadSplits() throws Exception {
+    String tlfFile = TLFLabeledGraphInputFormatTest.class
+      .getResource("/data/tlf/yeast.tlf").getFile();
+
+    List<String> lines = Files.readAllLines(new File(tlfFile).toPath(), StandardCharsets.UTF_8);
+    int graphCount = 0;
+    int vertexCount = 0;
+    int edgeCount = 0;
+    for (String line : lines) {
+      if (line.startsWith("t ")) {
+        graphCount++;
+      } else if (line.startsWith("v ")) {
+        vertexCount++;
+      } else if (line.startsWith("e ")) {
+        edgeCount++;
+      }
+    }
+
+    List<String> expected = toSortedStrings(readAll(tlfFile, 1));
+
+    for (int splits : new int[] {2, 7, 31}) {
+      List<LabeledGraphStringString> graphs = readAll(tlfFile, splits);
+
+      int vertices = 0;
+      int edges = 0;
+      for (LabeledGraphStringString graph : graphs) {
+        vertices += graph.getVertexLabels().length;
+        edges += graph.getEdgeLabels().length;
+      }
+
+      assertEquals(graphCount, graphs.size());
+      assertEquals(vertexCount, vertices);
+      assertEquals(edgeCount, edges);
+      assertEquals(expected, toSortedStrings(graphs));
+    }
+  }
+
+  @Test
+  public void testReadSparseIdsAndLabelsWithSpaces() throws Exception {
+    File file = temporaryFolder.newFile("sparse.tlf");
+    String content = "\r\n" +
+      "t # 0\r\n" +
+      "v 7 Label A\r\n" +
+      "v 100000 B\r\n" +
+      "v 3 A\r\n" +
+      "e 100000 7 edge label\r\n" +
+      "e 3 100000 a\r\n" +
+      "t # 1\n" +
+      "v 0 A\n";
+    Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+
+    List<LabeledGraphStringString> graphs = readAll(file.getPath(), 1);
+
+    assertEquals(2, graphs.size());
+
+    LabeledGraphStringString first = graphs.get(0);
+    assertArrayEquals(new String[] {"Label A", "B", "A"}, first.getVertexLabels());
+    assertArrayEquals(new String[] {"edge label", "a"}, first.getEdgeLabels());
+    assertEquals(1, first.getSourceId(0));
+    assertEquals(0, first.getTargetId(0));
+    assertEquals(2, first.getSourceId(1));
+    assertEquals(1, first.getTargetId(1));
+
+    LabeledGraphStringString second = graphs.get(1);
+    assertArrayEquals(new String[] {"A"}, second.getVertexLabels());
+    assertEquals(0, second.getEdgeLabels().length);
+  }
+
+  @Test(expected = IOException.class)
+  public void testReadUnknownVertex() throws Exception {
+    File file = temporaryFolder.newFile("invalid.tlf");
+    String content = "t # 0\nv 0 A\ne 0 1 a\n";
+    Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+
+    readAll(file.getPath(), 1);
+  }
+
+  /**
+   * Reads all graphs of the given file, using the given minimum number of splits.
+   *
+   * @param path file path
+   * @param splits minimum number of splits
+   * @return graphs in order of appearance
+   * @throws IOException on failure
+   */
+  private List<LabeledGraphStringString> readAll(String path, int splits) throws IOException {
+    TLFLabeledGraphInputFormat format = new TLFLabeledGraphInputFormat(path);
+    format.configure(new Configuration());
+
+    List<LabeledGraphStringString> graphs = new ArrayList<>();
+    for (FileInputSplit split : format.createInputSplits(splits)) {
+      format.open(split);
+      while (!format.reachedEnd()) {
+        LabeledGraphStringString graph = format.nextRecord(null);
+        if (graph != null) {
+          graphs.add(graph);
+        }
+      }
+      format.close();
+    }
+    return graphs;
+  }
+
+  /**
+   * Returns sorted string representations of the given graphs.
+   *
+   * @param graphs graphs
+   * @return sorted strings
+   */
+  private List<String> toSortedStrings(List<LabeledGraphStringString> graphs) {
+    List<String> strings = new ArrayList<>();
+    for (LabeledGraphStringString graph : graphs) {
+      strings.add("(" + Arrays.toString(graph.f0) + "," + Arrays.toString(graph.f1) + "," +
+        Arrays.toString(graph.f2) + ")");
+    }
+    Collections.sort(strings);
+    return strings;
+  }
+}
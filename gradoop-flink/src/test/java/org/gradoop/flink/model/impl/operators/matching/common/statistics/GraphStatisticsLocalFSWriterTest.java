@@ -0,0 +1,57 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.common.statistics;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class GraphStatisticsLocalFSWriterTest {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void testWriteCardinalityFeedback() throws Exception {
+    File statisticsDir = temporaryFolder.newFolder();
+    FileUtils.copyDirectory(new File(GraphStatisticsLocalFSWriterTest.class
+      .getResource("/data/json/sna/statistics").getFile()), statisticsDir);
+
+    GraphStatistics statistics = GraphStatisticsLocalFSReader.read(statisticsDir.getPath());
+    assertNull(statistics.getCardinalityFeedback());
+
+    CardinalityFeedback feedback = new CardinalityFeedback();
+    feedback.record("(a {a.__label__ = Person})", 6L);
+    feedback.record("(a)-[e {e.__label__ = knows}]->(b) MORPHISM ISOMORPHISM,HOMOMORPHISM", 10L);
+    statistics.setCardinalityFeedback(feedback);
+
+    GraphStatisticsLocalFSWriter.writeCardinalityFeedback(statisticsDir.getPath(), statistics);
+
+    statistics = GraphStatisticsLocalFSReader.read(statisticsDir.getPath());
+    assertEquals(feedback.getObservedCardinalities(),
+      statistics.getCardinalityFeedback().getObservedCardinalities());
+    assertEquals(6L, statistics.getCardinalityFeedback().getCardinality(
+      "(a {a.__label__ = Person})"));
+    assertEquals(CardinalityFeedback.UNKNOWN,
+      statistics.getCardinalityFeedback().getCardinality("(b)"));
+  }
+}
@@ -0,0 +1,78 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.common.util;
+
+import com.google.common.collect.Lists;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class BitsetsTest {
+
+  @Test
+  public void testSetAndClear() {
+    long[] bits = Bitsets.create(130);
+    assertEquals(3, bits.length);
+    assertTrue(Bitsets.isEmpty(bits));
+
+    Bitsets.set(bits, 0);
+    Bitsets.set(bits, 64);
+    Bitsets.set(bits, 129);
+    assertTrue(Bitsets.get(bits, 64));
+    assertFalse(Bitsets.get(bits, 63));
+    assertEquals(3, Bitsets.cardinality(bits));
+
+    Bitsets.clear(bits, 64);
+    assertFalse(Bitsets.get(bits, 64));
+    assertEquals("0,129", Bitsets.toString(bits));
+  }
+
+  @Test
+  public void testNextSetBit() {
+    long[] bits = Bitsets.fromIds(100, Lists.newArrayList(3L, 63L, 99L));
+    assertEquals(3, Bitsets.nextSetBit(bits, 0));
+    assertEquals(63, Bitsets.nextSetBit(bits, 4));
+    assertEquals(99, Bitsets.nextSetBit(bits, 64));
+    assertEquals(-1, Bitsets.nextSetBit(bits, 100));
+    assertEquals(-1, Bitsets.nextSetBit(bits, 128));
+  }
+
+  @Test
+  public void testSetOperations() {
+    long[] left = Bitsets.fromBooleans(new boolean[] {true, true, false, true});
+    long[] right = Bitsets.fromBooleans(new boolean[] {false, true, true, false});
+
+    assertTrue(Bitsets.intersects(left, right));
+    assertFalse(Bitsets.containsAll(left, right));
+
+    Bitsets.or(left, right);
+    assertEquals("0,1,2,3", Bitsets.toString(left));
+    assertTrue(Bitsets.containsAll(left, right));
+
+    Bitsets.andNot(left, right);
+    assertEquals("0,3", Bitsets.toString(left));
+    assertFalse(Bitsets.intersects(left, right));
+  }
+
+  @Test
+  public void testFromIds() {
+    assertArrayEquals(new long[] {0L}, Bitsets.fromIds(10, null));
+    assertArrayEquals(new long[] {5L}, Bitsets.fromIds(10, Lists.newArrayList(0L, 2L)));
+  }
+}
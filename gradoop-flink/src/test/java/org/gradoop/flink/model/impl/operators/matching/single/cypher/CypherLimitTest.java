@@ -0,0 +1,77 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher;
+
+import org.apache.flink.types.Row;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.api.epgm.GraphCollection;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.explain.PlanNodeProfile;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CypherLimitTest extends GradoopFlinkTestBase {
+
+  private static final String GRAPH = "g[" +
+    "(v0:A)-[:a]->(v1:B),(v0)-[:a]->(v2:B),(v0)-[:a]->(v3:B)," +
+    "(v1)-[:b]->(v4:C),(v2)-[:b]->(v4),(v3)-[:b]->(v4)" +
+    "]";
+
+  @Test
+  public void testGraphCollectionLimit() throws Exception {
+    LogicalGraph graph = getLoaderFromString(GRAPH).getLogicalGraphByVariable("g");
+
+    GraphCollection result = graph.cypher("MATCH (a:A)-[e]->(b)-[f]->(c) RETURN * LIMIT 2");
+
+    assertEquals(2, result.getGraphHeads().count());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testGraphCollectionOrderBy() throws Exception {
+    LogicalGraph graph = getLoaderFromString(GRAPH).getLogicalGraphByVariable("g");
+
+    graph.cypher("MATCH (a:A)-[e]->(b)-[f]->(c) RETURN * ORDER BY b.name LIMIT 2");
+  }
+
+  @Test
+  public void testTableLimit() throws Exception {
+    LogicalGraph graph = getLoaderFromString(GRAPH).getLogicalGraphByVariable("g");
+
+    List<Row> rows = graph.cypherTable("MATCH (a:A)-[e]->(b)-[f]->(c) RETURN b LIMIT 1").collect();
+
+    assertEquals(1, rows.size());
+  }
+
+  @Test
+  public void testLimitInQueryPlan() throws Exception {
+    LogicalGraph graph = getLoaderFromString(GRAPH).getLogicalGraphByVariable("g");
+    CypherPatternMatching op = new CypherPatternMatching(
+      "MATCH (a:A)-[e]->(b)-[f]->(c) RETURN * LIMIT 2", true,
+      MatchStrategy.HOMOMORPHISM, MatchStrategy.ISOMORPHISM, new GraphStatistics(1, 1, 1, 1));
+
+    List<PlanNodeProfile> profiles = op.explain(graph).getNodeProfiles();
+
+    PlanNodeProfile root = profiles.get(0);
+    assertTrue(root.getDescription().startsWith("LimitEmbeddingsNode"));
+    assertTrue(root.getEstimatedCardinality() <= 2);
+  }
+}
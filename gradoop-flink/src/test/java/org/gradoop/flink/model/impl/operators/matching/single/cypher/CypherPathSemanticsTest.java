@@ -0,0 +1,70 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher;
+
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.api.epgm.GraphCollection;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Test;
+
+public class CypherPathSemanticsTest extends GradoopFlinkTestBase {
+
+  private static final String GRAPH = "g[" +
+    "(v0:A)-[e0:a]->(v1:B)-[e1:a]->(v2:C)," +
+    "(v0)-[e2:a]->(v3:B)-[e3:a]->(v2)," +
+    "(v0)-[e4:a]->(v4:B)-[e5:a]->(v5:B)-[e6:a]->(v2)" +
+    "]";
+
+  @Test
+  public void testAllShortestPaths() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString(GRAPH +
+      "expected0[(v0)-[e0]->(v1)-[e1]->(v2)]" +
+      "expected1[(v0)-[e2]->(v3)-[e3]->(v2)]");
+
+    GraphCollection result = execute(loader.getLogicalGraphByVariable("g"),
+      "MATCH allShortestPaths((a:A)-[e*1..5]->(b:C))");
+
+    collectAndAssertTrue(result.equalsByGraphElementIds(
+      loader.getGraphCollectionByVariables("expected0", "expected1")));
+  }
+
+  @Test
+  public void testReachability() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString(GRAPH +
+      "expected0[(v0)(v2)]");
+
+    GraphCollection result = execute(loader.getLogicalGraphByVariable("g"),
+      "MATCH reachable((a:A)-[e*1..5]->(b:C))");
+
+    collectAndAssertTrue(result.equalsByGraphElementIds(
+      loader.getGraphCollectionByVariables("expected0")));
+  }
+
+  /**
+   * Executes the given query on the given graph.
+   *
+   * @param graph data graph
+   * @param query Cypher query
+   * @return query result
+   */
+  private GraphCollection execute(LogicalGraph graph, String query) {
+    return new CypherPatternMatching(query, true, MatchStrategy.ISOMORPHISM,
+      MatchStrategy.ISOMORPHISM, new GraphStatistics(1, 1, 1, 1)).execute(graph);
+  }
+}
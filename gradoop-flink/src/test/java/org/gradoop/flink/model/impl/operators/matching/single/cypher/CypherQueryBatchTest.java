@@ -0,0 +1,162 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.types.Row;
+import org.gradoop.flink.io.api.DataSink;
+import org.gradoop.flink.io.impl.json.JSONDataSink;
+import org.gradoop.flink.io.impl.json.JSONDataSource;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.api.epgm.GraphCollection;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CypherQueryBatchTest extends GradoopFlinkTestBase {
+
+  private static final String GRAPH = "g[" +
+    "(v0:A)-[:a]->(v1:B {x:1,y:10}),(v0)-[:a]->(v2:B {x:2,y:20}),(v0)-[:a]->(v3:B {x:3,y:30})," +
+    "(v1)-[:b]->(v4:C),(v2)-[:b]->(v4),(v3)-[:b]->(v4)" +
+    "]";
+
+  private static final List<String> QUERIES = Lists.newArrayList(
+    "MATCH (a:A)-[e:a]->(b:B)-[f:b]->(c:C)",
+    "MATCH (a:A)-[e:a]->(b:B)",
+    "MATCH (a:A)-[e:a]->(b:B)-[f:b]->(c:C) WHERE a <> c");
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void testExecute() throws Exception {
+    LogicalGraph graph = getLoaderFromString(GRAPH).getLogicalGraphByVariable("g");
+    CypherQueryBatch batch = createBatch();
+
+    List<GraphCollection> results = batch.execute(graph);
+
+    assertEquals(QUERIES.size(), results.size());
+    for (int i = 0; i < QUERIES.size(); i++) {
+      collectAndAssertTrue(results.get(i).equalsByGraphElementIds(graph.cypher(QUERIES.get(i))));
+    }
+    assertTrue(batch.getSharedSubPlans().getReuseCount() > 0);
+  }
+
+  @Test
+  public void testExecuteTable() throws Exception {
+    LogicalGraph graph = getLoaderFromString(GRAPH).getLogicalGraphByVariable("g");
+    CypherQueryBatch batch = createBatch();
+
+    List<List<Row>> rows = Lists.newArrayList();
+    for (DataSet<Row> result : batch.executeTable(graph)) {
+      rows.add(result.collect());
+    }
+
+    assertEquals(3, rows.get(0).size());
+    assertEquals(3, rows.get(1).size());
+    assertEquals(3, rows.get(2).size());
+    assertTrue(batch.getSharedSubPlans().getReuseCount() > 0);
+  }
+
+  @Test
+  public void testExecuteWithDifferentVariables() throws Exception {
+    LogicalGraph graph = getLoaderFromString(GRAPH).getLogicalGraphByVariable("g");
+    List<String> queries = Lists.newArrayList(
+      "MATCH (a:A)-[e:a]->(b:B)-[f:b]->(c:C)",
+      "MATCH (p:A)-[q:a]->(r:B)-[s:b]->(t:C)");
+    CypherQueryBatch single = createBatch(queries.subList(0, 1));
+    CypherQueryBatch batch = createBatch(queries);
+
+    single.execute(graph);
+    List<GraphCollection> results = batch.execute(graph);
+
+    for (int i = 0; i < queries.size(); i++) {
+      collectAndAssertTrue(results.get(i).equalsByGraphElementIds(graph.cypher(queries.get(i))));
+    }
+    // the second query completely reuses the plan of the first one
+    assertEquals(single.getSharedSubPlans().getSubPlanCount(),
+      batch.getSharedSubPlans().getSubPlanCount());
+    assertEquals(1, batch.getSharedSubPlans().getReuseCount());
+  }
+
+  @Test
+  public void testExecuteTableWithDifferentProjections() throws Exception {
+    LogicalGraph graph = getLoaderFromString(GRAPH).getLogicalGraphByVariable("g");
+    CypherQueryBatch batch = createBatch(Lists.newArrayList(
+      "MATCH (a:A)-[e:a]->(b:B) RETURN b.x",
+      "MATCH (p:A)-[q:a]->(r:B) RETURN r.y"));
+
+    List<DataSet<Row>> results = batch.executeTable(graph);
+
+    assertEquals(Sets.newHashSet(PropertyValue.create(1), PropertyValue.create(2),
+      PropertyValue.create(3)), getFirstFields(results.get(0)));
+    assertEquals(Sets.newHashSet(PropertyValue.create(10), PropertyValue.create(20),
+      PropertyValue.create(30)), getFirstFields(results.get(1)));
+    // the vertex and edge scans share their filtered elements
+    assertTrue(batch.getSharedSubPlans().getReuseCount() > 0);
+  }
+
+  @Test
+  public void testWrite() throws Exception {
+    LogicalGraph graph = getLoaderFromString(GRAPH).getLogicalGraphByVariable("g");
+    CypherQueryBatch batch = createBatch();
+
+    List<String> paths = Lists.newArrayList();
+    List<DataSink> sinks = Lists.newArrayList();
+    for (int i = 0; i < QUERIES.size(); i++) {
+      paths.add(temporaryFolder.newFolder().getPath());
+      sinks.add(new JSONDataSink(paths.get(i), getConfig()));
+    }
+    batch.write(graph, sinks);
+
+    for (int i = 0; i < QUERIES.size(); i++) {
+      GraphCollection result = new JSONDataSource(paths.get(i), getConfig()).getGraphCollection();
+      collectAndAssertTrue(result.equalsByGraphElementIds(graph.cypher(QUERIES.get(i))));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWriteWithMissingSink() throws Exception {
+    LogicalGraph graph = getLoaderFromString(GRAPH).getLogicalGraphByVariable("g");
+    createBatch().write(graph, Lists.newArrayList());
+  }
+
+  private static CypherQueryBatch createBatch() {
+    return createBatch(QUERIES);
+  }
+
+  private static CypherQueryBatch createBatch(List<String> queries) {
+    return new CypherQueryBatch(queries, true, MatchStrategy.HOMOMORPHISM,
+      MatchStrategy.ISOMORPHISM, new GraphStatistics(1, 1, 1, 1));
+  }
+
+  private static Set<Object> getFirstFields(DataSet<Row> rows) throws Exception {
+    return rows.collect().stream().map(row -> row.getField(0)).collect(Collectors.toSet());
+  }
+}
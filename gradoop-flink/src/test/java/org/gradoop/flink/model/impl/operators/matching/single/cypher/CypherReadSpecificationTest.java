@@ -0,0 +1,76 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.io.api.PropertyRange;
+import org.gradoop.flink.io.api.ReadSpecification;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class CypherReadSpecificationTest {
+
+  @Test
+  public void testLabelsKeysAndRanges() {
+    ReadSpecification spec = getReadSpecification(
+      "MATCH (a:Person)-[e:knows]->(b:Person) " +
+        "WHERE a.age > 30 AND 20 <= b.age AND e.since = 2014 RETURN b.name", false);
+
+    assertEquals(Sets.newHashSet("Person"), spec.getVertexLabels());
+    assertEquals(Sets.newHashSet("age", "name"), spec.getVertexPropertyKeys());
+    assertEquals(Lists.newArrayList(new PropertyRange("age", PropertyValue.create(20), null)),
+      spec.getVertexRanges());
+    assertEquals(Sets.newHashSet("knows"), spec.getEdgeLabels());
+    assertEquals(Sets.newHashSet("since"), spec.getEdgePropertyKeys());
+    assertEquals(Lists.newArrayList(new PropertyRange("since",
+      PropertyValue.create(2014), PropertyValue.create(2014))), spec.getEdgeRanges());
+  }
+
+  @Test
+  public void testUnrestrictedVariables() {
+    ReadSpecification spec = getReadSpecification(
+      "MATCH (a:Person)-[e]->(b) WHERE a.age > 30 OR a.name = 'Alice'", false);
+
+    assertNull(spec.getVertexLabels());
+    assertTrue(spec.getVertexRanges().isEmpty());
+    assertNull(spec.getEdgeLabels());
+    assertTrue(spec.getEdgePropertyKeys().isEmpty());
+  }
+
+  @Test
+  public void testAttachDataWithPaths() {
+    ReadSpecification spec = getReadSpecification(
+      "MATCH (a:Person)-[e:knows*1..3]->(b:Person) WHERE e.since > 2014", true);
+
+    assertNull(spec.getVertexLabels());
+    assertNull(spec.getVertexPropertyKeys());
+    assertEquals(Sets.newHashSet("knows"), spec.getEdgeLabels());
+    assertNull(spec.getEdgePropertyKeys());
+    assertTrue(spec.getEdgeRanges().isEmpty());
+  }
+
+  private static ReadSpecification getReadSpecification(String query, boolean attachData) {
+    return new CypherPatternMatching(query, attachData, MatchStrategy.HOMOMORPHISM,
+      MatchStrategy.ISOMORPHISM, new GraphStatistics(1, 1, 1, 1)).getReadSpecification();
+  }
+}
@@ -0,0 +1,185 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher;
+
+import org.apache.flink.types.Row;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CypherTableTest extends GradoopFlinkTestBase {
+
+  private static final String GRAPH = "g[" +
+    "(v0:Person {name : \"Alice\", age : 23})-[e0:knows]->(v1:Person {name : \"Bob\", age : 42})," +
+    "(v1)-[e1:knows]->(v2:Person {name : \"Eve\", age : 35})," +
+    "(v0)-[e2:likes]->(v2)" +
+    "]";
+
+  @Test
+  public void testReturnProperties() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString(GRAPH);
+    LogicalGraph graph = loader.getLogicalGraphByVariable("g");
+
+    List<Row> rows = graph.cypherTable(
+      "MATCH (a:Person)-[:knows]->(b:Person) WHERE b.age > 40 RETURN a, a.name, b.name")
+      .collect();
+
+    assertEquals(1, rows.size());
+    Row row = rows.get(0);
+    assertEquals(3, row.getArity());
+    assertEquals(loader.getVertexByVariable("v0").getId(), row.getField(0));
+    assertEquals(PropertyValue.create("Alice"), row.getField(1));
+    assertEquals(PropertyValue.create("Bob"), row.getField(2));
+  }
+
+  @Test
+  public void testReturnAllVariables() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString(GRAPH);
+    LogicalGraph graph = loader.getLogicalGraphByVariable("g");
+
+    List<Row> rows = graph.cypherTable("MATCH (b)<-[e:knows]-(a)-[:likes]->()").collect();
+
+    assertEquals(1, rows.size());
+    Row row = rows.get(0);
+    assertEquals(3, row.getArity());
+    assertEquals(loader.getVertexByVariable("v0").getId(), row.getField(0));
+    assertEquals(loader.getVertexByVariable("v1").getId(), row.getField(1));
+    assertEquals(loader.getEdgeByVariable("e0").getId(), row.getField(2));
+  }
+
+  @Test
+  public void testReturnPath() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString(GRAPH);
+    LogicalGraph graph = loader.getLogicalGraphByVariable("g");
+
+    List<Row> rows = graph.cypherTable(
+      "MATCH (a)-[p:knows*2..2]->(b) RETURN p, b.name").collect();
+
+    assertEquals(1, rows.size());
+    assertArrayEquals(new GradoopId[] {
+      loader.getEdgeByVariable("e0").getId(),
+      loader.getVertexByVariable("v1").getId(),
+      loader.getEdgeByVariable("e1").getId()
+    }, (GradoopId[]) rows.get(0).getField(0));
+    assertEquals(PropertyValue.create("Eve"), rows.get(0).getField(1));
+  }
+
+  @Test
+  public void testMultipleRows() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString(GRAPH);
+    LogicalGraph graph = loader.getLogicalGraphByVariable("g");
+
+    Set<PropertyValue> names = graph.cypherTable("MATCH (a:Person) RETURN a.name")
+      .collect().stream()
+      .map(row -> (PropertyValue) row.getField(0))
+      .collect(Collectors.toSet());
+
+    assertEquals(3, names.size());
+    assertTrue(names.containsAll(Arrays.asList(
+      PropertyValue.create("Alice"), PropertyValue.create("Bob"), PropertyValue.create("Eve"))));
+  }
+
+  @Test
+  public void testExplain() throws Exception {
+    LogicalGraph graph = getLoaderFromString(GRAPH).getLogicalGraphByVariable("g");
+
+    assertEquals(0, graph.cypherTable("EXPLAIN MATCH (a)-[e]->(b) RETURN a.name").count());
+  }
+
+  @Test
+  public void testCount() throws Exception {
+    LogicalGraph graph = getLoaderFromString(GRAPH).getLogicalGraphByVariable("g");
+
+    List<Row> rows = graph.cypherTable("MATCH (a)-[e]->(b) RETURN count(*)").collect();
+
+    assertEquals(1, rows.size());
+    assertEquals(3L, rows.get(0).getField(0));
+  }
+
+  @Test
+  public void testCountWithoutMatches() throws Exception {
+    LogicalGraph graph = getLoaderFromString(GRAPH).getLogicalGraphByVariable("g");
+
+    List<Row> rows = graph.cypherTable(
+      "MATCH (a:Person) WHERE a.age > 100 RETURN count(*), sum(a.age)").collect();
+
+    assertEquals(1, rows.size());
+    assertEquals(0L, rows.get(0).getField(0));
+    assertEquals(PropertyValue.NULL_VALUE, rows.get(0).getField(1));
+  }
+
+  @Test
+  public void testGroupedAggregates() throws Exception {
+    LogicalGraph graph = getLoaderFromString(GRAPH).getLogicalGraphByVariable("g");
+
+    List<Row> rows = graph.cypherTable(
+      "MATCH (a)-[e]->(b) RETURN a.name, count(b), sum(b.age), min(b.name), avg(b.age) " +
+        "ORDER BY a.name").collect();
+
+    assertEquals(2, rows.size());
+    assertEquals(PropertyValue.create("Alice"), rows.get(0).getField(0));
+    assertEquals(2L, rows.get(0).getField(1));
+    assertEquals(PropertyValue.create(77), rows.get(0).getField(2));
+    assertEquals(PropertyValue.create("Bob"), rows.get(0).getField(3));
+    assertEquals(PropertyValue.create(38.5), rows.get(0).getField(4));
+    assertEquals(PropertyValue.create("Bob"), rows.get(1).getField(0));
+    assertEquals(1L, rows.get(1).getField(1));
+    assertEquals(PropertyValue.create(35), rows.get(1).getField(2));
+  }
+
+  @Test
+  public void testOrderByAndLimit() throws Exception {
+    LogicalGraph graph = getLoaderFromString(GRAPH).getLogicalGraphByVariable("g");
+
+    List<Row> rows = graph.cypherTable(
+      "MATCH (a:Person) RETURN a.name, a.age ORDER BY a.age DESC LIMIT 2").collect();
+
+    assertEquals(2, rows.size());
+    assertEquals(PropertyValue.create("Bob"), rows.get(0).getField(0));
+    assertEquals(PropertyValue.create("Eve"), rows.get(1).getField(0));
+  }
+
+  @Test
+  public void testLimit() throws Exception {
+    LogicalGraph graph = getLoaderFromString(GRAPH).getLogicalGraphByVariable("g");
+
+    assertEquals(2, graph.cypherTable("MATCH (a:Person) RETURN a LIMIT 2").count());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testOrderByUnknownItem() throws Exception {
+    getLoaderFromString(GRAPH).getLogicalGraphByVariable("g")
+      .cypherTable("MATCH (a) RETURN a.name ORDER BY a.age");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnknownVariable() throws Exception {
+    getLoaderFromString(GRAPH).getLogicalGraphByVariable("g")
+      .cypherTable("MATCH (a)-[e]->(b) RETURN c");
+  }
+}
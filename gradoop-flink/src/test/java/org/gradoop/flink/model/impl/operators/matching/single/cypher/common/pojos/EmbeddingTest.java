@@ -16,11 +16,17 @@
 package org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos;
 
 import com.google.common.collect.Lists;
+import org.apache.flink.core.memory.DataInputViewStreamWrapper;
+import org.apache.flink.core.memory.DataOutputViewStreamWrapper;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.DenseIdMapping;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
 import static org.gradoop.common.GradoopTestUtils.writeAndReadValue;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.*;
@@ -380,4 +386,60 @@ public class EmbeddingTest {
     outEmbedding = writeAndReadValue(Embedding.class, inEmbedding);
     assertEquals(inEmbedding, outEmbedding);
   }
+
+  @Test
+  public void testWriteReadDenseIds() throws Exception {
+    Embedding inEmbedding = new Embedding();
+    inEmbedding.add(DenseIdMapping.toDenseId(0L));
+    inEmbedding.add(DenseIdMapping.toDenseId(1L), PropertyValue.create(42));
+    inEmbedding.add(DenseIdMapping.toDenseId(Long.MAX_VALUE));
+    inEmbedding.add(GradoopId.get());
+    inEmbedding.add(new GradoopId[0]);
+    inEmbedding.add(
+      DenseIdMapping.toDenseId(2L), DenseIdMapping.toDenseId(300L), GradoopId.get());
+
+    Embedding outEmbedding = writeAndReadValue(Embedding.class, inEmbedding);
+    assertEquals(inEmbedding, outEmbedding);
+    assertEquals(DenseIdMapping.toDenseId(0L), outEmbedding.getId(0));
+    assertEquals(DenseIdMapping.toDenseId(Long.MAX_VALUE), outEmbedding.getId(2));
+    assertEquals(inEmbedding.getIdList(5), outEmbedding.getIdList(5));
+  }
+
+  @Test
+  public void testSerializedSizeOfDenseIds() throws Exception {
+    Embedding embedding = new Embedding();
+    for (long i = 1; i <= 10; i++) {
+      embedding.add(DenseIdMapping.toDenseId(i));
+    }
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    embedding.write(new DataOutputViewStreamWrapper(bytes));
+
+    // 3 size fields + 10 ids consisting of a header and a single byte
+    assertEquals(3 * Integer.BYTES + 10 * 2, bytes.size());
+  }
+
+  @Test
+  public void testCopySerialized() throws Exception {
+    Embedding embedding = new Embedding();
+    embedding.add(DenseIdMapping.toDenseId(2L));
+    embedding.add(GradoopId.get(), PropertyValue.create(42), PropertyValue.create("foo"));
+    embedding.add(new GradoopId[0]);
+    embedding.add(DenseIdMapping.toDenseId(3L), GradoopId.NULL_VALUE, GradoopId.get());
+    embedding.add(GradoopId.get());
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    embedding.write(new DataOutputViewStreamWrapper(bytes));
+
+    ByteArrayOutputStream copiedBytes = new ByteArrayOutputStream();
+    new Embedding().copy(
+      new DataInputViewStreamWrapper(new ByteArrayInputStream(bytes.toByteArray())),
+      new DataOutputViewStreamWrapper(copiedBytes));
+
+    assertArrayEquals(bytes.toByteArray(), copiedBytes.toByteArray());
+
+    Embedding copy = new Embedding();
+    copy.read(new DataInputViewStreamWrapper(new ByteArrayInputStream(copiedBytes.toByteArray())));
+    assertEquals(embedding, copy);
+  }
 }
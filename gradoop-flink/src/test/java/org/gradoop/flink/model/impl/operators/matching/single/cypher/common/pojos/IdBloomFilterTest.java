@@ -0,0 +1,89 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.IdBloomFilter;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class IdBloomFilterTest {
+
+  @Test
+  public void testCreate() throws Exception {
+    IdBloomFilter filter = IdBloomFilter.create(0, 0.01);
+    assertEquals(IdBloomFilter.MIN_BITS, filter.getBits().length * Long.SIZE);
+    assertTrue(filter.getHashFunctions() > 0);
+
+    filter = IdBloomFilter.create(Long.MAX_VALUE, 0.01);
+    assertEquals(IdBloomFilter.MAX_BITS, filter.getBits().length * Long.SIZE);
+  }
+
+  @Test
+  public void testAddAndMightContain() throws Exception {
+    IdBloomFilter filter = IdBloomFilter.create(1000, 0.01);
+    List<GradoopId> ids = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      GradoopId id = GradoopId.get();
+      ids.add(id);
+      filter.add(id);
+    }
+
+    for (GradoopId id : ids) {
+      assertTrue(filter.mightContain(id));
+    }
+
+    int falsePositives = 0;
+    for (int i = 0; i < 1000; i++) {
+      if (filter.mightContain(GradoopId.get())) {
+        falsePositives++;
+      }
+    }
+    assertTrue(falsePositives < 100);
+  }
+
+  @Test
+  public void testEmptyFilter() throws Exception {
+    IdBloomFilter filter = IdBloomFilter.create(10, 0.01);
+    assertFalse(filter.mightContain(GradoopId.get()));
+  }
+
+  @Test
+  public void testMerge() throws Exception {
+    GradoopId a = GradoopId.get();
+    GradoopId b = GradoopId.get();
+
+    IdBloomFilter first = IdBloomFilter.create(10, 0.01);
+    first.add(a);
+    IdBloomFilter second = IdBloomFilter.create(10, 0.01);
+    second.add(b);
+
+    IdBloomFilter merged = first.merge(second);
+    assertTrue(merged.mightContain(a));
+    assertTrue(merged.mightContain(b));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMergeIncompatible() throws Exception {
+    IdBloomFilter.create(10, 0.01).merge(IdBloomFilter.create(100000, 0.01));
+  }
+}
@@ -0,0 +1,80 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.IdFingerprint;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class IdFingerprintTest {
+
+  @Test
+  public void testEmptyFingerprint() {
+    IdFingerprint fingerprint = new IdFingerprint();
+
+    assertTrue(fingerprint.isDistinct());
+    assertFalse(fingerprint.mayContain(GradoopId.get()));
+  }
+
+  @Test
+  public void testDuplicateIds() {
+    GradoopId a = GradoopId.get();
+    IdFingerprint fingerprint = new IdFingerprint().add(a).add(GradoopId.get()).add(a);
+
+    assertFalse(fingerprint.isDistinct());
+    assertTrue(fingerprint.mayContain(a));
+  }
+
+  @Test
+  public void testDistinctIds() {
+    GradoopId a = GradoopId.get();
+    GradoopId b = GradoopId.get();
+    IdFingerprint fingerprint = new IdFingerprint();
+    // ensure both ids map to different bits
+    while (!fingerprint.reset().add(a).add(b).isDistinct()) {
+      b = GradoopId.get();
+    }
+
+    assertTrue(fingerprint.mayContain(a));
+    assertTrue(fingerprint.mayContain(b));
+    assertFalse(fingerprint.reset().add(a).mayContain(b));
+  }
+
+  @Test
+  public void testAddColumns() {
+    GradoopId v0 = GradoopId.get();
+    GradoopId e0 = GradoopId.get();
+    GradoopId v1 = GradoopId.get();
+    GradoopId e1 = GradoopId.get();
+
+    Embedding embedding = new Embedding();
+    embedding.add(v0);
+    embedding.add(e0, v1, e1);
+    embedding.add(v1);
+
+    IdFingerprint fingerprint = new IdFingerprint().addColumns(embedding, new int[] {0, 2});
+    assertTrue(fingerprint.mayContain(v0));
+    assertTrue(fingerprint.mayContain(v1));
+
+    // v1 is contained in the path and in the last column
+    assertFalse(fingerprint.reset().addColumns(embedding, new int[] {1, 2}).isDistinct());
+    assertTrue(fingerprint.mayContain(e1));
+  }
+}
@@ -0,0 +1,68 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandDirection;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.assertEmbeddingExists;
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.createEmbedding;
+import static org.junit.Assert.assertEquals;
+
+public class ExpandEmbeddingsDeltaTest extends ExpandEmbeddingsTest {
+
+  protected ExpandEmbeddings getOperator(
+    DataSet<Embedding> input, DataSet<Embedding> candidateEdges,
+    int expandColumn, int lowerBound, int upperBound, ExpandDirection direction,
+    List<Integer> distinctVertexColumns, List<Integer> distinctEdgeColumns, int closingColumn) {
+
+    return new ExpandEmbeddingsDelta(input, candidateEdges, expandColumn, lowerBound,
+      upperBound, direction, distinctVertexColumns, distinctEdgeColumns, closingColumn);
+  }
+
+  @Test
+  public void testUnboundedExpansionTerminates() throws Exception {
+    GradoopId a = GradoopId.get();
+    GradoopId b = GradoopId.get();
+    GradoopId c = GradoopId.get();
+    GradoopId e0 = GradoopId.get();
+    GradoopId e1 = GradoopId.get();
+    GradoopId e2 = GradoopId.get();
+
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(createEmbedding(a));
+
+    // cycle a -> b -> c -> a
+    DataSet<Embedding> candidateEdges = getExecutionEnvironment().fromElements(
+      createEmbedding(a, e0, b),
+      createEmbedding(b, e1, c),
+      createEmbedding(c, e2, a)
+    );
+
+    DataSet<Embedding> result = new ExpandEmbeddingsDelta(input, candidateEdges, 0, 1,
+      ExpandDirection.OUT, Lists.newArrayList(0), new ArrayList<>(), -1).evaluate();
+
+    assertEquals(2, result.count());
+    assertEmbeddingExists(result, a, e0, b);
+    assertEmbeddingExists(result, a, e0, b, e1, c);
+  }
+}
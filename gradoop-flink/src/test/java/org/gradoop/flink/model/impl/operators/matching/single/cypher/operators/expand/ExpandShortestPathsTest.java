@@ -0,0 +1,188 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperatorTest;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandDirection;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.PathSemantics;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.assertEmbeddingExists;
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.createEmbedding;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ExpandShortestPathsTest extends PhysicalOperatorTest {
+  //define some vertices
+  private final GradoopId a = GradoopId.get();
+  private final GradoopId b = GradoopId.get();
+  private final GradoopId c = GradoopId.get();
+  private final GradoopId d = GradoopId.get();
+
+  //define some edges
+  private final GradoopId e0 = GradoopId.get();
+  private final GradoopId e1 = GradoopId.get();
+  private final GradoopId e2 = GradoopId.get();
+  private final GradoopId e3 = GradoopId.get();
+  private final GradoopId e4 = GradoopId.get();
+  private final GradoopId e5 = GradoopId.get();
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testAllPathsNotSupported() throws Exception {
+    new ExpandShortestPaths(getInput(), getDiamond(), 0, 1, 3, ExpandDirection.OUT,
+      new ArrayList<>(), new ArrayList<>(), -1, PathSemantics.ALL);
+  }
+
+  @Test
+  public void testShortestPath() throws Exception {
+    List<Embedding> result = new ExpandShortestPaths(getInput(), getDiamond(), 0, 1, 3,
+      ExpandDirection.OUT, new ArrayList<>(), new ArrayList<>(), -1, PathSemantics.SHORTEST)
+      .evaluate().collect();
+
+    // b, c, d and (via the cycle) a are reached exactly once
+    assertEquals(4, result.size());
+    assertEmbeddingExists(result, embedding -> embedding.getId(2).equals(d) &&
+      embedding.getIdList(1).size() == 3);
+    assertEmbeddingExists(result, embedding -> embedding.getId(2).equals(a) &&
+      embedding.getIdList(1).size() == 5);
+  }
+
+  @Test
+  public void testAllShortestPaths() throws Exception {
+    DataSet<Embedding> result = new ExpandShortestPaths(getInput(), getDiamond(), 0, 2, 2,
+      ExpandDirection.OUT, new ArrayList<>(), new ArrayList<>(), -1, PathSemantics.ALL_SHORTEST)
+      .evaluate();
+
+    assertEquals(2, result.count());
+    assertEmbeddingExists(result, a, e0, b, e2, d);
+    assertEmbeddingExists(result, a, e1, c, e3, d);
+  }
+
+  @Test
+  public void testReachability() throws Exception {
+    List<Embedding> result = new ExpandShortestPaths(getInput(), getDiamond(), 0, 1, 2,
+      ExpandDirection.OUT, new ArrayList<>(), new ArrayList<>(), -1, PathSemantics.REACHABILITY)
+      .evaluate().collect();
+
+    assertEquals(3, result.size());
+    for (Embedding embedding : result) {
+      assertTrue(embedding.getIdList(1).isEmpty());
+    }
+    assertEmbeddingExists(result, embedding -> embedding.getId(2).equals(d));
+  }
+
+  @Test
+  public void testInExpansion() throws Exception {
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(createEmbedding(d));
+
+    DataSet<Embedding> result = new ExpandShortestPaths(input, getDiamond(), 0, 1, 1,
+      ExpandDirection.IN, new ArrayList<>(), new ArrayList<>(), -1, PathSemantics.SHORTEST)
+      .evaluate();
+
+    assertEquals(2, result.count());
+    assertEmbeddingExists(result, d, e2, b);
+    assertEmbeddingExists(result, d, e3, c);
+  }
+
+  @Test
+  public void testLowerBound0() throws Exception {
+    List<Embedding> result = new ExpandShortestPaths(getInput(), getDiamond(), 0, 0, 3,
+      ExpandDirection.OUT, new ArrayList<>(), new ArrayList<>(), -1, PathSemantics.SHORTEST)
+      .evaluate().collect();
+
+    // the empty path is the shortest path from a to a
+    assertEquals(4, result.size());
+    assertEmbeddingExists(result, embedding -> embedding.getId(2).equals(a) &&
+      embedding.getIdList(1).isEmpty());
+  }
+
+  @Test
+  public void testCircleCondition() throws Exception {
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(createEmbedding(a, e0, b));
+
+    DataSet<Embedding> result = new ExpandShortestPaths(input, getDiamond(), 2, 1, 3,
+      ExpandDirection.OUT, Lists.newArrayList(0, 2), new ArrayList<>(), 0,
+      PathSemantics.SHORTEST)
+      .evaluate();
+
+    assertEquals(1, result.count());
+    assertEmbeddingExists(result, a, e0, b, e2, d, e4, a);
+  }
+
+  @Test
+  public void testShortestPathAboveLowerBound() throws Exception {
+    // b is reached by a single hop, which is below the lower bound, and by two hops via c
+    DataSet<Embedding> edges = getExecutionEnvironment().fromElements(
+      createEmbedding(a, e0, b),
+      createEmbedding(a, e1, c),
+      createEmbedding(c, e5, b)
+    );
+
+    DataSet<Embedding> result = new ExpandShortestPaths(getInput(), edges, 0, 2, 3,
+      ExpandDirection.OUT, new ArrayList<>(), new ArrayList<>(), -1, PathSemantics.SHORTEST)
+      .evaluate();
+
+    assertEquals(1, result.count());
+    assertEmbeddingExists(result, a, e1, c, e5, b);
+  }
+
+  @Test
+  public void testReachabilityAboveLowerBound() throws Exception {
+    DataSet<Embedding> edges = getExecutionEnvironment().fromElements(
+      createEmbedding(a, e0, b),
+      createEmbedding(a, e1, c),
+      createEmbedding(c, e5, b)
+    );
+
+    List<Embedding> result = new ExpandShortestPaths(getInput(), edges, 0, 2, 8,
+      ExpandDirection.OUT, new ArrayList<>(), new ArrayList<>(), -1, PathSemantics.REACHABILITY)
+      .evaluate().collect();
+
+    assertEquals(1, result.size());
+    assertEquals(b, result.get(0).getId(2));
+  }
+
+  /**
+   * Returns an embedding containing vertex a.
+   *
+   * @return input embeddings
+   */
+  private DataSet<Embedding> getInput() {
+    return getExecutionEnvironment().fromElements(createEmbedding(a));
+  }
+
+  /**
+   * Returns the candidate edges a->b, a->c, b->d, c->d, d->a
+   *
+   * @return candidate edges
+   */
+  private DataSet<Embedding> getDiamond() {
+    return getExecutionEnvironment().fromElements(
+      createEmbedding(a, e0, b),
+      createEmbedding(a, e1, c),
+      createEmbedding(b, e2, d),
+      createEmbedding(c, e3, d),
+      createEmbedding(d, e4, a)
+    );
+  }
+}
@@ -0,0 +1,68 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ExpandEmbedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.createEmbedding;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+public class AssignPathKeyTest {
+
+  @Test
+  public void testSamePathHasSameKey() throws Exception {
+    GradoopId a = GradoopId.get();
+    GradoopId b = GradoopId.get();
+    GradoopId e0 = GradoopId.get();
+    Embedding base = createEmbedding(a);
+
+    ExpandEmbedding path = new ExpandEmbedding(base, e0, b);
+    byte[] key = new AssignPathKey().map(path).f0;
+
+    assertArrayEquals(key, new AssignPathKey().map(new ExpandEmbedding(base, e0, b)).f0);
+    assertSame(path, new AssignPathKey().map(path).f1);
+  }
+
+  @Test
+  public void testDifferentPathsHaveDifferentKeys() throws Exception {
+    GradoopId a = GradoopId.get();
+    GradoopId b = GradoopId.get();
+    GradoopId c = GradoopId.get();
+    GradoopId d = GradoopId.get();
+    GradoopId e0 = GradoopId.get();
+    GradoopId e1 = GradoopId.get();
+    GradoopId e2 = GradoopId.get();
+    GradoopId e3 = GradoopId.get();
+    Embedding base = createEmbedding(a);
+
+    // diamond a -> b -> d, a -> c -> d
+    byte[] key0 = new AssignPathKey().map(new ExpandEmbedding(base, e0, b, e1, d)).f0.clone();
+    byte[] key1 = new AssignPathKey().map(new ExpandEmbedding(base, e2, c, e3, d)).f0;
+    assertFalse(Arrays.equals(key0, key1));
+
+    // same path from a different base embedding
+    byte[] key2 = new AssignPathKey()
+      .map(new ExpandEmbedding(createEmbedding(b), e2, c, e3, d)).f0;
+    assertFalse(Arrays.equals(key1, key2));
+  }
+}
@@ -0,0 +1,60 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.api.common.functions.util.ListCollector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.AdjacencyList;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.EdgeWithTiePoint;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class BuildAdjacencyListTest {
+
+  @Test
+  public void testReduce() throws Exception {
+    GradoopId a = GradoopId.get();
+    GradoopId b = GradoopId.get();
+    GradoopId c = GradoopId.get();
+    GradoopId e0 = GradoopId.get();
+    GradoopId e1 = GradoopId.get();
+
+    EdgeWithTiePoint edge0 = new EdgeWithTiePoint();
+    edge0.setSource(a);
+    edge0.setId(e0);
+    edge0.setTarget(b);
+
+    EdgeWithTiePoint edge1 = new EdgeWithTiePoint();
+    edge1.setSource(a);
+    edge1.setId(e1);
+    edge1.setTarget(c);
+
+    List<AdjacencyList> result = new ArrayList<>();
+    new BuildAdjacencyList().reduce(Lists.newArrayList(edge0, edge1), new ListCollector<>(result));
+
+    assertEquals(1, result.size());
+    assertEquals(a, result.get(0).getVertexId());
+    assertEquals(2, result.get(0).getDegree());
+    assertArrayEquals(new GradoopId[] {e0, e1}, result.get(0).getEdgeIds());
+    assertArrayEquals(new GradoopId[] {b, c}, result.get(0).getNeighborIds());
+  }
+}
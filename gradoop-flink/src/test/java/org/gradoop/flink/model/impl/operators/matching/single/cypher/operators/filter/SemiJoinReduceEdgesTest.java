@@ -0,0 +1,117 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.filter;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.EdgeFactory;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperatorTest;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class SemiJoinReduceEdgesTest extends PhysicalOperatorTest {
+
+  @Test
+  public void testWithoutReducers() throws Exception {
+    EdgeFactory edgeFactory = new EdgeFactory();
+    Edge e1 = edgeFactory.createEdge("knows", GradoopId.get(), GradoopId.get());
+    DataSet<Edge> edges = getExecutionEnvironment().fromElements(e1);
+
+    List<Edge> result = new SemiJoinReduceEdges(edges, null, 0, null, 0).evaluate().collect();
+
+    assertEquals(1, result.size());
+    assertEquals(e1.getId(), result.get(0).getId());
+  }
+
+  @Test
+  public void testReduceSource() throws Exception {
+    GradoopId v1 = GradoopId.get();
+    GradoopId v2 = GradoopId.get();
+    GradoopId v3 = GradoopId.get();
+
+    EdgeFactory edgeFactory = new EdgeFactory();
+    Edge e1 = edgeFactory.createEdge("knows", v1, v2);
+    Edge e2 = edgeFactory.createEdge("knows", v2, v3);
+    Edge e3 = edgeFactory.createEdge("knows", v3, v1);
+    DataSet<Edge> edges = getExecutionEnvironment().fromElements(e1, e2, e3);
+
+    DataSet<Embedding> sources = getExecutionEnvironment()
+      .fromElements(createEmbedding(v1), createEmbedding(v2));
+
+    List<Edge> result = new SemiJoinReduceEdges(edges, sources, 2, null, 0).evaluate().collect();
+
+    assertEquals(2, result.size());
+    for (Edge edge : result) {
+      assertNotEquals(v3, edge.getSourceId());
+    }
+  }
+
+  @Test
+  public void testReduceSourceAndTarget() throws Exception {
+    GradoopId v1 = GradoopId.get();
+    GradoopId v2 = GradoopId.get();
+    GradoopId v3 = GradoopId.get();
+
+    EdgeFactory edgeFactory = new EdgeFactory();
+    Edge e1 = edgeFactory.createEdge("knows", v1, v2);
+    Edge e2 = edgeFactory.createEdge("knows", v2, v3);
+    Edge e3 = edgeFactory.createEdge("knows", v3, v1);
+    DataSet<Edge> edges = getExecutionEnvironment().fromElements(e1, e2, e3);
+
+    DataSet<Embedding> sources = getExecutionEnvironment()
+      .fromElements(createEmbedding(v1), createEmbedding(v2));
+    DataSet<Embedding> targets = getExecutionEnvironment()
+      .fromElements(createEmbedding(v2));
+
+    List<Edge> result = new SemiJoinReduceEdges(edges, sources, 2, targets, 1).evaluate().collect();
+
+    assertEquals(1, result.size());
+    assertEquals(e1.getId(), result.get(0).getId());
+  }
+
+  @Test
+  public void testEmptyReducer() throws Exception {
+    EdgeFactory edgeFactory = new EdgeFactory();
+    Edge e1 = edgeFactory.createEdge("knows", GradoopId.get(), GradoopId.get());
+    DataSet<Edge> edges = getExecutionEnvironment().fromElements(e1);
+
+    DataSet<Embedding> targets = getExecutionEnvironment()
+      .fromElements(createEmbedding(GradoopId.get()))
+      .filter(embedding -> false);
+
+    List<Edge> result = new SemiJoinReduceEdges(edges, null, 0, targets, 0).evaluate().collect();
+
+    assertEquals(0, result.size());
+  }
+
+  /**
+   * Creates an embedding that contains the given vertex id.
+   *
+   * @param vertexId vertex id
+   * @return embedding
+   */
+  private static Embedding createEmbedding(GradoopId vertexId) {
+    Embedding embedding = new Embedding();
+    embedding.add(vertexId);
+    return embedding;
+  }
+}
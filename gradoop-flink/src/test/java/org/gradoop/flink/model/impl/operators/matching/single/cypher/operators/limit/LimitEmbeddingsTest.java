@@ -0,0 +1,54 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.limit;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperatorTest;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.createEmbedding;
+import static org.junit.Assert.assertEquals;
+
+public class LimitEmbeddingsTest extends PhysicalOperatorTest {
+
+  @Test
+  public void testLimit() throws Exception {
+    assertEquals(5, new LimitEmbeddings(createEmbeddings(100), 5).evaluate().count());
+  }
+
+  @Test
+  public void testLimitLargerThanInput() throws Exception {
+    assertEquals(10, new LimitEmbeddings(createEmbeddings(10), 25).evaluate().count());
+  }
+
+  @Test
+  public void testZeroLimit() throws Exception {
+    assertEquals(0, new LimitEmbeddings(createEmbeddings(10), 0).evaluate().count());
+  }
+
+  private DataSet<Embedding> createEmbeddings(int count) {
+    List<Embedding> embeddings = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      embeddings.add(createEmbedding(GradoopId.get(), GradoopId.get()));
+    }
+    return getExecutionEnvironment().fromCollection(embeddings).rebalance();
+  }
+}
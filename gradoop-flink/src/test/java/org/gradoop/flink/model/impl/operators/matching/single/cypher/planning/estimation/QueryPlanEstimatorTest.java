@@ -19,6 +19,9 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
 import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.CardinalityFeedback;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsLocalFSReader;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandDirection;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.BinaryNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.LeafNode;
@@ -230,4 +233,54 @@ public class QueryPlanEstimatorTest extends EstimatorTestBase  {
       ce2dEstimator.getCardinality()));
   }
 
+  @Test
+  public void testCardinalityFeedback() throws Exception {
+    String query = "MATCH (n)-[e]->(m)-[f]->(o)";
+    QueryHandler queryHandler = new QueryHandler(query);
+
+    LeafNode nNode = new FilterAndProjectVerticesNode(null, "n",
+      queryHandler.getPredicates().getSubCNF("n"), Sets.newHashSet());
+    LeafNode mNode = new FilterAndProjectVerticesNode(null, "m",
+      queryHandler.getPredicates().getSubCNF("m"), Sets.newHashSet());
+    LeafNode eNode = new FilterAndProjectEdgesNode(null,
+      "n", "e", "m",
+      queryHandler.getPredicates().getSubCNF("e"), Sets.newHashSet(), false);
+    LeafNode fNode = new FilterAndProjectEdgesNode(null,
+      "m", "f", "o",
+      queryHandler.getPredicates().getSubCNF("f"), Sets.newHashSet(), false);
+
+    JoinEmbeddingsNode neJoin = new JoinEmbeddingsNode(nNode, eNode, Lists.newArrayList("n"),
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+    JoinEmbeddingsNode nemJoin = new JoinEmbeddingsNode(neJoin, mNode, Lists.newArrayList("m"),
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+    JoinEmbeddingsNode nemfJoin = new JoinEmbeddingsNode(nemJoin, fNode, Lists.newArrayList("m"),
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+    // same sub-pattern, different join order
+    JoinEmbeddingsNode emJoin = new JoinEmbeddingsNode(eNode, mNode, Lists.newArrayList("m"),
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+    JoinEmbeddingsNode nemJoin2 = new JoinEmbeddingsNode(nNode, emJoin, Lists.newArrayList("n"),
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+
+    assertThat(SubPatternSignature.of(nemJoin2), is(SubPatternSignature.of(nemJoin)));
+
+    GraphStatistics statistics = GraphStatisticsLocalFSReader.read(
+      QueryPlanEstimatorTest.class.getResource("/data/json/sna/statistics").getFile());
+    CardinalityFeedback feedback = new CardinalityFeedback();
+    statistics.setCardinalityFeedback(feedback);
+
+    // observed sub-pattern is twice as large as estimated (24)
+    feedback.record(SubPatternSignature.of(nemJoin), 48L);
+
+    QueryPlanEstimator estimator =
+      new QueryPlanEstimator(new QueryPlan(nemJoin2), queryHandler, statistics);
+    assertThat(estimator.getCardinality(), is(48L));
+
+    // estimation (72) is corrected by the observed sub-pattern
+    estimator = new QueryPlanEstimator(new QueryPlan(nemfJoin), queryHandler, statistics);
+    assertThat(estimator.getCardinality(), is(144L));
+
+    feedback.record(SubPatternSignature.of(nemfJoin), 5L);
+    estimator = new QueryPlanEstimator(new QueryPlan(nemfJoin), queryHandler, statistics);
+    assertThat(estimator.getCardinality(), is(5L));
+  }
 }
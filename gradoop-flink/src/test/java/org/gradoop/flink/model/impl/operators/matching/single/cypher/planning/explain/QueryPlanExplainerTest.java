@@ -0,0 +1,109 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.explain;
+
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.api.epgm.GraphCollection;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.CardinalityFeedback;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsLocalFSReader;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.CypherPatternMatching;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class QueryPlanExplainerTest extends GradoopFlinkTestBase {
+
+  private static final String QUERY =
+    "MATCH (a:Person)-[e:knows]->(b:Person) WHERE a.city = 'Leipzig'";
+
+  private GraphStatistics getStatistics() throws Exception {
+    String path = QueryPlanExplainerTest.class.getResource("/data/json/sna/statistics").getFile();
+    return GraphStatisticsLocalFSReader.read(path);
+  }
+
+  @Test
+  public void testExplain() throws Exception {
+    LogicalGraph graph = getSocialNetworkLoader().getDatabase().getDatabaseGraph();
+
+    CypherPatternMatching op = new CypherPatternMatching(QUERY, false,
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM, getStatistics());
+
+    QueryPlanProfile profile = op.explain(graph);
+
+    // join(join(a, e), b) or similar, i.e. at least five nodes
+    assertTrue(profile.getNodeProfiles().size() >= 5);
+    assertEquals(0, profile.getRootProfile().getLevel());
+    for (PlanNodeProfile nodeProfile : profile.getNodeProfiles()) {
+      assertFalse(nodeProfile.isProfiled());
+      assertTrue(nodeProfile.getEstimatedCardinality() >= 0);
+    }
+    assertTrue(profile.toString().contains("estimated="));
+  }
+
+  @Test
+  public void testExplainPrefix() throws Exception {
+    LogicalGraph graph = getSocialNetworkLoader().getDatabase().getDatabaseGraph();
+
+    GraphCollection result = graph.cypher("EXPLAIN " + QUERY, getStatistics());
+
+    assertEquals(0L, result.getGraphHeads().count());
+  }
+
+  @Test
+  public void testProfile() throws Exception {
+    LogicalGraph graph = getSocialNetworkLoader().getDatabase().getDatabaseGraph();
+
+    CypherPatternMatching op = new CypherPatternMatching("PROFILE " + QUERY, false,
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM, getStatistics());
+
+    long count = graph.callForCollection(op).getGraphHeads().count();
+
+    QueryPlanProfile profile =
+      op.getProfile(getExecutionEnvironment().getLastJobExecutionResult());
+
+    assertEquals(count, profile.getRootProfile().getActualCardinality());
+    for (PlanNodeProfile nodeProfile : profile.getNodeProfiles()) {
+      assertTrue(nodeProfile.isProfiled());
+      assertTrue(nodeProfile.getActualCardinality() >= 0);
+      assertTrue(nodeProfile.getActualOutputSpan() >= 0);
+    }
+  }
+
+  @Test
+  public void testCardinalityFeedback() throws Exception {
+    LogicalGraph graph = getSocialNetworkLoader().getDatabase().getDatabaseGraph();
+    GraphStatistics statistics = getStatistics();
+    statistics.setCardinalityFeedback(new CardinalityFeedback());
+
+    CypherPatternMatching op = new CypherPatternMatching(QUERY, false,
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM, statistics);
+
+    long count = graph.callForCollection(op).getGraphHeads().count();
+    op.recordCardinalities(getExecutionEnvironment().getLastJobExecutionResult());
+
+    assertFalse(statistics.getCardinalityFeedback().getObservedCardinalities().isEmpty());
+
+    // the planner prefers the observed cardinalities
+    QueryPlanProfile profile = new CypherPatternMatching(QUERY, false,
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM, statistics).explain(graph);
+    assertEquals(count, profile.getRootProfile().getEstimatedCardinality());
+  }
+}
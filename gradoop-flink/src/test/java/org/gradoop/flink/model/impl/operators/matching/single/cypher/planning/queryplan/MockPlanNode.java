@@ -41,7 +41,7 @@ public class MockPlanNode extends PlanNode {
   }
 
   @Override
-  public DataSet<Embedding> execute() {
+  protected DataSet<Embedding> executeNode() {
     return mockOutput;
   }
 
@@ -0,0 +1,118 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.table;
+
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
+import org.apache.flink.types.Row;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class OrderAndLimitRowsTest extends GradoopFlinkTestBase {
+
+  private static final RowTypeInfo ROW_TYPE = new RowTypeInfo(
+    TypeInformation.of(PropertyValue.class), TypeInformation.of(PropertyValue.class));
+
+  @Test
+  public void testTopK() throws Exception {
+    List<Row> rows = new OrderAndLimitRows(createRows(100), ROW_TYPE,
+      new int[] {0, 1}, new boolean[] {false, true}, 5).evaluate().collect();
+
+    assertEquals(5, rows.size());
+    int[][] expected = {{9, 9}, {9, 19}, {9, 29}, {9, 39}, {9, 49}};
+    for (int i = 0; i < expected.length; i++) {
+      assertEquals(PropertyValue.create(expected[i][0]), rows.get(i).getField(0));
+      assertEquals(PropertyValue.create(expected[i][1]), rows.get(i).getField(1));
+    }
+  }
+
+  @Test
+  public void testSortWithoutLimit() throws Exception {
+    List<Row> rows = new OrderAndLimitRows(createRows(50), ROW_TYPE,
+      new int[] {1}, new boolean[] {true}, -1).evaluate().collect();
+
+    assertEquals(50, rows.size());
+    for (int i = 0; i < rows.size(); i++) {
+      assertEquals(PropertyValue.create(i), rows.get(i).getField(1));
+    }
+  }
+
+  @Test
+  public void testNullsLast() throws Exception {
+    List<Row> input = new ArrayList<>();
+    input.add(Row.of(PropertyValue.NULL_VALUE, PropertyValue.create(0)));
+    input.add(Row.of(PropertyValue.create(2), PropertyValue.create(1)));
+    input.add(Row.of(PropertyValue.create(1L), PropertyValue.create(2)));
+
+    DataSet<Row> data = getExecutionEnvironment().fromCollection(input, ROW_TYPE);
+    List<Row> rows = new OrderAndLimitRows(data, ROW_TYPE, new int[] {0}, new boolean[] {true}, 2)
+      .evaluate().collect();
+
+    assertEquals(2, rows.size());
+    assertEquals(PropertyValue.create(1L), rows.get(0).getField(0));
+    assertEquals(PropertyValue.create(2), rows.get(1).getField(0));
+  }
+
+  @Test
+  public void testMixedTypes() throws Exception {
+    List<Row> input = new ArrayList<>();
+    input.add(Row.of(PropertyValue.create("b"), PropertyValue.create(0)));
+    input.add(Row.of(PropertyValue.create(3), PropertyValue.create(1)));
+    input.add(Row.of(PropertyValue.NULL_VALUE, PropertyValue.create(2)));
+    input.add(Row.of(PropertyValue.create(true), PropertyValue.create(3)));
+    input.add(Row.of(PropertyValue.create(1.5d), PropertyValue.create(4)));
+    input.add(Row.of(PropertyValue.create("a"), PropertyValue.create(5)));
+
+    DataSet<Row> data = getExecutionEnvironment().fromCollection(input, ROW_TYPE).rebalance();
+    List<Row> rows = new OrderAndLimitRows(data, ROW_TYPE, new int[] {0}, new boolean[] {true}, -1)
+      .evaluate().collect();
+
+    // numbers first, then the remaining types in type order, nulls last
+    Object[] expected = {1.5d, 3, true, "a", "b"};
+    assertEquals(input.size(), rows.size());
+    for (int i = 0; i < expected.length; i++) {
+      assertEquals(PropertyValue.create(expected[i]), rows.get(i).getField(0));
+    }
+    assertEquals(PropertyValue.NULL_VALUE, rows.get(expected.length).getField(0));
+  }
+
+  @Test
+  public void testLimitWithoutOrder() throws Exception {
+    assertEquals(7, new OrderAndLimitRows(createRows(100), ROW_TYPE,
+      new int[0], new boolean[0], 7).evaluate().count());
+  }
+
+  /**
+   * Creates rows (i % 10, i) for i in [0, count) distributed over all partitions.
+   *
+   * @param count number of rows
+   * @return rows
+   */
+  private DataSet<Row> createRows(int count) {
+    List<Row> rows = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      rows.add(Row.of(PropertyValue.create(i % 10), PropertyValue.create(i)));
+    }
+    return getExecutionEnvironment().fromCollection(rows, ROW_TYPE).rebalance();
+  }
+}
@@ -0,0 +1,79 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.table;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ReturnItemTest {
+
+  @Test
+  public void testVariable() throws Exception {
+    ReturnItem item = ReturnItem.parse("a");
+
+    assertEquals("a", item.getVariable());
+    assertFalse(item.isProperty());
+    assertFalse(item.isAggregate());
+    assertEquals("a", item.getArgument());
+  }
+
+  @Test
+  public void testProperty() throws Exception {
+    ReturnItem item = ReturnItem.parse("a.name");
+
+    assertEquals("a", item.getVariable());
+    assertEquals("name", item.getPropertyKey());
+    assertFalse(item.isAggregate());
+    assertEquals("a.name", item.getArgument());
+  }
+
+  @Test
+  public void testAggregates() throws Exception {
+    ReturnItem count = ReturnItem.parse("COUNT( * )");
+    assertEquals(RowAggregation.COUNT, count.getAggregation());
+    assertNull(count.getArgument());
+
+    ReturnItem max = ReturnItem.parse("max(a.age)");
+    assertEquals(RowAggregation.MAX, max.getAggregation());
+    assertTrue(max.isProperty());
+    assertEquals("a.age", max.getArgument());
+  }
+
+  @Test
+  public void testEquality() throws Exception {
+    assertEquals(ReturnItem.parse("count(*)"), ReturnItem.parse("count( *)"));
+    assertEquals(ReturnItem.parse("avg(a.age)"), ReturnItem.parse("AVG(a.age)"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testSumWithoutProperty() throws Exception {
+    ReturnItem.parse("sum(a)");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testDistinct() throws Exception {
+    ReturnItem.parse("count(DISTINCT a)");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnknownFunction() throws Exception {
+    ReturnItem.parse("collect(a)");
+  }
+}
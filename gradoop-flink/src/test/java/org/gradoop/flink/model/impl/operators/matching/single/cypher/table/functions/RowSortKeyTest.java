@@ -0,0 +1,54 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.table.functions;
+
+import org.apache.flink.types.Row;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.junit.Test;
+
+import static org.gradoop.common.GradoopTestUtils.writeAndReadValue;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class RowSortKeyTest {
+
+  @Test
+  public void testWriteRead() throws Exception {
+    Row row = Row.of(PropertyValue.create("foo"), GradoopId.get(), 42L, null);
+    RowSortKey key = new SortKey(new int[] {0, 1, 2, 3}, new boolean[] {true, false, true, true})
+      .getKey(row);
+
+    RowSortKey readKey = writeAndReadValue(RowSortKey.class, key);
+
+    assertEquals(key, readKey);
+    assertEquals(0, key.compareTo(readKey));
+  }
+
+  @Test
+  public void testCompareTo() throws Exception {
+    SortKey sortKey = new SortKey(new int[] {1, 0}, new boolean[] {false, true});
+
+    RowSortKey key1 = sortKey.getKey(Row.of(PropertyValue.create(1), PropertyValue.create("b")));
+    RowSortKey key2 = sortKey.getKey(Row.of(PropertyValue.create(2L), PropertyValue.create("b")));
+    RowSortKey key3 = sortKey.getKey(Row.of(PropertyValue.create(0), PropertyValue.create(7)));
+
+    // strings are ordered after numbers, i.e. first in descending order
+    assertTrue(key1.compareTo(key2) < 0);
+    assertTrue(key2.compareTo(key3) < 0);
+    assertTrue(key1.compareTo(key3) < 0);
+  }
+}
@@ -0,0 +1,122 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.utils;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.api.epgm.GraphCollection;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.single.PatternMatching;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.CypherPatternMatching;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.stream.Collectors.toSet;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class DenseIdMappingTest extends GradoopFlinkTestBase {
+
+  @Test
+  public void testToDenseId() {
+    byte[] bytes = DenseIdMapping.toDenseId(0x0102L).toByteArray();
+    assertEquals(GradoopId.ID_SIZE, bytes.length);
+    for (int i = 0; i < GradoopId.ID_SIZE - 2; i++) {
+      assertEquals(0, bytes[i]);
+    }
+    assertEquals(1, bytes[GradoopId.ID_SIZE - 2]);
+    assertEquals(2, bytes[GradoopId.ID_SIZE - 1]);
+  }
+
+  @Test
+  public void testDenseGraph() throws Exception {
+    LogicalGraph graph = getSocialNetworkLoader().getDatabase().getDatabaseGraph();
+    DenseIdMapping mapping = new DenseIdMapping(graph);
+
+    List<Vertex> vertices = mapping.getDenseGraph().getVertices().collect();
+    List<Edge> edges = mapping.getDenseGraph().getEdges().collect();
+    Set<GradoopId> vertexIds = vertices.stream().map(Vertex::getId).collect(toSet());
+
+    assertEquals(graph.getVertices().count(), vertexIds.size());
+    assertFalse(vertexIds.contains(GradoopId.NULL_VALUE));
+    assertEquals(graph.getEdges().count(), edges.stream().map(Edge::getId).distinct().count());
+    for (Edge edge : edges) {
+      assertFalse(vertexIds.contains(edge.getId()));
+      assertNotEquals(GradoopId.NULL_VALUE, edge.getId());
+      assertTrue(vertexIds.contains(edge.getSourceId()));
+      assertTrue(vertexIds.contains(edge.getTargetId()));
+    }
+    assertEquals(vertices.size() + edges.size(), mapping.getMapping().count());
+  }
+
+  @Test
+  public void testExecute() throws Exception {
+    assertExecution("MATCH (p1:Person)-[:knows]->(p2:Person)-[e:hasInterest]->(t:Tag)");
+  }
+
+  @Test
+  public void testExecuteWithPath() throws Exception {
+    assertExecution("MATCH (p1:Person)-[e:knows*1..2]->(p2:Person)");
+  }
+
+  private void assertExecution(String query) throws Exception {
+    LogicalGraph graph = getSocialNetworkLoader().getDatabase().getDatabaseGraph();
+
+    GraphCollection expected = graph.callForCollection(createOperator(query));
+    GraphCollection result = new DenseIdMapping(graph).execute(createOperator(query));
+
+    assertEquals(expected.getGraphHeads().count(), result.getGraphHeads().count());
+    assertEquals(getIds(expected.getVertices().collect()),
+      getIds(result.getVertices().collect()));
+    assertEquals(getEdgeTriples(expected.getEdges().collect()),
+      getEdgeTriples(result.getEdges().collect()));
+    assertEquals(getVariableMappings(expected.getGraphHeads().collect()),
+      getVariableMappings(result.getGraphHeads().collect()));
+  }
+
+  private static CypherPatternMatching createOperator(String query) {
+    return new CypherPatternMatching(query, true, MatchStrategy.HOMOMORPHISM,
+      MatchStrategy.ISOMORPHISM, new GraphStatistics(1, 1, 1, 1));
+  }
+
+  private static Set<GradoopId> getIds(List<Vertex> vertices) {
+    return vertices.stream().map(Vertex::getId).collect(toSet());
+  }
+
+  private static Set<Map<PropertyValue, PropertyValue>> getVariableMappings(
+    List<GraphHead> graphHeads) {
+    return graphHeads.stream()
+      .map(g -> g.getPropertyValue(PatternMatching.VARIABLE_MAPPING_KEY).getMap())
+      .collect(toSet());
+  }
+
+  private static Set<String> getEdgeTriples(List<Edge> edges) {
+    return edges.stream()
+      .map(e -> e.getSourceId() + "-" + e.getId() + "->" + e.getTargetId())
+      .collect(toSet());
+  }
+}
@@ -0,0 +1,82 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PathSemanticsParserTest {
+
+  @Test
+  public void testQueryWithoutPathFunction() throws Exception {
+    String query = "MATCH (a)-[e*1..3]->(b) WHERE a.name = 'Alice'";
+    PathSemanticsParser parser = new PathSemanticsParser(query);
+
+    assertEquals(query, parser.getQuery());
+    assertTrue(parser.getPathSemantics().isEmpty());
+  }
+
+  @Test
+  public void testShortestPath() throws Exception {
+    PathSemanticsParser parser =
+      new PathSemanticsParser("MATCH shortestPath((a:Person)-[e:knows*1..8]->(b)) RETURN *");
+
+    assertEquals("MATCH (a:Person)-[e:knows*1..8]->(b) RETURN *", parser.getQuery());
+    assertEquals(PathSemantics.SHORTEST, parser.getPathSemantics().get("e"));
+  }
+
+  @Test
+  public void testMultiplePathFunctions() throws Exception {
+    PathSemanticsParser parser = new PathSemanticsParser(
+      "MATCH allShortestPaths((a)-[e1*]->(b)), REACHABLE((b)<-[e2 * 2..4]-(c))");
+
+    assertEquals("MATCH (a)-[e1*]->(b), (b)<-[e2 * 2..4]-(c)", parser.getQuery());
+    assertEquals(2, parser.getPathSemantics().size());
+    assertEquals(PathSemantics.ALL_SHORTEST, parser.getPathSemantics().get("e1"));
+    assertEquals(PathSemantics.REACHABILITY, parser.getPathSemantics().get("e2"));
+  }
+
+  @Test
+  public void testPathFunctionInStringLiteral() throws Exception {
+    String query = "MATCH (a)-[e*1..3]->(b) WHERE a.name = 'shortestPath(x' " +
+      "AND b.name = \"reachable(\"";
+    PathSemanticsParser parser = new PathSemanticsParser(query);
+
+    assertEquals(query, parser.getQuery());
+    assertTrue(parser.getPathSemantics().isEmpty());
+  }
+
+  @Test
+  public void testParenthesisInStringLiteral() throws Exception {
+    PathSemanticsParser parser =
+      new PathSemanticsParser("MATCH shortestPath((a {name: ')'})-[e*1..8]->(b))");
+
+    assertEquals("MATCH (a {name: ')'})-[e*1..8]->(b)", parser.getQuery());
+    assertEquals(PathSemantics.SHORTEST, parser.getPathSemantics().get("e"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testAnonymousPath() throws Exception {
+    new PathSemanticsParser("MATCH shortestPath((a)-[*1..3]->(b))");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnbalancedParentheses() throws Exception {
+    new PathSemanticsParser("MATCH shortestPath((a)-[e*1..3]->(b)");
+  }
+}
@@ -0,0 +1,94 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.utils;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ReturnClauseParserTest {
+
+  @Test
+  public void testQueryWithoutReturnClause() throws Exception {
+    String query = "MATCH (a)-[e]->(b) WHERE a.name = 'Alice'";
+    ReturnClauseParser parser = new ReturnClauseParser(query);
+
+    assertEquals(query, parser.getQuery());
+    assertTrue(parser.getReturnItems().isEmpty());
+    assertEquals(-1, parser.getLimit());
+  }
+
+  @Test
+  public void testWildcard() throws Exception {
+    ReturnClauseParser parser = new ReturnClauseParser("MATCH (a)-[e]->(b) RETURN *");
+
+    assertEquals("MATCH (a)-[e]->(b) ", parser.getQuery());
+    assertTrue(parser.getReturnItems().isEmpty());
+  }
+
+  @Test
+  public void testReturnItems() throws Exception {
+    ReturnClauseParser parser =
+      new ReturnClauseParser("MATCH (a)-[e]->(b) WHERE a.age > 42 return a, a.name ,b.age");
+
+    assertEquals("MATCH (a)-[e]->(b) WHERE a.age > 42 ", parser.getQuery());
+    assertEquals(Arrays.asList("a", "a.name", "b.age"), parser.getReturnItems());
+  }
+
+  @Test
+  public void testQuotedKeyword() throws Exception {
+    ReturnClauseParser parser =
+      new ReturnClauseParser("MATCH (a) WHERE a.title = 'No Return' RETURN a");
+
+    assertEquals("MATCH (a) WHERE a.title = 'No Return' ", parser.getQuery());
+    assertEquals(Arrays.asList("a"), parser.getReturnItems());
+  }
+
+  @Test
+  public void testOrderByAndLimit() throws Exception {
+    ReturnClauseParser parser = new ReturnClauseParser(
+      "MATCH (a) RETURN a.city, count(*), max(a.age) ORDER BY count(*) DESC, a.city LIMIT 10");
+
+    assertEquals("MATCH (a) ", parser.getQuery());
+    assertEquals(Arrays.asList("a.city", "count(*)", "max(a.age)"), parser.getReturnItems());
+    assertEquals(Arrays.asList(Pair.of("count(*)", false), Pair.of("a.city", true)),
+      parser.getOrderBy());
+    assertEquals(10, parser.getLimit());
+  }
+
+  @Test
+  public void testLimitWithoutOrderBy() throws Exception {
+    ReturnClauseParser parser = new ReturnClauseParser("MATCH (a) RETURN * limit 25");
+
+    assertTrue(parser.getReturnItems().isEmpty());
+    assertTrue(parser.getOrderBy().isEmpty());
+    assertEquals(25, parser.getLimit());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidLimit() throws Exception {
+    new ReturnClauseParser("MATCH (a) RETURN a LIMIT ten");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testEmptyReturnClause() throws Exception {
+    new ReturnClauseParser("MATCH (a) RETURN ");
+  }
+}
@@ -0,0 +1,42 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class StringLiteralsTest {
+
+  @Test
+  public void testIsQuoted() throws Exception {
+    String query = "MATCH (a) WHERE a.name = 'x' RETURN a";
+
+    assertFalse(StringLiterals.isQuoted(query, query.indexOf("WHERE")));
+    assertTrue(StringLiterals.isQuoted(query, query.indexOf("x")));
+    assertFalse(StringLiterals.isQuoted(query, query.indexOf("RETURN")));
+  }
+
+  @Test
+  public void testMixedQuotes() throws Exception {
+    String query = "WHERE a.name = \"it's\" RETURN a.name = 'say \"RETURN\"'";
+
+    assertTrue(StringLiterals.isQuoted(query, query.indexOf("s\"")));
+    assertFalse(StringLiterals.isQuoted(query, query.indexOf("RETURN")));
+    assertTrue(StringLiterals.isQuoted(query, query.lastIndexOf("RETURN")));
+  }
+}
@@ -0,0 +1,60 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.preserving.explorative;
+
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.api.epgm.GraphCollection;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.single.preserving.explorative.traverser.TraverserStrategy;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class ExplorativeLimitTest extends GradoopFlinkTestBase {
+
+  private static final String GRAPH = "g[" +
+    "(v0:A)-[:a]->(v1:B),(v0)-[:a]->(v2:B),(v0)-[:a]->(v3:B),(v0)-[:a]->(v4:B)" +
+    "]";
+
+  @Test
+  public void testPatternLimit() throws Exception {
+    LogicalGraph graph = getLoaderFromString(GRAPH).getLogicalGraphByVariable("g");
+
+    GraphCollection result = new ExplorativePatternMatching.Builder()
+      .setQuery("MATCH (a:A)-[e]->(b:B)")
+      .setMatchStrategy(MatchStrategy.ISOMORPHISM)
+      .setTraverserStrategy(TraverserStrategy.SET_PAIR_BULK_ITERATION)
+      .setLimit(3)
+      .build()
+      .execute(graph);
+
+    assertEquals(3, result.getGraphHeads().count());
+  }
+
+  @Test
+  public void testVertexLimit() throws Exception {
+    LogicalGraph graph = getLoaderFromString(GRAPH).getLogicalGraphByVariable("g");
+
+    GraphCollection result = new ExplorativePatternMatching.Builder()
+      .setQuery("MATCH (b:B)")
+      .setLimit(2)
+      .build()
+      .execute(graph);
+
+    assertEquals(2, result.getGraphHeads().count());
+  }
+}
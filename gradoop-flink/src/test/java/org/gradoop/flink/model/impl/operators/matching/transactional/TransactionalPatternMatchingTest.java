@@ -23,24 +23,116 @@ import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.api.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.operators.matching.TestData;
 import org.gradoop.flink.model.impl.operators.matching.transactional.algorithm.DepthSearchMatching;
+import org.gradoop.flink.model.impl.operators.matching.transactional.algorithm.OrderedSearchMatching;
+import org.gradoop.flink.model.impl.operators.matching.transactional.algorithm.PatternMatchingAlgorithm;
 import org.gradoop.flink.util.FlinkAsciiGraphLoader;
 import org.junit.Rule;
 import org.junit.Test;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 
+@RunWith(Parameterized.class)
 public class TransactionalPatternMatchingTest extends GradoopFlinkTestBase {
 
   @Rule
   public TemporaryFolder temporaryFolder = new TemporaryFolder();
 
+  private final PatternMatchingAlgorithm algorithm;
+
+  public TransactionalPatternMatchingTest(String name,
+    PatternMatchingAlgorithm algorithm) {
+    this.algorithm = algorithm;
+  }
+
+  @Parameterized.Parameters(name = "{0}")
+  public static Iterable<Object[]> data() {
+    return Arrays.asList(
+      new Object[] {"DepthSearchMatching", new DepthSearchMatching()},
+      new Object[] {"OrderedSearchMatching", new OrderedSearchMatching()});
+  }
+
   @Test
   public void test() throws Exception {
+    GraphCollection coll = getCollection();
+
+    for(int i=0;i<tests.length;i++) {
+      String testPattern = tests[i];
+
+      GraphCollection result = coll.match(testPattern, algorithm, true);
+
+      Collection<GraphHead> originalHeads  = Lists.newArrayList();
+      Collection<GraphHead> resultHeads = Lists.newArrayList();
+
+      coll.getGraphHeads().output(new LocalCollectionOutputFormat<>(
+        originalHeads));
+      result.getGraphHeads().output(new LocalCollectionOutputFormat<>(
+        resultHeads
+      ));
+
+      getExecutionEnvironment().execute();
+
+      Map<GradoopId, String> lineageIdMap = new HashMap<>();
+
+      for(GraphHead original : originalHeads) {
+        lineageIdMap.put(original.getId(), original.getLabel());
+      }
+
+      int aCount = 0;
+      int bCount = 0;
+      int cCount = 0;
+      int dCount = 0;
+      int eCount = 0;
+      for(GraphHead head : resultHeads) {
+        GradoopId id = head.getPropertyValue("lineage").getGradoopId();
+        if (lineageIdMap.get(id).equals("A")) {
+          aCount++;
+        }
+        if (lineageIdMap.get(id).equals("B")) {
+          bCount++;
+        }
+        if (lineageIdMap.get(id).equals("C")) {
+          cCount++;
+        }
+        if (lineageIdMap.get(id).equals("D")) {
+          dCount++;
+        }
+        if (lineageIdMap.get(id).equals("E")) {
+          eCount++;
+        }
+      }
+      assertTrue(aCount == resultCounts[i][0]);
+      assertTrue(bCount == resultCounts[i][1]);
+      assertTrue(cCount == resultCounts[i][2]);
+      assertTrue(dCount == resultCounts[i][3]);
+      assertTrue(eCount == resultCounts[i][4]);
+    }
+  }
 
+  @Test
+  public void testHasEmbedding() throws Exception {
+    GraphCollection coll = getCollection();
+
+    for (int i = 0; i < tests.length; i++) {
+      GraphCollection result = coll.match(tests[i], algorithm, false);
+
+      for (GraphHead head : result.getGraphHeads().collect()) {
+        int labelIndex = head.getLabel().charAt(0) - 'A';
+        assertEquals(tests[i] + " on " + head.getLabel(),
+          resultCounts[i][labelIndex] > 0,
+          head.getPropertyValue("contains pattern").getBoolean());
+      }
+    }
+  }
+
+  private GraphCollection getCollection() {
     FlinkAsciiGraphLoader loader = getLoaderFromString(
       "g1:A[" +
       "(v0:B {id : 0})" +
@@ -114,59 +206,7 @@ public class TransactionalPatternMatchingTest extends GradoopFlinkTestBase {
       "]" +
       "g5:E[(v32 {id : 0})-[e39 {id : 0}]->(v33 {id : 1})]");
 
-    GraphCollection coll = loader.getGraphCollectionByVariables("g1", "g2", "g3", "g4", "g5");
-
-    for(int i=0;i<tests.length;i++) {
-      String testPattern = tests[i];
-
-      GraphCollection result = coll.match(testPattern, new DepthSearchMatching(), true);
-
-      Collection<GraphHead> originalHeads  = Lists.newArrayList();
-      Collection<GraphHead> resultHeads = Lists.newArrayList();
-
-      coll.getGraphHeads().output(new LocalCollectionOutputFormat<>(
-        originalHeads));
-      result.getGraphHeads().output(new LocalCollectionOutputFormat<>(
-        resultHeads
-      ));
-
-      getExecutionEnvironment().execute();
-
-      Map<GradoopId, String> lineageIdMap = new HashMap<>();
-
-      for(GraphHead original : originalHeads) {
-        lineageIdMap.put(original.getId(), original.getLabel());
-      }
-
-      int aCount = 0;
-      int bCount = 0;
-      int cCount = 0;
-      int dCount = 0;
-      int eCount = 0;
-      for(GraphHead head : resultHeads) {
-        GradoopId id = head.getPropertyValue("lineage").getGradoopId();
-        if (lineageIdMap.get(id).equals("A")) {
-          aCount++;
-        }
-        if (lineageIdMap.get(id).equals("B")) {
-          bCount++;
-        }
-        if (lineageIdMap.get(id).equals("C")) {
-          cCount++;
-        }
-        if (lineageIdMap.get(id).equals("D")) {
-          dCount++;
-        }
-        if (lineageIdMap.get(id).equals("E")) {
-          eCount++;
-        }
-      }
-      assertTrue(aCount == resultCounts[i][0]);
-      assertTrue(bCount == resultCounts[i][1]);
-      assertTrue(cCount == resultCounts[i][2]);
-      assertTrue(dCount == resultCounts[i][3]);
-      assertTrue(eCount == resultCounts[i][4]);
-    }
+    return loader.getGraphCollectionByVariables("g1", "g2", "g3", "g4", "g5");
   }
 
   private String[] tests = {
@@ -0,0 +1,142 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.transactional.algorithm;
+
+import com.google.common.collect.Lists;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.common.tuples.IdWithCandidates;
+import org.gradoop.flink.model.impl.operators.matching.common.tuples.TripleWithCandidates;
+import org.gradoop.flink.model.impl.operators.matching.transactional.tuples.GraphWithCandidates;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class OrderedSearchMatchingTest {
+
+  private static final String PATH_QUERY = "(a)-[e]->(b)-[f]->(c)";
+
+  @Test
+  public void testCandidatePruning() throws Exception {
+    GradoopId[] v = createIds(5);
+    // v0 -> v1 -> v2 matches the path, v3 -> v4 is too short
+    GraphWithCandidates graph = createGraph(v, 2, 3,
+      new int[][] {{0, 1}, {1, 2}, {3, 4}});
+
+    OrderedSearchMatching matcher = new OrderedSearchMatching();
+
+    assertTrue(matcher.prepare(graph, PATH_QUERY));
+    assertEquals(Lists.newArrayList(v[0]), matcher.getCandidates(0));
+    assertEquals(Lists.newArrayList(v[1]), matcher.getCandidates(1));
+    assertEquals(Lists.newArrayList(v[2]), matcher.getCandidates(2));
+    assertEquals(1, matcher.findEmbeddings(graph, PATH_QUERY).size());
+  }
+
+  @Test
+  public void testPruningWithoutEmbedding() throws Exception {
+    GradoopId[] v = createIds(4);
+    // two disconnected edges, no path of length 2
+    GraphWithCandidates graph = createGraph(v, 2, 3, new int[][] {{0, 1}, {2, 3}});
+
+    OrderedSearchMatching matcher = new OrderedSearchMatching();
+
+    assertFalse(matcher.prepare(graph, PATH_QUERY));
+    assertFalse(matcher.hasEmbedding(graph, PATH_QUERY));
+    assertTrue(matcher.findEmbeddings(graph, PATH_QUERY).isEmpty());
+  }
+
+  @Test
+  public void testCandidateOrdering() throws Exception {
+    GradoopId[] v = createIds(5);
+    // v0, v1, v2 -> v3 -> v4, i.e. a has three candidates, b and c one each
+    GraphWithCandidates graph = createGraph(v, 2, 3,
+      new int[][] {{0, 3}, {1, 3}, {2, 3}, {3, 4}});
+
+    OrderedSearchMatching matcher = new OrderedSearchMatching();
+
+    assertTrue(matcher.prepare(graph, PATH_QUERY));
+    // b has the fewest candidates relative to its degree, c is preferred over a as it has
+    // fewer candidates and both are connected to b
+    assertArrayEquals(new int[] {1, 2, 0}, matcher.getOrder());
+    assertEquals(3, matcher.findEmbeddings(graph, PATH_QUERY).size());
+  }
+
+  @Test
+  public void testConnectedVerticesFirst() throws Exception {
+    GradoopId[] v = createIds(7);
+    // v0, v1, v2 -> v3 -> v4, v5 -> v6
+    GraphWithCandidates graph = createGraph(v, 3, 4,
+      new int[][] {{0, 3}, {1, 3}, {2, 3}, {3, 4}, {3, 5}, {4, 6}, {5, 6}});
+    String query = "(a)-[e]->(b)-[f]->(c)-[g]->(d)";
+
+    OrderedSearchMatching matcher = new OrderedSearchMatching();
+
+    assertTrue(matcher.prepare(graph, query));
+    assertEquals(2, matcher.getCandidates(2).size());
+    assertEquals(1, matcher.getCandidates(3).size());
+    // d has fewer candidates than c but is not connected to b
+    assertArrayEquals(new int[] {1, 2, 3, 0}, matcher.getOrder());
+    assertEquals(6, matcher.findEmbeddings(graph, query).size());
+  }
+
+  private static GradoopId[] createIds(int count) {
+    GradoopId[] ids = new GradoopId[count];
+    for (int i = 0; i < count; i++) {
+      ids[i] = GradoopId.get();
+    }
+    return ids;
+  }
+
+  /**
+   * Creates a graph in which each vertex is a candidate for each query vertex and each edge is
+   * a candidate for each query edge.
+   */
+  private static GraphWithCandidates createGraph(GradoopId[] vertexIds, int queryEdgeCount,
+    int queryVertexCount, int[][] edges) {
+    List<IdWithCandidates<GradoopId>> vertices = new ArrayList<>();
+    for (GradoopId vertexId : vertexIds) {
+      IdWithCandidates<GradoopId> vertex = new IdWithCandidates<>();
+      vertex.setId(vertexId);
+      vertex.setCandidates(allTrue(queryVertexCount));
+      vertices.add(vertex);
+    }
+    List<TripleWithCandidates<GradoopId>> triples = new ArrayList<>();
+    for (int[] edge : edges) {
+      TripleWithCandidates<GradoopId> triple = new TripleWithCandidates<>();
+      triple.setEdgeId(GradoopId.get());
+      triple.setSourceId(vertexIds[edge[0]]);
+      triple.setTargetId(vertexIds[edge[1]]);
+      triple.setCandidates(allTrue(queryEdgeCount));
+      triples.add(triple);
+    }
+    GraphWithCandidates graph = new GraphWithCandidates(GradoopId.get());
+    graph.setVertexCandidates(vertices);
+    graph.setEdgeCandidates(triples);
+    return graph;
+  }
+
+  private static boolean[] allTrue(int size) {
+    boolean[] values = new boolean[size];
+    Arrays.fill(values, true);
+    return values;
+  }
+}
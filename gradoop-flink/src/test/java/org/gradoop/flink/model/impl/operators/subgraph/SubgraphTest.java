@@ -15,19 +15,25 @@
  */
 package org.gradoop.flink.model.impl.operators.subgraph;
 
+import com.google.common.collect.Sets;
 import org.apache.flink.api.common.functions.FilterFunction;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.io.api.ReadSpecification;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.api.epgm.GraphCollection;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.functions.epgm.ByLabel;
 import org.gradoop.flink.model.impl.operators.combination.ReduceCombination;
 import org.gradoop.flink.model.impl.operators.fusion.VertexFusion;
 import org.gradoop.flink.model.impl.operators.transformation.ApplyTransformation;
 import org.gradoop.flink.util.FlinkAsciiGraphLoader;
 import org.junit.Test;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
 public class SubgraphTest extends GradoopFlinkTestBase {
 
   @Test
@@ -295,4 +301,17 @@ public class SubgraphTest extends GradoopFlinkTestBase {
         .getVertices()
         .collect().size());
   }
+
+  @Test
+  public void testReadSpecification() {
+    ReadSpecification vertexInduced =
+      new Subgraph(new ByLabel<>("Person"), null).getReadSpecification();
+    assertEquals(Sets.newHashSet("Person"), vertexInduced.getVertexLabels());
+    assertNull(vertexInduced.getEdgeLabels());
+
+    ReadSpecification edgeInduced =
+      new Subgraph(v -> true, new ByLabel<>("knows")).getReadSpecification();
+    assertNull(edgeInduced.getVertexLabels());
+    assertEquals(Sets.newHashSet("knows"), edgeInduced.getEdgeLabels());
+  }
 }